@@ -58,6 +58,24 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         return meter;
     }
 
+    @Override
+    public QueueMetric queue(String name, QueueMetric queueMetric) {
+        if (queueMetric == null) {
+            log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
+        } else {
+            // A queue only lives as long as its task, a restored context may still carry the
+            // metric of the queue from the previous attempt which has to be replaced.
+            this.metrics.put(name, queueMetric);
+        }
+        return queueMetric;
+    }
+
+    @Override
+    public <G extends Gauge> G gauge(String name, G gauge) {
+        this.addMetric(name, gauge);
+        return gauge;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
@@ -33,4 +33,14 @@ public final class MetricNames {
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+
+    public static final String QUEUE_OCCUPANCY = "QueueOccupancy";
+    public static final String QUEUE_CAPACITY = "QueueCapacity";
+    public static final String QUEUE_PUT_BLOCKED_RATIO = "QueuePutBlockedRatio";
+    public static final String QUEUE_POLL_IDLE_RATIO = "QueuePollIdleRatio";
+
+    public static final String LATENCY_P50 = "EndToEndLatencyP50";
+    public static final String LATENCY_P95 = "EndToEndLatencyP95";
+    public static final String LATENCY_P99 = "EndToEndLatencyP99";
+    public static final String LATENCY_MAX = "EndToEndLatencyMax";
 }
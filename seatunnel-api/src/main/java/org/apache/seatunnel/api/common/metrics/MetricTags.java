@@ -40,4 +40,8 @@ public final class MetricTags {
     public static final String SERVICE = "service";
 
     public static final String TASK_GROUP_LOCATION = "taskGroupLocation";
+
+    public static final String EDGE = "edge";
+
+    public static final String SOURCE_TASK_ID = "sourceTaskID";
 }
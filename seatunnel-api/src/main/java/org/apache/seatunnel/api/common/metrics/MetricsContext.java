@@ -54,4 +54,28 @@ public interface MetricsContext {
      * @return the registered meter
      */
     <M extends Meter> M meter(String name, M meter);
+
+    /**
+     * Registers a {@link QueueMetric} of an edge with SeaTunnel. Contexts that can't report it
+     * ignore it, the queue keeps recording into the given metric anyway.
+     *
+     * @param name name of the queue metric
+     * @param queueMetric queue metric to register
+     * @return the given queue metric
+     */
+    default QueueMetric queue(String name, QueueMetric queueMetric) {
+        return queueMetric;
+    }
+
+    /**
+     * Registers a {@link Gauge} with SeaTunnel. Contexts that can't report it ignore it.
+     *
+     * @param name name of the gauge
+     * @param gauge gauge to register
+     * @param <G> gauge type
+     * @return the given gauge
+     */
+    default <G extends Gauge> G gauge(String name, G gauge) {
+        return gauge;
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.IntSupplier;
+
+/**
+ * Backpressure metric of a queue between two operators (an edge). It tracks the occupancy of the
+ * queue and which share of the wall clock time the producer spent blocked on a full queue and the
+ * consumer spent idle on an empty queue.
+ *
+ * <p>Callers only time the slow path, e.g. try a non-blocking {@code offer} first and measure the
+ * blocking {@code put} only when the queue is full, so an unloaded queue pays nothing. A wait that
+ * may last long is wrapped in {@link #startPutBlocked()} and {@link #endPutBlocked(long)}, so the
+ * time of a wait still in progress is counted and a producer stuck on a full queue is reported as
+ * blocked. The ratios are computed over a sliding window of at least {@link #WINDOW_MILLIS} and
+ * reported as a percent.
+ */
+public class QueueMetric implements Metric, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final long WINDOW_MILLIS = 1000;
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS);
+
+    private static final AtomicLongFieldUpdater<QueueMetric> PUT_BLOCKED_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(QueueMetric.class, "putBlockedNanos");
+
+    private static final AtomicLongFieldUpdater<QueueMetric> POLL_IDLE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(QueueMetric.class, "pollIdleNanos");
+
+    private final String name;
+
+    private final long capacity;
+
+    private volatile long putBlockedNanos;
+
+    private volatile long pollIdleNanos;
+
+    private volatile long occupancy;
+
+    private volatile double putBlockedRatio;
+
+    private volatile double pollIdleRatio;
+
+    /** The queue size is only readable on the node that owns the queue. */
+    private transient IntSupplier sizeSupplier;
+
+    /** Window state is based on {@link System#nanoTime()} and only valid in the owning JVM. */
+    private transient long windowStartNanos;
+
+    private transient long windowPutBlockedNanos;
+
+    private transient long windowPollIdleNanos;
+
+    /** The waits in progress and the sum of their start times, guarded by this metric. */
+    private transient long ongoingPutBlocks;
+
+    private transient long ongoingPutBlockStartNanos;
+
+    private transient long ongoingPollIdles;
+
+    private transient long ongoingPollIdleStartNanos;
+
+    public QueueMetric(String name, long capacity, IntSupplier sizeSupplier) {
+        this.name = name;
+        this.capacity = capacity;
+        this.sizeSupplier = sizeSupplier;
+        this.windowStartNanos = System.nanoTime();
+    }
+
+    /** Records the time a producer was blocked because the queue was full. */
+    public void markPutBlocked(long nanos) {
+        PUT_BLOCKED_UPDATER.addAndGet(this, nanos);
+    }
+
+    /** Records the time a consumer waited because the queue was empty. */
+    public void markPollIdle(long nanos) {
+        POLL_IDLE_UPDATER.addAndGet(this, nanos);
+    }
+
+    /**
+     * Marks that a producer starts to wait for a full queue.
+     *
+     * @return the start time to pass to {@link #endPutBlocked(long)}
+     */
+    public synchronized long startPutBlocked() {
+        long now = System.nanoTime();
+        ongoingPutBlocks++;
+        ongoingPutBlockStartNanos += now;
+        return now;
+    }
+
+    /** Marks the end of a wait started with {@link #startPutBlocked()}. */
+    public synchronized void endPutBlocked(long startNanos) {
+        ongoingPutBlocks--;
+        ongoingPutBlockStartNanos -= startNanos;
+        markPutBlocked(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Marks that a consumer starts to wait for an empty queue.
+     *
+     * @return the start time to pass to {@link #endPollIdle(long)}
+     */
+    public synchronized long startPollIdle() {
+        long now = System.nanoTime();
+        ongoingPollIdles++;
+        ongoingPollIdleStartNanos += now;
+        return now;
+    }
+
+    /** Marks the end of a wait started with {@link #startPollIdle()}. */
+    public synchronized void endPollIdle(long startNanos) {
+        ongoingPollIdles--;
+        ongoingPollIdleStartNanos -= startNanos;
+        markPollIdle(System.nanoTime() - startNanos);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getOccupancy() {
+        IntSupplier supplier = sizeSupplier;
+        if (supplier != null) {
+            try {
+                occupancy = supplier.getAsInt();
+            } catch (RuntimeException e) {
+                // the queue has been released, keep the last known occupancy
+                sizeSupplier = null;
+            }
+        }
+        return occupancy;
+    }
+
+    /** The total time producers were blocked, including the waits still in progress. */
+    public synchronized long getPutBlockedNanos() {
+        return PUT_BLOCKED_UPDATER.get(this)
+                + ongoingPutBlocks * System.nanoTime()
+                - ongoingPutBlockStartNanos;
+    }
+
+    /** The total time consumers were idle, including the waits still in progress. */
+    public synchronized long getPollIdleNanos() {
+        return POLL_IDLE_UPDATER.get(this)
+                + ongoingPollIdles * System.nanoTime()
+                - ongoingPollIdleStartNanos;
+    }
+
+    /** Share of the last window the producer was blocked on put, in percent. */
+    public double getPutBlockedRatio() {
+        roll();
+        return putBlockedRatio;
+    }
+
+    /** Share of the last window the consumer was idle on poll, in percent. */
+    public double getPollIdleRatio() {
+        roll();
+        return pollIdleRatio;
+    }
+
+    private synchronized void roll() {
+        if (windowStartNanos == 0) {
+            // deserialized copy, keep the ratios of the last window of the owning node
+            return;
+        }
+        long now = System.nanoTime();
+        long elapsed = now - windowStartNanos;
+        if (elapsed < WINDOW_NANOS) {
+            return;
+        }
+        long blocked = getPutBlockedNanos();
+        long idle = getPollIdleNanos();
+        putBlockedRatio = toPercent(blocked - windowPutBlockedNanos, elapsed);
+        pollIdleRatio = toPercent(idle - windowPollIdleNanos, elapsed);
+        windowPutBlockedNanos = blocked;
+        windowPollIdleNanos = idle;
+        windowStartNanos = now;
+    }
+
+    private static double toPercent(long part, long total) {
+        // several producers may block on the same queue at the same time
+        return Math.min(100D, part * 100D / total);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return Unit.PERCENT;
+    }
+
+    @Override
+    public String toString() {
+        return "QueueMetric{"
+                + "name='"
+                + name
+                + '\''
+                + ", capacity="
+                + capacity
+                + ", occupancy="
+                + occupancy
+                + ", putBlockedRatio="
+                + putBlockedRatio
+                + ", pollIdleRatio="
+                + pollIdleRatio
+                + '}';
+    }
+}
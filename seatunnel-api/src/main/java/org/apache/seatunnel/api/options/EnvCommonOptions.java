@@ -84,6 +84,30 @@ public class EnvCommonOptions {
                     .noDefaultValue()
                     .withDescription("The timeout (in milliseconds) for a checkpoint.");
 
+    public static Option<Boolean> CHECKPOINT_UNALIGNED =
+            Options.key("checkpoint.unaligned")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the checkpoint barriers overtake the buffered records of the shuffle inputs, "
+                                    + "the overtaken records are persisted in the checkpoint and replayed on restore.");
+
+    public static Option<Boolean> SINK_SHUFFLE_BY_PRIMARY_KEY =
+            Options.key("sink.shuffle-by-primary-key")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the rows are shuffled by primary key in front of the sinks which support it, "
+                                    + "so the rows with the same primary key are always written by the same sink writer.");
+
+    public static Option<Long> LATENCY_TRACKING_INTERVAL =
+            Options.key("latency.tracking.interval")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The interval (in milliseconds) between two latency markers emitted by each source reader, "
+                                    + "the sinks record the end-to-end latency of the markers. 0 disables the latency tracking.");
+
     public static Option<SaveModeExecuteLocation> SAVEMODE_EXECUTE_LOCATION =
             Options.key("savemode.execute.location")
                     .enumType(SaveModeExecuteLocation.class)
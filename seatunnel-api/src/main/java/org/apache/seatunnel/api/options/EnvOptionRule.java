@@ -42,8 +42,11 @@ public class EnvOptionRule implements Factory {
                         EnvCommonOptions.JARS,
                         EnvCommonOptions.CHECKPOINT_INTERVAL,
                         EnvCommonOptions.CHECKPOINT_TIMEOUT,
+                        EnvCommonOptions.CHECKPOINT_UNALIGNED,
+                        EnvCommonOptions.SINK_SHUFFLE_BY_PRIMARY_KEY,
                         EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND,
                         EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND,
+                        EnvCommonOptions.LATENCY_TRACKING_INTERVAL,
                         EnvCommonOptions.SAVEMODE_EXECUTE_LOCATION,
                         EnvCommonOptions.CUSTOM_PARAMETERS,
                         EnvCommonOptions.NODE_TAG_FILTER)
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+
+/**
+ * The Sink Connectors which prefer that rows with the same primary key are always written by the
+ * same sink writer should implement this interface, the engine will shuffle rows by the primary key
+ * of their table before they reach the writers.
+ */
+public interface SupportPrimaryKeyPartition {
+
+    /**
+     * Whether the rows should be partitioned by primary key for this sink, the sink can return
+     * false to fall back to the default routing, e.g. when the target table has no primary key.
+     */
+    default boolean partitionByPrimaryKey() {
+        return true;
+    }
+
+    /** Whether the table declares a non-empty primary key. */
+    static boolean hasPrimaryKey(CatalogTable catalogTable) {
+        if (catalogTable == null) {
+            return false;
+        }
+        PrimaryKey primaryKey = catalogTable.getTableSchema().getPrimaryKey();
+        return primaryKey != null
+                && primaryKey.getColumnNames() != null
+                && !primaryKey.getColumnNames().isEmpty();
+    }
+}
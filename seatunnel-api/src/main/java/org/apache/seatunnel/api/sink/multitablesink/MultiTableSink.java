@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportPrimaryKeyPartition;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
@@ -51,7 +52,8 @@ public class MultiTableSink
                         MultiTableState,
                         MultiTableCommitInfo,
                         MultiTableAggregatedCommitInfo>,
-                SupportSchemaEvolutionSink {
+                SupportSchemaEvolutionSink,
+                SupportPrimaryKeyPartition {
 
     @Getter private final Map<TablePath, SeaTunnelSink> sinks;
     private final int replicaNum;
@@ -196,6 +198,16 @@ public class MultiTableSink
         return SeaTunnelSink.super.getWriteCatalogTable();
     }
 
+    @Override
+    public boolean partitionByPrimaryKey() {
+        return sinks.values().stream()
+                .anyMatch(
+                        sink ->
+                                sink instanceof SupportPrimaryKeyPartition
+                                        && ((SupportPrimaryKeyPartition) sink)
+                                                .partitionByPrimaryKey());
+    }
+
     @Override
     public List<SchemaChangeType> supports() {
         SeaTunnelSink firstSink = sinks.entrySet().iterator().next().getValue();
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
@@ -32,6 +34,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.BlockingQueue;
@@ -57,6 +60,7 @@ public class MultiTableSinkWriter
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
     private final Random random = new Random();
     private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final List<QueueMetric> queueMetrics = new ArrayList<>();
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
@@ -85,8 +89,19 @@ public class MultiTableSinkWriter
                                     return thread;
                                 }));
         sinkWritersWithIndex = new ArrayList<>();
+        MetricsContext metricsContext =
+                sinkWritersContext.values().stream()
+                        .map(SinkWriter.Context::getMetricsContext)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
         for (int i = 0; i < queueSize; i++) {
             BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
+            QueueMetric queueMetric =
+                    new QueueMetric("MultiTableSinkWriter-queue-" + i, 1024, queue::size);
+            if (metricsContext != null) {
+                metricsContext.queue(queueMetric.name(), queueMetric);
+            }
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap =
                     new ConcurrentHashMap<>();
@@ -102,7 +117,9 @@ public class MultiTableSinkWriter
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
             blockingQueues.add(queue);
-            MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
+            queueMetrics.add(queueMetric);
+            MultiTableWriterRunnable r =
+                    new MultiTableWriterRunnable(tableIdWriterMap, queue, queueMetric);
             runnable.add(r);
         }
         log.info("init multi table sink writer, queue size: {}", queueSize);
@@ -186,11 +203,7 @@ public class MultiTableSinkWriter
         try {
             if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
                     || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
+                offer(random.nextInt(blockingQueues.size()), element);
             } else if (primaryKey == null) {
                 throw new RuntimeException(
                         "multi table sink can not write table: " + element.getTableId());
@@ -200,16 +213,29 @@ public class MultiTableSinkWriter
                 if (object != null) {
                     index = Math.abs(object.hashCode()) % blockingQueues.size();
                 }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
+                offer(index, element);
             }
         } catch (InterruptedException e) {
             throw new IOException(e);
         }
     }
 
+    private void offer(int index, SeaTunnelRow element) throws InterruptedException {
+        BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
+        if (queue.offer(element)) {
+            return;
+        }
+        QueueMetric queueMetric = queueMetrics.get(index);
+        long start = queueMetric.startPutBlocked();
+        try {
+            while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
+                subSinkErrorCheck();
+            }
+        } finally {
+            queueMetric.endPutBlocked(start);
+        }
+    }
+
     @Override
     public List<MultiTableState> snapshotState(long checkpointId) throws IOException {
         checkQueueRemain();
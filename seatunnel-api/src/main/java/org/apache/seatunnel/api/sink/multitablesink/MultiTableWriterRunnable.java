@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
@@ -31,14 +32,29 @@ public class MultiTableWriterRunnable implements Runnable {
 
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
     private final BlockingQueue<SeaTunnelRow> queue;
+    private final QueueMetric queueMetric;
     private volatile Throwable throwable;
     private volatile String currentTableId;
 
     public MultiTableWriterRunnable(
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
             BlockingQueue<SeaTunnelRow> queue) {
+        this(
+                tableIdWriterMap,
+                queue,
+                new QueueMetric(
+                        MultiTableWriterRunnable.class.getSimpleName(),
+                        queue.size() + queue.remainingCapacity(),
+                        queue::size));
+    }
+
+    public MultiTableWriterRunnable(
+            Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
+            BlockingQueue<SeaTunnelRow> queue,
+            QueueMetric queueMetric) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
+        this.queueMetric = queueMetric;
     }
 
     @Override
@@ -46,9 +62,14 @@ public class MultiTableWriterRunnable implements Runnable {
         while (true) {
             SeaTunnelRow row = null;
             try {
-                row = queue.poll(100, TimeUnit.MILLISECONDS);
+                row = queue.poll();
                 if (row == null) {
-                    continue;
+                    long start = System.nanoTime();
+                    row = queue.poll(100, TimeUnit.MILLISECONDS);
+                    queueMetric.markPollIdle(System.nanoTime() - start);
+                    if (row == null) {
+                        continue;
+                    }
                 }
                 SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
                 if (writer == null) {
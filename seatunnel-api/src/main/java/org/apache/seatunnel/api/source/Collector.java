@@ -34,6 +34,20 @@ public interface Collector<T> {
 
     default void markSchemaChangeAfterCheckpoint() {}
 
+    /**
+     * Collect a batch of rows encoded as an Arrow IPC stream, the field names of the stream must be
+     * the same as the produced row type. The collector of the engines supporting columnar execution
+     * will pass through the batch without converting it to rows one by one.
+     *
+     * @param arrowStream the Arrow IPC stream.
+     * @param tableId the table id of the rows.
+     * @return the row count of the stream, or -1 if the stream is not accepted and the rows have to
+     *     be collected one by one.
+     */
+    default long collectArrowStream(byte[] arrowStream, String tableId) {
+        return -1;
+    }
+
     /**
      * Returns the checkpoint lock.
      *
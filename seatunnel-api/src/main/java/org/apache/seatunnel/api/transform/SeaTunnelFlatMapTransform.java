@@ -28,4 +28,21 @@ public interface SeaTunnelFlatMapTransform<T> extends SeaTunnelTransform<T> {
      * @return transformed data.
      */
     List<T> flatMap(T row);
+
+    /**
+     * Transform a batch of input data. The transformed data is appended to {@code output} in the
+     * order of the input. The default implementation calls {@link #flatMap(Object)} for each row,
+     * transforms can override it to handle the whole batch at once.
+     *
+     * @param rows the data need be transformed.
+     * @param output the list the transformed data is appended to.
+     */
+    default void flatMapBatch(List<T> rows, List<T> output) {
+        for (T row : rows) {
+            List<T> outputRows = flatMap(row);
+            if (outputRows != null && !outputRows.isEmpty()) {
+                output.addAll(outputRows);
+            }
+        }
+    }
 }
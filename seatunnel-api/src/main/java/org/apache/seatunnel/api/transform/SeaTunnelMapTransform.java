@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.api.transform;
 
+import java.util.List;
+
 public interface SeaTunnelMapTransform<T> extends SeaTunnelTransform<T> {
 
     /**
@@ -27,4 +29,22 @@ public interface SeaTunnelMapTransform<T> extends SeaTunnelTransform<T> {
      * @return transformed data.
      */
     T map(T row);
+
+    /**
+     * Transform a batch of input data. The transformed data is appended to {@code output} in the
+     * order of the input, data filtered by the transform is not appended. The default
+     * implementation calls {@link #map(Object)} for each row, transforms can override it to handle
+     * the whole batch at once.
+     *
+     * @param rows the data need be transformed.
+     * @param output the list the transformed data is appended to.
+     */
+    default void mapBatch(List<T> rows, List<T> output) {
+        for (T row : rows) {
+            T outputRow = map(row);
+            if (outputRow != null) {
+                output.add(outputRow);
+            }
+        }
+    }
 }
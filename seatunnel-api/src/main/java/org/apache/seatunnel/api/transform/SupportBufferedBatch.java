@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+/**
+ * The transforms which process a batch of rows more efficiently than single rows, e.g. by sending
+ * the rows to a remote service together, should implement this interface. The engine then buffers
+ * the input rows of the transform chain across records and hands them over as one batch once
+ * {@link #getBufferSize()} rows are buffered, the buffer timeout elapses, a checkpoint barrier
+ * arrives or the task closes.
+ */
+public interface SupportBufferedBatch {
+
+    /** The number of rows to buffer before the batch is transformed, values below 2 disable it. */
+    int getBufferSize();
+
+    /** The maximum time in milliseconds a buffered row waits before the batch is transformed. */
+    long getBufferTimeoutMillis();
+}
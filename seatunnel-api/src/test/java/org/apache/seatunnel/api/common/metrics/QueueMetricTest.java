@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class QueueMetricTest {
+
+    @Test
+    public void testOccupancy() {
+        BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(4);
+        QueueMetric queueMetric = new QueueMetric("edge", 4, queue::size);
+        queue.add(1);
+        queue.add(2);
+        Assertions.assertEquals(4, queueMetric.getCapacity());
+        Assertions.assertEquals(2, queueMetric.getOccupancy());
+
+        QueueMetric released =
+                new QueueMetric(
+                        "released",
+                        4,
+                        () -> {
+                            throw new IllegalStateException("queue destroyed");
+                        });
+        Assertions.assertEquals(0, released.getOccupancy());
+    }
+
+    @Test
+    public void testRatioOfWindow() throws InterruptedException {
+        QueueMetric queueMetric = new QueueMetric("edge", 4, () -> 0);
+        // the first window is not over yet
+        queueMetric.markPutBlocked(TimeUnit.MILLISECONDS.toNanos(500));
+        Assertions.assertEquals(0D, queueMetric.getPutBlockedRatio());
+
+        Thread.sleep(QueueMetric.WINDOW_MILLIS + 100);
+        double putBlockedRatio = queueMetric.getPutBlockedRatio();
+        Assertions.assertTrue(putBlockedRatio > 0 && putBlockedRatio <= 50, "" + putBlockedRatio);
+        Assertions.assertEquals(0D, queueMetric.getPollIdleRatio());
+
+        // several producers blocked at the same time never exceed the whole window
+        queueMetric.markPollIdle(TimeUnit.SECONDS.toNanos(10));
+        Thread.sleep(QueueMetric.WINDOW_MILLIS + 100);
+        Assertions.assertEquals(100D, queueMetric.getPollIdleRatio());
+        Assertions.assertEquals(0D, queueMetric.getPutBlockedRatio());
+    }
+
+    @Test
+    public void testBlockInProgress() throws InterruptedException {
+        QueueMetric queueMetric = new QueueMetric("edge", 4, () -> 4);
+        // a producer stuck on the full queue is reported before its put returns
+        long start = queueMetric.startPutBlocked();
+        Thread.sleep(QueueMetric.WINDOW_MILLIS + 100);
+        double putBlockedRatio = queueMetric.getPutBlockedRatio();
+        Assertions.assertTrue(putBlockedRatio >= 90, "" + putBlockedRatio);
+
+        // only the rest of the block falls into the next window
+        queueMetric.endPutBlocked(start);
+        long blockedNanos = queueMetric.getPutBlockedNanos();
+        Thread.sleep(QueueMetric.WINDOW_MILLIS + 100);
+        putBlockedRatio = queueMetric.getPutBlockedRatio();
+        Assertions.assertTrue(putBlockedRatio < 20, "" + putBlockedRatio);
+        Assertions.assertEquals(blockedNanos, queueMetric.getPutBlockedNanos());
+        Assertions.assertEquals(0D, queueMetric.getPollIdleRatio());
+    }
+
+    @Test
+    public void testSerializedCopyKeepsLastWindow() throws IOException, InterruptedException {
+        BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(4);
+        queue.add(1);
+        QueueMetric queueMetric = new QueueMetric("edge", 4, queue::size);
+        queueMetric.markPollIdle(TimeUnit.SECONDS.toNanos(10));
+        Thread.sleep(QueueMetric.WINDOW_MILLIS + 100);
+        Assertions.assertEquals(100D, queueMetric.getPollIdleRatio());
+        Assertions.assertEquals(1, queueMetric.getOccupancy());
+
+        DefaultSerializer<QueueMetric> serializer = new DefaultSerializer<>();
+        QueueMetric copy = serializer.deserialize(serializer.serialize(queueMetric));
+        queue.add(2);
+        Assertions.assertEquals("edge", copy.name());
+        Assertions.assertEquals(1, copy.getOccupancy());
+        Assertions.assertEquals(100D, copy.getPollIdleRatio());
+    }
+}
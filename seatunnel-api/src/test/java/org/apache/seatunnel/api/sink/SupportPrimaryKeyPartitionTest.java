@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+public class SupportPrimaryKeyPartitionTest {
+
+    @Test
+    public void testHasPrimaryKey() {
+        Assertions.assertTrue(
+                SupportPrimaryKeyPartition.hasPrimaryKey(
+                        createTable(PrimaryKey.of("pk", Collections.singletonList("id")))));
+        Assertions.assertFalse(SupportPrimaryKeyPartition.hasPrimaryKey(createTable(null)));
+        Assertions.assertFalse(
+                SupportPrimaryKeyPartition.hasPrimaryKey(
+                        createTable(PrimaryKey.of("pk", Collections.emptyList()))));
+        Assertions.assertFalse(SupportPrimaryKeyPartition.hasPrimaryKey(null));
+    }
+
+    private static CatalogTable createTable(PrimaryKey primaryKey) {
+        TableSchema.Builder builder =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 0L, true, null, ""));
+        if (primaryKey != null) {
+            builder.primaryKey(primaryKey);
+        }
+        return CatalogTable.of(
+                TableIdentifier.of("test", "db", "orders"),
+                builder.build(),
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                "");
+    }
+}
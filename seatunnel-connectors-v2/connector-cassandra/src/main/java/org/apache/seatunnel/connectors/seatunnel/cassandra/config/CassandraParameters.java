@@ -43,6 +43,7 @@ public class CassandraParameters implements Serializable {
     private Integer batchSize;
     private DefaultBatchType batchType;
     private Boolean asyncWrite;
+    private Integer maxPagesInFlight;
 
     public void buildWithConfig(ReadonlyConfig config) {
         this.host = config.get(CassandraBaseOptions.HOST);
@@ -58,5 +59,6 @@ public class CassandraParameters implements Serializable {
         this.batchSize = config.get(CassandraSinkOptions.BATCH_SIZE);
         this.batchType = DefaultBatchType.valueOf(config.get(CassandraSinkOptions.BATCH_TYPE));
         this.asyncWrite = config.get(CassandraSinkOptions.ASYNC_WRITE);
+        this.maxPagesInFlight = config.get(CassandraSourceOptions.MAX_PAGES_IN_FLIGHT);
     }
 }
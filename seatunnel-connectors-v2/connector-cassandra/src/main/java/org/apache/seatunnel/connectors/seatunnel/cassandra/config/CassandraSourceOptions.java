@@ -24,4 +24,11 @@ public class CassandraSourceOptions extends CassandraBaseOptions {
 
     public static final Option<String> CQL =
             Options.key("cql").stringType().noDefaultValue().withDescription("");
+
+    public static final Option<Integer> MAX_PAGES_IN_FLIGHT =
+            Options.key("max_pages_in_flight")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The max number of token ranges a reader queries concurrently, each with one page in flight");
 }
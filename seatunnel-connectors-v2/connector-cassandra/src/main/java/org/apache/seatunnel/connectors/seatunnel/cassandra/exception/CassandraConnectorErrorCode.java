@@ -24,7 +24,8 @@ public enum CassandraConnectorErrorCode implements SeaTunnelErrorCode {
     ADD_BATCH_DATA_FAILED("CASSANDRA-02", "Add batch SeaTunnelRow data into a batch failed"),
     CLOSE_CQL_SESSION_FAILED("CASSANDRA-03", "Close cql session of cassandra failed"),
     NO_DATA_IN_SOURCE_TABLE("CASSANDRA-04", "No data in source table"),
-    PARSE_IP_ADDRESS_FAILED("CASSANDRA-05", "Parse ip address from string field");
+    PARSE_IP_ADDRESS_FAILED("CASSANDRA-05", "Parse ip address from string field"),
+    TOKEN_MAP_NOT_AVAILABLE("CASSANDRA-06", "Token map of the cluster metadata is not available");
 
     private final String code;
     private final String description;
@@ -19,7 +19,11 @@ package org.apache.seatunnel.connectors.seatunnel.cassandra.source;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
 import org.apache.seatunnel.api.table.catalog.TableIdentifier;
@@ -30,10 +34,8 @@ import org.apache.seatunnel.connectors.seatunnel.cassandra.client.CassandraClien
 import org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraParameters;
 import org.apache.seatunnel.connectors.seatunnel.cassandra.exception.CassandraConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.cassandra.exception.CassandraConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.cassandra.state.CassandraSourceState;
 import org.apache.seatunnel.connectors.seatunnel.cassandra.util.TypeConvertUtil;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitSource;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -43,8 +45,10 @@ import java.util.List;
 
 import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.CQL;
 
-public class CassandraSource extends AbstractSingleSplitSource<SeaTunnelRow>
-        implements SupportColumnProjection {
+public class CassandraSource
+        implements SeaTunnelSource<SeaTunnelRow, CassandraSourceSplit, CassandraSourceState>,
+                SupportParallelism,
+                SupportColumnProjection {
 
     private final CassandraParameters cassandraParameters;
     private final CatalogTable catalogTable;
@@ -120,8 +124,23 @@ public class CassandraSource extends AbstractSingleSplitSource<SeaTunnelRow>
     }
 
     @Override
-    public AbstractSingleSplitReader<SeaTunnelRow> createReader(
-            SingleSplitReaderContext readerContext) throws Exception {
+    public SourceSplitEnumerator<CassandraSourceSplit, CassandraSourceState> createEnumerator(
+            SourceSplitEnumerator.Context<CassandraSourceSplit> enumeratorContext) {
+        return new CassandraSourceSplitEnumerator(
+                enumeratorContext, cassandraParameters, Collections.emptySet());
+    }
+
+    @Override
+    public SourceSplitEnumerator<CassandraSourceSplit, CassandraSourceState> restoreEnumerator(
+            SourceSplitEnumerator.Context<CassandraSourceSplit> enumeratorContext,
+            CassandraSourceState checkpointState) {
+        return new CassandraSourceSplitEnumerator(
+                enumeratorContext, cassandraParameters, checkpointState.getAssignedSplits());
+    }
+
+    @Override
+    public SourceReader<SeaTunnelRow, CassandraSourceSplit> createReader(
+            SourceReader.Context readerContext) {
         return new CassandraSourceReader(cassandraParameters, readerContext);
     }
 }
@@ -35,6 +35,7 @@ import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.Cassand
 import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.DATACENTER;
 import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.HOST;
 import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.KEYSPACE;
+import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.MAX_PAGES_IN_FLIGHT;
 import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraSourceOptions.USERNAME;
 
@@ -50,7 +51,7 @@ public class CassandraSourceFactory implements TableSourceFactory {
         return OptionRule.builder()
                 .required(HOST, KEYSPACE, CQL)
                 .bundled(USERNAME, PASSWORD)
-                .optional(DATACENTER, CONSISTENCY_LEVEL)
+                .optional(DATACENTER, CONSISTENCY_LEVEL, MAX_PAGES_IN_FLIGHT)
                 .build();
     }
 
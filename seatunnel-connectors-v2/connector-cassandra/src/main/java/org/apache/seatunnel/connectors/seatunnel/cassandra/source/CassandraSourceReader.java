@@ -18,29 +18,53 @@
 package org.apache.seatunnel.connectors.seatunnel.cassandra.source;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.cassandra.client.CassandraClient;
 import org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraParameters;
+import org.apache.seatunnel.connectors.seatunnel.cassandra.exception.CassandraConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.cassandra.exception.CassandraConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.cassandra.util.TypeConvertUtil;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 
 import com.datastax.oss.driver.api.core.CqlSession;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
+/**
+ * Reads up to {@code max_pages_in_flight} token ranges at once with async paging. Every active
+ * range has the request of its next page in flight while the pages already received are emitted
+ * round-robin, so the coordinators keep working while rows are being collected.
+ */
 @Slf4j
-public class CassandraSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+public class CassandraSourceReader implements SourceReader<SeaTunnelRow, CassandraSourceSplit> {
     private final CassandraParameters cassandraParameters;
-    private final SingleSplitReaderContext readerContext;
+    private final SourceReader.Context context;
+    private final Deque<CassandraSourceSplit> pendingSplits = new ConcurrentLinkedDeque<>();
+    private final Deque<RangeRead> activeReads = new ConcurrentLinkedDeque<>();
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
     private CqlSession session;
+    private volatile boolean noMoreSplit;
 
-    CassandraSourceReader(
-            CassandraParameters cassandraParameters, SingleSplitReaderContext readerContext) {
+    CassandraSourceReader(CassandraParameters cassandraParameters, SourceReader.Context context) {
         this.cassandraParameters = cassandraParameters;
-        this.readerContext = readerContext;
+        this.context = context;
     }
 
     @Override
@@ -64,18 +88,100 @@ public class CassandraSourceReader extends AbstractSingleSplitReader<SeaTunnelRo
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        try {
-            ResultSet resultSet =
-                    session.execute(
-                            CassandraClient.createSimpleStatement(
-                                    cassandraParameters.getCql(),
-                                    cassandraParameters.getConsistencyLevel()));
-            resultSet.forEach(row -> output.collect(TypeConvertUtil.buildSeaTunnelRow(row)));
-        } finally {
-            this.readerContext.signalNoMoreElement();
+        RangeRead read;
+        synchronized (output.getCheckpointLock()) {
+            while (activeReads.size() < cassandraParameters.getMaxPagesInFlight()
+                    && !pendingSplits.isEmpty()) {
+                CassandraSourceSplit split = pendingSplits.poll();
+                activeReads.add(
+                        new RangeRead(
+                                split, session.executeAsync(bind(split)).toCompletableFuture()));
+            }
+            read = activeReads.peek();
+        }
+        if (read == null) {
+            if (noMoreSplit) {
+                context.signalNoMoreElement();
+            } else {
+                Thread.sleep(100L);
+            }
+            return;
+        }
+        AsyncResultSet page = read.nextPage.get();
+        synchronized (output.getCheckpointLock()) {
+            activeReads.poll();
+            for (Row row : page.currentPage()) {
+                output.collect(TypeConvertUtil.buildSeaTunnelRow(row));
+            }
+            if (page.hasMorePages()) {
+                read.split.setPagingState(toBytes(page.getExecutionInfo().getPagingState()));
+                read.nextPage = page.fetchNextPage().toCompletableFuture();
+                activeReads.add(read);
+            }
+        }
+    }
+
+    private BoundStatement bind(CassandraSourceSplit split) {
+        PreparedStatement prepared = statements.computeIfAbsent(split.getCql(), session::prepare);
+        BoundStatementBuilder builder =
+                prepared.boundStatementBuilder()
+                        .setConsistencyLevel(cassandraParameters.getConsistencyLevel());
+        if (split.getStartToken() != null) {
+            TokenMap tokenMap =
+                    session.getMetadata()
+                            .getTokenMap()
+                            .orElseThrow(
+                                    () ->
+                                            new CassandraConnectorException(
+                                                    CassandraConnectorErrorCode
+                                                            .TOKEN_MAP_NOT_AVAILABLE,
+                                                    "Can not read the token range split "
+                                                            + split.splitId()));
+            builder.setToken(0, tokenMap.parse(split.getStartToken()));
+            if (split.getEndToken() != null) {
+                Token end = tokenMap.parse(split.getEndToken());
+                // route the request to a replica of the range instead of a random coordinator
+                builder.setToken(1, end).setRoutingToken(end);
+            }
+        }
+        if (split.getPagingState() != null) {
+            builder.setPagingState(ByteBuffer.wrap(split.getPagingState()));
         }
+        return builder.build();
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        ByteBuffer duplicate = buffer.duplicate();
+        byte[] bytes = new byte[duplicate.remaining()];
+        duplicate.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public List<CassandraSourceSplit> snapshotState(long checkpointId) {
+        List<CassandraSourceSplit> splits = new ArrayList<>();
+        activeReads.forEach(read -> splits.add(read.split));
+        splits.addAll(pendingSplits);
+        return splits;
+    }
+
+    @Override
+    public void addSplits(List<CassandraSourceSplit> splits) {
+        log.debug("reader {} add {} splits", context.getIndexOfSubtask(), splits.size());
+        pendingSplits.addAll(splits);
     }
 
     @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+
+    @AllArgsConstructor
+    private static class RangeRead {
+        private final CassandraSourceSplit split;
+        private CompletableFuture<AsyncResultSet> nextPage;
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cassandra.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A token range of the ring read by one reader with the configured query restricted to {@code
+ * token(pk) > startToken AND token(pk) <= endToken}. The paging state is updated while reading, so
+ * a restored split resumes from the last page emitted before the checkpoint.
+ */
+@Data
+@EqualsAndHashCode(of = "splitId")
+public class CassandraSourceSplit implements SourceSplit {
+    private static final long serialVersionUID = 1L;
+
+    private final String splitId;
+
+    private final String cql;
+
+    /** The exclusive start of the token range formatted by the token map, null if unbounded. */
+    private final String startToken;
+
+    /** The inclusive end of the token range formatted by the token map, null if unbounded. */
+    private final String endToken;
+
+    /** The paging state of the next page to read, null before the first page is emitted. */
+    private byte[] pagingState;
+
+    /** The configured query unchanged, used when it can not be restricted by token ranges. */
+    public static CassandraSourceSplit querySplit(String cql) {
+        return new CassandraSourceSplit("cassandra-cql", cql, null, null);
+    }
+
+    public static CassandraSourceSplit tokenRangeSplit(
+            String cql, String startToken, String endToken) {
+        return new CassandraSourceSplit(
+                String.format("cassandra-%s-%s", startToken, endToken), cql, startToken, endToken);
+    }
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cassandra.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.cassandra.client.CassandraClient;
+import org.apache.seatunnel.connectors.seatunnel.cassandra.config.CassandraParameters;
+import org.apache.seatunnel.connectors.seatunnel.cassandra.state.CassandraSourceState;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Divides the token ring into ranges from the cluster metadata and restricts the configured query
+ * to each of them, so that the table is read by all readers in parallel. Queries whose result would
+ * change when split, like aggregations or limits, are read by one split.
+ */
+@Slf4j
+public class CassandraSourceSplitEnumerator
+        implements SourceSplitEnumerator<CassandraSourceSplit, CassandraSourceState> {
+
+    /** Split the ring finer than the parallelism to balance uneven token ranges. */
+    private static final int SPLITS_PER_READER = 4;
+
+    private static final Pattern WHERE = Pattern.compile("\\bwhere\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern ALLOW_FILTERING =
+            Pattern.compile("\\s+allow\\s+filtering$", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern UNSPLITTABLE_CLAUSE =
+            Pattern.compile(
+                    "\\blimit\\b|\\bgroup\\s+by\\b|\\border\\s+by\\b|\\b(token|count|sum|avg|min|max)\\s*\\(",
+                    Pattern.CASE_INSENSITIVE);
+
+    private final SourceSplitEnumerator.Context<CassandraSourceSplit> enumeratorContext;
+    private final CassandraParameters cassandraParameters;
+    private final Map<Integer, List<CassandraSourceSplit>> pendingSplits = new HashMap<>();
+    private final Set<CassandraSourceSplit> assignedSplits;
+    private final Object lock = new Object();
+
+    public CassandraSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<CassandraSourceSplit> enumeratorContext,
+            CassandraParameters cassandraParameters,
+            Set<CassandraSourceSplit> assignedSplits) {
+        this.enumeratorContext = enumeratorContext;
+        this.cassandraParameters = cassandraParameters;
+        this.assignedSplits = new HashSet<>(assignedSplits);
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() throws Exception {
+        List<CassandraSourceSplit> splits = discoverySplits();
+        splits.removeAll(assignedSplits);
+        addSplitsToPendingAssignments(splits);
+        assignPendingSplits();
+    }
+
+    private List<CassandraSourceSplit> discoverySplits() {
+        String cql = cassandraParameters.getCql();
+        try (CqlSession session =
+                CassandraClient.getCqlSessionBuilder(
+                                cassandraParameters.getHost(),
+                                cassandraParameters.getKeyspace(),
+                                cassandraParameters.getUsername(),
+                                cassandraParameters.getPassword(),
+                                cassandraParameters.getDatacenter())
+                        .build()) {
+            ColumnDefinitions columns = session.prepare(cql).getResultSetDefinitions();
+            Optional<TokenMap> tokenMap = session.getMetadata().getTokenMap();
+            List<String> partitionKey = Collections.emptyList();
+            if (columns.size() > 0) {
+                ColumnDefinition column = columns.get(0);
+                partitionKey =
+                        session.getMetadata()
+                                .getKeyspace(column.getKeyspace())
+                                .flatMap(keyspace -> keyspace.getTable(column.getTable()))
+                                .map(CassandraSourceSplitEnumerator::partitionKey)
+                                .orElse(Collections.emptyList());
+            }
+            if (!tokenMap.isPresent()
+                    || partitionKey.isEmpty()
+                    || !supportsTokenRanges(cql, partitionKey)) {
+                log.info(
+                        "The cql [{}] can not be split by token ranges, read it as one split", cql);
+                return new ArrayList<>(
+                        Collections.singletonList(CassandraSourceSplit.querySplit(cql)));
+            }
+            List<CassandraSourceSplit> splits =
+                    toTokenRangeSplits(
+                            cql,
+                            partitionKey,
+                            tokenMap.get(),
+                            enumeratorContext.currentParallelism() * SPLITS_PER_READER);
+            log.info("Calculated {} token range splits of the cql [{}]", splits.size(), cql);
+            return splits;
+        }
+    }
+
+    private static List<String> partitionKey(TableMetadata table) {
+        return table.getPartitionKey().stream()
+                .map(column -> column.getName().asCql(true))
+                .collect(Collectors.toList());
+    }
+
+    private static List<CassandraSourceSplit> toTokenRangeSplits(
+            String cql, List<String> partitionKey, TokenMap tokenMap, int targetSplits) {
+        Set<TokenRange> ranges = tokenMap.getTokenRanges();
+        int splitsPerRange = Math.max(1, (targetSplits + ranges.size() - 1) / ranges.size());
+        List<CassandraSourceSplit> splits = new ArrayList<>();
+        for (TokenRange range : ranges) {
+            List<TokenRange> subRanges =
+                    splitsPerRange > 1
+                            ? range.splitEvenly(splitsPerRange)
+                            : Collections.singletonList(range);
+            for (TokenRange subRange : subRanges) {
+                if (subRange.getStart().equals(subRange.getEnd())) {
+                    // a single range covering the whole ring
+                    return new ArrayList<>(
+                            Collections.singletonList(CassandraSourceSplit.querySplit(cql)));
+                }
+                for (TokenRange unwrapped : subRange.unwrap()) {
+                    // the last range of the ring ends at the min token, it has no upper bound
+                    boolean endBounded = unwrapped.getEnd().compareTo(unwrapped.getStart()) > 0;
+                    splits.add(
+                            CassandraSourceSplit.tokenRangeSplit(
+                                    withTokenRange(cql, partitionKey, endBounded),
+                                    tokenMap.format(unwrapped.getStart()),
+                                    endBounded ? tokenMap.format(unwrapped.getEnd()) : null));
+                }
+            }
+        }
+        return splits;
+    }
+
+    /**
+     * Whether restricting the cql to token ranges keeps its result, which is not the case for
+     * aggregations, limits, orderings, token restrictions or partition key restrictions.
+     */
+    static boolean supportsTokenRanges(String cql, List<String> partitionKey) {
+        if (UNSPLITTABLE_CLAUSE.matcher(cql).find()) {
+            return false;
+        }
+        Matcher where = WHERE.matcher(cql);
+        if (!where.find()) {
+            return true;
+        }
+        String restrictions = cql.substring(where.end());
+        for (String column : partitionKey) {
+            String name = column.replace("\"", "");
+            if (Pattern.compile("\\b" + Pattern.quote(name) + "\\b", Pattern.CASE_INSENSITIVE)
+                    .matcher(restrictions)
+                    .find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append {@code token(pk) > ?} and, if the range has an end, {@code token(pk) <= ?} to the
+     * restrictions of the cql.
+     */
+    static String withTokenRange(String cql, List<String> partitionKey, boolean endBounded) {
+        String query = cql.trim();
+        if (query.endsWith(";")) {
+            query = query.substring(0, query.length() - 1).trim();
+        }
+        String suffix = "";
+        Matcher allowFiltering = ALLOW_FILTERING.matcher(query);
+        if (allowFiltering.find()) {
+            suffix = " ALLOW FILTERING";
+            query = query.substring(0, allowFiltering.start());
+        }
+        String token = "token(" + String.join(", ", partitionKey) + ")";
+        StringBuilder builder = new StringBuilder(query);
+        builder.append(WHERE.matcher(query).find() ? " AND " : " WHERE ");
+        builder.append(token).append(" > ?");
+        if (endBounded) {
+            builder.append(" AND ").append(token).append(" <= ?");
+        }
+        return builder.append(suffix).toString();
+    }
+
+    private void addSplitsToPendingAssignments(Collection<CassandraSourceSplit> splits) {
+        int parallelism = enumeratorContext.currentParallelism();
+        int index = 0;
+        for (CassandraSourceSplit split : splits) {
+            pendingSplits.computeIfAbsent(index++ % parallelism, r -> new ArrayList<>()).add(split);
+        }
+    }
+
+    private void assignPendingSplits() {
+        for (int reader : enumeratorContext.registeredReaders()) {
+            List<CassandraSourceSplit> splits = pendingSplits.remove(reader);
+            if (splits != null && !splits.isEmpty()) {
+                synchronized (lock) {
+                    assignedSplits.addAll(splits);
+                    log.info("Assigning {} splits to reader {}", splits.size(), reader);
+                    enumeratorContext.assignSplit(reader, splits);
+                }
+            }
+            enumeratorContext.signalNoMoreSplits(reader);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    @Override
+    public void addSplitsBack(List<CassandraSourceSplit> splits, int subtaskId) {
+        log.debug("Cassandra source add splits back {}, subtaskId:{}", splits, subtaskId);
+        synchronized (lock) {
+            assignedSplits.removeAll(splits);
+        }
+        pendingSplits.computeIfAbsent(subtaskId, r -> new ArrayList<>()).addAll(splits);
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        return pendingSplits.size();
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {}
+
+    @Override
+    public void registerReader(int subtaskId) {
+        List<CassandraSourceSplit> splits = pendingSplits.remove(subtaskId);
+        if (splits != null && !splits.isEmpty()) {
+            synchronized (lock) {
+                assignedSplits.addAll(splits);
+                enumeratorContext.assignSplit(subtaskId, splits);
+            }
+            enumeratorContext.signalNoMoreSplits(subtaskId);
+        }
+    }
+
+    @Override
+    public CassandraSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (lock) {
+            return new CassandraSourceState(new HashSet<>(assignedSplits));
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cassandra.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class CassandraSourceSplitEnumeratorTest {
+
+    private static final List<String> PARTITION_KEY = Collections.singletonList("id");
+
+    @Test
+    void testSupportsTokenRanges() {
+        Assertions.assertTrue(
+                CassandraSourceSplitEnumerator.supportsTokenRanges(
+                        "select * from users", PARTITION_KEY));
+        Assertions.assertTrue(
+                CassandraSourceSplitEnumerator.supportsTokenRanges(
+                        "select id, name from users where age > 18 allow filtering",
+                        PARTITION_KEY));
+        Assertions.assertFalse(
+                CassandraSourceSplitEnumerator.supportsTokenRanges(
+                        "select * from users where id = 1", PARTITION_KEY));
+        Assertions.assertFalse(
+                CassandraSourceSplitEnumerator.supportsTokenRanges(
+                        "select count(*) from users", PARTITION_KEY));
+        Assertions.assertFalse(
+                CassandraSourceSplitEnumerator.supportsTokenRanges(
+                        "select * from users limit 10", PARTITION_KEY));
+        Assertions.assertFalse(
+                CassandraSourceSplitEnumerator.supportsTokenRanges(
+                        "select * from users where token(id) > 0", PARTITION_KEY));
+    }
+
+    @Test
+    void testWithTokenRange() {
+        Assertions.assertEquals(
+                "select * from users WHERE token(id) > ? AND token(id) <= ?",
+                CassandraSourceSplitEnumerator.withTokenRange(
+                        "select * from users;", PARTITION_KEY, true));
+        Assertions.assertEquals(
+                "select * from users WHERE token(id) > ?",
+                CassandraSourceSplitEnumerator.withTokenRange(
+                        "select * from users", PARTITION_KEY, false));
+        Assertions.assertEquals(
+                "select * from users where age > 18 AND token(\"Id\", region) > ?"
+                        + " AND token(\"Id\", region) <= ? ALLOW FILTERING",
+                CassandraSourceSplitEnumerator.withTokenRange(
+                        "select * from users where age > 18 allow filtering",
+                        Arrays.asList("\"Id\"", "region"),
+                        true));
+    }
+}
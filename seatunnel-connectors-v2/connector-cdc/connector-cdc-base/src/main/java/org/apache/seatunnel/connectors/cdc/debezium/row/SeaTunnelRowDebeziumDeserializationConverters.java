@@ -60,6 +60,7 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
     protected final DebeziumDeserializationConverter[] physicalConverters;
     protected final MetadataConverter[] metadataConverters;
     protected final String[] fieldNames;
+    private transient volatile StructFieldMapping fieldMapping;
 
     public SeaTunnelRowDebeziumDeserializationConverters(
             SeaTunnelRowType physicalDataType,
@@ -83,20 +84,9 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
         int arity = physicalConverters.length + metadataConverters.length;
         SeaTunnelRow row = new SeaTunnelRow(arity);
         // physical column
-        for (int i = 0; i < physicalConverters.length; i++) {
-            String fieldName = fieldNames[i];
-            Field field = schema.field(fieldName);
-            if (field == null) {
-                row.setField(i, null);
-            } else {
-                Object fieldValue = struct.getWithoutDefault(fieldName);
-                Schema fieldSchema = field.schema();
-                Object convertedField =
-                        SeaTunnelRowDebeziumDeserializationConverters.convertField(
-                                physicalConverters[i], fieldValue, fieldSchema);
-                row.setField(i, convertedField);
-            }
-        }
+        StructFieldMapping mapping = StructFieldMapping.resolve(fieldMapping, schema, fieldNames);
+        fieldMapping = mapping;
+        mapping.convert(struct, physicalConverters, row);
         // metadata column
         for (int i = 0; i < metadataConverters.length; i++) {
             row.setField(i + physicalConverters.length, metadataConverters[i].read(record));
@@ -528,37 +518,70 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
         return new DebeziumDeserializationConverter() {
             private static final long serialVersionUID = 1L;
 
+            private transient volatile StructFieldMapping fieldMapping;
+
             @Override
             public Object convert(Object dbzObj, Schema schema) throws Exception {
                 Struct struct = (Struct) dbzObj;
-                int arity = fieldNames.length;
-                SeaTunnelRow row = new SeaTunnelRow(arity);
-                for (int i = 0; i < arity; i++) {
-                    String fieldName = fieldNames[i];
-                    Field field = schema.field(fieldName);
-                    if (field == null) {
-                        row.setField(i, null);
-                    } else {
-                        Object fieldValue = struct.getWithoutDefault(fieldName);
-                        Schema fieldSchema = field.schema();
-                        Object convertedField =
-                                SeaTunnelRowDebeziumDeserializationConverters.convertField(
-                                        fieldConverters[i], fieldValue, fieldSchema);
-                        row.setField(i, convertedField);
-                    }
-                }
+                SeaTunnelRow row = new SeaTunnelRow(fieldNames.length);
+                StructFieldMapping mapping =
+                        StructFieldMapping.resolve(fieldMapping, schema, fieldNames);
+                fieldMapping = mapping;
+                mapping.convert(struct, fieldConverters, row);
                 return row;
             }
         };
     }
 
-    private static Object convertField(
-            DebeziumDeserializationConverter fieldConverter, Object fieldValue, Schema fieldSchema)
-            throws Exception {
-        if (fieldValue == null) {
-            return null;
-        } else {
-            return fieldConverter.convert(fieldValue, fieldSchema);
+    /**
+     * The struct fields of the target columns, resolved once per Connect {@link Schema}. Debezium
+     * reuses the same immutable schema instance for all events of a table until its structure
+     * changes, so the mapping is cached by schema identity and events are read by field index.
+     */
+    private static final class StructFieldMapping {
+        private final Schema schema;
+        private final Field[] fields;
+        // Struct#get(Field) substitutes the schema default for a null value, so the fields with
+        // a default are still read by name to keep the original null
+        private final boolean[] hasDefault;
+
+        private StructFieldMapping(Schema schema, String[] fieldNames) {
+            this.schema = schema;
+            this.fields = new Field[fieldNames.length];
+            this.hasDefault = new boolean[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                Field field = schema.field(fieldNames[i]);
+                fields[i] = field;
+                hasDefault[i] = field != null && field.schema().defaultValue() != null;
+            }
+        }
+
+        private static StructFieldMapping resolve(
+                StructFieldMapping cached, Schema schema, String[] fieldNames) {
+            if (cached != null && cached.schema == schema) {
+                return cached;
+            }
+            return new StructFieldMapping(schema, fieldNames);
+        }
+
+        private void convert(
+                Struct struct, DebeziumDeserializationConverter[] converters, SeaTunnelRow row)
+                throws Exception {
+            boolean byIndex = struct.schema() == schema;
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if (field == null) {
+                    row.setField(i, null);
+                    continue;
+                }
+                Object fieldValue =
+                        byIndex && !hasDefault[i]
+                                ? struct.get(field)
+                                : struct.getWithoutDefault(field.name());
+                if (fieldValue != null) {
+                    row.setField(i, converters[i].convert(fieldValue, field.schema()));
+                }
+            }
         }
     }
 
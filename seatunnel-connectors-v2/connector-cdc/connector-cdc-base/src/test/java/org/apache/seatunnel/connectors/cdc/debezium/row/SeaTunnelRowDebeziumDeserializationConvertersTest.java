@@ -79,6 +79,63 @@ public class SeaTunnelRowDebeziumDeserializationConvertersTest {
         Assertions.assertNull(row.getField(1));
     }
 
+    @Test
+    void testFieldMappingFollowsSchemaChange() throws Exception {
+        SeaTunnelRowType addressType =
+                new SeaTunnelRowType(
+                        new String[] {"city", "zip"},
+                        new SeaTunnelDataType[] {BasicType.STRING_TYPE, BasicType.INT_TYPE});
+        SeaTunnelRowDebeziumDeserializationConverters converters =
+                new SeaTunnelRowDebeziumDeserializationConverters(
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name", "address"},
+                                new SeaTunnelDataType[] {
+                                    BasicType.LONG_TYPE, BasicType.STRING_TYPE, addressType
+                                }),
+                        new MetadataConverter[] {},
+                        ZoneId.systemDefault(),
+                        DebeziumDeserializationConverterFactory.DEFAULT);
+
+        Schema addressSchema =
+                SchemaBuilder.struct()
+                        .field("city", Schema.STRING_SCHEMA)
+                        .field("zip", Schema.INT32_SCHEMA)
+                        .build();
+        Schema schema =
+                SchemaBuilder.struct()
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("address", addressSchema)
+                        .build();
+        for (long id = 1; id <= 2; id++) {
+            Struct value =
+                    new Struct(schema)
+                            .put("id", id)
+                            .put("name", "n" + id)
+                            .put(
+                                    "address",
+                                    new Struct(addressSchema).put("city", "c").put("zip", 100));
+            SeaTunnelRow row = converters.convert(null, value, schema);
+            Assertions.assertEquals(id, row.getField(0));
+            Assertions.assertEquals("n" + id, row.getField(1));
+            SeaTunnelRow address = (SeaTunnelRow) row.getField(2);
+            Assertions.assertEquals("c", address.getField(0));
+            Assertions.assertEquals(100, address.getField(1));
+        }
+
+        // columns reordered and `address` dropped by a schema change
+        Schema changedSchema =
+                SchemaBuilder.struct()
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("id", Schema.INT64_SCHEMA)
+                        .build();
+        Struct changedValue = new Struct(changedSchema).put("name", "n3").put("id", 3L);
+        SeaTunnelRow row = converters.convert(null, changedValue, changedSchema);
+        Assertions.assertEquals(3L, row.getField(0));
+        Assertions.assertEquals("n3", row.getField(1));
+        Assertions.assertNull(row.getField(2));
+    }
+
     @Test
     void testArrayConverter() throws Exception {
         DebeziumDeserializationConverter converter;
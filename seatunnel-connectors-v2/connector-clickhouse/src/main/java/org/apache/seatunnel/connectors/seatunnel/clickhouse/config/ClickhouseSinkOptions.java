@@ -66,6 +66,25 @@ public class ClickhouseSinkOptions {
                     .defaultValue(false)
                     .withDescription("Support upsert row by query primary key");
 
+    public static final Option<ClickhouseWriteMode> WRITE_MODE =
+            Options.key("write_mode")
+                    .enumType(ClickhouseWriteMode.class)
+                    .defaultValue(ClickhouseWriteMode.JDBC)
+                    .withDescription(
+                            "Insert rows through jdbc batches, or stream them in RowBinary format over http");
+
+    public static final Option<Boolean> HTTP_COMPRESSION =
+            Options.key("http_compression")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription("Compress the RowBinary request body with gzip");
+
+    public static final Option<Boolean> HTTP_SSL =
+            Options.key("http_ssl")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription("Send the RowBinary requests over https");
+
     public static final Option<Boolean> ALLOW_EXPERIMENTAL_LIGHTWEIGHT_DELETE =
             Options.key("allow_experimental_lightweight_delete")
                     .booleanType()
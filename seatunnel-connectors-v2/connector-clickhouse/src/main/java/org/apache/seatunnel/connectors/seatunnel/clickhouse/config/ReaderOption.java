@@ -41,4 +41,8 @@ public class ReaderOption implements Serializable {
     @Setter private SeaTunnelRowType seaTunnelRowType;
     private Properties properties;
     private int bulkSize;
+    private ClickhouseWriteMode writeMode;
+    private boolean httpCompression;
+    private boolean httpSsl;
+    private String serverTimeZone;
 }
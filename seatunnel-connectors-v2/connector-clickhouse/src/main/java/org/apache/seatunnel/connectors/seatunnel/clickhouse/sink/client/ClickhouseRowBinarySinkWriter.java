@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.config.Common;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary.ClickhouseHttpInsertClient;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary.RowBinaryBuffer;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary.RowBinaryRowEncoder;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.CKCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSinkState;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseProxy;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes rows by encoding them into RowBinary buffers, one per shard, and streaming every full
+ * buffer over http. Compared to {@link ClickhouseSinkWriter} it skips the jdbc statement binding
+ * and the text serialization of values. Only plain inserts are supported, so it is not used when a
+ * primary key is configured.
+ */
+@Slf4j
+public class ClickhouseRowBinarySinkWriter
+        implements SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState> {
+    private static final int INITIAL_BUFFER_SIZE = 1024 * 1024;
+
+    private final ReaderOption option;
+    private final ShardRouter shardRouter;
+    private final transient ClickhouseProxy proxy;
+    private final RowBinaryRowEncoder encoder;
+    private final Map<Shard, ShardBatch> shardBatches;
+    private final int shardKeyIndex;
+
+    ClickhouseRowBinarySinkWriter(ReaderOption option, Context context) {
+        this(option, new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode()));
+    }
+
+    ClickhouseRowBinarySinkWriter(ReaderOption option, ClickhouseProxy proxy) {
+        this.option = option;
+        this.proxy = proxy;
+        this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
+        this.encoder =
+                new RowBinaryRowEncoder(
+                        option.getSeaTunnelRowType(),
+                        option.getTableSchema(),
+                        option.getServerTimeZone() == null
+                                ? ZoneId.systemDefault()
+                                : ZoneId.of(option.getServerTimeZone()));
+        String shardKey = option.getShardMetadata().getShardKey();
+        this.shardKeyIndex =
+                StringUtils.isNotEmpty(shardKey)
+                        ? option.getSeaTunnelRowType().indexOf(shardKey)
+                        : -1;
+        this.shardBatches = initShardBatches();
+    }
+
+    @Override
+    public void write(SeaTunnelRow element) throws IOException {
+        Object shardKey = shardKeyIndex >= 0 ? element.getField(shardKeyIndex) : null;
+        ShardBatch batch = shardBatches.get(shardRouter.getShard(shardKey));
+        encoder.encode(element, batch.buffer);
+        if (++batch.rows >= option.getBulkSize()) {
+            flush(batch);
+        }
+    }
+
+    @Override
+    public Optional<CKCommitInfo> prepareCommit() throws IOException {
+        flush();
+        return Optional.empty();
+    }
+
+    @Override
+    public void abortPrepare() {}
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            this.proxy.close();
+        }
+    }
+
+    private void flush() {
+        for (ShardBatch batch : shardBatches.values()) {
+            if (batch.rows > 0) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void flush(ShardBatch batch) {
+        try {
+            batch.client.insert(batch.buffer);
+        } catch (IOException e) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Clickhouse insert RowBinary batch error",
+                    e);
+        }
+        log.debug("Inserted {} rows ({} bytes) into clickhouse", batch.rows, batch.buffer.size());
+        batch.buffer.reset();
+        batch.rows = 0;
+    }
+
+    private Map<Shard, ShardBatch> initShardBatches() {
+        Map<Shard, ShardBatch> result = new HashMap<>(Common.COLLECTION_SIZE);
+        shardRouter
+                .getShards()
+                .forEach(
+                        (weight, shard) ->
+                                result.put(
+                                        shard,
+                                        new ShardBatch(
+                                                new ClickhouseHttpInsertClient(
+                                                        shard.getNode(),
+                                                        shardRouter.getShardTable(),
+                                                        encoder.getColumns(),
+                                                        option.getProperties().getProperty("user"),
+                                                        option.getProperties()
+                                                                .getProperty("password"),
+                                                        option.isHttpCompression(),
+                                                        option.isHttpSsl()))));
+        return result;
+    }
+
+    private static class ShardBatch {
+        private final ClickhouseHttpInsertClient client;
+        private final RowBinaryBuffer buffer = new RowBinaryBuffer(INITIAL_BUFFER_SIZE);
+        private int rows;
+
+        private ShardBatch(ClickhouseHttpInsertClient client) {
+            this.client = client;
+        }
+    }
+}
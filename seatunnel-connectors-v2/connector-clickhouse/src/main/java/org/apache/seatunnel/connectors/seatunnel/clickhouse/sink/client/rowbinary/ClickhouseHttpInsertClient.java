@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.clickhouse.client.ClickHouseNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams RowBinary encoded rows to the HTTP interface of one ClickHouse node with {@code INSERT
+ * INTO table (columns) FORMAT RowBinary}. The request body is optionally gzip compressed and sent
+ * over https when ssl is enabled, the connections are kept alive by the JDK between batches.
+ */
+public class ClickhouseHttpInsertClient {
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    private final URL url;
+    private final String username;
+    private final String password;
+    private final boolean compression;
+
+    public ClickhouseHttpInsertClient(
+            ClickHouseNode node,
+            String table,
+            String[] columns,
+            String username,
+            String password,
+            boolean compression,
+            boolean ssl) {
+        String database = node.getDatabase().orElse("default");
+        String query =
+                String.format(
+                        "INSERT INTO `%s`.`%s` (%s) FORMAT RowBinary",
+                        database,
+                        table,
+                        Arrays.stream(columns)
+                                .map(column -> "`" + column + "`")
+                                .collect(Collectors.joining(",")));
+        try {
+            this.url =
+                    new URL(
+                            String.format(
+                                    "%s://%s:%s/?query=%s",
+                                    ssl ? "https" : "http",
+                                    node.getAddress().getHostString(),
+                                    node.getAddress().getPort(),
+                                    URLEncoder.encode(query, StandardCharsets.UTF_8.name())));
+        } catch (IOException e) {
+            throw new ClickhouseConnectorException(
+                    ClickhouseConnectorErrorCode.HTTP_INSERT_FAILED,
+                    "Build the insert url of node " + node.getAddress() + " failed",
+                    e);
+        }
+        this.username = username;
+        this.password = password;
+        this.compression = compression;
+    }
+
+    public void insert(RowBinaryBuffer rows) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setChunkedStreamingMode(STREAM_CHUNK_SIZE);
+            connection.setRequestProperty("Content-Type", "application/octet-stream");
+            if (StringUtils.isNotEmpty(username)) {
+                connection.setRequestProperty("X-ClickHouse-User", username);
+            }
+            if (StringUtils.isNotEmpty(password)) {
+                connection.setRequestProperty("X-ClickHouse-Key", password);
+            }
+            if (compression) {
+                connection.setRequestProperty("Content-Encoding", "gzip");
+            }
+            try (OutputStream body =
+                    compression
+                            ? new GZIPOutputStream(connection.getOutputStream(), STREAM_CHUNK_SIZE)
+                            : connection.getOutputStream()) {
+                rows.writeTo(body);
+            }
+            int responseCode = connection.getResponseCode();
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new ClickhouseConnectorException(
+                        ClickhouseConnectorErrorCode.HTTP_INSERT_FAILED,
+                        String.format(
+                                "Clickhouse responded %s: %s",
+                                responseCode, readFully(connection.getErrorStream())));
+            }
+            // read the response to the end, so that the connection can be reused
+            readFully(connection.getInputStream());
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
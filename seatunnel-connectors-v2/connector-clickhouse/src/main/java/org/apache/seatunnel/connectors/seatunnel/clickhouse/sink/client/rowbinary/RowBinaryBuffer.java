@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * An unsynchronized, growable buffer of RowBinary encoded rows. It is reused for every batch of a
+ * shard, {@link #reset()} keeps the allocated capacity so steady-state writes do not allocate.
+ */
+public class RowBinaryBuffer {
+    private byte[] buf;
+    private int count;
+
+    public RowBinaryBuffer(int initialCapacity) {
+        this.buf = new byte[initialCapacity];
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = count + additional;
+        if (required > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(required, buf.length << 1));
+        }
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buf[count++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    public void writeInt16(int value) {
+        ensureCapacity(2);
+        buf[count++] = (byte) value;
+        buf[count++] = (byte) (value >>> 8);
+    }
+
+    public void writeInt32(int value) {
+        ensureCapacity(4);
+        buf[count++] = (byte) value;
+        buf[count++] = (byte) (value >>> 8);
+        buf[count++] = (byte) (value >>> 16);
+        buf[count++] = (byte) (value >>> 24);
+    }
+
+    public void writeInt64(long value) {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buf[count++] = (byte) (value >>> (i << 3));
+        }
+    }
+
+    /** Write a two's complement little endian integer of {@code size} bytes. */
+    public void writeBigInteger(BigInteger value, int size) {
+        byte[] bigEndian = value.toByteArray();
+        byte sign = value.signum() < 0 ? (byte) 0xFF : 0;
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            int index = bigEndian.length - 1 - i;
+            buf[count++] = index >= 0 ? bigEndian[index] : sign;
+        }
+    }
+
+    /** Write an unsigned LEB128 integer, as used for string lengths and array sizes. */
+    public void writeVarInt(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[count++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[count++] = (byte) value;
+    }
+
+    public void writeString(byte[] bytes) {
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, count);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    public void reset() {
+        count = 0;
+    }
+
+    /** Drop everything written after the buffer had the given size. */
+    public void truncate(int size) {
+        count = size;
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes {@link SeaTunnelRow}s into the ClickHouse RowBinary format. The encoder of every column
+ * is resolved once from its ClickHouse type, so encoding a row is a plain loop over the projected
+ * fields without any per-value type dispatch.
+ */
+public class RowBinaryRowEncoder {
+    private static final Pattern NULLABLE = Pattern.compile("Nullable\\((.*)\\)");
+    private static final Pattern LOW_CARDINALITY = Pattern.compile("LowCardinality\\((.*)\\)");
+    private static final Pattern FIXED_STRING = Pattern.compile("FixedString\\((\\d+)\\)");
+    private static final Pattern DECIMAL = Pattern.compile("Decimal\\((\\d+),\\s*(\\d+)\\)");
+    private static final Pattern SIZED_DECIMAL =
+            Pattern.compile("Decimal(32|64|128|256)\\((\\d+)\\)");
+    private static final Pattern DATE_TIME = Pattern.compile("DateTime(?:\\('(.*)'\\))?");
+    private static final Pattern DATE_TIME64 =
+            Pattern.compile("DateTime64\\((\\d+)(?:,\\s*'(.*)')?\\)");
+    private static final Pattern ENUM = Pattern.compile("Enum(8|16)\\((.*)\\)");
+    private static final Pattern ENUM_VALUE =
+            Pattern.compile("'((?:[^'\\\\]|\\\\.)*)'\\s*=\\s*(-?\\d+)");
+    private static final Pattern ARRAY = Pattern.compile("Array\\((.*)\\)");
+    private static final Pattern MAP = Pattern.compile("Map\\((.*)\\)");
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L
+    };
+
+    @FunctionalInterface
+    interface FieldEncoder {
+        void encode(RowBinaryBuffer out, Object value);
+    }
+
+    private final String[] columns;
+    private final String[] types;
+    private final int[] fieldIndexes;
+    private final FieldEncoder[] encoders;
+
+    public RowBinaryRowEncoder(
+            SeaTunnelRowType rowType, Map<String, String> tableSchema, ZoneId serverTimeZone) {
+        List<String> projection = new ArrayList<>();
+        for (String field : rowType.getFieldNames()) {
+            if (tableSchema.containsKey(field)) {
+                projection.add(field);
+            }
+        }
+        this.columns = projection.toArray(new String[0]);
+        this.types = new String[columns.length];
+        this.fieldIndexes = new int[columns.length];
+        this.encoders = new FieldEncoder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            types[i] = tableSchema.get(columns[i]);
+            fieldIndexes[i] = rowType.indexOf(columns[i]);
+            encoders[i] = createEncoder(types[i], serverTimeZone);
+        }
+    }
+
+    /** The columns written by {@link #encode}, in encoding order. */
+    public String[] getColumns() {
+        return columns;
+    }
+
+    public void encode(SeaTunnelRow row, RowBinaryBuffer out) {
+        int rowStart = out.size();
+        for (int i = 0; i < encoders.length; i++) {
+            try {
+                encoders[i].encode(out, row.getField(fieldIndexes[i]));
+            } catch (RuntimeException e) {
+                // a partially encoded row would corrupt the whole batch
+                out.truncate(rowStart);
+                if (e instanceof NullValueException) {
+                    throw new ClickhouseConnectorException(
+                            CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                            String.format(
+                                    "Can not write a null value into column %s of type %s",
+                                    columns[i], types[i]),
+                            e);
+                }
+                throw e;
+            }
+        }
+    }
+
+    static FieldEncoder createEncoder(String type, ZoneId serverTimeZone) {
+        Matcher lowCardinality = LOW_CARDINALITY.matcher(type);
+        if (lowCardinality.matches()) {
+            // low cardinality columns are written as their dictionary type
+            return createEncoder(lowCardinality.group(1), serverTimeZone);
+        }
+        Matcher nullable = NULLABLE.matcher(type);
+        if (nullable.matches()) {
+            FieldEncoder encoder = createNotNullEncoder(nullable.group(1), serverTimeZone);
+            return (out, value) -> {
+                if (value == null) {
+                    out.writeByte(1);
+                } else {
+                    out.writeByte(0);
+                    encoder.encode(out, value);
+                }
+            };
+        }
+        FieldEncoder encoder = createNotNullEncoder(type, serverTimeZone);
+        // the server rejects a null for a not nullable column as well, don't write a default
+        return (out, value) -> {
+            if (value == null) {
+                throw new NullValueException(type);
+            }
+            encoder.encode(out, value);
+        };
+    }
+
+    private static FieldEncoder createNotNullEncoder(String type, ZoneId serverTimeZone) {
+        switch (type) {
+            case "Bool":
+            case "Boolean":
+                return (out, value) -> out.writeByte(toBoolean(value) ? 1 : 0);
+            case "Int8":
+            case "UInt8":
+                return (out, value) -> out.writeByte((int) toLong(value));
+            case "Int16":
+            case "UInt16":
+                return (out, value) -> out.writeInt16((int) toLong(value));
+            case "Int32":
+            case "UInt32":
+                return (out, value) -> out.writeInt32((int) toLong(value));
+            case "Int64":
+            case "UInt64":
+                return (out, value) -> out.writeInt64(toLong(value));
+            case "Int128":
+            case "UInt128":
+                return (out, value) -> out.writeBigInteger(toBigInteger(value), 16);
+            case "Int256":
+            case "UInt256":
+                return (out, value) -> out.writeBigInteger(toBigInteger(value), 32);
+            case "Float32":
+                return (out, value) ->
+                        out.writeInt32(Float.floatToIntBits(toNumber(value).floatValue()));
+            case "Float64":
+                return (out, value) ->
+                        out.writeInt64(Double.doubleToLongBits(toNumber(value).doubleValue()));
+            case "String":
+                return (out, value) -> out.writeString(toBytes(value));
+            case "UUID":
+                return (out, value) -> {
+                    UUID uuid =
+                            value instanceof UUID
+                                    ? (UUID) value
+                                    : UUID.fromString(value.toString());
+                    out.writeInt64(uuid.getMostSignificantBits());
+                    out.writeInt64(uuid.getLeastSignificantBits());
+                };
+            case "Date":
+                return (out, value) -> out.writeInt16((int) toEpochDay(value));
+            case "Date32":
+                return (out, value) -> out.writeInt32((int) toEpochDay(value));
+            case "IPv4":
+                return (out, value) -> {
+                    byte[] address = toInetAddress(value).getAddress();
+                    if (address.length != 4) {
+                        throw new ClickhouseConnectorException(
+                                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                "Value " + value + " is not an IPv4 address");
+                    }
+                    out.writeInt32(
+                            (address[0] & 0xFF) << 24
+                                    | (address[1] & 0xFF) << 16
+                                    | (address[2] & 0xFF) << 8
+                                    | (address[3] & 0xFF));
+                };
+            case "IPv6":
+                return (out, value) -> {
+                    InetAddress address = toInetAddress(value);
+                    if (address instanceof Inet4Address) {
+                        // IPv4-mapped IPv6 address ::ffff:a.b.c.d
+                        byte[] mapped = new byte[16];
+                        mapped[10] = (byte) 0xFF;
+                        mapped[11] = (byte) 0xFF;
+                        System.arraycopy(address.getAddress(), 0, mapped, 12, 4);
+                        out.writeBytes(mapped);
+                    } else {
+                        out.writeBytes(address.getAddress());
+                    }
+                };
+            default:
+                return createParameterizedEncoder(type, serverTimeZone);
+        }
+    }
+
+    private static FieldEncoder createParameterizedEncoder(String type, ZoneId serverTimeZone) {
+        Matcher matcher = FIXED_STRING.matcher(type);
+        if (matcher.matches()) {
+            int length = Integer.parseInt(matcher.group(1));
+            return (out, value) -> {
+                byte[] bytes = toBytes(value);
+                if (bytes.length > length) {
+                    throw new ClickhouseConnectorException(
+                            CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                            "Value " + value + " is too long for " + type);
+                }
+                out.writeBytes(bytes);
+                for (int i = bytes.length; i < length; i++) {
+                    out.writeByte(0);
+                }
+            };
+        }
+        matcher = DECIMAL.matcher(type);
+        if (matcher.matches()) {
+            int precision = Integer.parseInt(matcher.group(1));
+            return decimalEncoder(decimalSize(precision), Integer.parseInt(matcher.group(2)));
+        }
+        matcher = SIZED_DECIMAL.matcher(type);
+        if (matcher.matches()) {
+            return decimalEncoder(
+                    Integer.parseInt(matcher.group(1)) / 8, Integer.parseInt(matcher.group(2)));
+        }
+        matcher = DATE_TIME.matcher(type);
+        if (matcher.matches()) {
+            ZoneId zone = matcher.group(1) == null ? serverTimeZone : ZoneId.of(matcher.group(1));
+            return (out, value) -> out.writeInt32((int) toInstant(value, zone).getEpochSecond());
+        }
+        matcher = DATE_TIME64.matcher(type);
+        if (matcher.matches()) {
+            int scale = Integer.parseInt(matcher.group(1));
+            ZoneId zone = matcher.group(2) == null ? serverTimeZone : ZoneId.of(matcher.group(2));
+            return (out, value) -> {
+                Instant instant = toInstant(value, zone);
+                out.writeInt64(
+                        instant.getEpochSecond() * POWERS_OF_TEN[scale]
+                                + instant.getNano() / POWERS_OF_TEN[9 - scale]);
+            };
+        }
+        matcher = ENUM.matcher(type);
+        if (matcher.matches()) {
+            Map<String, Integer> values = parseEnumValues(matcher.group(2));
+            boolean enum8 = "8".equals(matcher.group(1));
+            return (out, value) -> {
+                int number = toEnumValue(values, value, type);
+                if (enum8) {
+                    out.writeByte(number);
+                } else {
+                    out.writeInt16(number);
+                }
+            };
+        }
+        matcher = ARRAY.matcher(type);
+        if (matcher.matches()) {
+            FieldEncoder elementEncoder = createEncoder(matcher.group(1), serverTimeZone);
+            return (out, value) -> {
+                if (value instanceof Collection) {
+                    Collection<?> collection = (Collection<?>) value;
+                    out.writeVarInt(collection.size());
+                    for (Object element : collection) {
+                        elementEncoder.encode(out, element);
+                    }
+                } else {
+                    int length = java.lang.reflect.Array.getLength(value);
+                    out.writeVarInt(length);
+                    for (int i = 0; i < length; i++) {
+                        elementEncoder.encode(out, java.lang.reflect.Array.get(value, i));
+                    }
+                }
+            };
+        }
+        matcher = MAP.matcher(type);
+        if (matcher.matches()) {
+            List<String> arguments = splitArguments(matcher.group(1));
+            FieldEncoder keyEncoder = createEncoder(arguments.get(0), serverTimeZone);
+            FieldEncoder valueEncoder = createEncoder(arguments.get(1), serverTimeZone);
+            return (out, value) -> {
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeVarInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    keyEncoder.encode(out, entry.getKey());
+                    valueEncoder.encode(out, entry.getValue());
+                }
+            };
+        }
+        throw new ClickhouseConnectorException(
+                ClickhouseConnectorErrorCode.UNSUPPORTED_ROW_BINARY_TYPE,
+                "Unsupported clickhouse type " + type + ", please use the JDBC write mode");
+    }
+
+    private static FieldEncoder decimalEncoder(int size, int scale) {
+        return (out, value) -> {
+            BigInteger unscaled =
+                    toBigDecimal(value).setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+            if (size == 4) {
+                out.writeInt32(unscaled.intValue());
+            } else if (size == 8) {
+                out.writeInt64(unscaled.longValue());
+            } else {
+                out.writeBigInteger(unscaled, size);
+            }
+        };
+    }
+
+    private static int decimalSize(int precision) {
+        if (precision <= 9) {
+            return 4;
+        } else if (precision <= 18) {
+            return 8;
+        } else if (precision <= 38) {
+            return 16;
+        }
+        return 32;
+    }
+
+    private static Map<String, Integer> parseEnumValues(String definition) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        Matcher matcher = ENUM_VALUE.matcher(definition);
+        while (matcher.find()) {
+            values.put(matcher.group(1).replace("\\'", "'"), Integer.parseInt(matcher.group(2)));
+        }
+        return values;
+    }
+
+    private static int toEnumValue(Map<String, Integer> values, Object value, String type) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        Integer number = values.get(value.toString());
+        if (number == null) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Value " + value + " is not an element of " + type);
+        }
+        return number;
+    }
+
+    /** Split the arguments of a type like {@code Map(String, Array(Int32))} at top level commas. */
+    static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (c == '\\' && quoted) {
+                i++;
+            } else if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')') {
+                depth--;
+            } else if (!quoted && depth == 0 && c == ',') {
+                result.add(arguments.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        result.add(arguments.substring(start).trim());
+        return result;
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        String text = value.toString().trim();
+        return "1".equals(text) || Boolean.parseBoolean(text);
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return new BigDecimal(value.toString().trim()).longValue();
+    }
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        return Double.parseDouble(value.toString().trim());
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        } else if (value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString().trim()).toBigInteger();
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochDay(Object value) {
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate().toEpochDay();
+        } else if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toEpochDay();
+        } else if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        String text = value.toString().trim();
+        return LocalDate.parse(text.length() > 10 ? text.substring(0, 10) : text).toEpochDay();
+    }
+
+    private static Instant toInstant(Object value, ZoneId zone) {
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(zone).toInstant();
+        } else if (value instanceof Instant) {
+            return (Instant) value;
+        } else if (value instanceof Timestamp) {
+            return ((Timestamp) value).toInstant();
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(zone).toInstant();
+        } else if (value instanceof Number) {
+            return Instant.ofEpochSecond(((Number) value).longValue());
+        }
+        return Timestamp.valueOf(value.toString().trim().replace('T', ' '))
+                .toLocalDateTime()
+                .atZone(zone)
+                .toInstant();
+    }
+
+    private static InetAddress toInetAddress(Object value) {
+        if (value instanceof InetAddress) {
+            return (InetAddress) value;
+        }
+        try {
+            return InetAddress.getByName(value.toString().trim());
+        } catch (UnknownHostException e) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Value " + value + " is not an ip address",
+                    e);
+        }
+    }
+
+    /** A null value of a not nullable type, the row encoder reports it with the column. */
+    static class NullValueException extends ClickhouseConnectorException {
+        NullValueException(String type) {
+            super(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "The value of the not Nullable type " + type + " is null");
+        }
+    }
+}
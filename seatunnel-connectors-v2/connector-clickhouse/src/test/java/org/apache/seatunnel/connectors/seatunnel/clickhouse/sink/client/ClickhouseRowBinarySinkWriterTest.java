@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseWriteMode;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary.RowBinaryBuffer;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary.RowBinaryRowEncoder;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseProxy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseProtocol;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+
+class ClickhouseRowBinarySinkWriterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+    private final List<byte[]> bodies = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> users = Collections.synchronizedList(new ArrayList<>());
+    private volatile int responseCode = 200;
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        queries.add(
+                URLDecoder.decode(
+                        exchange.getRequestURI().getRawQuery().substring("query=".length()),
+                        StandardCharsets.UTF_8.name()));
+        users.add(exchange.getRequestHeaders().getFirst("X-ClickHouse-User"));
+        InputStream body = exchange.getRequestBody();
+        if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            body = new GZIPInputStream(body);
+        }
+        bodies.add(readFully(body));
+        byte[] response =
+                responseCode == 200 ? new byte[0] : "Code: 27. Cannot parse input".getBytes();
+        exchange.sendResponseHeaders(responseCode, response.length == 0 ? -1 : response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    @Test
+    void testInsertBatchesInRowBinary() throws IOException {
+        ClickhouseRowBinarySinkWriter writer = createWriter(true);
+        writer.write(new SeaTunnelRow(new Object[] {1, "a"}));
+        writer.write(new SeaTunnelRow(new Object[] {2, null}));
+        Assertions.assertEquals(1, bodies.size());
+        writer.write(new SeaTunnelRow(new Object[] {3, "c"}));
+        writer.prepareCommit();
+        Assertions.assertEquals(2, bodies.size());
+        writer.prepareCommit();
+        Assertions.assertEquals(2, bodies.size());
+
+        Assertions.assertEquals(
+                "INSERT INTO `default`.`test_table` (`id`,`name`) FORMAT RowBinary",
+                queries.get(0));
+        Assertions.assertEquals("test", users.get(0));
+        Assertions.assertArrayEquals(
+                encode(
+                        new SeaTunnelRow(new Object[] {1, "a"}),
+                        new SeaTunnelRow(new Object[] {2, null})),
+                bodies.get(0));
+        Assertions.assertArrayEquals(
+                encode(new SeaTunnelRow(new Object[] {3, "c"})), bodies.get(1));
+    }
+
+    @Test
+    void testCloseFlushesPendingRows() throws IOException {
+        ClickhouseRowBinarySinkWriter writer = createWriter(false);
+        writer.write(new SeaTunnelRow(new Object[] {1, "a"}));
+        Assertions.assertEquals(0, bodies.size());
+        writer.close();
+        Assertions.assertEquals(1, bodies.size());
+        Assertions.assertArrayEquals(
+                encode(new SeaTunnelRow(new Object[] {1, "a"})), bodies.get(0));
+    }
+
+    @Test
+    void testInsertFailure() throws IOException {
+        responseCode = 500;
+        ClickhouseRowBinarySinkWriter writer = createWriter(false);
+        writer.write(new SeaTunnelRow(new Object[] {1, "a"}));
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(
+                        ClickhouseConnectorException.class,
+                        () -> writer.write(new SeaTunnelRow(new Object[] {2, "b"})));
+        Assertions.assertTrue(
+                exception.getMessage().contains("Cannot parse input"), exception.getMessage());
+    }
+
+    private ClickhouseRowBinarySinkWriter createWriter(boolean compression) {
+        ClickHouseNode node =
+                ClickHouseNode.builder()
+                        .host("localhost")
+                        .port(ClickHouseProtocol.HTTP, server.getAddress().getPort())
+                        .database("default")
+                        .build();
+        Properties properties = new Properties();
+        properties.put("user", "test");
+        properties.put("password", "123456");
+        ReaderOption option =
+                ReaderOption.builder()
+                        .shardMetadata(
+                                new ShardMetadata(
+                                        null,
+                                        null,
+                                        null,
+                                        "default",
+                                        "test_table",
+                                        "MergeTree",
+                                        false,
+                                        new Shard(1, 1, node)))
+                        .tableSchema(tableSchema())
+                        .seaTunnelRowType(ROW_TYPE)
+                        .properties(properties)
+                        .bulkSize(2)
+                        .writeMode(ClickhouseWriteMode.ROW_BINARY)
+                        .httpCompression(compression)
+                        .httpSsl(false)
+                        .serverTimeZone("UTC")
+                        .build();
+        return new ClickhouseRowBinarySinkWriter(option, Mockito.mock(ClickhouseProxy.class));
+    }
+
+    private static Map<String, String> tableSchema() {
+        Map<String, String> tableSchema = new HashMap<>();
+        tableSchema.put("id", "Int32");
+        tableSchema.put("name", "Nullable(String)");
+        return tableSchema;
+    }
+
+    private static byte[] encode(SeaTunnelRow... rows) {
+        RowBinaryRowEncoder encoder =
+                new RowBinaryRowEncoder(ROW_TYPE, tableSchema(), ZoneOffset.UTC);
+        RowBinaryBuffer buffer = new RowBinaryBuffer(16);
+        for (SeaTunnelRow row : rows) {
+            encoder.encode(row, buffer);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
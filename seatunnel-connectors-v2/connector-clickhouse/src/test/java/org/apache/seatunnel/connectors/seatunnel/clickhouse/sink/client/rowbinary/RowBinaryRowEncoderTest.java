@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.rowbinary;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class RowBinaryRowEncoderTest {
+
+    @Test
+    void testEncodeRow() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "score", "amount", "day", "ts", "not_in_table"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.DOUBLE_TYPE,
+                            new DecimalType(9, 2),
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            BasicType.INT_TYPE
+                        });
+        Map<String, String> tableSchema = new HashMap<>();
+        tableSchema.put("id", "UInt32");
+        tableSchema.put("name", "LowCardinality(Nullable(String))");
+        tableSchema.put("score", "Float64");
+        tableSchema.put("amount", "Decimal(9, 2)");
+        tableSchema.put("day", "Date");
+        tableSchema.put("ts", "DateTime64(3)");
+        RowBinaryRowEncoder encoder = new RowBinaryRowEncoder(rowType, tableSchema, ZoneOffset.UTC);
+        Assertions.assertArrayEquals(
+                new String[] {"id", "name", "score", "amount", "day", "ts"}, encoder.getColumns());
+
+        RowBinaryBuffer buffer = new RowBinaryBuffer(4);
+        encoder.encode(
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L,
+                            "ab",
+                            1.0d,
+                            new BigDecimal("1.5"),
+                            LocalDate.of(1970, 1, 3),
+                            LocalDateTime.of(1970, 1, 1, 0, 0, 1, 5_000_000),
+                            7
+                        }),
+                buffer);
+        encoder.encode(
+                new SeaTunnelRow(
+                        new Object[] {
+                            2L,
+                            null,
+                            0d,
+                            BigDecimal.ZERO,
+                            LocalDate.of(1970, 1, 1),
+                            LocalDateTime.of(1970, 1, 1, 0, 0),
+                            null
+                        }),
+                buffer);
+
+        byte[] expected =
+                bytes(
+                        // id
+                        1,
+                        0,
+                        0,
+                        0,
+                        // name: not null, length 2, "ab"
+                        0,
+                        2,
+                        'a',
+                        'b',
+                        // score: 1.0d
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0xF0,
+                        0x3F,
+                        // amount: 150
+                        150,
+                        0,
+                        0,
+                        0,
+                        // day
+                        2,
+                        0,
+                        // ts: 1005 ms
+                        0xED,
+                        0x03,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        // second row, the name is null
+                        2,
+                        0,
+                        0,
+                        0,
+                        1,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0,
+                        0);
+        Assertions.assertArrayEquals(expected, buffer.toByteArray());
+    }
+
+    @Test
+    void testRejectNullOfNotNullableColumn() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "day"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE, LocalTimeType.LOCAL_DATE_TYPE
+                        });
+        Map<String, String> tableSchema = new HashMap<>();
+        tableSchema.put("id", "UInt32");
+        tableSchema.put("day", "Date");
+        RowBinaryRowEncoder encoder = new RowBinaryRowEncoder(rowType, tableSchema, ZoneOffset.UTC);
+
+        RowBinaryBuffer buffer = new RowBinaryBuffer(4);
+        encoder.encode(new SeaTunnelRow(new Object[] {1L, LocalDate.of(1970, 1, 1)}), buffer);
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(
+                        ClickhouseConnectorException.class,
+                        () -> encoder.encode(new SeaTunnelRow(new Object[] {2L, null}), buffer));
+        Assertions.assertTrue(
+                exception.getMessage().contains("column day of type Date"),
+                exception.getMessage());
+        // the id of the rejected row is dropped again
+        Assertions.assertArrayEquals(bytes(1, 0, 0, 0, 0, 0), buffer.toByteArray());
+    }
+
+    @Test
+    void testEncodeComplexTypes() {
+        RowBinaryBuffer buffer = new RowBinaryBuffer(4);
+        RowBinaryRowEncoder.createEncoder("Array(Nullable(Int16))", ZoneOffset.UTC)
+                .encode(buffer, new Short[] {1, null});
+        Assertions.assertArrayEquals(bytes(2, 0, 1, 0, 1), buffer.toByteArray());
+
+        buffer.reset();
+        RowBinaryRowEncoder.createEncoder("Map(String, Array(UInt8))", ZoneOffset.UTC)
+                .encode(buffer, Collections.singletonMap("k", Arrays.asList(3, 4)));
+        Assertions.assertArrayEquals(bytes(1, 1, 'k', 2, 3, 4), buffer.toByteArray());
+
+        buffer.reset();
+        RowBinaryRowEncoder.createEncoder("Enum8('a' = 1, 'b,c' = -2)", ZoneOffset.UTC)
+                .encode(buffer, "b,c");
+        Assertions.assertArrayEquals(bytes(0xFE), buffer.toByteArray());
+
+        buffer.reset();
+        RowBinaryRowEncoder.createEncoder("Int128", ZoneOffset.UTC).encode(buffer, -1L);
+        Assertions.assertEquals(16, buffer.size());
+        Assertions.assertArrayEquals(
+                bytes(
+                        0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF,
+                        0xFF, 0xFF, 0xFF, 0xFF),
+                buffer.toByteArray());
+
+        buffer.reset();
+        buffer.writeString(new byte[300]);
+        Assertions.assertEquals(302, buffer.size());
+        Assertions.assertEquals((byte) 0xAC, buffer.toByteArray()[0]);
+        Assertions.assertEquals((byte) 0x02, buffer.toByteArray()[1]);
+
+        Assertions.assertEquals(
+                Arrays.asList("String", "Tuple(a Int8, b String)", "Enum8('x,y' = 1)"),
+                RowBinaryRowEncoder.splitArguments(
+                        "String, Tuple(a Int8, b String), Enum8('x,y' = 1)"));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
+import org.apache.seatunnel.api.sink.SupportPrimaryKeyPartition;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
 import org.apache.seatunnel.api.table.catalog.Catalog;
@@ -57,7 +58,8 @@ public class DorisSink
         implements SeaTunnelSink<SeaTunnelRow, DorisSinkState, DorisCommitInfo, DorisCommitInfo>,
                 SupportSaveMode,
                 SupportMultiTableSink,
-                SupportSchemaEvolutionSink {
+                SupportSchemaEvolutionSink,
+                SupportPrimaryKeyPartition {
 
     private final DorisSinkConfig dorisSinkConfig;
     private final ReadonlyConfig config;
@@ -143,6 +145,11 @@ public class DorisSink
         return Optional.of(catalogTable);
     }
 
+    @Override
+    public boolean partitionByPrimaryKey() {
+        return SupportPrimaryKeyPartition.hasPrimaryKey(catalogTable);
+    }
+
     @Override
     public List<SchemaChangeType> supports() {
         return Arrays.asList(
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportColumnarRead;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -37,7 +38,8 @@ import java.util.stream.Collectors;
 
 @Slf4j
 public class DorisSource
-        implements SeaTunnelSource<SeaTunnelRow, DorisSourceSplit, DorisSourceState> {
+        implements SeaTunnelSource<SeaTunnelRow, DorisSourceSplit, DorisSourceState>,
+                SupportColumnarRead {
 
     private static final long serialVersionUID = 6139826339248788618L;
     private final DorisSourceConfig config;
@@ -87,9 +87,11 @@ public class DorisSourceReader implements SourceReader<SeaTunnelRow, DorisSource
                                     partition.getDatabase(), partition.getTable()));
                 }
                 valueReader = new DorisValueReader(partition, dorisSourceConfig, dorisSourceTable);
-                while (valueReader.hasNext()) {
-                    SeaTunnelRow record = valueReader.next();
-                    output.collect(record);
+                if (!valueReader.collectArrowBatches(output)) {
+                    while (valueReader.hasNext()) {
+                        SeaTunnelRow record = valueReader.next();
+                        output.collect(record);
+                    }
                 }
             }
             if (Boundedness.BOUNDED.equals(context.getBoundedness())
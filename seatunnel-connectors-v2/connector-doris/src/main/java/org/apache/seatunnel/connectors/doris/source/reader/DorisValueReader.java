@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.doris.source.reader;
 
+import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.doris.backend.BackendClient;
@@ -249,6 +250,44 @@ public class DorisValueReader {
         return hasNext;
     }
 
+    /**
+     * Pass through the Arrow batches to the collector, the batches are not converted to rows.
+     *
+     * @param output the collector.
+     * @return false if the collector does not accept the Arrow batch, the rows have to be read by
+     *     {@link #hasNext()} and {@link #next()}.
+     */
+    public boolean collectArrowBatches(Collector<SeaTunnelRow> output) {
+        if (deserializeArrowToRowBatchAsync) {
+            return false;
+        }
+        clientLock.lock();
+        try {
+            String tableId = dorisSourceTable.getTablePath().toString();
+            TScanNextBatchParams nextBatchParams = new TScanNextBatchParams();
+            nextBatchParams.setContextId(contextId);
+            while (!eos.get()) {
+                nextBatchParams.setOffset(offset);
+                TScanBatchResult nextResult = client.getNext(nextBatchParams);
+                eos.set(nextResult.isEos());
+                if (eos.get()) {
+                    break;
+                }
+                long rowCount = output.collectArrowStream(nextResult.getRows(), tableId);
+                if (rowCount < 0) {
+                    rowBatch =
+                            new ArrowToSeatunnelRowReader(nextResult.getRows(), seaTunnelRowType)
+                                    .readArrow();
+                    return false;
+                }
+                offset += rowCount;
+            }
+            return true;
+        } finally {
+            clientLock.unlock();
+        }
+    }
+
     /**
      * get next value.
      *
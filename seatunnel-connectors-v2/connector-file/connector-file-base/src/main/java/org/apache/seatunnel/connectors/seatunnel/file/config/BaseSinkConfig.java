@@ -310,6 +310,41 @@ public class BaseSinkConfig {
                     .withDescription(
                             "Support writing Parquet INT96 from a 12-byte field, only valid for parquet files.");
 
+    public static final Option<Boolean> PARQUET_NATIVE_WRITE =
+            Options.key("parquet_native_write")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Write rows straight to parquet column writers instead of converting them to avro records first, only valid for parquet files.");
+
+    public static final Option<Boolean> PARQUET_ENABLE_DICTIONARY =
+            Options.key("parquet_enable_dictionary")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to enable dictionary encoding, only valid for parquet files.");
+
+    public static final Option<Integer> PARQUET_PAGE_SIZE =
+            Options.key("parquet_page_size")
+                    .intType()
+                    .defaultValue(1024 * 1024)
+                    .withDescription(
+                            "The parquet page size in bytes, only valid for parquet files.");
+
+    public static final Option<Integer> PARQUET_DICTIONARY_PAGE_SIZE =
+            Options.key("parquet_dictionary_page_size")
+                    .intType()
+                    .defaultValue(1024 * 1024)
+                    .withDescription(
+                            "The parquet dictionary page size in bytes, only valid for parquet files.");
+
+    public static final Option<List<String>> PARQUET_BLOOM_FILTER_COLUMNS =
+            Options.key("parquet_bloom_filter_columns")
+                    .listType(String.class)
+                    .defaultValue(Collections.emptyList())
+                    .withDescription(
+                            "The columns to write bloom filters for, only valid for parquet files.");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
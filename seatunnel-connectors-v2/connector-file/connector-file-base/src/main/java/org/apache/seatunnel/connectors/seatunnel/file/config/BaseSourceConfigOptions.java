@@ -174,6 +174,22 @@ public class BaseSourceConfigOptions {
                     .withDescription(
                             "File pattern. The connector will filter some files base on the pattern.");
 
+    public static final Option<Boolean> PARQUET_VECTORIZED_READ =
+            Options.key("parquet_vectorized_read")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to decode parquet columns in batches straight from the column readers, "
+                                    + "only valid for parquet files without nested columns.");
+
+    public static final Option<String> PARQUET_FILTER =
+            Options.key("parquet_filter")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Conditions like `column op literal` joined by `and`, used to skip row groups "
+                                    + "and filter rows, only valid for parquet files.");
+
     public static final Option<CompressFormat> COMPRESS_CODEC =
             Options.key("compress_codec")
                     .enumType(CompressFormat.class)
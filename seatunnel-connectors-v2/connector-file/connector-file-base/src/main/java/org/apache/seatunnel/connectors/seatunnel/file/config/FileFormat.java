@@ -23,6 +23,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.CsvWriteStrate
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ExcelWriteStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.JsonWriteStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ParquetNativeWriteStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ParquetWriteStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.TextWriteStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.WriteStrategy;
@@ -67,6 +68,9 @@ public enum FileFormat implements Serializable {
     PARQUET("parquet") {
         @Override
         public WriteStrategy getWriteStrategy(FileSinkConfig fileSinkConfig) {
+            if (fileSinkConfig.isParquetNativeWrite()) {
+                return new ParquetNativeWriteStrategy(fileSinkConfig);
+            }
             return new ParquetWriteStrategy(fileSinkConfig);
         }
 
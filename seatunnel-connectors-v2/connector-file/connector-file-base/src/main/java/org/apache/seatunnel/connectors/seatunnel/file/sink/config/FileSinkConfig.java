@@ -87,6 +87,19 @@ public class FileSinkConfig extends BaseFileSinkConfig implements PartitionConfi
     private List<String> parquetAvroWriteFixedAsInt96 =
             BaseSinkConfig.PARQUET_AVRO_WRITE_FIXED_AS_INT96.defaultValue();
 
+    private boolean parquetNativeWrite = BaseSinkConfig.PARQUET_NATIVE_WRITE.defaultValue();
+
+    private boolean parquetEnableDictionary =
+            BaseSinkConfig.PARQUET_ENABLE_DICTIONARY.defaultValue();
+
+    private int parquetPageSize = BaseSinkConfig.PARQUET_PAGE_SIZE.defaultValue();
+
+    private int parquetDictionaryPageSize =
+            BaseSinkConfig.PARQUET_DICTIONARY_PAGE_SIZE.defaultValue();
+
+    private List<String> parquetBloomFilterColumns =
+            BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS.defaultValue();
+
     private CsvStringQuoteMode csvStringQuoteMode =
             BaseSinkConfig.CSV_STRING_QUOTE_MODE.defaultValue();
 
@@ -238,6 +251,25 @@ public class FileSinkConfig extends BaseFileSinkConfig implements PartitionConfi
                         config.getStringList(
                                 BaseSinkConfig.PARQUET_AVRO_WRITE_FIXED_AS_INT96.key());
             }
+            if (config.hasPath(BaseSinkConfig.PARQUET_NATIVE_WRITE.key())) {
+                this.parquetNativeWrite =
+                        config.getBoolean(BaseSinkConfig.PARQUET_NATIVE_WRITE.key());
+            }
+            if (config.hasPath(BaseSinkConfig.PARQUET_ENABLE_DICTIONARY.key())) {
+                this.parquetEnableDictionary =
+                        config.getBoolean(BaseSinkConfig.PARQUET_ENABLE_DICTIONARY.key());
+            }
+            if (config.hasPath(BaseSinkConfig.PARQUET_PAGE_SIZE.key())) {
+                this.parquetPageSize = config.getInt(BaseSinkConfig.PARQUET_PAGE_SIZE.key());
+            }
+            if (config.hasPath(BaseSinkConfig.PARQUET_DICTIONARY_PAGE_SIZE.key())) {
+                this.parquetDictionaryPageSize =
+                        config.getInt(BaseSinkConfig.PARQUET_DICTIONARY_PAGE_SIZE.key());
+            }
+            if (config.hasPath(BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS.key())) {
+                this.parquetBloomFilterColumns =
+                        config.getStringList(BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS.key());
+            }
         }
 
         if (FileFormat.CSV.equals(this.fileFormat)) {
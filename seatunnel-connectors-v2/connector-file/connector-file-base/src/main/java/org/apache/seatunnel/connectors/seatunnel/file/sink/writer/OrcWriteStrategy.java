@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.sink.writer;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.MapType;
@@ -61,10 +62,21 @@ import java.util.Map;
 
 public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
     private final LinkedHashMap<String, Writer> beingWrittenWriter;
+    /** One reusable row batch per file being written, flushed to the writer once it is full. */
+    private final LinkedHashMap<String, VectorizedRowBatch> beingWrittenBatch;
+
+    private TypeDescription schema;
 
     public OrcWriteStrategy(FileSinkConfig fileSinkConfig) {
         super(fileSinkConfig);
         this.beingWrittenWriter = new LinkedHashMap<>();
+        this.beingWrittenBatch = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void setCatalogTable(CatalogTable catalogTable) {
+        super.setCatalogTable(catalogTable);
+        this.schema = null;
     }
 
     @Override
@@ -72,8 +84,7 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
         super.write(seaTunnelRow);
         String filePath = getOrCreateFilePathBeingWritten(seaTunnelRow);
         Writer writer = getOrCreateOutputStream(filePath);
-        TypeDescription schema = buildSchemaWithRowType();
-        VectorizedRowBatch rowBatch = schema.createRowBatch();
+        VectorizedRowBatch rowBatch = getOrCreateRowBatch(filePath);
         int i = 0;
         int row = rowBatch.size++;
         for (Integer index : sinkColumnsIndexInRow) {
@@ -82,11 +93,8 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
             setColumn(value, vector, row);
             i++;
         }
-        try {
-            writer.addRowBatch(rowBatch);
-            rowBatch.reset();
-        } catch (IOException e) {
-            throw CommonError.fileOperationFailed("OrcFile", "write", filePath, e);
+        if (rowBatch.size == rowBatch.getMaxSize()) {
+            flushRowBatch(filePath, writer, rowBatch);
         }
     }
 
@@ -95,6 +103,10 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
         this.beingWrittenWriter.forEach(
                 (k, v) -> {
                     try {
+                        VectorizedRowBatch rowBatch = this.beingWrittenBatch.get(k);
+                        if (rowBatch != null) {
+                            flushRowBatch(k, v, rowBatch);
+                        }
                         v.close();
                     } catch (IOException e) {
                         String errorMsg =
@@ -107,13 +119,14 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
                     needMoveFiles.put(k, getTargetLocation(k));
                 });
         this.beingWrittenWriter.clear();
+        this.beingWrittenBatch.clear();
     }
 
     @Override
     public Writer getOrCreateOutputStream(@NonNull String filePath) {
         Writer writer = this.beingWrittenWriter.get(filePath);
         if (writer == null) {
-            TypeDescription schema = buildSchemaWithRowType();
+            TypeDescription schema = getOrCreateSchema();
             Path path = new Path(filePath);
             try {
                 OrcFile.WriterOptions options =
@@ -191,6 +204,37 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
         }
     }
 
+    private TypeDescription getOrCreateSchema() {
+        if (schema == null) {
+            schema = buildSchemaWithRowType();
+        }
+        return schema;
+    }
+
+    private VectorizedRowBatch getOrCreateRowBatch(String filePath) {
+        return beingWrittenBatch.computeIfAbsent(
+                filePath,
+                path -> {
+                    VectorizedRowBatch rowBatch = getOrCreateSchema().createRowBatch();
+                    // createRowBatch leaves BytesColumnVector buffers unallocated, reset
+                    // initializes them for top-level and nested (list/map/struct) vectors
+                    rowBatch.reset();
+                    return rowBatch;
+                });
+    }
+
+    private void flushRowBatch(String filePath, Writer writer, VectorizedRowBatch rowBatch) {
+        if (rowBatch.size == 0) {
+            return;
+        }
+        try {
+            writer.addRowBatch(rowBatch);
+            rowBatch.reset();
+        } catch (IOException e) {
+            throw CommonError.fileOperationFailed("OrcFile", "write", filePath, e);
+        }
+    }
+
     private TypeDescription buildSchemaWithRowType() {
         TypeDescription schema = TypeDescription.createStruct();
         for (Integer i : sinkColumnsIndexInRow) {
@@ -272,6 +316,8 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
             mapColumnVector.offsets[row] = mapColumnVector.childCount;
             mapColumnVector.lengths[row] = map.size();
             mapColumnVector.childCount += map.size();
+            mapColumnVector.keys.ensureSize(mapColumnVector.childCount, true);
+            mapColumnVector.values.ensureSize(mapColumnVector.childCount, true);
 
             int i = 0;
             for (Map.Entry<?, ?> entry : map.entrySet()) {
@@ -304,6 +350,7 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
         listColumnVector.offsets[row] = listColumnVector.childCount;
         listColumnVector.lengths[row] = valueArray.length;
         listColumnVector.childCount += valueArray.length;
+        listColumnVector.child.ensureSize(listColumnVector.childCount, true);
 
         for (int i = 0; i < valueArray.length; i++) {
             int listElem = (int) listColumnVector.offsets[row] + i;
@@ -370,14 +417,14 @@ public class OrcWriteStrategy extends AbstractWriteStrategy<Writer> {
     }
 
     private void setByteColumnVector(Object value, BytesColumnVector bytesColVector, int rowNum) {
-        byte[] byteVec;
         if (value instanceof byte[]) {
-            byteVec = (byte[]) value;
+            // the row batch outlives this row, so copy bytes the upstream may still reuse
+            byte[] byteVec = (byte[]) value;
+            bytesColVector.setVal(rowNum, byteVec, 0, byteVec.length);
         } else {
-            String strVal = value.toString();
-            byteVec = strVal.getBytes(StandardCharsets.UTF_8);
+            byte[] byteVec = value.toString().getBytes(StandardCharsets.UTF_8);
+            bytesColVector.setRef(rowNum, byteVec, 0, byteVec.length);
         }
-        bytesColVector.setRef(rowNum, byteVec, 0, byteVec.length);
     }
 
     private void setDoubleVector(Object value, DoubleColumnVector doubleVector, int rowNum) {
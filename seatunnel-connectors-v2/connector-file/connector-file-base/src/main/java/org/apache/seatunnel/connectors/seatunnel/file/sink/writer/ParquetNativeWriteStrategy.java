@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.sink.writer;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parquet write strategy which writes {@link SeaTunnelRow} through {@link SeaTunnelRowWriteSupport}
+ * instead of converting every row to an avro record. The file layout is the same as {@link
+ * ParquetWriteStrategy}.
+ */
+public class ParquetNativeWriteStrategy extends AbstractWriteStrategy<ParquetWriter<SeaTunnelRow>> {
+    private final LinkedHashMap<String, ParquetWriter<SeaTunnelRow>> beingWrittenWriter;
+    private Set<String> writePathsAsInt96;
+    private MessageType schema;
+
+    public ParquetNativeWriteStrategy(FileSinkConfig fileSinkConfig) {
+        super(fileSinkConfig);
+        this.beingWrittenWriter = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void init(HadoopConf conf, String jobId, String uuidPrefix, int subTaskIndex) {
+        super.init(conf, jobId, uuidPrefix, subTaskIndex);
+        writePathsAsInt96 =
+                ParquetWriteStrategy.resolveWritePathsAsInt96(fileSinkConfig, seaTunnelRowType);
+    }
+
+    @Override
+    public void write(@NonNull SeaTunnelRow seaTunnelRow) {
+        super.write(seaTunnelRow);
+        String filePath = getOrCreateFilePathBeingWritten(seaTunnelRow);
+        ParquetWriter<SeaTunnelRow> writer = getOrCreateOutputStream(filePath);
+        try {
+            writer.write(seaTunnelRow);
+        } catch (IOException e) {
+            throw CommonError.fileOperationFailed("ParquetFile", "write", filePath, e);
+        }
+    }
+
+    @Override
+    public void finishAndCloseFile() {
+        this.beingWrittenWriter.forEach(
+                (k, v) -> {
+                    try {
+                        v.close();
+                    } catch (IOException e) {
+                        String errorMsg =
+                                String.format(
+                                        "Close file [%s] parquet writer failed, error msg: [%s]",
+                                        k, e.getMessage());
+                        throw new FileConnectorException(
+                                CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, errorMsg, e);
+                    }
+                    needMoveFiles.put(k, getTargetLocation(k));
+                });
+        this.beingWrittenWriter.clear();
+    }
+
+    @Override
+    public ParquetWriter<SeaTunnelRow> getOrCreateOutputStream(@NonNull String filePath) {
+        if (schema == null) {
+            schema = buildMessageType();
+        }
+        ParquetWriter<SeaTunnelRow> writer = this.beingWrittenWriter.get(filePath);
+        if (writer == null) {
+            Path path = new Path(filePath);
+            // initialize the kerberos login
+            return hadoopFileSystemProxy.doWithHadoopAuth(
+                    (configuration, userGroupInformation) -> {
+                        try {
+                            HadoopOutputFile outputFile =
+                                    HadoopOutputFile.fromPath(path, getConfiguration(hadoopConf));
+                            Builder builder =
+                                    new Builder(
+                                                    outputFile,
+                                                    new SeaTunnelRowWriteSupport(
+                                                            schema,
+                                                            seaTunnelRowType,
+                                                            sinkColumnsIndexInRow))
+                                            .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                                            .withConf(configuration)
+                                            // use parquet v1 to improve compatibility
+                                            .withWriterVersion(
+                                                    ParquetProperties.WriterVersion.PARQUET_1_0)
+                                            .withCompressionCodec(
+                                                    compressFormat.getParquetCompression());
+                            ParquetWriter<SeaTunnelRow> newWriter =
+                                    ParquetWriteStrategy.withTuningOptions(builder, fileSinkConfig)
+                                            .build();
+                            this.beingWrittenWriter.put(filePath, newWriter);
+                            return newWriter;
+                        } catch (IOException e) {
+                            String errorMsg =
+                                    String.format(
+                                            "Get parquet writer for file [%s] error", filePath);
+                            throw new FileConnectorException(
+                                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, errorMsg, e);
+                        }
+                    });
+        }
+        return writer;
+    }
+
+    private MessageType buildMessageType() {
+        List<Type> types = new ArrayList<>();
+        for (Integer index : sinkColumnsIndexInRow) {
+            types.add(
+                    ParquetWriteStrategy.seaTunnelDataType2ParquetDataType(
+                            seaTunnelRowType.getFieldName(index).toLowerCase(),
+                            seaTunnelRowType.getFieldType(index),
+                            writePathsAsInt96));
+        }
+        return Types.buildMessage().addFields(types.toArray(new Type[0])).named("SeaTunnelRecord");
+    }
+
+    private static class Builder extends ParquetWriter.Builder<SeaTunnelRow, Builder> {
+        private final WriteSupport<SeaTunnelRow> writeSupport;
+
+        private Builder(OutputFile outputFile, WriteSupport<SeaTunnelRow> writeSupport) {
+            super(outputFile);
+            this.writeSupport = writeSupport;
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<SeaTunnelRow> getWriteSupport(Configuration conf) {
+            return writeSupport;
+        }
+    }
+}
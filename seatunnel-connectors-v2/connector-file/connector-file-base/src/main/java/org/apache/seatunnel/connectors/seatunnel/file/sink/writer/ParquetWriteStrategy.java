@@ -98,16 +98,7 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
     public void init(HadoopConf conf, String jobId, String uuidPrefix, int subTaskIndex) {
         super.init(conf, jobId, uuidPrefix, subTaskIndex);
         Configuration configuration = getConfiguration(hadoopConf);
-        writePathsAsInt96 = new HashSet<>(fileSinkConfig.getParquetAvroWriteFixedAsInt96());
-        if (fileSinkConfig.getParquetWriteTimestampAsInt96()) {
-            List<String> timestampFields = new ArrayList<>();
-            for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
-                if (SqlType.TIMESTAMP.equals(seaTunnelRowType.getFieldType(i).getSqlType())) {
-                    timestampFields.add(seaTunnelRowType.getFieldName(i));
-                }
-            }
-            writePathsAsInt96.addAll(timestampFields);
-        }
+        writePathsAsInt96 = resolveWritePathsAsInt96(fileSinkConfig, seaTunnelRowType);
         if (!writePathsAsInt96.isEmpty()) {
             configuration.set(
                     AvroWriteSupport.WRITE_FIXED_AS_INT96, String.join(",", writePathsAsInt96));
@@ -178,7 +169,7 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
                             }
                             HadoopOutputFile outputFile =
                                     HadoopOutputFile.fromPath(path, getConfiguration(hadoopConf));
-                            ParquetWriter<GenericRecord> newWriter =
+                            AvroParquetWriter.Builder<GenericRecord> builder =
                                     AvroParquetWriter.<GenericRecord>builder(outputFile)
                                             .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
                                             .withDataModel(dataModel)
@@ -188,8 +179,9 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
                                                     ParquetProperties.WriterVersion.PARQUET_1_0)
                                             .withCompressionCodec(
                                                     compressFormat.getParquetCompression())
-                                            .withSchema(schema)
-                                            .build();
+                                            .withSchema(schema);
+                            ParquetWriter<GenericRecord> newWriter =
+                                    withTuningOptions(builder, fileSinkConfig).build();
                             this.beingWrittenWriter.put(filePath, newWriter);
                             return newWriter;
                         } catch (IOException e) {
@@ -204,6 +196,32 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
         return writer;
     }
 
+    static Set<String> resolveWritePathsAsInt96(
+            FileSinkConfig fileSinkConfig, SeaTunnelRowType seaTunnelRowType) {
+        Set<String> writePathsAsInt96 =
+                new HashSet<>(fileSinkConfig.getParquetAvroWriteFixedAsInt96());
+        if (fileSinkConfig.getParquetWriteTimestampAsInt96()) {
+            for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
+                if (SqlType.TIMESTAMP.equals(seaTunnelRowType.getFieldType(i).getSqlType())) {
+                    writePathsAsInt96.add(seaTunnelRowType.getFieldName(i));
+                }
+            }
+        }
+        return writePathsAsInt96;
+    }
+
+    /** Apply the dictionary, page size and bloom filter options of the sink to the builder. */
+    static <T, B extends ParquetWriter.Builder<T, B>> B withTuningOptions(
+            B builder, FileSinkConfig fileSinkConfig) {
+        builder.withDictionaryEncoding(fileSinkConfig.isParquetEnableDictionary())
+                .withPageSize(fileSinkConfig.getParquetPageSize())
+                .withDictionaryPageSize(fileSinkConfig.getParquetDictionaryPageSize());
+        for (String column : fileSinkConfig.getParquetBloomFilterColumns()) {
+            builder.withBloomFilterEnabled(column.toLowerCase(), true);
+        }
+        return builder;
+    }
+
     private Object resolveObject(String name, Object data, SeaTunnelDataType<?> seaTunnelDataType) {
         if (data == null) {
             return null;
@@ -294,6 +312,13 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
 
     public Type seaTunnelDataType2ParquetDataType(
             String fieldName, SeaTunnelDataType<?> seaTunnelDataType) {
+        return seaTunnelDataType2ParquetDataType(fieldName, seaTunnelDataType, writePathsAsInt96);
+    }
+
+    public static Type seaTunnelDataType2ParquetDataType(
+            String fieldName,
+            SeaTunnelDataType<?> seaTunnelDataType,
+            Set<String> writePathsAsInt96) {
         switch (seaTunnelDataType.getSqlType()) {
             case ARRAY:
                 SeaTunnelDataType<?> elementType =
@@ -304,7 +329,9 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
                                 Types.repeatedGroup()
                                         .addField(
                                                 seaTunnelDataType2ParquetDataType(
-                                                        "array_element", elementType))
+                                                        "array_element",
+                                                        elementType,
+                                                        writePathsAsInt96))
                                         .named("bag"))
                         .named(fieldName);
             case MAP:
@@ -313,8 +340,8 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
                 return ConversionPatterns.mapType(
                         Type.Repetition.OPTIONAL,
                         fieldName,
-                        seaTunnelDataType2ParquetDataType("key", keyType),
-                        seaTunnelDataType2ParquetDataType("value", valueType));
+                        seaTunnelDataType2ParquetDataType("key", keyType, writePathsAsInt96),
+                        seaTunnelDataType2ParquetDataType("value", valueType, writePathsAsInt96));
             case STRING:
                 return Types.primitive(
                                 PrimitiveType.PrimitiveTypeName.BINARY, Type.Repetition.OPTIONAL)
@@ -394,7 +421,9 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy<ParquetWriter<Ge
                 String[] fieldNames = ((SeaTunnelRowType) seaTunnelDataType).getFieldNames();
                 Type[] types = new Type[fieldTypes.length];
                 for (int i = 0; i < fieldNames.length; i++) {
-                    Type type = seaTunnelDataType2ParquetDataType(fieldNames[i], fieldTypes[i]);
+                    Type type =
+                            seaTunnelDataType2ParquetDataType(
+                                    fieldNames[i], fieldTypes[i], writePathsAsInt96);
                     types[i] = type;
                 }
                 return Types.optionalGroup().addFields(types).named(fieldName);
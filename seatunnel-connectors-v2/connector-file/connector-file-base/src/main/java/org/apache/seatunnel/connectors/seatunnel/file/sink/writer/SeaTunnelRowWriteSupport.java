@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.sink.writer;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.JulianFields;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes {@link SeaTunnelRow} straight to the parquet {@link RecordConsumer}. The per column
+ * writers are compiled once from the sink schema, so writing a row does not need any intermediate
+ * record object or name based field resolution.
+ */
+public class SeaTunnelRowWriteSupport extends WriteSupport<SeaTunnelRow> {
+
+    private final MessageType schema;
+    private final int[] fieldIndexes;
+    private final String[] fieldNames;
+    private final FieldWriter[] fieldWriters;
+    private RecordConsumer recordConsumer;
+
+    public SeaTunnelRowWriteSupport(
+            MessageType schema, SeaTunnelRowType seaTunnelRowType, List<Integer> fieldIndexes) {
+        this.schema = schema;
+        this.fieldIndexes = fieldIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.fieldNames = new String[this.fieldIndexes.length];
+        this.fieldWriters = new FieldWriter[this.fieldIndexes.length];
+        for (int i = 0; i < this.fieldIndexes.length; i++) {
+            Type type = schema.getType(i);
+            fieldNames[i] = type.getName();
+            fieldWriters[i] =
+                    createFieldWriter(type, seaTunnelRowType.getFieldType(this.fieldIndexes[i]));
+        }
+    }
+
+    @Override
+    public WriteContext init(Configuration configuration) {
+        return new WriteContext(schema, Collections.emptyMap());
+    }
+
+    @Override
+    public void prepareForWrite(RecordConsumer recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    @Override
+    public void write(SeaTunnelRow row) {
+        recordConsumer.startMessage();
+        for (int i = 0; i < fieldWriters.length; i++) {
+            Object value = row.getField(fieldIndexes[i]);
+            if (value != null) {
+                recordConsumer.startField(fieldNames[i], i);
+                fieldWriters[i].write(value);
+                recordConsumer.endField(fieldNames[i], i);
+            }
+        }
+        recordConsumer.endMessage();
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Object value);
+    }
+
+    private FieldWriter createFieldWriter(Type type, SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return value ->
+                        recordConsumer.addBinary(
+                                Binary.fromConstantByteArray(
+                                        value.toString().getBytes(StandardCharsets.UTF_8)));
+            case BOOLEAN:
+                return value -> recordConsumer.addBoolean((Boolean) value);
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+                return value -> recordConsumer.addInteger(((Number) value).intValue());
+            case DATE:
+                return value -> recordConsumer.addInteger((int) ((LocalDate) value).toEpochDay());
+            case BIGINT:
+                return value -> recordConsumer.addLong((Long) value);
+            case FLOAT:
+                return value -> recordConsumer.addFloat((Float) value);
+            case DOUBLE:
+                return value -> recordConsumer.addDouble((Double) value);
+            case DECIMAL:
+                return createDecimalWriter(type.asPrimitiveType(), (DecimalType) dataType);
+            case TIMESTAMP:
+                if (type.asPrimitiveType().getPrimitiveTypeName()
+                        == PrimitiveType.PrimitiveTypeName.INT96) {
+                    return value ->
+                            recordConsumer.addBinary(toInt96((LocalDateTime) value).toBinary());
+                }
+                return value ->
+                        recordConsumer.addLong(
+                                ((LocalDateTime) value)
+                                        .atZone(ZoneId.systemDefault())
+                                        .toInstant()
+                                        .toEpochMilli());
+            case BYTES:
+                return value ->
+                        recordConsumer.addBinary(Binary.fromConstantByteArray((byte[]) value));
+            case ARRAY:
+                return createArrayWriter(type.asGroupType(), (ArrayType<?, ?>) dataType);
+            case MAP:
+                return createMapWriter(type.asGroupType(), (MapType<?, ?>) dataType);
+            case ROW:
+                return createRowWriter(type.asGroupType(), (SeaTunnelRowType) dataType);
+            case NULL:
+            default:
+                String errorMsg =
+                        String.format(
+                                "SeaTunnel file connector is not supported for this data type [%s]",
+                                dataType.getSqlType());
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE, errorMsg);
+        }
+    }
+
+    private FieldWriter createDecimalWriter(PrimitiveType type, DecimalType decimalType) {
+        int scale = decimalType.getScale();
+        int length = type.getTypeLength();
+        return value -> {
+            byte[] unscaled =
+                    ((BigDecimal) value)
+                            .setScale(scale, RoundingMode.HALF_UP)
+                            .unscaledValue()
+                            .toByteArray();
+            byte[] bytes;
+            if (unscaled.length == length) {
+                bytes = unscaled;
+            } else {
+                // sign extend the big-endian two's complement value to the fixed length
+                bytes = new byte[length];
+                byte padding = (byte) (unscaled[0] < 0 ? -1 : 0);
+                int offset = length - unscaled.length;
+                for (int i = 0; i < offset; i++) {
+                    bytes[i] = padding;
+                }
+                System.arraycopy(unscaled, 0, bytes, offset, unscaled.length);
+            }
+            recordConsumer.addBinary(Binary.fromConstantByteArray(bytes));
+        };
+    }
+
+    private FieldWriter createArrayWriter(GroupType type, ArrayType<?, ?> arrayType) {
+        GroupType repeatedType = type.getType(0).asGroupType();
+        String repeatedName = repeatedType.getName();
+        String elementName = repeatedType.getType(0).getName();
+        FieldWriter elementWriter =
+                createFieldWriter(repeatedType.getType(0), arrayType.getElementType());
+        return value -> {
+            Object[] elements =
+                    value instanceof List ? ((List<?>) value).toArray() : (Object[]) value;
+            recordConsumer.startGroup();
+            if (elements.length > 0) {
+                recordConsumer.startField(repeatedName, 0);
+                for (Object element : elements) {
+                    recordConsumer.startGroup();
+                    if (element != null) {
+                        recordConsumer.startField(elementName, 0);
+                        elementWriter.write(element);
+                        recordConsumer.endField(elementName, 0);
+                    }
+                    recordConsumer.endGroup();
+                }
+                recordConsumer.endField(repeatedName, 0);
+            }
+            recordConsumer.endGroup();
+        };
+    }
+
+    private FieldWriter createMapWriter(GroupType type, MapType<?, ?> mapType) {
+        GroupType repeatedType = type.getType(0).asGroupType();
+        String repeatedName = repeatedType.getName();
+        String keyName = repeatedType.getType(0).getName();
+        String valueName = repeatedType.getType(1).getName();
+        FieldWriter keyWriter = createFieldWriter(repeatedType.getType(0), mapType.getKeyType());
+        FieldWriter valueWriter =
+                createFieldWriter(repeatedType.getType(1), mapType.getValueType());
+        return value -> {
+            Map<?, ?> map = (Map<?, ?>) value;
+            recordConsumer.startGroup();
+            if (!map.isEmpty()) {
+                recordConsumer.startField(repeatedName, 0);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    recordConsumer.startGroup();
+                    if (entry.getKey() != null) {
+                        recordConsumer.startField(keyName, 0);
+                        keyWriter.write(entry.getKey());
+                        recordConsumer.endField(keyName, 0);
+                    }
+                    if (entry.getValue() != null) {
+                        recordConsumer.startField(valueName, 1);
+                        valueWriter.write(entry.getValue());
+                        recordConsumer.endField(valueName, 1);
+                    }
+                    recordConsumer.endGroup();
+                }
+                recordConsumer.endField(repeatedName, 0);
+            }
+            recordConsumer.endGroup();
+        };
+    }
+
+    private FieldWriter createRowWriter(GroupType type, SeaTunnelRowType rowType) {
+        int fieldCount = rowType.getTotalFields();
+        String[] names = new String[fieldCount];
+        FieldWriter[] writers = new FieldWriter[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            names[i] = type.getType(i).getName();
+            writers[i] = createFieldWriter(type.getType(i), rowType.getFieldType(i));
+        }
+        return value -> {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            recordConsumer.startGroup();
+            for (int i = 0; i < fieldCount; i++) {
+                Object field = row.getField(i);
+                if (field != null) {
+                    recordConsumer.startField(names[i], i);
+                    writers[i].write(field);
+                    recordConsumer.endField(names[i], i);
+                }
+            }
+            recordConsumer.endGroup();
+        };
+    }
+
+    private static NanoTime toInt96(LocalDateTime localDateTime) {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.setTime(Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant()));
+        int julianDays =
+                (int)
+                        JulianFields.JULIAN_DAY.getFrom(
+                                LocalDate.of(
+                                        calendar.get(Calendar.YEAR),
+                                        calendar.get(Calendar.MONTH) + 1,
+                                        calendar.get(Calendar.DAY_OF_MONTH)));
+        long timeOfDayNanos =
+                TimeUnit.HOURS.toNanos(calendar.get(Calendar.HOUR_OF_DAY))
+                        + TimeUnit.MINUTES.toNanos(calendar.get(Calendar.MINUTE))
+                        + TimeUnit.SECONDS.toNanos(calendar.get(Calendar.SECOND))
+                        + TimeUnit.MILLISECONDS.toNanos(calendar.get(Calendar.MILLISECOND));
+        return new NanoTime(julianDays, timeOfDayNanos);
+    }
+}
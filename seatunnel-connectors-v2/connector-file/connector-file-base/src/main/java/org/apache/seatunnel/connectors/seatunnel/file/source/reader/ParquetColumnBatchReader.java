@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Reads top level primitive parquet columns straight from the parquet column readers into column
+ * batches. Only the requested columns are decoded, and row groups that can not match the pushed
+ * down filter are skipped by their statistics, dictionary pages and bloom filters.
+ */
+public class ParquetColumnBatchReader implements Closeable {
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final GroupConverter NO_OP_CONVERTER =
+            new GroupConverter() {
+                private final PrimitiveConverter primitiveConverter = new PrimitiveConverter() {};
+
+                @Override
+                public Converter getConverter(int fieldIndex) {
+                    return primitiveConverter;
+                }
+
+                @Override
+                public void start() {}
+
+                @Override
+                public void end() {}
+            };
+
+    private final ParquetFileReader fileReader;
+    private final MessageType requestedSchema;
+    private final String createdBy;
+    private final ValueReader[] valueReaders;
+    private final ColumnReader[] columnReaders;
+    private long remainingInRowGroup;
+
+    /**
+     * @param inputFile the parquet file
+     * @param configuration hadoop configuration
+     * @param columns the top level columns to decode
+     * @param types the types of the columns
+     * @param filter the filter used to skip row groups, nullable
+     */
+    public ParquetColumnBatchReader(
+            HadoopInputFile inputFile,
+            Configuration configuration,
+            List<String> columns,
+            SeaTunnelDataType<?>[] types,
+            FilterPredicate filter)
+            throws IOException {
+        ParquetReadOptions.Builder options =
+                HadoopReadOptions.builder(configuration)
+                        .useStatsFilter(true)
+                        .useDictionaryFilter(true)
+                        .useBloomFilter(true)
+                        // rows are filtered one by one after decoding, only skip whole row groups
+                        .useColumnIndexFilter(false);
+        if (filter != null) {
+            options.withRecordFilter(FilterCompat.get(filter));
+        }
+        this.fileReader = ParquetFileReader.open(inputFile, options.build());
+        MessageType fileSchema = fileReader.getFooter().getFileMetaData().getSchema();
+        Type[] requestedTypes = new Type[columns.size()];
+        this.valueReaders = new ValueReader[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            requestedTypes[i] = fileSchema.getType(columns.get(i));
+            valueReaders[i] = createValueReader(requestedTypes[i].asPrimitiveType(), types[i]);
+        }
+        this.requestedSchema =
+                Types.buildMessage().addFields(requestedTypes).named(fileSchema.getName());
+        this.createdBy = fileReader.getFooter().getFileMetaData().getCreatedBy();
+        this.columnReaders = new ColumnReader[columns.size()];
+        fileReader.setRequestedSchema(requestedSchema);
+    }
+
+    /** Whether all the types can be read by this reader. */
+    public static boolean isSupported(SeaTunnelDataType<?>[] types) {
+        for (SeaTunnelDataType<?> type : types) {
+            switch (type.getSqlType()) {
+                case ARRAY:
+                case MAP:
+                case ROW:
+                case NULL:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decode the next batch of rows.
+     *
+     * @param batch the column batch to fill, {@code batch[column][row]}
+     * @return the number of rows decoded, 0 if there are no more rows
+     */
+    public int readBatch(Object[][] batch) throws IOException {
+        if (remainingInRowGroup == 0 && !nextRowGroup()) {
+            return 0;
+        }
+        int batchSize = (int) Math.min(batch[0].length, remainingInRowGroup);
+        for (int column = 0; column < columnReaders.length; column++) {
+            ColumnReader columnReader = columnReaders[column];
+            ValueReader valueReader = valueReaders[column];
+            int maxDefinitionLevel = columnReader.getDescriptor().getMaxDefinitionLevel();
+            Object[] values = batch[column];
+            for (int row = 0; row < batchSize; row++) {
+                if (columnReader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                    values[row] = valueReader.read(columnReader);
+                } else {
+                    values[row] = null;
+                }
+                columnReader.consume();
+            }
+        }
+        remainingInRowGroup -= batchSize;
+        return batchSize;
+    }
+
+    private boolean nextRowGroup() throws IOException {
+        PageReadStore pages;
+        do {
+            pages = fileReader.readNextRowGroup();
+            if (pages == null) {
+                return false;
+            }
+        } while (pages.getRowCount() == 0);
+        ColumnReadStoreImpl columnReadStore =
+                new ColumnReadStoreImpl(pages, NO_OP_CONVERTER, requestedSchema, createdBy);
+        List<ColumnDescriptor> descriptors = requestedSchema.getColumns();
+        for (int i = 0; i < descriptors.size(); i++) {
+            columnReaders[i] = columnReadStore.getColumnReader(descriptors.get(i));
+        }
+        remainingInRowGroup = pages.getRowCount();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileReader.close();
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(ColumnReader columnReader);
+    }
+
+    private static ValueReader createValueReader(
+            PrimitiveType parquetType, SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case BOOLEAN:
+                return ColumnReader::getBoolean;
+            case TINYINT:
+                return reader -> (byte) reader.getInteger();
+            case SMALLINT:
+                return reader -> (short) reader.getInteger();
+            case INT:
+                return ColumnReader::getInteger;
+            case DATE:
+                return reader -> LocalDate.ofEpochDay(reader.getInteger());
+            case BIGINT:
+                return ColumnReader::getLong;
+            case FLOAT:
+                return ColumnReader::getFloat;
+            case DOUBLE:
+                return ColumnReader::getDouble;
+            case STRING:
+                return reader -> reader.getBinary().toStringUsingUTF8();
+            case BYTES:
+                return reader -> reader.getBinary().getBytes();
+            case DECIMAL:
+                int scale = ((DecimalType) type).getScale();
+                return reader ->
+                        new BigDecimal(new BigInteger(reader.getBinary().getBytes()), scale);
+            case TIMESTAMP:
+                if (parquetType.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT64) {
+                    return reader ->
+                            LocalDateTime.ofInstant(
+                                    Instant.ofEpochMilli(reader.getLong()), ZoneId.systemDefault());
+                }
+                return reader -> ParquetReadStrategy.int96ToLocalDateTime(reader.getBinary());
+            default:
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        String.format(
+                                "Parquet column batch reader does not support type [%s]", type));
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A conjunction of simple {@code column op literal} conditions, e.g. {@code id > 100 and name =
+ * 'abc'}. It is pushed down to parquet so that row groups can be skipped by statistics, dictionary
+ * pages and bloom filters, and it is evaluated again on every row that is read.
+ */
+public class ParquetPredicate implements Serializable {
+
+    private static final Pattern CONDITION =
+            Pattern.compile(
+                    "\\s*(`[^`]+`|[A-Za-z_][\\w]*)\\s*(==|=|!=|<>|>=|<=|>|<)\\s*('(?:[^']|'')*'|[^\\s']+)\\s*");
+
+    private static final Pattern AND = Pattern.compile("(?i)and\\s+");
+
+    private final List<Condition> conditions;
+    private final List<String> columns;
+    /** The position in {@link #columns} of the column every condition is evaluated on. */
+    private final int[] columnPositions;
+
+    private ParquetPredicate(List<Condition> conditions) {
+        this.conditions = conditions;
+        Set<String> distinctColumns = new LinkedHashSet<>();
+        conditions.forEach(condition -> distinctColumns.add(condition.getColumn()));
+        this.columns = new ArrayList<>(distinctColumns);
+        this.columnPositions = new int[conditions.size()];
+        for (int i = 0; i < conditions.size(); i++) {
+            columnPositions[i] = columns.indexOf(conditions.get(i).getColumn());
+        }
+    }
+
+    /**
+     * Parse the filter expression against the columns of the file.
+     *
+     * @param expression the filter expression
+     * @param rowType all top level columns of the file
+     */
+    public static ParquetPredicate parse(String expression, SeaTunnelRowType rowType) {
+        List<Condition> conditions = new ArrayList<>();
+        for (MatchResult matcher : matchConditions(expression)) {
+            String column = matcher.group(1).replace("`", "");
+            int index = rowType.indexOf(column, false);
+            if (index < 0) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "Column [%s] in parquet filter [%s] does not exist",
+                                column, expression));
+            }
+            SeaTunnelDataType<?> type = rowType.getFieldType(index);
+            Operator operator = Operator.of(matcher.group(2));
+            conditions.add(
+                    new Condition(
+                            column,
+                            type,
+                            operator,
+                            parseLiteral(matcher.group(3), type, operator)));
+        }
+        return new ParquetPredicate(conditions);
+    }
+
+    /** The distinct columns referenced by the filter expression, before they are resolved. */
+    public static Set<String> referencedColumns(String expression) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (MatchResult matcher : matchConditions(expression)) {
+            columns.add(matcher.group(1).replace("`", ""));
+        }
+        return columns;
+    }
+
+    private static List<MatchResult> matchConditions(String expression) {
+        List<MatchResult> results = new ArrayList<>();
+        Matcher matcher = CONDITION.matcher(expression);
+        Matcher andMatcher = AND.matcher(expression);
+        int position = 0;
+        while (true) {
+            matcher.region(position, expression.length());
+            if (!matcher.lookingAt()) {
+                throw illegalExpression(expression);
+            }
+            results.add(matcher.toMatchResult());
+            position = matcher.end();
+            if (position == expression.length()) {
+                return results;
+            }
+            andMatcher.region(position, expression.length());
+            if (!andMatcher.lookingAt()) {
+                throw illegalExpression(expression);
+            }
+            position = andMatcher.end();
+        }
+    }
+
+    /** The distinct columns the predicate needs to be evaluated on. */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public FilterPredicate toFilterPredicate() {
+        FilterPredicate predicate = null;
+        for (Condition condition : conditions) {
+            FilterPredicate current = condition.toFilterPredicate();
+            predicate = predicate == null ? current : FilterApi.and(predicate, current);
+        }
+        return predicate;
+    }
+
+    /**
+     * Evaluate the predicate on already converted values.
+     *
+     * @param values the values of the columns in the order of {@link #getColumns()}
+     */
+    public boolean test(Object[] values) {
+        for (int i = 0; i < conditions.size(); i++) {
+            if (!conditions.get(i).test(values[columnPositions[i]])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object parseLiteral(String text, SeaTunnelDataType<?> type, Operator operator) {
+        String literal =
+                text.startsWith("'")
+                        ? text.substring(1, text.length() - 1).replace("''", "'")
+                        : text;
+        try {
+            switch (type.getSqlType()) {
+                case STRING:
+                    return literal;
+                case BOOLEAN:
+                    if (operator != Operator.EQ && operator != Operator.NOT_EQ) {
+                        break;
+                    }
+                    return Boolean.parseBoolean(literal);
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                    return Integer.parseInt(literal);
+                case BIGINT:
+                    return Long.parseLong(literal);
+                case FLOAT:
+                    return Float.parseFloat(literal);
+                case DOUBLE:
+                    return Double.parseDouble(literal);
+                case DATE:
+                    return LocalDate.parse(literal);
+                default:
+                    break;
+            }
+        } catch (RuntimeException e) {
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format("Can not parse [%s] as [%s] in parquet filter", text, type),
+                    e);
+        }
+        throw new FileConnectorException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                String.format(
+                        "Parquet filter does not support operator [%s] on type [%s]",
+                        operator.symbol, type));
+    }
+
+    private static FileConnectorException illegalExpression(String expression) {
+        return new FileConnectorException(
+                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                String.format(
+                        "Illegal parquet filter [%s], only conditions like "
+                                + "`column op literal` joined by `and` are supported",
+                        expression));
+    }
+
+    private enum Operator {
+        EQ("="),
+        NOT_EQ("!="),
+        GT(">"),
+        GT_EQ(">="),
+        LT("<"),
+        LT_EQ("<=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        static Operator of(String symbol) {
+            switch (symbol) {
+                case "=":
+                case "==":
+                    return EQ;
+                case "!=":
+                case "<>":
+                    return NOT_EQ;
+                case ">":
+                    return GT;
+                case ">=":
+                    return GT_EQ;
+                case "<":
+                    return LT;
+                default:
+                    return LT_EQ;
+            }
+        }
+
+        boolean matches(int compare) {
+            switch (this) {
+                case EQ:
+                    return compare == 0;
+                case NOT_EQ:
+                    return compare != 0;
+                case GT:
+                    return compare > 0;
+                case GT_EQ:
+                    return compare >= 0;
+                case LT:
+                    return compare < 0;
+                default:
+                    return compare <= 0;
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Condition implements Serializable {
+        private final String column;
+        private final SeaTunnelDataType<?> type;
+        private final Operator operator;
+        private final Object literal;
+
+        boolean test(Object value) {
+            if (value == null) {
+                // the same as parquet, null only satisfies a not equal condition
+                return operator == Operator.NOT_EQ;
+            }
+            int compare;
+            if (literal instanceof Float || literal instanceof Double) {
+                compare =
+                        Double.compare(
+                                ((Number) value).doubleValue(), ((Number) literal).doubleValue());
+            } else if (literal instanceof Number) {
+                compare =
+                        Long.compare(((Number) value).longValue(), ((Number) literal).longValue());
+            } else if (literal instanceof String) {
+                compare =
+                        Binary.fromString(value.toString())
+                                .compareTo(Binary.fromString((String) literal));
+            } else if (literal instanceof LocalDate) {
+                compare = ((LocalDate) value).compareTo((LocalDate) literal);
+            } else {
+                compare = value.equals(literal) ? 0 : 1;
+            }
+            return operator.matches(compare);
+        }
+
+        FilterPredicate toFilterPredicate() {
+            switch (type.getSqlType()) {
+                case STRING:
+                    return compare(
+                            FilterApi.binaryColumn(column), Binary.fromString((String) literal));
+                case BOOLEAN:
+                    Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(column);
+                    return operator == Operator.EQ
+                            ? FilterApi.eq(booleanColumn, (Boolean) literal)
+                            : FilterApi.notEq(booleanColumn, (Boolean) literal);
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                    return compare(FilterApi.intColumn(column), (Integer) literal);
+                case DATE:
+                    return compare(
+                            FilterApi.intColumn(column), (int) ((LocalDate) literal).toEpochDay());
+                case BIGINT:
+                    return compare(FilterApi.longColumn(column), (Long) literal);
+                case FLOAT:
+                    return compare(FilterApi.floatColumn(column), (Float) literal);
+                default:
+                    return compare(FilterApi.doubleColumn(column), (Double) literal);
+            }
+        }
+
+        private <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+                FilterPredicate compare(C column, T value) {
+            switch (operator) {
+                case EQ:
+                    return FilterApi.eq(column, value);
+                case NOT_EQ:
+                    return FilterApi.notEq(column, value);
+                case GT:
+                    return FilterApi.gt(column, value);
+                case GT_EQ:
+                    return FilterApi.gtEq(column, value);
+                case LT:
+                    return FilterApi.lt(column, value);
+                default:
+                    return FilterApi.ltEq(column, value);
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.ArrayType;
@@ -31,6 +33,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 
@@ -39,10 +42,12 @@ import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
@@ -68,6 +73,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -82,6 +88,24 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
 
     private int[] indexes;
 
+    private boolean vectorizedRead = BaseSourceConfigOptions.PARQUET_VECTORIZED_READ.defaultValue();
+
+    private String filterExpression;
+
+    private SeaTunnelRowType fileRowType;
+
+    @Override
+    public void setPluginConfig(Config pluginConfig) {
+        super.setPluginConfig(pluginConfig);
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.PARQUET_VECTORIZED_READ.key())) {
+            vectorizedRead =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.PARQUET_VECTORIZED_READ.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.PARQUET_FILTER.key())) {
+            filterExpression = pluginConfig.getString(BaseSourceConfigOptions.PARQUET_FILTER.key());
+        }
+    }
+
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
@@ -99,15 +123,27 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
         int fieldsCount = seaTunnelRowType.getTotalFields();
+        ParquetPredicate predicate =
+                StringUtils.isBlank(filterExpression)
+                        ? null
+                        : ParquetPredicate.parse(filterExpression, fileRowType);
+        if (vectorizedRead
+                && ParquetColumnBatchReader.isSupported(seaTunnelRowType.getFieldTypes())) {
+            readColumnBatch(hadoopInputFile, tableId, output, partitionsMap, predicate);
+            return;
+        }
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> builder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (predicate != null) {
+            builder.withFilter(FilterCompat.get(predicate.toFilterPredicate()));
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
                 Object[] fields;
                 if (isMergePartition) {
@@ -130,6 +166,83 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    private void readColumnBatch(
+            HadoopInputFile hadoopInputFile,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            Map<String, String> partitionsMap,
+            ParquetPredicate predicate)
+            throws IOException {
+        int fieldsCount = seaTunnelRowType.getTotalFields();
+        // columns only needed by the filter are decoded after the projected ones
+        List<String> columns = new ArrayList<>(Arrays.asList(seaTunnelRowType.getFieldNames()));
+        List<SeaTunnelDataType<?>> types =
+                new ArrayList<>(Arrays.asList(seaTunnelRowType.getFieldTypes()));
+        int[] predicateColumns = new int[0];
+        if (predicate != null) {
+            predicateColumns = new int[predicate.getColumns().size()];
+            for (int i = 0; i < predicateColumns.length; i++) {
+                String column = predicate.getColumns().get(i);
+                int index = columns.indexOf(column);
+                if (index < 0) {
+                    index = columns.size();
+                    columns.add(column);
+                    types.add(fileRowType.getFieldType(fileRowType.indexOf(column)));
+                }
+                predicateColumns[i] = index;
+            }
+        }
+        Object[][] batch = new Object[columns.size()][ParquetColumnBatchReader.DEFAULT_BATCH_SIZE];
+        Object[] predicateValues = new Object[predicateColumns.length];
+        try (ParquetColumnBatchReader reader =
+                new ParquetColumnBatchReader(
+                        hadoopInputFile,
+                        hadoopInputFile.getConfiguration(),
+                        columns,
+                        types.toArray(new SeaTunnelDataType<?>[0]),
+                        predicate == null ? null : predicate.toFilterPredicate())) {
+            int rows;
+            while ((rows = reader.readBatch(batch)) > 0) {
+                for (int row = 0; row < rows; row++) {
+                    if (predicate != null) {
+                        for (int i = 0; i < predicateColumns.length; i++) {
+                            predicateValues[i] = batch[predicateColumns[i]][row];
+                        }
+                        if (!predicate.test(predicateValues)) {
+                            continue;
+                        }
+                    }
+                    Object[] fields;
+                    if (isMergePartition) {
+                        int index = fieldsCount;
+                        fields = new Object[fieldsCount + partitionsMap.size()];
+                        for (String value : partitionsMap.values()) {
+                            fields[index++] = value;
+                        }
+                    } else {
+                        fields = new Object[fieldsCount];
+                    }
+                    for (int i = 0; i < fieldsCount; i++) {
+                        fields[i] = batch[i][row];
+                    }
+                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                    seaTunnelRow.setTableId(tableId);
+                    output.collect(seaTunnelRow);
+                }
+            }
+        }
+    }
+
+    static LocalDateTime int96ToLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        int julianDay = nanoTime.getJulianDay();
+        long nanosOfDay = nanoTime.getTimeOfDayNanos();
+        long timestamp =
+                (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanosOfDay / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -207,15 +320,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 return bytes;
             case TIMESTAMP:
                 if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
+                    return int96ToLocalDateTime(
+                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes()));
                 }
                 Instant instant = Instant.ofEpochMilli((long) field);
                 return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
@@ -261,6 +367,11 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
         FileMetaData fileMetaData = metadata.getFileMetaData();
         MessageType originalSchema = fileMetaData.getSchema();
+        if (StringUtils.isNotBlank(filterExpression)) {
+            fileRowType =
+                    buildFileRowType(
+                            originalSchema, ParquetPredicate.referencedColumns(filterExpression));
+        }
         if (readColumns.isEmpty()) {
             for (int i = 0; i < originalSchema.getFieldCount(); i++) {
                 readColumns.add(originalSchema.getFieldName(i));
@@ -284,6 +395,24 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         return getActualSeaTunnelRowTypeInfo();
     }
 
+    /**
+     * The top level columns of the file referenced by the filter, the other columns are not
+     * converted so an unsupported type in an unrelated column does not fail the read. Nested
+     * columns can not be used in the filter.
+     */
+    private SeaTunnelRowType buildFileRowType(MessageType schema, Set<String> filterColumns) {
+        List<String> names = new ArrayList<>();
+        List<SeaTunnelDataType<?>> types = new ArrayList<>();
+        for (Type type : schema.getFields()) {
+            if (type.isPrimitive() && filterColumns.contains(type.getName())) {
+                names.add(type.getName());
+                types.add(parquetType2SeaTunnelType(type, type.getName()));
+            }
+        }
+        return new SeaTunnelRowType(
+                names.toArray(new String[0]), types.toArray(new SeaTunnelDataType<?>[0]));
+    }
+
     private SeaTunnelDataType<?> parquetType2SeaTunnelType(Type type, String name) {
         if (type.isPrimitive()) {
             switch (type.asPrimitiveType().getPrimitiveTypeName()) {
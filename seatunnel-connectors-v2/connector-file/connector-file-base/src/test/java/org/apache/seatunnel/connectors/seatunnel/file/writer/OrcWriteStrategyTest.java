@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+@Slf4j
+public class OrcWriteStrategyTest {
+    private static final String TMP_PATH = "file:///tmp/seatunnel/orc/batch/test";
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testOrcWriteMultipleRowBatches() throws Exception {
+        Map<String, Object> writeConfig = new HashMap<>();
+        writeConfig.put("tmp_path", TMP_PATH);
+        writeConfig.put("path", "file:///tmp/seatunnel/orc/batch");
+        writeConfig.put("file_format_type", FileFormat.ORC.name());
+
+        SeaTunnelRowType writeRowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "tags", "attrs", "payload"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            ArrayType.STRING_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                            PrimitiveByteArrayType.INSTANCE
+                        });
+        FileSinkConfig writeSinkConfig =
+                new FileSinkConfig(ConfigFactory.parseMap(writeConfig), writeRowType);
+        OrcWriteStrategy writeStrategy = new OrcWriteStrategy(writeSinkConfig);
+        ParquetReadStrategyTest.LocalConf hadoopConf =
+                new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        writeStrategy.setCatalogTable(
+                CatalogTableUtil.getCatalogTable("test", null, null, "test", writeRowType));
+        writeStrategy.init(hadoopConf, "test1", "test1", 0);
+        writeStrategy.beginTransaction(1L);
+
+        // spans several full row batches plus a partial one, with list children overflowing
+        // the default vector size
+        int rowCount = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rowCount; i++) {
+            String[] tags = i % 100 == 0 ? new String[2000] : new String[] {"t" + i};
+            if (i % 100 == 0) {
+                for (int j = 0; j < tags.length; j++) {
+                    tags[j] = "t" + j;
+                }
+            }
+            writeStrategy.write(
+                    new SeaTunnelRow(
+                            new Object[] {
+                                (long) i,
+                                i % 7 == 0 ? null : "name" + i,
+                                tags,
+                                Collections.singletonMap("k" + i, i),
+                                i % 11 == 0
+                                        ? null
+                                        : ("p" + i).getBytes(StandardCharsets.UTF_8)
+                            }));
+        }
+        writeStrategy.finishAndCloseFile();
+        long costMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Write {} orc rows cost {} ms", rowCount, costMs);
+        writeStrategy.close();
+
+        OrcReadStrategy readStrategy = new OrcReadStrategy();
+        readStrategy.init(hadoopConf);
+        List<String> readFiles = readStrategy.getFileNamesByPath(TMP_PATH);
+        Assertions.assertEquals(1, readFiles.size());
+        String readFilePath = readFiles.get(0);
+        readStrategy.getSeaTunnelRowTypeInfo(readFilePath);
+        List<SeaTunnelRow> readRows = new ArrayList<>();
+        Collector<SeaTunnelRow> readCollector =
+                new Collector<SeaTunnelRow>() {
+                    @Override
+                    public void collect(SeaTunnelRow record) {
+                        readRows.add(record);
+                    }
+
+                    @Override
+                    public Object getCheckpointLock() {
+                        return null;
+                    }
+                };
+        readStrategy.read(readFilePath, "test", readCollector);
+        readStrategy.close();
+
+        Assertions.assertEquals(rowCount, readRows.size());
+        for (int i = 0; i < rowCount; i++) {
+            SeaTunnelRow row = readRows.get(i);
+            Assertions.assertEquals((long) i, row.getField(0));
+            Assertions.assertEquals(i % 7 == 0 ? null : "name" + i, row.getField(1));
+            Object[] tags = (Object[]) row.getField(2);
+            Assertions.assertEquals(i % 100 == 0 ? 2000 : 1, tags.length);
+            Assertions.assertEquals(
+                    Collections.singletonMap("k" + i, i), (Map<?, ?>) row.getField(3));
+            if (i % 11 == 0) {
+                Assertions.assertNull(row.getField(4));
+            } else {
+                Assertions.assertArrayEquals(
+                        ("p" + i).getBytes(StandardCharsets.UTF_8), (byte[]) row.getField(4));
+            }
+        }
+    }
+}
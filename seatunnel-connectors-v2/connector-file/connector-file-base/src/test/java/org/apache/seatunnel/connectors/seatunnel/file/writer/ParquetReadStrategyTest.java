@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.writer;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigValueFactory;
 
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.ArrayType;
@@ -36,8 +37,13 @@ import org.apache.avro.util.Utf8;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -52,6 +58,7 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -168,6 +175,147 @@ public class ParquetReadStrategyTest {
         parquetReadStrategy.read(path, "", testCollector);
     }
 
+    @Test
+    public void testParquetVectorizedRead() throws Exception {
+        for (String file : new String[] {"/timestamp_as_int64.parquet", "/hive.parquet"}) {
+            URL resource = ParquetReadStrategyTest.class.getResource(file);
+            Assertions.assertNotNull(resource);
+            String path = Paths.get(resource.toURI()).toString();
+            LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+
+            ParquetReadStrategy avroReadStrategy = new ParquetReadStrategy();
+            avroReadStrategy.init(localConf);
+            avroReadStrategy.getSeaTunnelRowTypeInfo(path);
+            TestCollector avroCollector = new TestCollector();
+            avroReadStrategy.read(path, "", avroCollector);
+
+            ParquetReadStrategy vectorizedReadStrategy = new ParquetReadStrategy();
+            vectorizedReadStrategy.init(localConf);
+            vectorizedReadStrategy.setPluginConfig(
+                    ConfigFactory.empty()
+                            .withValue(
+                                    "parquet_vectorized_read",
+                                    ConfigValueFactory.fromAnyRef(true)));
+            vectorizedReadStrategy.getSeaTunnelRowTypeInfo(path);
+            TestCollector vectorizedCollector = new TestCollector();
+            vectorizedReadStrategy.read(path, "", vectorizedCollector);
+
+            Assertions.assertFalse(avroCollector.getRows().isEmpty());
+            Assertions.assertEquals(
+                    avroCollector.getRows().size(), vectorizedCollector.getRows().size());
+            for (int i = 0; i < avroCollector.getRows().size(); i++) {
+                Assertions.assertArrayEquals(
+                        avroCollector.getRows().get(i).getFields(),
+                        vectorizedCollector.getRows().get(i).getFields());
+            }
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadWithFilter() throws Exception {
+        AutoGenerateFlatParquetData.generateTestData();
+        for (boolean vectorized : new boolean[] {true, false}) {
+            ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+            LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+            parquetReadStrategy.init(localConf);
+            parquetReadStrategy.setPluginConfig(
+                    ConfigFactory.empty()
+                            .withValue(
+                                    "parquet_vectorized_read",
+                                    ConfigValueFactory.fromAnyRef(vectorized))
+                            .withValue(
+                                    "parquet_filter",
+                                    ConfigValueFactory.fromAnyRef(
+                                            "id >= 9990 and name != 'user9995'"))
+                            .withValue(
+                                    "read_columns",
+                                    ConfigValueFactory.fromIterable(
+                                            Collections.singletonList("name"))));
+            SeaTunnelRowType rowType =
+                    parquetReadStrategy.getSeaTunnelRowTypeInfo(
+                            AutoGenerateFlatParquetData.DATA_FILE_PATH);
+            Assertions.assertEquals(1, rowType.getTotalFields());
+            TestCollector testCollector = new TestCollector();
+            parquetReadStrategy.read(AutoGenerateFlatParquetData.DATA_FILE_PATH, "", testCollector);
+            List<SeaTunnelRow> rows = testCollector.getRows();
+            Assertions.assertEquals(9, rows.size());
+            for (SeaTunnelRow row : rows) {
+                Assertions.assertEquals(1, row.getArity());
+                Assertions.assertNotEquals("user9995", row.getField(0));
+                Assertions.assertTrue(((String) row.getField(0)).startsWith("user999"));
+            }
+        }
+        AutoGenerateFlatParquetData.deleteFile();
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetNotEqualFilterKeepsNull() throws Exception {
+        AutoGenerateNullableParquetData.generateTestData(false);
+        for (boolean vectorized : new boolean[] {true, false}) {
+            ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+            parquetReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            parquetReadStrategy.setPluginConfig(
+                    ConfigFactory.empty()
+                            .withValue(
+                                    "parquet_vectorized_read",
+                                    ConfigValueFactory.fromAnyRef(vectorized))
+                            .withValue(
+                                    "parquet_filter",
+                                    ConfigValueFactory.fromAnyRef("name != 'user1'")));
+            parquetReadStrategy.getSeaTunnelRowTypeInfo(
+                    AutoGenerateNullableParquetData.DATA_FILE_PATH);
+            TestCollector testCollector = new TestCollector();
+            parquetReadStrategy.read(
+                    AutoGenerateNullableParquetData.DATA_FILE_PATH, "", testCollector);
+            List<SeaTunnelRow> rows = testCollector.getRows();
+            // both readers keep the rows whose name is null, the same as parquet does
+            Assertions.assertEquals(99, rows.size());
+            Assertions.assertEquals(
+                    10, rows.stream().filter(row -> row.getField(1) == null).count());
+        }
+        AutoGenerateNullableParquetData.deleteFile();
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetFilterIgnoresUnrelatedUnsupportedColumn() throws Exception {
+        AutoGenerateNullableParquetData.generateTestData(true);
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        parquetReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        parquetReadStrategy.setPluginConfig(
+                ConfigFactory.empty()
+                        .withValue("parquet_vectorized_read", ConfigValueFactory.fromAnyRef(true))
+                        .withValue("parquet_filter", ConfigValueFactory.fromAnyRef("id < 10"))
+                        .withValue(
+                                "read_columns",
+                                ConfigValueFactory.fromIterable(
+                                        Collections.singletonList("name"))));
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateNullableParquetData.DATA_FILE_PATH);
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateNullableParquetData.DATA_FILE_PATH, "", testCollector);
+        Assertions.assertEquals(10, testCollector.getRows().size());
+        AutoGenerateNullableParquetData.deleteFile();
+    }
+
+    @Test
+    public void testParquetReadWithIllegalFilter() throws Exception {
+        URL resource = ParquetReadStrategyTest.class.getResource("/timestamp_as_int64.parquet");
+        Assertions.assertNotNull(resource);
+        String path = Paths.get(resource.toURI()).toString();
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        parquetReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        parquetReadStrategy.setPluginConfig(
+                ConfigFactory.empty()
+                        .withValue(
+                                "parquet_filter", ConfigValueFactory.fromAnyRef("not_exists = 1")));
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+        Assertions.assertThrows(
+                SeaTunnelRuntimeException.class,
+                () -> parquetReadStrategy.read(path, "", new TestCollector()));
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadArray() throws Exception {
@@ -304,6 +452,87 @@ public class ParquetReadStrategyTest {
         }
     }
 
+    public static class AutoGenerateFlatParquetData {
+
+        public static final String DATA_FILE_PATH = "/tmp/data_flat.parquet";
+
+        public static void generateTestData() throws IOException {
+            deleteFile();
+            String schemaString =
+                    "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"},{\"name\":\"name\",\"type\":\"string\"}]}";
+            Schema schema = new Schema.Parser().parse(schemaString);
+
+            Configuration conf = new Configuration();
+
+            Path file = new Path(DATA_FILE_PATH);
+
+            // small row groups, so that most of them are skipped by the filter
+            ParquetWriter<GenericRecord> writer =
+                    AvroParquetWriter.<GenericRecord>builder(file)
+                            .withSchema(schema)
+                            .withConf(conf)
+                            .withRowGroupSize(8 * 1024)
+                            .withPageSize(1024)
+                            .withCompressionCodec(CompressionCodecName.SNAPPY)
+                            .build();
+            for (int i = 0; i < 10000; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "user" + i);
+                writer.write(record);
+            }
+            writer.close();
+        }
+
+        public static void deleteFile() {
+            File parquetFile = new File(DATA_FILE_PATH);
+            if (parquetFile.exists()) {
+                parquetFile.delete();
+            }
+        }
+    }
+
+    /** Rows with a nullable name, optionally with an INT32 backed decimal that can't be read. */
+    public static class AutoGenerateNullableParquetData {
+
+        public static final String DATA_FILE_PATH = "/tmp/data_nullable.parquet";
+
+        public static void generateTestData(boolean withInt32Decimal) throws IOException {
+            deleteFile();
+            MessageType schema =
+                    MessageTypeParser.parseMessageType(
+                            "message user { required int32 id; optional binary name (UTF8); "
+                                    + (withInt32Decimal
+                                            ? "optional int32 amount (DECIMAL(9,2)); "
+                                            : "")
+                                    + "}");
+            SimpleGroupFactory groupFactory = new SimpleGroupFactory(schema);
+            try (ParquetWriter<Group> writer =
+                    ExampleParquetWriter.builder(new Path(DATA_FILE_PATH))
+                            .withType(schema)
+                            .withConf(new Configuration())
+                            .build()) {
+                for (int i = 0; i < 100; i++) {
+                    Group group = groupFactory.newGroup().append("id", i);
+                    if (i % 10 != 0) {
+                        group.append("name", "user" + i);
+                    }
+                    if (withInt32Decimal) {
+                        group.append("amount", i * 100);
+                    }
+                    writer.write(group);
+                }
+            }
+        }
+
+        public static void deleteFile() {
+            File parquetFile = new File(DATA_FILE_PATH);
+            if (parquetFile.exists()) {
+                parquetFile.delete();
+            }
+        }
+    }
+
     public static class AutoGenerateParquetDataWithUnsupportedType {
 
         public static final String DATA_FILE_PATH = "/tmp/data_unsupported.parquet";
@@ -21,19 +21,27 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ParquetNativeWriteStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ParquetWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.WriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.WriteStrategyFactory;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
@@ -47,9 +55,11 @@ import org.junit.jupiter.api.condition.OS;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -149,4 +159,111 @@ public class ParquetWriteStrategyTest {
         Assertions.assertEquals(1, readRows.size());
         readStrategy.close();
     }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetNativeWrite() throws Exception {
+        String tmpPath = "file:///tmp/seatunnel/parquet/native/test";
+        Map<String, Object> writeConfig = new HashMap<>();
+        writeConfig.put("tmp_path", tmpPath);
+        writeConfig.put("path", "file:///tmp/seatunnel/parquet/native");
+        writeConfig.put("file_format_type", FileFormat.PARQUET.name());
+        writeConfig.put("parquet_native_write", "true");
+        writeConfig.put("parquet_enable_dictionary", "false");
+        writeConfig.put("parquet_bloom_filter_columns", Arrays.asList("f1_text"));
+
+        SeaTunnelRowType writeRowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "f1_text",
+                            "f2_int",
+                            "f3_decimal",
+                            "f4_timestamp",
+                            "f5_array",
+                            "f6_map",
+                            "f7_row"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.STRING_TYPE,
+                            BasicType.INT_TYPE,
+                            new DecimalType(10, 2),
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            ArrayType.INT_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.LONG_TYPE),
+                            new SeaTunnelRowType(
+                                    new String[] {"c1"},
+                                    new SeaTunnelDataType[] {BasicType.STRING_TYPE})
+                        });
+        FileSinkConfig writeSinkConfig =
+                new FileSinkConfig(ConfigFactory.parseMap(writeConfig), writeRowType);
+        WriteStrategy<?> writeStrategy =
+                WriteStrategyFactory.of(FileFormat.PARQUET, writeSinkConfig);
+        Assertions.assertInstanceOf(ParquetNativeWriteStrategy.class, writeStrategy);
+        ParquetReadStrategyTest.LocalConf hadoopConf =
+                new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        writeStrategy.setCatalogTable(
+                CatalogTableUtil.getCatalogTable("test", null, null, "test", writeRowType));
+        writeStrategy.init(hadoopConf, "test1", "test1", 0);
+        writeStrategy.beginTransaction(1L);
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 12, 30, 15);
+        writeStrategy.write(
+                new SeaTunnelRow(
+                        new Object[] {
+                            "test",
+                            1,
+                            new BigDecimal("-12.34"),
+                            timestamp,
+                            new Integer[] {1, 2, 3},
+                            Collections.singletonMap("k", 1L),
+                            new SeaTunnelRow(new Object[] {"nested"})
+                        }));
+        writeStrategy.write(new SeaTunnelRow(new Object[7]));
+        writeStrategy.finishAndCloseFile();
+        writeStrategy.close();
+
+        ParquetReadStrategy readStrategy = new ParquetReadStrategy();
+        readStrategy.init(hadoopConf);
+        List<String> readFiles = readStrategy.getFileNamesByPath(tmpPath);
+        Assertions.assertEquals(1, readFiles.size());
+        String readFilePath = readFiles.get(0);
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(
+                        HadoopInputFile.fromPath(
+                                new org.apache.hadoop.fs.Path(readFilePath),
+                                new Configuration()))) {
+            BlockMetaData block = reader.getFooter().getBlocks().get(0);
+            ColumnChunkMetaData textColumn = block.getColumns().get(0);
+            Assertions.assertNotNull(
+                    reader.getBloomFilterDataReader(block).readBloomFilter(textColumn));
+        }
+
+        readStrategy.getSeaTunnelRowTypeInfo(readFilePath);
+        List<SeaTunnelRow> readRows = new ArrayList<>();
+        Collector<SeaTunnelRow> readCollector =
+                new Collector<SeaTunnelRow>() {
+                    @Override
+                    public void collect(SeaTunnelRow record) {
+                        readRows.add(record);
+                    }
+
+                    @Override
+                    public Object getCheckpointLock() {
+                        return null;
+                    }
+                };
+        readStrategy.read(readFilePath, "test", readCollector);
+        readStrategy.close();
+        Assertions.assertEquals(2, readRows.size());
+        SeaTunnelRow row = readRows.get(0);
+        Assertions.assertEquals("test", row.getField(0));
+        Assertions.assertEquals(1, row.getField(1));
+        Assertions.assertEquals(new BigDecimal("-12.34"), row.getField(2));
+        Assertions.assertEquals(timestamp, row.getField(3));
+        Assertions.assertArrayEquals(new Integer[] {1, 2, 3}, (Object[]) row.getField(4));
+        Assertions.assertEquals(Collections.singletonMap("k", 1L), row.getField(5));
+        Assertions.assertEquals("nested", ((SeaTunnelRow) row.getField(6)).getField(0));
+        for (Object field : readRows.get(1).getFields()) {
+            Assertions.assertNull(field);
+        }
+    }
 }
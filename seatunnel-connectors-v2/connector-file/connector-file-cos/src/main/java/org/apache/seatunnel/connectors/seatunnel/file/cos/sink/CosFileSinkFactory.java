@@ -68,7 +68,12 @@ public class CosFileSinkFactory implements TableSinkFactory {
                         FileFormat.PARQUET,
                         BaseSinkConfig.PARQUET_COMPRESS,
                         BaseSinkConfig.PARQUET_AVRO_WRITE_FIXED_AS_INT96,
-                        BaseSinkConfig.PARQUET_AVRO_WRITE_TIMESTAMP_AS_INT96)
+                        BaseSinkConfig.PARQUET_AVRO_WRITE_TIMESTAMP_AS_INT96,
+                        BaseSinkConfig.PARQUET_NATIVE_WRITE,
+                        BaseSinkConfig.PARQUET_ENABLE_DICTIONARY,
+                        BaseSinkConfig.PARQUET_PAGE_SIZE,
+                        BaseSinkConfig.PARQUET_DICTIONARY_PAGE_SIZE,
+                        BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS)
                 .conditional(
                         BaseSinkConfig.FILE_FORMAT_TYPE,
                         FileFormat.XML,
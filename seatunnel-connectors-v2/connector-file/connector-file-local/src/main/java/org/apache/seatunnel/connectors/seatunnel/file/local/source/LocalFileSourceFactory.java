@@ -63,6 +63,11 @@ public class LocalFileSourceFactory implements TableSourceFactory {
                         FileFormat.XML,
                         BaseSourceConfigOptions.XML_ROW_TAG,
                         BaseSourceConfigOptions.XML_USE_ATTR_FORMAT)
+                .conditional(
+                        BaseSourceConfigOptions.FILE_FORMAT_TYPE,
+                        FileFormat.PARQUET,
+                        BaseSourceConfigOptions.PARQUET_VECTORIZED_READ,
+                        BaseSourceConfigOptions.PARQUET_FILTER)
                 .conditional(
                         BaseSourceConfigOptions.FILE_FORMAT_TYPE,
                         Arrays.asList(
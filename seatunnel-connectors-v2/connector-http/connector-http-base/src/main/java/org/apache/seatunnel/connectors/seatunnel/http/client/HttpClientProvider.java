@@ -76,7 +76,24 @@ public class HttpClientProvider implements AutoCloseable {
     private final Retryer<CloseableHttpResponse> retryer;
 
     public HttpClientProvider(HttpParameter httpParameter) {
-        this.httpClient = HttpClients.createDefault();
+        this(httpParameter, HttpClients.createDefault());
+    }
+
+    /**
+     * Create a provider whose connection pool allows {@code maxConnections} concurrent requests to
+     * the same route, the default client only keeps two connections per route.
+     */
+    public HttpClientProvider(HttpParameter httpParameter, int maxConnections) {
+        this(
+                httpParameter,
+                HttpClients.custom()
+                        .setMaxConnPerRoute(maxConnections)
+                        .setMaxConnTotal(maxConnections)
+                        .build());
+    }
+
+    private HttpClientProvider(HttpParameter httpParameter, CloseableHttpClient httpClient) {
+        this.httpClient = httpClient;
         this.retryer = buildRetryer(httpParameter);
         this.requestConfig =
                 RequestConfig.custom()
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.config;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+@Data
+public class HttpBatchParameter implements Serializable {
+    protected HttpBatchMode batchMode = HttpConfig.BATCH_MODE.defaultValue();
+    protected int maxRows = HttpConfig.BATCH_MAX_ROWS.defaultValue();
+    protected int maxBytes = HttpConfig.BATCH_MAX_BYTES.defaultValue();
+    protected long lingerMs = HttpConfig.BATCH_LINGER_MS.defaultValue();
+    protected int maxInFlightRequests = HttpConfig.MAX_IN_FLIGHT_REQUESTS.defaultValue();
+
+    public void buildWithConfig(Config pluginConfig) {
+        if (pluginConfig.hasPath(HttpConfig.BATCH_MODE.key())) {
+            this.setBatchMode(
+                    HttpBatchMode.valueOf(
+                            pluginConfig.getString(HttpConfig.BATCH_MODE.key()).toUpperCase()));
+        }
+        if (pluginConfig.hasPath(HttpConfig.BATCH_MAX_ROWS.key())) {
+            this.setMaxRows(pluginConfig.getInt(HttpConfig.BATCH_MAX_ROWS.key()));
+        }
+        if (pluginConfig.hasPath(HttpConfig.BATCH_MAX_BYTES.key())) {
+            this.setMaxBytes(pluginConfig.getInt(HttpConfig.BATCH_MAX_BYTES.key()));
+        }
+        if (pluginConfig.hasPath(HttpConfig.BATCH_LINGER_MS.key())) {
+            this.setLingerMs(pluginConfig.getLong(HttpConfig.BATCH_LINGER_MS.key()));
+        }
+        if (pluginConfig.hasPath(HttpConfig.MAX_IN_FLIGHT_REQUESTS.key())) {
+            this.setMaxInFlightRequests(
+                    pluginConfig.getInt(HttpConfig.MAX_IN_FLIGHT_REQUESTS.key()));
+        }
+    }
+
+    public boolean isBatchEnabled() {
+        return batchMode != HttpBatchMode.NONE;
+    }
+}
@@ -142,6 +142,39 @@ public class HttpConfig {
                     .defaultValue(DEFAULT_SOCKET_TIMEOUT_MS)
                     .withDescription("Socket timeout setting, default 60s.");
 
+    public static final Option<HttpBatchMode> BATCH_MODE =
+            Options.key("batch_mode")
+                    .enumType(HttpBatchMode.class)
+                    .defaultValue(HttpBatchMode.NONE)
+                    .withDescription(
+                            "How the sink groups rows into one request body: NONE sends one request per row, JSON_ARRAY and NDJSON send batches asynchronously.");
+
+    public static final Option<Integer> BATCH_MAX_ROWS =
+            Options.key("batch_max_rows")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription("The max number of rows in one batch request.");
+
+    public static final Option<Integer> BATCH_MAX_BYTES =
+            Options.key("batch_max_bytes")
+                    .intType()
+                    .defaultValue(4 * 1024 * 1024)
+                    .withDescription("The max size in bytes of one batch request body.");
+
+    public static final Option<Long> BATCH_LINGER_MS =
+            Options.key("batch_linger_ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The max time(millis) a row waits in the buffer before its batch is sent.");
+
+    public static final Option<Integer> MAX_IN_FLIGHT_REQUESTS =
+            Options.key("max_in_flight_requests")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The max number of batch requests sent concurrently by one sink writer.");
+
     public enum ResponseFormat {
         JSON("json"),
         TEXT("text");
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.sink;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.http.client.HttpClientProvider;
+import org.apache.seatunnel.connectors.seatunnel.http.client.HttpResponse;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchMode;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Groups rows into JSON array or NDJSON request bodies and sends them with up to {@code
+ * max_in_flight_requests} concurrent requests. A batch is sent when it reaches {@code
+ * batch_max_rows} or {@code batch_max_bytes}, or at the latest {@code batch_linger_ms} after it was
+ * started. Failed batches are retried with exponential backoff, and {@link #prepareCommit()} waits
+ * for all of them to be acknowledged, so rows are delivered at least once.
+ */
+@Slf4j
+public class HttpBatchSinkWriter extends HttpSinkWriter {
+    private static final ContentType APPLICATION_NDJSON =
+            ContentType.create("application/x-ndjson", StandardCharsets.UTF_8);
+
+    private final HttpBatchParameter batchParameter;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private int bufferedRows;
+
+    private final Semaphore inFlightRequests;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService lingerScheduler;
+    private final AtomicReference<Throwable> sendFailure = new AtomicReference<>();
+
+    public HttpBatchSinkWriter(
+            SeaTunnelRowType seaTunnelRowType,
+            HttpParameter httpParameter,
+            HttpBatchParameter batchParameter) {
+        this(
+                seaTunnelRowType,
+                httpParameter,
+                batchParameter,
+                new JsonSerializationSchema(seaTunnelRowType));
+    }
+
+    public HttpBatchSinkWriter(
+            SeaTunnelRowType seaTunnelRowType,
+            HttpParameter httpParameter,
+            HttpBatchParameter batchParameter,
+            SerializationSchema serializationSchema) {
+        super(
+                seaTunnelRowType,
+                httpParameter,
+                serializationSchema,
+                new HttpClientProvider(
+                        withoutRetry(httpParameter), batchParameter.getMaxInFlightRequests()));
+        this.batchParameter = batchParameter;
+        this.inFlightRequests = new Semaphore(batchParameter.getMaxInFlightRequests());
+        this.sender =
+                Executors.newFixedThreadPool(
+                        batchParameter.getMaxInFlightRequests(),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("http-sink-sender-%d")
+                                .setDaemon(true)
+                                .build());
+        this.lingerScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("http-sink-linger-%d")
+                                .setDaemon(true)
+                                .build());
+        lingerScheduler.scheduleWithFixedDelay(
+                this::sendLingeringBatch,
+                batchParameter.getLingerMs(),
+                batchParameter.getLingerMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** Retries are owned by this writer so that failed status codes are retried as well. */
+    private static HttpParameter withoutRetry(HttpParameter httpParameter) {
+        HttpParameter clientParameter = new HttpParameter();
+        clientParameter.setConnectTimeoutMs(httpParameter.getConnectTimeoutMs());
+        clientParameter.setSocketTimeoutMs(httpParameter.getSocketTimeoutMs());
+        return clientParameter;
+    }
+
+    @Override
+    public void write(SeaTunnelRow element) throws IOException {
+        checkSendFailure();
+        byte[] row = serializationSchema.serialize(element);
+        synchronized (buffer) {
+            if (bufferedRows > 0 && buffer.size() + row.length + 1 > batchParameter.getMaxBytes()) {
+                sendBuffer();
+            }
+            if (bufferedRows > 0 && batchParameter.getBatchMode() == HttpBatchMode.JSON_ARRAY) {
+                buffer.write(',');
+            }
+            buffer.write(row);
+            if (batchParameter.getBatchMode() == HttpBatchMode.NDJSON) {
+                buffer.write('\n');
+            }
+            bufferedRows++;
+            if (bufferedRows >= batchParameter.getMaxRows()
+                    || buffer.size() >= batchParameter.getMaxBytes()) {
+                sendBuffer();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Void> prepareCommit() {
+        flush();
+        return Optional.empty();
+    }
+
+    /** Send the buffered rows and wait until every in flight batch has been acknowledged. */
+    public void flush() {
+        synchronized (buffer) {
+            sendBuffer();
+        }
+        int permits = batchParameter.getMaxInFlightRequests();
+        try {
+            inFlightRequests.acquire(permits);
+            inFlightRequests.release(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpConnectorException(
+                    HttpConnectorErrorCode.REQUEST_FAILED,
+                    "Interrupted while waiting for http batch requests",
+                    e);
+        }
+        checkSendFailure();
+    }
+
+    private void sendLingeringBatch() {
+        try {
+            synchronized (buffer) {
+                sendBuffer();
+            }
+        } catch (Exception e) {
+            sendFailure.compareAndSet(null, e);
+        }
+    }
+
+    /** Must be called while holding the buffer lock. */
+    private void sendBuffer() {
+        if (bufferedRows == 0) {
+            return;
+        }
+        byte[] body;
+        ContentType contentType;
+        if (batchParameter.getBatchMode() == HttpBatchMode.JSON_ARRAY) {
+            body = new byte[buffer.size() + 2];
+            body[0] = '[';
+            System.arraycopy(buffer.toByteArray(), 0, body, 1, buffer.size());
+            body[body.length - 1] = ']';
+            contentType = ContentType.APPLICATION_JSON;
+        } else {
+            body = buffer.toByteArray();
+            contentType = APPLICATION_NDJSON;
+        }
+        int rows = bufferedRows;
+        buffer.reset();
+        bufferedRows = 0;
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpConnectorException(
+                    HttpConnectorErrorCode.REQUEST_FAILED,
+                    "Interrupted while waiting to send http batch request",
+                    e);
+        }
+        try {
+            sender.execute(
+                    () -> {
+                        try {
+                            send(body, contentType, rows);
+                        } catch (Throwable t) {
+                            sendFailure.compareAndSet(null, t);
+                        } finally {
+                            inFlightRequests.release();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            throw e;
+        }
+    }
+
+    private void send(byte[] body, ContentType contentType, int rows) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            Exception error = null;
+            String message;
+            try {
+                HttpResponse response =
+                        httpClient.doPost(
+                                httpParameter.getUrl(),
+                                httpParameter.getHeaders(),
+                                new ByteArrayEntity(body, contentType));
+                int code = response.getCode();
+                if (code >= HttpStatus.SC_OK && code < HttpStatus.SC_MULTIPLE_CHOICES) {
+                    return;
+                }
+                message =
+                        String.format(
+                                "http batch request of %s rows failed, status code:[%s], content:[%s]",
+                                rows, code, response.getContent());
+                if (!isRetryable(code)) {
+                    throw new HttpConnectorException(
+                            HttpConnectorErrorCode.REQUEST_FAILED, message);
+                }
+            } catch (HttpConnectorException e) {
+                throw e;
+            } catch (Exception e) {
+                error = e;
+                message = String.format("http batch request of %s rows failed", rows);
+            }
+            if (attempt >= httpParameter.getRetry()) {
+                throw new HttpConnectorException(
+                        HttpConnectorErrorCode.REQUEST_FAILED, message, error);
+            }
+            long backoff =
+                    Math.min(
+                            (long) httpParameter.getRetryBackoffMultiplierMillis()
+                                    << Math.min(attempt, 20),
+                            httpParameter.getRetryBackoffMaxMillis());
+            log.warn("{}, retry {} after {}ms", message, attempt + 1, backoff, error);
+            Thread.sleep(backoff);
+        }
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == HttpStatus.SC_REQUEST_TIMEOUT
+                || code == 429
+                || code >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    private void checkSendFailure() {
+        Throwable failure = sendFailure.get();
+        if (failure != null) {
+            throw new HttpConnectorException(
+                    HttpConnectorErrorCode.REQUEST_FAILED, "Writing rows to http failed.", failure);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lingerScheduler.shutdownNow();
+        try {
+            if (sendFailure.get() == null) {
+                flush();
+            }
+        } finally {
+            sender.shutdownNow();
+            super.close();
+        }
+    }
+}
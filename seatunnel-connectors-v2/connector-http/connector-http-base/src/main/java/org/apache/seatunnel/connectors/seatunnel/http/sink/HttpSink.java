@@ -29,6 +29,7 @@ import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.connectors.seatunnel.common.sink.AbstractSimpleSink;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchParameter;
 import org.apache.seatunnel.connectors.seatunnel.http.config.HttpConfig;
 import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
 import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
@@ -41,6 +42,7 @@ import java.util.stream.Collectors;
 public class HttpSink extends AbstractSimpleSink<SeaTunnelRow, Void>
         implements SupportMultiTableSink {
     protected final HttpParameter httpParameter = new HttpParameter();
+    protected final HttpBatchParameter batchParameter = new HttpBatchParameter();
     protected CatalogTable catalogTable;
     protected SeaTunnelRowType seaTunnelRowType;
     protected Config pluginConfig;
@@ -74,6 +76,8 @@ public class HttpSink extends AbstractSimpleSink<SeaTunnelRow, Void>
                                             entry -> String.valueOf(entry.getValue().unwrapped()),
                                             (v1, v2) -> v2)));
         }
+        httpParameter.setRetryParameters(pluginConfig);
+        batchParameter.buildWithConfig(pluginConfig);
         this.catalogTable = catalogTable;
         this.seaTunnelRowType = catalogTable.getSeaTunnelRowType();
     }
@@ -85,6 +89,9 @@ public class HttpSink extends AbstractSimpleSink<SeaTunnelRow, Void>
 
     @Override
     public HttpSinkWriter createWriter(SinkWriter.Context context) throws IOException {
+        if (batchParameter.isBatchEnabled()) {
+            return new HttpBatchSinkWriter(seaTunnelRowType, httpParameter, batchParameter);
+        }
         return new HttpSinkWriter(seaTunnelRowType, httpParameter);
     }
 
@@ -49,6 +49,11 @@ public class HttpSinkFactory implements TableSinkFactory {
                 .optional(HttpConfig.RETRY)
                 .optional(HttpConfig.RETRY_BACKOFF_MULTIPLIER_MS)
                 .optional(HttpConfig.RETRY_BACKOFF_MAX_MS)
+                .optional(HttpConfig.BATCH_MODE)
+                .optional(HttpConfig.BATCH_MAX_ROWS)
+                .optional(HttpConfig.BATCH_MAX_BYTES)
+                .optional(HttpConfig.BATCH_LINGER_MS)
+                .optional(HttpConfig.MAX_IN_FLIGHT_REQUESTS)
                 .optional(SinkConnectorCommonOptions.MULTI_TABLE_SINK_REPLICA)
                 .build();
     }
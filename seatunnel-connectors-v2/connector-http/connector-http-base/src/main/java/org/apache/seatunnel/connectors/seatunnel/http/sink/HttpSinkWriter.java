@@ -48,9 +48,21 @@ public class HttpSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
             SeaTunnelRowType seaTunnelRowType,
             HttpParameter httpParameter,
             SerializationSchema serializationSchema) {
+        this(
+                seaTunnelRowType,
+                httpParameter,
+                serializationSchema,
+                new HttpClientProvider(httpParameter));
+    }
+
+    protected HttpSinkWriter(
+            SeaTunnelRowType seaTunnelRowType,
+            HttpParameter httpParameter,
+            SerializationSchema serializationSchema,
+            HttpClientProvider httpClient) {
         this.seaTunnelRowType = seaTunnelRowType;
         this.httpParameter = httpParameter;
-        this.httpClient = new HttpClientProvider(httpParameter);
+        this.httpClient = httpClient;
         this.serializationSchema = serializationSchema;
     }
 
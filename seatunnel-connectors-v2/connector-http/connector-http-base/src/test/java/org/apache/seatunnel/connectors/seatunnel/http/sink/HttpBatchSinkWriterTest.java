@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.http.sink;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchMode;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpBatchParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.config.HttpParameter;
+import org.apache.seatunnel.connectors.seatunnel.http.exception.HttpConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HttpBatchSinkWriterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private HttpServer server;
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final List<String> contentTypes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private volatile int failureStatus = 503;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/sink",
+                exchange -> {
+                    String body = readBody(exchange.getRequestBody());
+                    int status = 200;
+                    if (failuresBeforeSuccess.getAndDecrement() > 0) {
+                        status = failureStatus;
+                    } else {
+                        bodies.add(body);
+                        contentTypes.add(exchange.getRequestHeaders().getFirst("Content-Type"));
+                    }
+                    exchange.sendResponseHeaders(status, 0);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write("{}".getBytes(StandardCharsets.UTF_8));
+                    }
+                });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void testJsonArrayBatchesFlushedOnPrepareCommit() throws IOException {
+        HttpBatchSinkWriter writer = createWriter(HttpBatchMode.JSON_ARRAY, 2, 0);
+        for (int i = 0; i < 5; i++) {
+            writer.write(new SeaTunnelRow(new Object[] {i, "name" + i}));
+        }
+        writer.prepareCommit();
+
+        Assertions.assertEquals(3, bodies.size());
+        Assertions.assertEquals(
+                5, bodies.stream().mapToInt(body -> body.split("\"id\"").length - 1).sum());
+        bodies.forEach(body -> Assertions.assertTrue(body.startsWith("[{") && body.endsWith("}]")));
+        Assertions.assertTrue(contentTypes.get(0).startsWith("application/json"));
+        writer.close();
+    }
+
+    @Test
+    void testNdjsonBatchRetriedAfterServerError() throws IOException {
+        failuresBeforeSuccess.set(2);
+        HttpBatchSinkWriter writer = createWriter(HttpBatchMode.NDJSON, 10, 3);
+        writer.write(new SeaTunnelRow(new Object[] {1, "a"}));
+        writer.write(new SeaTunnelRow(new Object[] {2, "b"}));
+        writer.prepareCommit();
+
+        Assertions.assertEquals(1, bodies.size());
+        Assertions.assertEquals(
+                "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n", bodies.get(0));
+        Assertions.assertTrue(contentTypes.get(0).startsWith("application/x-ndjson"));
+        writer.close();
+    }
+
+    @Test
+    void testClientErrorFailsPrepareCommit() throws IOException {
+        failureStatus = 400;
+        failuresBeforeSuccess.set(1);
+        HttpBatchSinkWriter writer = createWriter(HttpBatchMode.JSON_ARRAY, 10, 3);
+        writer.write(new SeaTunnelRow(new Object[] {1, "a"}));
+
+        Assertions.assertThrows(HttpConnectorException.class, writer::prepareCommit);
+        Assertions.assertTrue(bodies.isEmpty());
+        Assertions.assertThrows(
+                HttpConnectorException.class,
+                () -> writer.write(new SeaTunnelRow(new Object[] {2, "b"})));
+        writer.close();
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] bytes = new byte[4096];
+        int read;
+        while ((read = in.read(bytes)) != -1) {
+            out.write(bytes, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private HttpBatchSinkWriter createWriter(HttpBatchMode batchMode, int maxRows, int retry) {
+        HttpParameter httpParameter = new HttpParameter();
+        httpParameter.setUrl("http://localhost:" + server.getAddress().getPort() + "/sink");
+        httpParameter.setRetry(retry);
+        httpParameter.setRetryBackoffMultiplierMillis(10);
+        HttpBatchParameter batchParameter = new HttpBatchParameter();
+        batchParameter.setBatchMode(batchMode);
+        batchParameter.setMaxRows(maxRows);
+        batchParameter.setLingerMs(60000);
+        batchParameter.setMaxInFlightRequests(2);
+        return new HttpBatchSinkWriter(ROW_TYPE, httpParameter, batchParameter);
+    }
+}
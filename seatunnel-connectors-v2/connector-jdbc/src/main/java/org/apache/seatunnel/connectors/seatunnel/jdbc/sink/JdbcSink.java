@@ -28,6 +28,7 @@ import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
+import org.apache.seatunnel.api.sink.SupportPrimaryKeyPartition;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
 import org.apache.seatunnel.api.table.catalog.Catalog;
@@ -68,7 +69,8 @@ public class JdbcSink
         implements SeaTunnelSink<SeaTunnelRow, JdbcSinkState, XidInfo, JdbcAggregatedCommitInfo>,
                 SupportSaveMode,
                 SupportMultiTableSink,
-                SupportSchemaEvolutionSink {
+                SupportSchemaEvolutionSink,
+                SupportPrimaryKeyPartition {
 
     private final TableSchema tableSchema;
 
@@ -302,6 +304,13 @@ public class JdbcSink
         return Optional.ofNullable(catalogTable);
     }
 
+    @Override
+    public boolean partitionByPrimaryKey() {
+        // only upserts by key depend on the order of the rows with the same key
+        return jdbcSinkConfig.isEnableUpsert()
+                && SupportPrimaryKeyPartition.hasPrimaryKey(catalogTable);
+    }
+
     @Override
     public List<SchemaChangeType> supports() {
         return Arrays.asList(
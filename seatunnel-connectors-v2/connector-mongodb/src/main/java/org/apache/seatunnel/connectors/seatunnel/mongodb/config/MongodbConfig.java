@@ -151,6 +151,20 @@ public class MongodbConfig {
                             "The primary keys for upsert/update. Keys are in csv format for properties.")
                     .withFallbackKeys("upsert-key");
 
+    public static final Option<Boolean> BULK_WRITE_ORDERED =
+            Options.key("bulk-write.ordered")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to flush buffered rows with one ordered bulk write. Unordered bulk writes are partitioned by key and sent concurrently.");
+
+    public static final Option<Integer> BULK_WRITE_MAX_CONCURRENT_REQUESTS =
+            Options.key("bulk-write.max-concurrent-requests")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The max number of unordered bulk write requests sent concurrently by one writer.");
+
     public static final Option<Boolean> TRANSACTION =
             Options.key("transaction").booleanType().defaultValue(false).withDescription(".");
 }
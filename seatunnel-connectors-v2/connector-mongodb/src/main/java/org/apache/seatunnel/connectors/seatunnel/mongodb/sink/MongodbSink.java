@@ -100,6 +100,15 @@ public class MongodbSink
             if (pluginConfig.hasPath(MongodbConfig.TRANSACTION.key())) {
                 builder.withTransaction(pluginConfig.getBoolean(MongodbConfig.TRANSACTION.key()));
             }
+            if (pluginConfig.hasPath(MongodbConfig.BULK_WRITE_ORDERED.key())) {
+                builder.withOrderedWrite(
+                        pluginConfig.getBoolean(MongodbConfig.BULK_WRITE_ORDERED.key()));
+            }
+            if (pluginConfig.hasPath(MongodbConfig.BULK_WRITE_MAX_CONCURRENT_REQUESTS.key())) {
+                builder.withMaxConcurrentRequests(
+                        pluginConfig.getInt(
+                                MongodbConfig.BULK_WRITE_MAX_CONCURRENT_REQUESTS.key()));
+            }
             this.options = builder.build();
         }
     }
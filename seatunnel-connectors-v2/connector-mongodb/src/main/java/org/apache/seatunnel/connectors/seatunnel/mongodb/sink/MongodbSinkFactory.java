@@ -43,7 +43,9 @@ public class MongodbSinkFactory implements TableSinkFactory {
                         MongodbConfig.RETRY_MAX,
                         MongodbConfig.RETRY_INTERVAL,
                         MongodbConfig.UPSERT_ENABLE,
-                        MongodbConfig.PRIMARY_KEY)
+                        MongodbConfig.PRIMARY_KEY,
+                        MongodbConfig.BULK_WRITE_ORDERED,
+                        MongodbConfig.BULK_WRITE_MAX_CONCURRENT_REQUESTS)
                 .build();
     }
 }
@@ -0,0 +1,515 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Gauge;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.Unit;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.exception.MongodbConnectorException;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED;
+
+/**
+ * Flushes buffered write models with unordered bulk writes sent concurrently.
+ *
+ * <p>The models are partitioned into groups by key, so all operations on the same document land in
+ * the same group. A group is split into waves that are written one after another, an operation goes
+ * to the wave after the last one that already touches its key, which keeps the order of operations
+ * on one document while every wave can be written unordered. When the collection is sharded and the
+ * key covers the shard key, groups follow the shard key values so a bulk request mostly targets a
+ * single shard. Inserts of documents without the key, e.g. appends that leave the {@code _id} to
+ * the server, create a new document no other operation can address by key, so they are spread
+ * round robin over the first wave of the groups.
+ *
+ * <p>Other operations that don't target a single document by key, e.g. {@link UpdateManyModel}
+ * and {@link DeleteManyModel}, may touch documents of any group. They are written as an ordered
+ * barrier: all operations before them are written first, and the operations after them only once
+ * they are applied.
+ */
+@Slf4j
+class MongodbUnorderedBulkWriter implements AutoCloseable {
+
+    private static final String BULK_WRITE_REQUESTS = "MongodbBulkWriteRequests";
+    private static final String BULK_WRITE_TIME_MS = "MongodbBulkWriteTimeMs";
+    private static final String BULK_WRITE_MAX_LATENCY_MS = "MongodbBulkWriteMaxLatencyMs";
+    private static final String WRITE_ERRORS = "MongodbWriteErrors";
+    private static final String RETRIED_OPERATIONS = "MongodbRetriedOperations";
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String RETRYABLE_WRITE_ERROR_LABEL = "RetryableWriteError";
+
+    /**
+     * Server error codes of failures that may succeed when retried, e.g. a primary stepping down or
+     * a write conflict. Others like a duplicate key (11000) fail the same way on every attempt.
+     */
+    private static final Set<Integer> TRANSIENT_ERROR_CODES =
+            new HashSet<>(
+                    Arrays.asList(
+                            6, // HostUnreachable
+                            7, // HostNotFound
+                            50, // MaxTimeMSExpired
+                            89, // NetworkTimeout
+                            91, // ShutdownInProgress
+                            112, // WriteConflict
+                            189, // PrimarySteppedDown
+                            262, // ExceededTimeLimit
+                            9001, // SocketException
+                            10107, // NotWritablePrimary
+                            11600, // InterruptedAtShutdown
+                            11602, // InterruptedDueToReplStateChange
+                            13435, // NotPrimaryNoSecondaryOk
+                            13436 // NotPrimaryOrSecondary
+                            ));
+
+    private final MongoCollection<BsonDocument> collection;
+
+    private final List<String> keyFields;
+
+    private final List<String> shardKeyFields;
+
+    private final int parallelism;
+
+    private final int maxRetries;
+
+    private final long retryIntervalMs;
+
+    private final ExecutorService executor;
+
+    private final Counter bulkWriteRequests;
+    private final Counter bulkWriteTimeMs;
+    private final MaxLatencyGauge bulkWriteMaxLatencyMs;
+    private final Counter writeErrors;
+    private final Counter retriedOperations;
+
+    MongodbUnorderedBulkWriter(
+            MongoCollection<BsonDocument> collection,
+            String[] primaryKey,
+            List<String> shardKeyFields,
+            int parallelism,
+            int maxRetries,
+            long retryIntervalMs,
+            MetricsContext metricsContext) {
+        this.collection = collection;
+        this.keyFields =
+                primaryKey == null || primaryKey.length == 0
+                        ? Collections.singletonList(ID_FIELD)
+                        : Collections.unmodifiableList(Arrays.asList(primaryKey.clone()));
+        // routing by shard key is only safe when every shard key field is part of the key
+        this.shardKeyFields =
+                !shardKeyFields.isEmpty() && keyFields.containsAll(shardKeyFields)
+                        ? shardKeyFields
+                        : Collections.emptyList();
+        this.parallelism = Math.max(1, parallelism);
+        this.maxRetries = maxRetries;
+        this.retryIntervalMs = retryIntervalMs;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor =
+                Executors.newFixedThreadPool(
+                        this.parallelism,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "mongodb-bulk-writer-"
+                                                    + threadCounter.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.bulkWriteRequests = metricsContext.counter(BULK_WRITE_REQUESTS);
+        this.bulkWriteTimeMs = metricsContext.counter(BULK_WRITE_TIME_MS);
+        this.bulkWriteMaxLatencyMs =
+                metricsContext.gauge(
+                        BULK_WRITE_MAX_LATENCY_MS, new MaxLatencyGauge(BULK_WRITE_MAX_LATENCY_MS));
+        this.writeErrors = metricsContext.counter(WRITE_ERRORS);
+        this.retriedOperations = metricsContext.counter(RETRIED_OPERATIONS);
+    }
+
+    void write(List<WriteModel<BsonDocument>> models) {
+        List<WriteModel<BsonDocument>> keyed = new ArrayList<>(models.size());
+        List<BsonDocument> keys = new ArrayList<>(models.size());
+        List<WriteModel<BsonDocument>> barrier = new ArrayList<>();
+        for (WriteModel<BsonDocument> model : models) {
+            BsonDocument key = extractKey(model);
+            if (isBarrier(model, key)) {
+                if (!keyed.isEmpty()) {
+                    writeConcurrently(partition(keyed, keys));
+                    keyed = new ArrayList<>();
+                    keys = new ArrayList<>();
+                }
+                barrier.add(model);
+                continue;
+            }
+            if (!barrier.isEmpty()) {
+                writeWave(barrier, true);
+                barrier = new ArrayList<>();
+            }
+            keyed.add(model);
+            keys.add(key);
+        }
+        if (!barrier.isEmpty()) {
+            writeWave(barrier, true);
+        }
+        if (!keyed.isEmpty()) {
+            writeConcurrently(partition(keyed, keys));
+        }
+    }
+
+    private void writeConcurrently(List<List<List<WriteModel<BsonDocument>>>> groups) {
+        if (groups.size() == 1) {
+            writeGroup(groups.get(0));
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (List<List<WriteModel<BsonDocument>>> group : groups) {
+            futures.add(executor.submit(() -> writeGroup(group)));
+        }
+        MongodbConnectorException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongodbConnectorException(
+                        WRITER_OPERATION_FAILED,
+                        "Interrupted while waiting for bulk writes to MongoDB",
+                        e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure =
+                            e.getCause() instanceof MongodbConnectorException
+                                    ? (MongodbConnectorException) e.getCause()
+                                    : new MongodbConnectorException(
+                                            WRITER_OPERATION_FAILED,
+                                            "Bulk Write to MongoDB failed",
+                                            e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Splits the models, which must all target a document by key or insert a keyless document,
+     * into at most {@code parallelism} groups of waves. Operations sharing a key always fall into
+     * the same group, and into strictly increasing waves in arrival order.
+     */
+    List<List<List<WriteModel<BsonDocument>>>> partition(List<WriteModel<BsonDocument>> models) {
+        List<BsonDocument> keys = new ArrayList<>(models.size());
+        for (WriteModel<BsonDocument> model : models) {
+            BsonDocument key = extractKey(model);
+            if (isBarrier(model, key)) {
+                throw new IllegalArgumentException("The write model has no key: " + model);
+            }
+            keys.add(key);
+        }
+        return partition(models, keys);
+    }
+
+    private List<List<List<WriteModel<BsonDocument>>>> partition(
+            List<WriteModel<BsonDocument>> models, List<BsonDocument> keys) {
+        List<List<List<WriteModel<BsonDocument>>>> groups = new ArrayList<>(parallelism);
+        List<Map<BsonDocument, Integer>> lastWaves = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            groups.add(new ArrayList<>());
+            lastWaves.add(new HashMap<>());
+        }
+        int keylessInserts = 0;
+        for (int i = 0; i < models.size(); i++) {
+            BsonDocument key = keys.get(i);
+            int group;
+            int wave;
+            if (key == null) {
+                group = keylessInserts++ % parallelism;
+                wave = 0;
+            } else {
+                group = Math.floorMod(routingKey(key).hashCode(), parallelism);
+                Integer last = lastWaves.get(group).get(key);
+                wave = last == null ? 0 : last + 1;
+                lastWaves.get(group).put(key, wave);
+            }
+            List<List<WriteModel<BsonDocument>>> waves = groups.get(group);
+            if (wave == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(wave).add(models.get(i));
+        }
+        return groups.stream().filter(waves -> !waves.isEmpty()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the key fields of the document an operation targets, or null when the operation does
+     * not identify a single document by key.
+     */
+    BsonDocument extractKey(WriteModel<BsonDocument> model) {
+        BsonDocument source;
+        if (model instanceof InsertOneModel) {
+            source = ((InsertOneModel<BsonDocument>) model).getDocument();
+        } else if (model instanceof UpdateOneModel) {
+            source = flattenFilter(((UpdateOneModel<BsonDocument>) model).getFilter());
+        } else if (model instanceof ReplaceOneModel) {
+            source = flattenFilter(((ReplaceOneModel<BsonDocument>) model).getFilter());
+        } else if (model instanceof DeleteOneModel) {
+            source = flattenFilter(((DeleteOneModel<BsonDocument>) model).getFilter());
+        } else if (model instanceof UpdateManyModel) {
+            source = flattenFilter(((UpdateManyModel<BsonDocument>) model).getFilter());
+        } else if (model instanceof DeleteManyModel) {
+            source = flattenFilter(((DeleteManyModel<BsonDocument>) model).getFilter());
+        } else {
+            return null;
+        }
+        BsonDocument key = new BsonDocument();
+        for (String field : keyFields) {
+            BsonValue value = source.get(field);
+            if (value == null) {
+                return null;
+            }
+            key.append(field, value);
+        }
+        return key;
+    }
+
+    /**
+     * Whether the operation may touch documents of any group and must be written as an ordered
+     * barrier. An insert without the key only creates a new document, so it is never a barrier.
+     */
+    private static boolean isBarrier(WriteModel<BsonDocument> model, BsonDocument key) {
+        return key == null && !(model instanceof InsertOneModel);
+    }
+
+    private Object routingKey(BsonDocument key) {
+        if (shardKeyFields.isEmpty()) {
+            return key;
+        }
+        BsonDocument shardKey = new BsonDocument();
+        shardKeyFields.forEach(field -> shardKey.append(field, key.get(field)));
+        return shardKey;
+    }
+
+    private static BsonDocument flattenFilter(Bson filter) {
+        BsonDocument document =
+                filter.toBsonDocument(
+                        BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+        BsonValue and = document.get("$and");
+        if (and == null || !and.isArray()) {
+            return document;
+        }
+        BsonDocument flattened = new BsonDocument();
+        for (BsonValue clause : (BsonArray) and) {
+            if (clause.isDocument()) {
+                clause.asDocument().forEach(flattened::append);
+            }
+        }
+        return flattened;
+    }
+
+    private void writeGroup(List<List<WriteModel<BsonDocument>>> waves) {
+        for (List<WriteModel<BsonDocument>> wave : waves) {
+            writeWave(wave, false);
+        }
+    }
+
+    /**
+     * Writes one bulk and retries the operations that failed with a transient error. An ordered
+     * bulk stops at the first failed operation, so the operations after it are retried too.
+     */
+    private void writeWave(List<WriteModel<BsonDocument>> wave, boolean ordered) {
+        List<WriteModel<BsonDocument>> pending = wave;
+        for (int attempt = 0; ; attempt++) {
+            long start = System.currentTimeMillis();
+            try {
+                collection.bulkWrite(pending, new BulkWriteOptions().ordered(ordered));
+                recordLatency(start);
+                return;
+            } catch (MongoBulkWriteException e) {
+                recordLatency(start);
+                List<BulkWriteError> errors = e.getWriteErrors();
+                if (errors.isEmpty()) {
+                    // the operations were applied, only the write concern was not satisfied
+                    writeErrors.inc();
+                    throw new MongodbConnectorException(
+                            WRITER_OPERATION_FAILED,
+                            "Bulk Write to MongoDB failed on write concern",
+                            e);
+                }
+                writeErrors.inc(errors.size());
+                log.debug(
+                        "{} of {} operations failed in bulk write to MongoDB, retry times = {}",
+                        errors.size(),
+                        pending.size(),
+                        attempt,
+                        e);
+                if (attempt >= maxRetries
+                        || !errors.stream().allMatch(error -> isTransient(error.getCode()))) {
+                    throw new MongodbConnectorException(
+                            WRITER_OPERATION_FAILED, "Bulk Write to MongoDB failed", e);
+                }
+                List<WriteModel<BsonDocument>> failed;
+                if (ordered) {
+                    failed =
+                            new ArrayList<>(
+                                    pending.subList(errors.get(0).getIndex(), pending.size()));
+                } else {
+                    failed = new ArrayList<>(errors.size());
+                    for (BulkWriteError error : errors) {
+                        failed.add(pending.get(error.getIndex()));
+                    }
+                }
+                pending = failed;
+                retriedOperations.inc(failed.size());
+            } catch (MongoException e) {
+                recordLatency(start);
+                writeErrors.inc();
+                log.debug("Bulk Write to MongoDB failed, retry times = {}", attempt, e);
+                if (attempt >= maxRetries || !isTransient(e)) {
+                    throw new MongodbConnectorException(
+                            WRITER_OPERATION_FAILED, "Bulk Write to MongoDB failed", e);
+                }
+                retriedOperations.inc(pending.size());
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(retryIntervalMs * (attempt + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongodbConnectorException(
+                        WRITER_OPERATION_FAILED,
+                        "Unable to flush; interrupted while doing another attempt",
+                        e);
+            }
+        }
+    }
+
+    private static boolean isTransient(int code) {
+        return TRANSIENT_ERROR_CODES.contains(code);
+    }
+
+    private static boolean isTransient(MongoException e) {
+        return e instanceof MongoSocketException
+                || e instanceof MongoTimeoutException
+                || e.hasErrorLabel(RETRYABLE_WRITE_ERROR_LABEL)
+                || isTransient(e.getCode());
+    }
+
+    private void recordLatency(long start) {
+        long latency = System.currentTimeMillis() - start;
+        bulkWriteRequests.inc();
+        bulkWriteTimeMs.inc(latency);
+        bulkWriteMaxLatencyMs.record(latency);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The maximum bulk write latency seen in the current and the previous window, so a single slow
+     * request is reported for at least one window and not for the rest of the job.
+     */
+    static class MaxLatencyGauge implements Gauge {
+
+        private static final long serialVersionUID = 1L;
+
+        static final long WINDOW_MS = 60_000;
+
+        private final String name;
+
+        private long windowStart = System.currentTimeMillis();
+
+        private long currentMax;
+
+        private long previousMax;
+
+        MaxLatencyGauge(String name) {
+            this.name = name;
+        }
+
+        synchronized void record(long latency) {
+            roll();
+            currentMax = Math.max(currentMax, latency);
+        }
+
+        @Override
+        public synchronized long getValue() {
+            roll();
+            return Math.max(currentMax, previousMax);
+        }
+
+        private void roll() {
+            long elapsed = System.currentTimeMillis() - windowStart;
+            if (elapsed < WINDOW_MS) {
+                return;
+            }
+            // the previous window is empty when no request was written for a whole window
+            previousMax = elapsed < 2 * WINDOW_MS ? currentMax : 0;
+            currentMax = 0;
+            windowStart += elapsed - elapsed % WINDOW_MS;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Unit unit() {
+            return Unit.MS;
+        }
+    }
+}
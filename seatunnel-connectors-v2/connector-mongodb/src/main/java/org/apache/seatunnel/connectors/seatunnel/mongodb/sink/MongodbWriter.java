@@ -28,15 +28,18 @@ import org.apache.seatunnel.connectors.seatunnel.mongodb.sink.state.DocumentBulk
 import org.apache.seatunnel.connectors.seatunnel.mongodb.sink.state.MongodbCommitInfo;
 
 import org.bson.BsonDocument;
+import org.bson.Document;
 
 import com.mongodb.MongoException;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -67,15 +70,16 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
 
     private boolean transaction;
 
-    // TODO：Reserve parameters.
+    private MongodbUnorderedBulkWriter unorderedBulkWriter;
+
     private final SinkWriter.Context context;
 
     public MongodbWriter(
             DocumentSerializer<SeaTunnelRow> serializer,
             MongodbWriterOptions options,
             SinkWriter.Context context) {
-        initOptions(options);
         this.context = context;
+        initOptions(options);
         this.serializer = serializer;
         this.bulkRequests = new ArrayList<>();
     }
@@ -92,6 +96,42 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
         this.bulkActions = options.getFlushSize();
         this.batchIntervalMs = options.getBatchIntervalMs();
         this.transaction = options.transaction;
+        if (!transaction && !options.isOrderedWrite()) {
+            this.unorderedBulkWriter =
+                    new MongodbUnorderedBulkWriter(
+                            collectionProvider.getDefaultCollection(),
+                            options.getPrimaryKey(),
+                            lookupShardKeyFields(options),
+                            options.getMaxConcurrentRequests(),
+                            maxRetries,
+                            retryIntervalMs,
+                            context.getMetricsContext());
+        }
+    }
+
+    private List<String> lookupShardKeyFields(MongodbWriterOptions options) {
+        String namespace = options.getDatabase() + "." + options.getCollection();
+        try {
+            Document metadata =
+                    collectionProvider
+                            .getClient()
+                            .getDatabase("config")
+                            .getCollection("collections")
+                            .find(Filters.eq("_id", namespace))
+                            .first();
+            if (metadata == null
+                    || metadata.getBoolean("dropped", false)
+                    || !(metadata.get("key") instanceof Document)) {
+                return Collections.emptyList();
+            }
+            List<String> shardKeyFields =
+                    new ArrayList<>(((Document) metadata.get("key")).keySet());
+            log.info("Collection {} is sharded by {}", namespace, shardKeyFields);
+            return shardKeyFields;
+        } catch (MongoException e) {
+            log.warn("Unable to read shard key of {}, treat it as unsharded", namespace, e);
+            return Collections.emptyList();
+        }
     }
 
     @Override
@@ -151,6 +191,9 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
         if (!transaction) {
             doBulkWrite();
         }
+        if (unorderedBulkWriter != null) {
+            unorderedBulkWriter.close();
+        }
         if (collectionProvider != null) {
             collectionProvider.close();
         }
@@ -162,6 +205,13 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
             return;
         }
 
+        if (unorderedBulkWriter != null) {
+            lastSendTime = System.currentTimeMillis();
+            unorderedBulkWriter.write(bulkRequests);
+            bulkRequests.clear();
+            return;
+        }
+
         boolean success =
                 IntStream.rangeClosed(0, maxRetries)
                         .anyMatch(
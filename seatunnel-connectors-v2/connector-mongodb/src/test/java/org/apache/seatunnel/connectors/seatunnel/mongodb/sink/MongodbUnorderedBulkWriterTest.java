@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.exception.MongodbConnectorException;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MongodbUnorderedBulkWriterTest {
+
+    @Test
+    void testPartitionKeepsOrderOfSameKey() {
+        MongodbUnorderedBulkWriter writer =
+                newWriter(mock(MongoCollection.class), Collections.emptyList(), 4, 0);
+        WriteModel<BsonDocument> insert = insert(1, "a");
+        WriteModel<BsonDocument> update = upsert(1, "b");
+        WriteModel<BsonDocument> delete = delete(1);
+        List<WriteModel<BsonDocument>> models = new ArrayList<>();
+        models.add(insert);
+        for (int i = 2; i < 20; i++) {
+            models.add(insert(i, "x"));
+        }
+        models.add(update);
+        models.add(delete);
+
+        List<List<List<WriteModel<BsonDocument>>>> groups = writer.partition(models);
+        Assertions.assertTrue(groups.size() > 1);
+        Assertions.assertEquals(
+                models.size(), groups.stream().flatMap(List::stream).mapToInt(List::size).sum());
+
+        List<List<WriteModel<BsonDocument>>> sameKeyGroup =
+                groups.stream()
+                        .filter(group -> group.get(0).contains(insert))
+                        .findFirst()
+                        .orElseThrow(IllegalStateException::new);
+        Assertions.assertEquals(3, sameKeyGroup.size());
+        Assertions.assertTrue(sameKeyGroup.get(1).contains(update));
+        Assertions.assertTrue(sameKeyGroup.get(2).contains(delete));
+        groups.stream()
+                .filter(group -> group != sameKeyGroup)
+                .forEach(group -> Assertions.assertEquals(1, group.size()));
+        writer.close();
+    }
+
+    @Test
+    void testExtractKeyFromFilter() {
+        MongodbUnorderedBulkWriter writer =
+                newWriter(mock(MongoCollection.class), Collections.emptyList(), 2, 0);
+        BsonDocument expected = new BsonDocument("id", new BsonInt32(7));
+        Assertions.assertEquals(expected, writer.extractKey(insert(7, "a")));
+        Assertions.assertEquals(expected, writer.extractKey(upsert(7, "a")));
+        Assertions.assertEquals(expected, writer.extractKey(delete(7)));
+        Assertions.assertNull(
+                writer.extractKey(new InsertOneModel<>(new BsonDocument("v", new BsonInt32(1)))));
+        writer.close();
+    }
+
+    @Test
+    void testPartitionByShardKey() {
+        MongodbUnorderedBulkWriter writer =
+                new MongodbUnorderedBulkWriter(
+                        mock(MongoCollection.class),
+                        new String[] {"id", "region"},
+                        Collections.singletonList("region"),
+                        4,
+                        0,
+                        0,
+                        metricsContext());
+        List<WriteModel<BsonDocument>> models = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            models.add(
+                    new InsertOneModel<>(
+                            new BsonDocument("id", new BsonInt32(i))
+                                    .append("region", new BsonString("eu"))));
+        }
+        List<List<List<WriteModel<BsonDocument>>>> groups = writer.partition(models);
+        Assertions.assertEquals(1, groups.size());
+        Assertions.assertEquals(1, groups.get(0).size());
+        Assertions.assertEquals(20, groups.get(0).get(0).size());
+        writer.close();
+    }
+
+    @Test
+    void testRetryOnlyFailedOperations() {
+        MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        List<List<WriteModel<BsonDocument>>> requests = new ArrayList<>();
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            List<WriteModel<BsonDocument>> models = invocation.getArgument(0);
+                            requests.add(new ArrayList<>(models));
+                            if (requests.size() == 1) {
+                                throw bulkWriteException(112, 1);
+                            }
+                            return BulkWriteResult.unacknowledged();
+                        });
+        MongodbUnorderedBulkWriter writer = newWriter(collection, Collections.emptyList(), 1, 1);
+        WriteModel<BsonDocument> failed = upsert(2, "b");
+        writer.write(Arrays.asList(insert(1, "a"), failed, insert(3, "c")));
+
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertEquals(3, requests.get(0).size());
+        Assertions.assertEquals(Collections.singletonList(failed), requests.get(1));
+        writer.close();
+    }
+
+    @Test
+    void testNoRetryOnDuplicateKey() {
+        MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        List<List<WriteModel<BsonDocument>>> requests = new ArrayList<>();
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            requests.add(new ArrayList<>(invocation.getArgument(0)));
+                            throw bulkWriteException(11000, 0);
+                        });
+        MongodbUnorderedBulkWriter writer = newWriter(collection, Collections.emptyList(), 1, 3);
+        Assertions.assertThrows(
+                MongodbConnectorException.class,
+                () -> writer.write(Collections.singletonList(insert(1, "a"))));
+        Assertions.assertEquals(1, requests.size());
+        writer.close();
+    }
+
+    @Test
+    void testKeylessOperationIsOrderedBarrier() {
+        MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        List<List<WriteModel<BsonDocument>>> requests = new ArrayList<>();
+        List<Boolean> ordered = new ArrayList<>();
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            requests.add(new ArrayList<>(invocation.getArgument(0)));
+                            ordered.add(
+                                    invocation.<BulkWriteOptions>getArgument(1).isOrdered());
+                            return BulkWriteResult.unacknowledged();
+                        });
+        MongodbUnorderedBulkWriter writer = newWriter(collection, Collections.emptyList(), 1, 0);
+        WriteModel<BsonDocument> updateMany =
+                new UpdateManyModel<>(
+                        Filters.eq("value", "a"),
+                        new BsonDocument("$set", new BsonDocument("value", new BsonString("b"))));
+        WriteModel<BsonDocument> after = insert(3, "a");
+        writer.write(Arrays.asList(insert(1, "a"), insert(2, "a"), updateMany, after));
+
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertEquals(2, requests.get(0).size());
+        Assertions.assertEquals(Collections.singletonList(updateMany), requests.get(1));
+        Assertions.assertEquals(Collections.singletonList(after), requests.get(2));
+        Assertions.assertEquals(Arrays.asList(false, true, false), ordered);
+        writer.close();
+    }
+
+    @Test
+    void testKeylessInsertsAreSpreadUnordered() {
+        MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        List<List<WriteModel<BsonDocument>>> requests =
+                Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> ordered = Collections.synchronizedList(new ArrayList<>());
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            requests.add(new ArrayList<>(invocation.getArgument(0)));
+                            ordered.add(
+                                    invocation.<BulkWriteOptions>getArgument(1).isOrdered());
+                            return BulkWriteResult.unacknowledged();
+                        });
+        MongodbUnorderedBulkWriter writer = newWriter(collection, Collections.emptyList(), 4, 0);
+        List<WriteModel<BsonDocument>> models = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            models.add(new InsertOneModel<>(new BsonDocument("value", new BsonInt32(i))));
+        }
+
+        List<List<List<WriteModel<BsonDocument>>>> groups = writer.partition(models);
+        Assertions.assertEquals(4, groups.size());
+        groups.forEach(group -> Assertions.assertEquals(1, group.size()));
+        groups.forEach(group -> Assertions.assertEquals(2, group.get(0).size()));
+
+        writer.write(models);
+        Assertions.assertEquals(4, requests.size());
+        Assertions.assertEquals(models.size(), requests.stream().mapToInt(List::size).sum());
+        Assertions.assertFalse(ordered.contains(true));
+        writer.close();
+    }
+
+    @Test
+    void testMaxLatencyGauge() {
+        MongodbUnorderedBulkWriter.MaxLatencyGauge gauge =
+                new MongodbUnorderedBulkWriter.MaxLatencyGauge("latency");
+        gauge.record(30);
+        gauge.record(10);
+        Assertions.assertEquals(30, gauge.getValue());
+    }
+
+    @Test
+    void testFailAfterMaxRetries() {
+        MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+                .thenThrow(bulkWriteException(112, 0));
+        MongodbUnorderedBulkWriter writer = newWriter(collection, Collections.emptyList(), 1, 1);
+        Assertions.assertThrows(
+                MongodbConnectorException.class,
+                () -> writer.write(Collections.singletonList(insert(1, "a"))));
+        writer.close();
+    }
+
+    private static MongodbUnorderedBulkWriter newWriter(
+            MongoCollection<BsonDocument> collection,
+            List<String> shardKeyFields,
+            int parallelism,
+            int maxRetries) {
+        return new MongodbUnorderedBulkWriter(
+                collection,
+                new String[] {"id"},
+                shardKeyFields,
+                parallelism,
+                maxRetries,
+                0,
+                metricsContext());
+    }
+
+    private static MetricsContext metricsContext() {
+        return new AbstractMetricsContext() {};
+    }
+
+    private static MongoBulkWriteException bulkWriteException(int code, int failedIndex) {
+        return new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(),
+                Collections.singletonList(
+                        new BulkWriteError(code, "write failed", new BsonDocument(), failedIndex)),
+                null,
+                new ServerAddress(),
+                Collections.emptySet());
+    }
+
+    private static WriteModel<BsonDocument> insert(int id, String value) {
+        return new InsertOneModel<>(
+                new BsonDocument("id", new BsonInt32(id)).append("value", new BsonString(value)));
+    }
+
+    private static WriteModel<BsonDocument> upsert(int id, String value) {
+        return new UpdateOneModel<>(
+                Filters.and(Filters.eq("id", id)),
+                new BsonDocument("$set", new BsonDocument("value", new BsonString(value))),
+                new UpdateOptions().upsert(true));
+    }
+
+    private static WriteModel<BsonDocument> delete(int id) {
+        return new DeleteOneModel<>(Filters.and(Filters.eq("id", id)));
+    }
+}
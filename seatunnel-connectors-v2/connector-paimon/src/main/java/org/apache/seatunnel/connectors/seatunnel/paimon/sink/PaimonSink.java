@@ -26,6 +26,7 @@ import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
+import org.apache.seatunnel.api.sink.SupportPrimaryKeyPartition;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -57,7 +58,8 @@ public class PaimonSink
                 SupportSaveMode,
                 SupportMultiTableSink,
                 SupportLoadTable<Table>,
-                SupportSchemaEvolutionSink {
+                SupportSchemaEvolutionSink,
+                SupportPrimaryKeyPartition {
 
     private static final long serialVersionUID = 1L;
 
@@ -157,6 +159,12 @@ public class PaimonSink
         return Optional.ofNullable(catalogTable);
     }
 
+    @Override
+    public boolean partitionByPrimaryKey() {
+        return !paimonSinkConfig.getPrimaryKeys().isEmpty()
+                || SupportPrimaryKeyPartition.hasPrimaryKey(catalogTable);
+    }
+
     @Override
     public List<SchemaChangeType> supports() {
         return Arrays.asList(
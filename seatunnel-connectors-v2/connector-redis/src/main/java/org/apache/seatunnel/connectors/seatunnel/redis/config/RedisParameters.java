@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisNodeClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisSingleClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
 
@@ -35,6 +36,7 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -130,6 +132,42 @@ public class RedisParameters implements Serializable {
         }
     }
 
+    /**
+     * Build a client connected directly to one node of the cluster, so the keys scanned on the node
+     * can be read with pipelines.
+     */
+    public RedisNodeClient buildRedisNodeClient(String nodeHost, int nodePort) {
+        Jedis jedis = buildNodeJedis(new HostAndPort(nodeHost, nodePort));
+        return new RedisNodeClient(this, jedis, extractRedisVersion(jedis));
+    }
+
+    public Jedis buildNodeJedis(HostAndPort node) {
+        Jedis jedis = new Jedis(node);
+        if (StringUtils.isNotBlank(auth)) {
+            jedis.auth(auth);
+        }
+        if (StringUtils.isNotBlank(user)) {
+            jedis.aclSetUser(user);
+        }
+        return jedis;
+    }
+
+    public List<HostAndPort> getClusterNodes() {
+        Assert.requireNonEmpty(redisNodes, "nodes parameter must not be empty");
+        List<HostAndPort> nodes = new ArrayList<>(redisNodes.size());
+        for (String redisNode : redisNodes) {
+            String[] splits = redisNode.split(":");
+            if (splits.length != 2) {
+                throw new RedisConnectorException(
+                        INVALID_CONFIG,
+                        "Invalid redis node information,"
+                                + "redis node information must like as the following: [host:port]");
+            }
+            nodes.add(new HostAndPort(splits[0], Integer.parseInt(splits[1])));
+        }
+        return nodes;
+    }
+
     private int extractRedisVersion(Jedis jedis) {
         log.info("Try to get redis version information from the jedis.info() method");
         // # Server
@@ -171,20 +209,7 @@ public class RedisParameters implements Serializable {
                 jedis.select(dbNum);
                 return jedis;
             case CLUSTER:
-                HashSet<HostAndPort> nodes = new HashSet<>();
-                Assert.requireNonEmpty(redisNodes, "nodes parameter must not be empty");
-                for (String redisNode : redisNodes) {
-                    String[] splits = redisNode.split(":");
-                    if (splits.length != 2) {
-                        throw new RedisConnectorException(
-                                INVALID_CONFIG,
-                                "Invalid redis node information,"
-                                        + "redis node information must like as the following: [host:port]");
-                    }
-                    HostAndPort hostAndPort =
-                            new HostAndPort(splits[0], Integer.parseInt(splits[1]));
-                    nodes.add(hostAndPort);
-                }
+                HashSet<HostAndPort> nodes = new HashSet<>(getClusterNodes());
                 ConnectionPoolConfig connectionPoolConfig = new ConnectionPoolConfig();
                 JedisCluster jedisCluster;
                 if (StringUtils.isNotBlank(auth)) {
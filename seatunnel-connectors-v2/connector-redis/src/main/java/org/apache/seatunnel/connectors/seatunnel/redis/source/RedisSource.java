@@ -24,22 +24,27 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.options.SinkConnectorCommonOptions;
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitSource;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisBaseOptions;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.redis.state.RedisSourceState;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
+import java.util.Collections;
 import java.util.List;
 
-public class RedisSource extends AbstractSingleSplitSource<SeaTunnelRow> {
+public class RedisSource
+        implements SeaTunnelSource<SeaTunnelRow, RedisSourceSplit, RedisSourceState>,
+                SupportParallelism {
     private final RedisParameters redisParameters = new RedisParameters();
     private SeaTunnelRowType seaTunnelRowType;
     private DeserializationSchema<SeaTunnelRow> deserializationSchema;
@@ -92,8 +97,23 @@ public class RedisSource extends AbstractSingleSplitSource<SeaTunnelRow> {
     }
 
     @Override
-    public AbstractSingleSplitReader<SeaTunnelRow> createReader(
-            SingleSplitReaderContext readerContext) throws Exception {
+    public SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> createEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext) {
+        return new RedisSourceSplitEnumerator(
+                enumeratorContext, redisParameters, Collections.emptySet());
+    }
+
+    @Override
+    public SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> restoreEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext,
+            RedisSourceState checkpointState) {
+        return new RedisSourceSplitEnumerator(
+                enumeratorContext, redisParameters, checkpointState.getAssignedSplits());
+    }
+
+    @Override
+    public SourceReader<SeaTunnelRow, RedisSourceSplit> createReader(
+            SourceReader.Context readerContext) {
         return new RedisSourceReader(redisParameters, readerContext, deserializationSchema);
     }
 }
@@ -19,12 +19,12 @@ package org.apache.seatunnel.connectors.seatunnel.redis.source;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.utils.JsonUtils;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisNodeClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisSourceOptions;
@@ -32,24 +32,35 @@ import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorE
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.ScanResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
-public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+@Slf4j
+public class RedisSourceReader implements SourceReader<SeaTunnelRow, RedisSourceSplit> {
     private final RedisParameters redisParameters;
-    private final SingleSplitReaderContext context;
+    private final SourceReader.Context context;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private final Deque<RedisSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    /** Clients of the cluster master nodes, keyed by host:port. */
+    private final Map<String, RedisNodeClient> nodeClients = new HashMap<>();
+
     private RedisClient redisClient;
+    private volatile boolean noMoreSplit;
 
     public RedisSourceReader(
             RedisParameters redisParameters,
-            SingleSplitReaderContext context,
+            SourceReader.Context context,
             DeserializationSchema<SeaTunnelRow> deserializationSchema) {
         this.redisParameters = redisParameters;
         this.context = context;
@@ -57,61 +68,116 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
     }
 
     @Override
-    public void open() throws Exception {
-        this.redisClient = redisParameters.buildRedisClient();
-    }
+    public void open() throws Exception {}
 
     @Override
     public void close() throws IOException {
         if (Objects.nonNull(redisClient)) {
             redisClient.close();
         }
+        nodeClients.values().forEach(RedisClient::close);
     }
 
     @Override
-    public void internalPollNext(Collector<SeaTunnelRow> output) throws Exception {
-        RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
-        String cursor = ScanParams.SCAN_POINTER_START;
-        String keysPattern = redisParameters.getKeysPattern();
-        int batchSize = redisParameters.getBatchSize();
-        while (true) {
-            // String cursor, int batchSize, String keysPattern, RedisType type
-            ScanResult<String> scanResult =
-                    redisClient.scanKeys(cursor, batchSize, keysPattern, redisDataType);
-            cursor = scanResult.getCursor();
-            List<String> keys = scanResult.getResult();
-            pollNext(keys, redisDataType, output);
-            // when cursor return "0", scan end
-            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
-                break;
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        synchronized (output.getCheckpointLock()) {
+            RedisSourceSplit split = splits.peek();
+            if (split != null) {
+                if (pollNextScanBatch(split, output)) {
+                    splits.poll();
+                }
+                return;
             }
         }
-        context.signalNoMoreElement();
+        if (noMoreSplit) {
+            context.signalNoMoreElement();
+        } else {
+            Thread.sleep(100L);
+        }
+    }
+
+    /**
+     * Read the keys returned by one {@code SCAN} call and move the split cursor forward. Only one
+     * batch is read per call, so the checkpoint lock is released between the batches.
+     */
+    private boolean pollNextScanBatch(RedisSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException {
+        RedisClient client = getClient(split);
+        RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
+        ScanResult<String> scanResult =
+                client.scanKeys(
+                        split.getCursor(),
+                        redisParameters.getBatchSize(),
+                        redisParameters.getKeysPattern(),
+                        redisDataType);
+        pollNext(client, scanResult.getResult(), redisDataType, output);
+        split.setCursor(scanResult.getCursor());
+        // when cursor return "0", scan end
+        return ScanParams.SCAN_POINTER_START.equals(scanResult.getCursor());
+    }
+
+    /**
+     * In cluster mode the split is scanned directly on its master node and the keys of the node
+     * are fetched with pipelines, one command per key, because they span several slots.
+     */
+    private RedisClient getClient(RedisSourceSplit split) {
+        if (split.isClusterNode()) {
+            return nodeClients.computeIfAbsent(
+                    split.getHost() + ":" + split.getPort(),
+                    node -> redisParameters.buildRedisNodeClient(split.getHost(), split.getPort()));
+        }
+        if (redisClient == null) {
+            redisClient = redisParameters.buildRedisClient();
+        }
+        return redisClient;
+    }
+
+    @Override
+    public List<RedisSourceSplit> snapshotState(long checkpointId) {
+        return new ArrayList<>(splits);
+    }
+
+    @Override
+    public void addSplits(List<RedisSourceSplit> splits) {
+        log.debug("reader {} add splits {}", context.getIndexOfSubtask(), splits);
+        this.splits.addAll(splits);
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
     }
 
-    private void pollNext(List<String> keys, RedisDataType dataType, Collector<SeaTunnelRow> output)
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+
+    private void pollNext(
+            RedisClient client,
+            List<String> keys,
+            RedisDataType dataType,
+            Collector<SeaTunnelRow> output)
             throws IOException {
         if (CollectionUtils.isEmpty(keys)) {
             return;
         }
         if (RedisDataType.HASH.equals(dataType)) {
-            pollHashMapToNext(keys, output);
+            pollHashMapToNext(client, keys, output);
             return;
         }
         if (RedisDataType.STRING.equals(dataType) || RedisDataType.KEY.equals(dataType)) {
-            pollStringToNext(keys, output);
+            pollStringToNext(client, keys, output);
             return;
         }
         if (RedisDataType.LIST.equals(dataType)) {
-            pollListToNext(keys, output);
+            pollListToNext(client, keys, output);
             return;
         }
         if (RedisDataType.SET.equals(dataType)) {
-            pollSetToNext(keys, output);
+            pollSetToNext(client, keys, output);
             return;
         }
         if (RedisDataType.ZSET.equals(dataType)) {
-            pollZsetToNext(keys, output);
+            pollZsetToNext(client, keys, output);
             return;
         }
         throw new RedisConnectorException(
@@ -119,9 +185,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
                 "UnSupport redisDataType,only support string,list,hash,set,zset");
     }
 
-    private void pollZsetToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollZsetToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<List<String>> zSetList = redisClient.batchGetZset(keys);
+        List<List<String>> zSetList = client.batchGetZset(keys);
         for (List<String> values : zSetList) {
             for (String value : values) {
                 pollValueToNext(value, output);
@@ -129,9 +196,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollSetToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollSetToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<Set<String>> setList = redisClient.batchGetSet(keys);
+        List<Set<String>> setList = client.batchGetSet(keys);
         for (Set<String> values : setList) {
             for (String value : values) {
                 pollValueToNext(value, output);
@@ -139,9 +207,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollListToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollListToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<List<String>> valueList = redisClient.batchGetList(keys);
+        List<List<String>> valueList = client.batchGetList(keys);
         for (List<String> values : valueList) {
             for (String value : values) {
                 pollValueToNext(value, output);
@@ -149,9 +218,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollStringToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollStringToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<String> values = redisClient.batchGetString(keys);
+        List<String> values = client.batchGetString(keys);
         for (String value : values) {
             pollValueToNext(value, output);
         }
@@ -165,9 +235,10 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
         }
     }
 
-    private void pollHashMapToNext(List<String> keys, Collector<SeaTunnelRow> output)
+    private void pollHashMapToNext(
+            RedisClient client, List<String> keys, Collector<SeaTunnelRow> output)
             throws IOException {
-        List<Map<String, String>> values = redisClient.batchGetHash(keys);
+        List<Map<String, String>> values = client.batchGetHash(keys);
         if (deserializationSchema == null) {
             for (Map<String, String> value : values) {
                 output.collect(new SeaTunnelRow(new Object[] {JsonUtils.toJsonString(value)}));
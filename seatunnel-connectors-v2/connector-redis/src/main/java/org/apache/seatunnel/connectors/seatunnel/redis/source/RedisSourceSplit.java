@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import redis.clients.jedis.params.ScanParams;
+
+/**
+ * A part of the keyspace read by one reader with a {@code SCAN} cursor. In single mode it is the
+ * whole keyspace, in cluster mode it is the keyspace of one master node. The cursor is updated
+ * after every batch, so a restored split resumes where the last checkpoint left it.
+ */
+@Data
+@EqualsAndHashCode(of = "splitId")
+public class RedisSourceSplit implements SourceSplit {
+    private static final long serialVersionUID = 1L;
+
+    private final String splitId;
+
+    /** The master node to scan, null in single mode. */
+    private final String host;
+
+    private final int port;
+
+    private String cursor = ScanParams.SCAN_POINTER_START;
+
+    public static RedisSourceSplit scanSplit() {
+        return new RedisSourceSplit("redis-scan", null, 0);
+    }
+
+    public static RedisSourceSplit nodeSplit(String host, int port) {
+        return new RedisSourceSplit(String.format("redis-%s:%s", host, port), host, port);
+    }
+
+    private RedisSourceSplit(String splitId, String host, int port) {
+        this.splitId = splitId;
+        this.host = host;
+        this.port = port;
+    }
+
+    public boolean isClusterNode() {
+        return host != null;
+    }
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisBaseOptions;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.redis.state.RedisSourceState;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates one split per cluster master, so that the keyspace is read by the readers in parallel. In
+ * single mode the keyspace is one split.
+ */
+@Slf4j
+public class RedisSourceSplitEnumerator
+        implements SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> {
+    private final SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext;
+    private final RedisParameters redisParameters;
+    private final Map<Integer, List<RedisSourceSplit>> pendingSplits = new HashMap<>();
+    private final Set<RedisSourceSplit> assignedSplits;
+    private final Object lock = new Object();
+
+    public RedisSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> enumeratorContext,
+            RedisParameters redisParameters,
+            Set<RedisSourceSplit> assignedSplits) {
+        this.enumeratorContext = enumeratorContext;
+        this.redisParameters = redisParameters;
+        this.assignedSplits = new HashSet<>(assignedSplits);
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() throws Exception {
+        List<RedisSourceSplit> splits = discoverySplits();
+        splits.removeAll(assignedSplits);
+        addSplitsToPendingAssignments(splits);
+        assignPendingSplits();
+    }
+
+    private List<RedisSourceSplit> discoverySplits() {
+        if (redisParameters.getMode() != RedisBaseOptions.RedisMode.CLUSTER) {
+            return new ArrayList<>(Collections.singletonList(RedisSourceSplit.scanSplit()));
+        }
+        List<RedisSourceSplit> splits = toNodeSplits(clusterSlots());
+        log.info("Calculated {} master node splits of the redis cluster", splits.size());
+        return splits;
+    }
+
+    private List<Object> clusterSlots() {
+        Exception lastException = null;
+        for (HostAndPort node : redisParameters.getClusterNodes()) {
+            try (Jedis jedis = redisParameters.buildNodeJedis(node)) {
+                return jedis.clusterSlots();
+            } catch (Exception e) {
+                log.warn("Failed to get the cluster slots from redis node {}", node, e);
+                lastException = e;
+            }
+        }
+        throw new RedisConnectorException(
+                RedisErrorCode.GET_CLUSTER_SLOTS_FAILED,
+                RedisErrorCode.GET_CLUSTER_SLOTS_FAILED.getErrorMessage(),
+                lastException);
+    }
+
+    /**
+     * Convert the reply of {@code CLUSTER SLOTS}, a list of {@code [start, end, [master host,
+     * master port, ...], replicas...]}, to one split per master. A master owning several slot
+     * ranges is scanned once, {@code SCAN} can't be limited to a slot range.
+     */
+    static List<RedisSourceSplit> toNodeSplits(List<Object> clusterSlots) {
+        Set<RedisSourceSplit> splits = new LinkedHashSet<>();
+        for (Object slotRange : clusterSlots) {
+            List<Object> master = (List<Object>) ((List<Object>) slotRange).get(2);
+            splits.add(
+                    RedisSourceSplit.nodeSplit(
+                            SafeEncoder.encode((byte[]) master.get(0)),
+                            ((Long) master.get(1)).intValue()));
+        }
+        return new ArrayList<>(splits);
+    }
+
+    private void addSplitsToPendingAssignments(Collection<RedisSourceSplit> splits) {
+        int parallelism = enumeratorContext.currentParallelism();
+        int index = 0;
+        for (RedisSourceSplit split : splits) {
+            pendingSplits.computeIfAbsent(index++ % parallelism, r -> new ArrayList<>()).add(split);
+        }
+    }
+
+    private void assignPendingSplits() {
+        for (int reader : enumeratorContext.registeredReaders()) {
+            List<RedisSourceSplit> splits = pendingSplits.remove(reader);
+            if (splits != null && !splits.isEmpty()) {
+                synchronized (lock) {
+                    assignedSplits.addAll(splits);
+                    log.info("Assigning splits {} to reader {}", splits, reader);
+                    enumeratorContext.assignSplit(reader, splits);
+                }
+            }
+            enumeratorContext.signalNoMoreSplits(reader);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    @Override
+    public void addSplitsBack(List<RedisSourceSplit> splits, int subtaskId) {
+        log.debug("Redis source add splits back {}, subtaskId:{}", splits, subtaskId);
+        synchronized (lock) {
+            assignedSplits.removeAll(splits);
+        }
+        pendingSplits.computeIfAbsent(subtaskId, r -> new ArrayList<>()).addAll(splits);
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        return pendingSplits.size();
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {}
+
+    @Override
+    public void registerReader(int subtaskId) {
+        List<RedisSourceSplit> splits = pendingSplits.remove(subtaskId);
+        if (splits != null && !splits.isEmpty()) {
+            synchronized (lock) {
+                assignedSplits.addAll(splits);
+                enumeratorContext.assignSplit(subtaskId, splits);
+            }
+            enumeratorContext.signalNoMoreSplits(subtaskId);
+        }
+    }
+
+    @Override
+    public RedisSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (lock) {
+            return new RedisSourceState(new HashSet<>(assignedSplits));
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisNodeClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisSourceReaderTest {
+
+    @Test
+    void testReadClusterNodeSplit() throws Exception {
+        Jedis jedis = Mockito.mock(Jedis.class);
+        when(jedis.scan(eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class), anyString()))
+                .thenReturn(new ScanResult<>("17", Arrays.asList("user:1", "user:2")));
+        when(jedis.scan(eq("17"), any(ScanParams.class), anyString()))
+                .thenReturn(
+                        new ScanResult<>(
+                                ScanParams.SCAN_POINTER_START, Collections.singletonList("user:3")));
+        // the keys of one node live in different slots, so they are read key by key
+        Pipeline pipeline = Mockito.mock(Pipeline.class);
+        when(jedis.pipelined()).thenReturn(pipeline);
+        for (String key : Arrays.asList("user:1", "user:2", "user:3")) {
+            Response<String> response = Mockito.mock(Response.class);
+            when(response.get()).thenReturn("value-" + key);
+            when(pipeline.get(key)).thenReturn(response);
+        }
+
+        RedisParameters redisParameters = Mockito.spy(new RedisParameters());
+        redisParameters.setRedisDataType(RedisDataType.KEY);
+        redisParameters.setKeysPattern("user:*");
+        redisParameters.setBatchSize(2);
+        RedisNodeClient nodeClient = new RedisNodeClient(redisParameters, jedis, 7);
+        doReturn(nodeClient).when(redisParameters).buildRedisNodeClient("10.0.0.1", 7000);
+        SourceReader.Context context = Mockito.mock(SourceReader.Context.class);
+        RedisSourceReader reader = new RedisSourceReader(redisParameters, context, null);
+        reader.addSplits(Collections.singletonList(RedisSourceSplit.nodeSplit("10.0.0.1", 7000)));
+        reader.handleNoMoreSplits();
+
+        ListCollector output = new ListCollector();
+        reader.pollNext(output);
+        Assertions.assertEquals(Arrays.asList("value-user:1", "value-user:2"), output.values);
+        List<RedisSourceSplit> state = reader.snapshotState(1);
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals("17", state.get(0).getCursor());
+
+        reader.pollNext(output);
+        Assertions.assertEquals(
+                Arrays.asList("value-user:1", "value-user:2", "value-user:3"), output.values);
+        Assertions.assertTrue(reader.snapshotState(2).isEmpty());
+
+        reader.pollNext(output);
+        verify(context).signalNoMoreElement();
+        Assertions.assertTrue(
+                Mockito.mockingDetails(jedis).getInvocations().stream()
+                        .noneMatch(invocation -> "mget".equals(invocation.getMethod().getName())));
+        reader.close();
+        verify(jedis).close();
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<Object> values = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            values.add(record.getField(0));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.Arrays;
+import java.util.List;
+
+class RedisSourceSplitEnumeratorTest {
+
+    @Test
+    void testOneSplitPerMaster() {
+        List<Object> clusterSlots =
+                Arrays.asList(
+                        slotRange(0, 5460, "10.0.0.1", 7000),
+                        slotRange(5461, 10922, "10.0.0.2", 7001),
+                        slotRange(10923, 16000, "10.0.0.3", 7002),
+                        slotRange(16001, 16383, "10.0.0.1", 7000));
+
+        List<RedisSourceSplit> splits = RedisSourceSplitEnumerator.toNodeSplits(clusterSlots);
+
+        Assertions.assertEquals(3, splits.size());
+        for (RedisSourceSplit split : splits) {
+            Assertions.assertTrue(split.isClusterNode());
+            Assertions.assertEquals(ScanParams.SCAN_POINTER_START, split.getCursor());
+        }
+        RedisSourceSplit first = splits.get(0);
+        Assertions.assertEquals("10.0.0.1", first.getHost());
+        Assertions.assertEquals(7000, first.getPort());
+        Assertions.assertEquals("10.0.0.3", splits.get(2).getHost());
+    }
+
+    @Test
+    void testSplitIdentityIgnoresProgress() {
+        RedisSourceSplit split = RedisSourceSplit.nodeSplit("10.0.0.1", 7000);
+        RedisSourceSplit progressed = RedisSourceSplit.nodeSplit("10.0.0.1", 7000);
+        progressed.setCursor("42");
+        Assertions.assertEquals(split, progressed);
+        Assertions.assertFalse(RedisSourceSplit.scanSplit().isClusterNode());
+    }
+
+    private static List<Object> slotRange(long start, long end, String host, long port) {
+        return Arrays.asList(
+                start,
+                end,
+                Arrays.asList(SafeEncoder.encode(host), port, SafeEncoder.encode("node-id")));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client.source;
 
+import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.common.source.arrow.reader.ArrowToSeatunnelRowReader;
@@ -151,35 +152,69 @@ public class StarRocksBeReadClient implements Serializable {
             TScanNextBatchParams nextBatchParams = new TScanNextBatchParams();
             nextBatchParams.setContext_id(contextId);
             nextBatchParams.setOffset(readerOffset);
-            TScanBatchResult result;
-            try {
-                result = client.get_next(nextBatchParams);
-                if (!TStatusCode.OK.equals(result.getStatus().getStatus_code())) {
-                    throw new StarRocksConnectorException(
-                            StarRocksConnectorErrorCode.SCAN_BE_DATA_FAILED,
-                            "Failed to get next from be -> ip:["
-                                    + ip
-                                    + "] "
-                                    + result.getStatus().getStatus_code()
-                                    + " msg:"
-                                    + result.getStatus().getError_msgs());
-                }
-                eos.set(result.isEos());
-                if (!eos.get()) {
+            TScanBatchResult result = getNextBatch(nextBatchParams);
+            eos.set(result.isEos());
+            if (!eos.get()) {
 
-                    rowBatch =
-                            new ArrowToSeatunnelRowReader(result.getRows(), seaTunnelRowType)
-                                    .readArrow();
-                }
-            } catch (TException e) {
-                throw new StarRocksConnectorException(
-                        StarRocksConnectorErrorCode.SCAN_BE_DATA_FAILED, e.getMessage());
+                rowBatch =
+                        new ArrowToSeatunnelRowReader(result.getRows(), seaTunnelRowType)
+                                .readArrow();
             }
         }
         hasNext = !eos.get();
         return hasNext;
     }
 
+    private TScanBatchResult getNextBatch(TScanNextBatchParams nextBatchParams) {
+        try {
+            TScanBatchResult result = client.get_next(nextBatchParams);
+            if (!TStatusCode.OK.equals(result.getStatus().getStatus_code())) {
+                throw new StarRocksConnectorException(
+                        StarRocksConnectorErrorCode.SCAN_BE_DATA_FAILED,
+                        "Failed to get next from be -> ip:["
+                                + ip
+                                + "] "
+                                + result.getStatus().getStatus_code()
+                                + " msg:"
+                                + result.getStatus().getError_msgs());
+            }
+            return result;
+        } catch (TException e) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.SCAN_BE_DATA_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Pass through the Arrow batches to the collector, the batches are not converted to rows.
+     *
+     * @param output the collector.
+     * @param tableId the table id of the rows.
+     * @return false if the collector does not accept the Arrow batch, the rows have to be read by
+     *     {@link #hasNext()} and {@link #getNext()}.
+     */
+    public boolean collectArrowBatches(Collector<SeaTunnelRow> output, String tableId) {
+        TScanNextBatchParams nextBatchParams = new TScanNextBatchParams();
+        nextBatchParams.setContext_id(contextId);
+        while (!eos.get()) {
+            nextBatchParams.setOffset(readerOffset);
+            TScanBatchResult result = getNextBatch(nextBatchParams);
+            eos.set(result.isEos());
+            if (eos.get()) {
+                break;
+            }
+            long rowCount = output.collectArrowStream(result.getRows(), tableId);
+            if (rowCount < 0) {
+                rowBatch =
+                        new ArrowToSeatunnelRowReader(result.getRows(), seaTunnelRowType)
+                                .readArrow();
+                return false;
+            }
+            readerOffset += rowCount;
+        }
+        return true;
+    }
+
     public SeaTunnelRow getNext() {
         return rowBatch.next();
     }
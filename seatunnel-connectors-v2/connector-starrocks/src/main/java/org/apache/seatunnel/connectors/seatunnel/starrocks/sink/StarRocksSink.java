@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.sink.SaveModeHandler;
 import org.apache.seatunnel.api.sink.SchemaSaveMode;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
+import org.apache.seatunnel.api.sink.SupportPrimaryKeyPartition;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
 import org.apache.seatunnel.api.table.catalog.Catalog;
@@ -42,7 +43,10 @@ import java.util.List;
 import java.util.Optional;
 
 public class StarRocksSink extends AbstractSimpleSink<SeaTunnelRow, Void>
-        implements SupportSaveMode, SupportSchemaEvolutionSink, SupportMultiTableSink {
+        implements SupportSaveMode,
+                SupportSchemaEvolutionSink,
+                SupportMultiTableSink,
+                SupportPrimaryKeyPartition {
 
     private final TableSchema tableSchema;
     private final SinkConfig sinkConfig;
@@ -98,6 +102,11 @@ public class StarRocksSink extends AbstractSimpleSink<SeaTunnelRow, Void>
         return Optional.of(catalogTable);
     }
 
+    @Override
+    public boolean partitionByPrimaryKey() {
+        return SupportPrimaryKeyPartition.hasPrimaryKey(catalogTable);
+    }
+
     @Override
     public List<SchemaChangeType> supports() {
         return Arrays.asList(
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportColumnarRead;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SourceConfig;
@@ -31,7 +32,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class StarRocksSource
-        implements SeaTunnelSource<SeaTunnelRow, StarRocksSourceSplit, StarRocksSourceState> {
+        implements SeaTunnelSource<SeaTunnelRow, StarRocksSourceSplit, StarRocksSourceState>,
+                SupportColumnarRead {
 
     private SourceConfig sourceConfig;
 
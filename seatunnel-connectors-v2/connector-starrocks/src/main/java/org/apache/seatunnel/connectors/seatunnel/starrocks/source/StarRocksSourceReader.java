@@ -116,9 +116,13 @@ public class StarRocksSourceReader implements SourceReader<SeaTunnelRow, StarRoc
         SeaTunnelRowType seaTunnelRowType = tables.get(partition.getTable());
         // open scanner to be
         client.openScanner(partition, seaTunnelRowType);
+        String tableId = TablePath.of(table).toString();
+        if (client.collectArrowBatches(output, tableId)) {
+            return;
+        }
         while (client.hasNext()) {
             SeaTunnelRow seaTunnelRow = client.getNext();
-            seaTunnelRow.setTableId(TablePath.of(table).toString());
+            seaTunnelRow.setTableId(tableId);
             output.collect(seaTunnelRow);
         }
     }
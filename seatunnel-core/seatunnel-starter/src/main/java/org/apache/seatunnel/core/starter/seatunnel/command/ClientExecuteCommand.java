@@ -213,7 +213,12 @@ public class ClientExecuteCommand implements Command<ClientCommandArgs> {
                 }
 
                 // wait for job complete
-                JobResult jobResult = clientJobProxy.waitForJobCompleteV2();
+                JobResult jobResult;
+                try {
+                    jobResult = clientJobProxy.waitForJobCompleteV2();
+                } finally {
+                    jobMetricsRunner.close();
+                }
                 jobStatus = jobResult.getStatus();
                 if (StringUtils.isNotEmpty(jobResult.getError())
                         || jobResult.getStatus().equals(JobStatus.FAILED)) {
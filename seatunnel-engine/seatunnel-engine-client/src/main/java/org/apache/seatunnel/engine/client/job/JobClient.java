@@ -28,9 +28,11 @@ import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.job.JobDAGInfo;
 import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
+import org.apache.seatunnel.engine.core.job.JobMetricsNotification;
 import org.apache.seatunnel.engine.core.job.JobPipelineCheckpointData;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.core.job.JobStatusData;
+import org.apache.seatunnel.engine.core.job.JobStatusNotification;
 import org.apache.seatunnel.engine.core.protocol.codec.SeaTunnelCancelJobCodec;
 import org.apache.seatunnel.engine.core.protocol.codec.SeaTunnelGetJobCheckpointCodec;
 import org.apache.seatunnel.engine.core.protocol.codec.SeaTunnelGetJobDetailStatusCodec;
@@ -44,6 +46,8 @@ import org.apache.seatunnel.engine.core.protocol.codec.SeaTunnelSavePointJobCode
 import lombok.NonNull;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public class JobClient {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -114,6 +118,54 @@ public class JobClient {
         return JobStatus.values()[jobStatusOrdinal].toString();
     }
 
+    /**
+     * Subscribe to the status transitions the master pushes for the given job.
+     *
+     * @return the registration id to pass to {@link #removeJobStatusListener(UUID)}
+     */
+    public UUID addJobStatusListener(
+            @NonNull Long jobId, @NonNull Consumer<JobStatusNotification> listener) {
+        return hazelcastClient
+                .getHazelcastInstance()
+                .<JobStatusNotification>getTopic(Constant.TOPIC_JOB_STATUS)
+                .addMessageListener(
+                        message -> {
+                            JobStatusNotification notification = message.getMessageObject();
+                            if (notification.getJobId() == jobId) {
+                                listener.accept(notification);
+                            }
+                        });
+    }
+
+    public void removeJobStatusListener(@NonNull UUID registrationId) {
+        hazelcastClient
+                .getHazelcastInstance()
+                .getTopic(Constant.TOPIC_JOB_STATUS)
+                .removeMessageListener(registrationId);
+    }
+
+    /**
+     * Subscribe to the progress samples the master pushes for the given job. The master only
+     * samples a job while a client is subscribed to it, and drops the subscriptions when the job
+     * ends.
+     *
+     * @return the registration id to pass to {@link #removeJobMetricsListener(Long, UUID)}
+     */
+    public UUID addJobMetricsListener(
+            @NonNull Long jobId, @NonNull Consumer<JobMetricsNotification> listener) {
+        return hazelcastClient
+                .getHazelcastInstance()
+                .<JobMetricsNotification>getTopic(Constant.TOPIC_JOB_METRICS_PREFIX + jobId)
+                .addMessageListener(message -> listener.accept(message.getMessageObject()));
+    }
+
+    public void removeJobMetricsListener(@NonNull Long jobId, @NonNull UUID registrationId) {
+        hazelcastClient
+                .getHazelcastInstance()
+                .getTopic(Constant.TOPIC_JOB_METRICS_PREFIX + jobId)
+                .removeMessageListener(registrationId);
+    }
+
     public String getJobMetrics(Long jobId) {
         return hazelcastClient.requestOnMasterAndDecodeResponse(
                 SeaTunnelGetJobMetricsCodec.encodeRequest(jobId),
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.client.job;
 
 import org.apache.seatunnel.common.utils.DateTimeUtils;
+import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.client.SeaTunnelClient;
 
@@ -27,11 +28,22 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Prints the job progress at the interval it is scheduled with. It subscribes to the samples the
+ * master pushes for the job and only asks the master for the metrics when no sample arrived since
+ * the previous print, e.g. when the client prints more often than the master publishes. Call
+ * {@link #close()} when the job ends to drop the subscription.
+ */
 @Slf4j
-public class JobMetricsRunner implements Runnable {
+public class JobMetricsRunner implements Runnable, AutoCloseable {
     private final SeaTunnelClient seaTunnelClient;
     private final Long jobId;
+    private final AtomicReference<JobMetricsSummary> pushedSummary = new AtomicReference<>();
+    private UUID registrationId;
+    private boolean closed = false;
     private LocalDateTime lastRunTime = LocalDateTime.now();
     private Long lastReadCount = 0L;
     private Long lastWriteCount = 0L;
@@ -45,7 +57,11 @@ public class JobMetricsRunner implements Runnable {
     public void run() {
         Thread.currentThread().setName("job-metrics-runner-" + jobId);
         try {
-            JobMetricsSummary jobMetricsSummary = seaTunnelClient.getJobMetricsSummary(jobId);
+            subscribe();
+            JobMetricsSummary jobMetricsSummary = pushedSummary.getAndSet(null);
+            if (jobMetricsSummary == null) {
+                jobMetricsSummary = seaTunnelClient.getJobMetricsSummary(jobId);
+            }
             LocalDateTime now = LocalDateTime.now();
             long seconds = Duration.between(lastRunTime, now).getSeconds();
             long averageRead = (jobMetricsSummary.getSourceReadCount() - lastReadCount) / seconds;
@@ -77,6 +93,36 @@ public class JobMetricsRunner implements Runnable {
         }
     }
 
+    private synchronized void subscribe() {
+        if (!closed && registrationId == null) {
+            registrationId =
+                    seaTunnelClient
+                            .getJobClient()
+                            .addJobMetricsListener(
+                                    jobId,
+                                    notification ->
+                                            pushedSummary.set(
+                                                    new JobMetricsSummary(
+                                                            notification.getSourceReadCount(),
+                                                            notification.getSinkWriteCount())));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (registrationId == null) {
+            return;
+        }
+        try {
+            seaTunnelClient.getJobClient().removeJobMetricsListener(jobId, registrationId);
+        } catch (Exception e) {
+            log.debug("Failed to remove job metrics listener. {}", ExceptionUtils.getMessage(e));
+        } finally {
+            registrationId = null;
+        }
+    }
+
     @Data
     @AllArgsConstructor
     public static class JobMetricsSummary {
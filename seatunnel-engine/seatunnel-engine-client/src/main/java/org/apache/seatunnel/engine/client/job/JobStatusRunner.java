@@ -22,9 +22,20 @@ import org.apache.seatunnel.engine.core.job.JobStatus;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 public class JobStatusRunner implements Runnable {
 
+    /**
+     * Status transitions are pushed by the master, polling only covers a notification lost while
+     * the client reconnects.
+     */
+    private static final long FALLBACK_POLL_INTERVAL_SECONDS = 60;
+
     private final JobClient jobClient;
     private final Long jobId;
     private boolean isEnterPending = false;
@@ -37,13 +48,35 @@ public class JobStatusRunner implements Runnable {
     @Override
     public void run() {
         Thread.currentThread().setName("job-status-runner-" + jobId);
+        BlockingQueue<JobStatus> pushedStatus = new LinkedBlockingQueue<>();
+        UUID registrationId = null;
         try {
-            while (isPrint(jobClient.getJobStatus(jobId))) {
-                Thread.sleep(5000);
+            registrationId =
+                    jobClient.addJobStatusListener(
+                            jobId, notification -> pushedStatus.offer(notification.getJobStatus()));
+            // the job may have left PENDING before the subscription took effect
+            String jobStatus = jobClient.getJobStatus(jobId);
+            while (isPrint(jobStatus)) {
+                JobStatus pushed =
+                        pushedStatus.poll(FALLBACK_POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+                jobStatus = pushed == null ? jobClient.getJobStatus(jobId) : pushed.toString();
             }
         } catch (InterruptedException ignore) {
         } catch (Exception e) {
             log.info("Failed to get job runner status. {}", ExceptionUtils.getMessage(e));
+        } finally {
+            removeListener(registrationId);
+        }
+    }
+
+    private void removeListener(UUID registrationId) {
+        if (registrationId == null) {
+            return;
+        }
+        try {
+            jobClient.removeJobStatusListener(registrationId);
+        } catch (Exception e) {
+            log.debug("Failed to remove job status listener. {}", ExceptionUtils.getMessage(e));
         }
     }
 
@@ -34,7 +34,9 @@ import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalDag;
 import org.apache.seatunnel.engine.core.job.JobDAGInfo;
+import org.apache.seatunnel.engine.core.job.JobMetricsNotification;
 import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.core.job.JobStatusNotification;
 import org.apache.seatunnel.engine.server.SeaTunnelNodeContext;
 
 import org.apache.commons.lang3.StringUtils;
@@ -58,6 +60,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -186,6 +190,87 @@ public class SeaTunnelClientTest {
         }
     }
 
+    @Test
+    public void testJobStatusPushedToListener() throws ExecutionException, InterruptedException {
+        Common.setDeployMode(DeployMode.CLIENT);
+        String filePath = TestUtils.getResource("/client_test.conf");
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setName("testJobStatusPushedToListener");
+
+        SeaTunnelClient seaTunnelClient = createSeaTunnelClient();
+        JobClient jobClient = seaTunnelClient.getJobClient();
+
+        try {
+            ClientJobExecutionEnvironment jobExecutionEnv =
+                    seaTunnelClient.createExecutionContext(filePath, jobConfig, SEATUNNEL_CONFIG);
+            final ClientJobProxy clientJobProxy = jobExecutionEnv.execute();
+            long jobId = clientJobProxy.getJobId();
+            ConcurrentLinkedQueue<JobStatusNotification> notifications =
+                    new ConcurrentLinkedQueue<>();
+            UUID registrationId = jobClient.addJobStatusListener(jobId, notifications::add);
+
+            Assertions.assertEquals(JobStatus.FINISHED, clientJobProxy.waitForJobComplete());
+            await().atMost(30000, TimeUnit.MILLISECONDS)
+                    .untilAsserted(
+                            () ->
+                                    Assertions.assertTrue(
+                                            notifications.stream()
+                                                    .anyMatch(
+                                                            notification ->
+                                                                    notification.getJobStatus()
+                                                                            == JobStatus.FINISHED)));
+            Assertions.assertTrue(
+                    notifications.stream()
+                            .allMatch(notification -> notification.getJobId() == jobId));
+            jobClient.removeJobStatusListener(registrationId);
+        } finally {
+            seaTunnelClient.close();
+        }
+    }
+
+    @Test
+    public void testJobMetricsPushedToListener() {
+        Common.setDeployMode(DeployMode.CLIENT);
+        String filePath = TestUtils.getResource("/streaming_fake_to_console.conf");
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setName("testJobMetricsPushedToListener");
+
+        SeaTunnelClient seaTunnelClient = createSeaTunnelClient();
+        JobClient jobClient = seaTunnelClient.getJobClient();
+        try {
+            ClientJobExecutionEnvironment jobExecutionEnv =
+                    seaTunnelClient.createExecutionContext(filePath, jobConfig, SEATUNNEL_CONFIG);
+            final ClientJobProxy clientJobProxy = jobExecutionEnv.execute();
+            long jobId = clientJobProxy.getJobId();
+            await().atMost(30000, TimeUnit.MILLISECONDS)
+                    .untilAsserted(
+                            () ->
+                                    Assertions.assertEquals(
+                                            "RUNNING", jobClient.getJobStatus(jobId)));
+
+            ConcurrentLinkedQueue<JobMetricsNotification> notifications =
+                    new ConcurrentLinkedQueue<>();
+            UUID registrationId = jobClient.addJobMetricsListener(jobId, notifications::add);
+            await().atMost(30000, TimeUnit.MILLISECONDS).until(() -> !notifications.isEmpty());
+            Assertions.assertTrue(
+                    notifications.stream()
+                            .allMatch(notification -> notification.getJobId() == jobId));
+
+            jobClient.cancelJob(jobId);
+            await().atMost(30000, TimeUnit.MILLISECONDS)
+                    .untilAsserted(
+                            () ->
+                                    Assertions.assertEquals(
+                                            "CANCELED", jobClient.getJobStatus(jobId)));
+            // the master already dropped the subscription with the job
+            jobClient.removeJobMetricsListener(jobId, registrationId);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            seaTunnelClient.close();
+        }
+    }
+
     @Test
     public void testGetJobMetrics() {
         Common.setDeployMode(DeployMode.CLIENT);
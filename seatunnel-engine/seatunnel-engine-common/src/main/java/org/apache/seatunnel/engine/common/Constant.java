@@ -63,5 +63,10 @@ public class Constant {
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    public static final String TOPIC_JOB_STATUS = "engine_jobStatusTopic";
+
+    /** Followed by the job id, one topic per job so the master can tell which jobs are watched. */
+    public static final String TOPIC_JOB_METRICS_PREFIX = "engine_jobMetricsTopic_";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
@@ -296,6 +296,16 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                     .key()
                     .equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
+            } else if (ServerConfigOptions.MasterServerConfigOptions
+                    .CHECKPOINT_LOCAL_STATE_CACHE_ENABLED
+                    .key()
+                    .equals(name)) {
+                checkpointConfig.setLocalStateCacheEnabled(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.MasterServerConfigOptions
+                    .CHECKPOINT_LOCAL_STATE_CACHE_DIR
+                    .key()
+                    .equals(name)) {
+                checkpointConfig.setLocalStateCacheDir(getTextContent(node));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
@@ -321,6 +331,16 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                         .CHECKPOINT_STORAGE_MAX_RETAINED
                                         .key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.MasterServerConfigOptions
+                    .CHECKPOINT_STORAGE_MAX_CONCURRENT_UPLOADS
+                    .key()
+                    .equals(name)) {
+                checkpointStorageConfig.setMaxConcurrentUploads(
+                        getIntegerValue(
+                                ServerConfigOptions.MasterServerConfigOptions
+                                        .CHECKPOINT_STORAGE_MAX_CONCURRENT_UPLOADS
+                                        .key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.MasterServerConfigOptions
                     .CHECKPOINT_STORAGE_PLUGIN_CONFIG
                     .key()
@@ -68,5 +68,10 @@ import java.io.Serializable;
 public enum AllocateStrategy implements Serializable {
     SYSTEM_LOAD,
     SLOT_RATIO,
-    RANDOM
+    RANDOM,
+    /**
+     * Co-locate the task groups connected by the edges which carry the most records, balanced
+     * against the slot usage rate of the workers.
+     */
+    TRAFFIC_LOCALITY
 }
@@ -41,6 +41,14 @@ public class CheckpointConfig implements Serializable {
 
     private boolean checkpointEnable = true;
 
+    private boolean localStateCacheEnabled =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_LOCAL_STATE_CACHE_ENABLED
+                    .defaultValue();
+
+    private String localStateCacheDir =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_LOCAL_STATE_CACHE_DIR
+                    .defaultValue();
+
     public void setCheckpointInterval(long checkpointInterval) {
         checkArgument(
                 checkpointInterval >= MINIMAL_CHECKPOINT_TIME,
@@ -32,6 +32,10 @@ public class CheckpointStorageConfig {
             ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED
                     .defaultValue();
 
+    private int maxConcurrentUploads =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_STORAGE_MAX_CONCURRENT_UPLOADS
+                    .defaultValue();
+
     /** Storage plugin instance configuration */
     private Map<String, String> storagePluginConfig = new HashMap<>();
 }
@@ -134,6 +134,13 @@ public class ServerConfigOptions {
                         .defaultValue(20)
                         .withDescription("The maximum number of retained checkpoints.");
 
+        public static final Option<Integer> CHECKPOINT_STORAGE_MAX_CONCURRENT_UPLOADS =
+                Options.key("max-concurrent-uploads")
+                        .intType()
+                        .defaultValue(4)
+                        .withDescription(
+                                "The maximum number of completed checkpoints of a job written to the checkpoint storage at the same time.");
+
         public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE =
                 Options.key("storage")
                         .type(new TypeReference<CheckpointStorageConfig>() {})
@@ -153,6 +160,20 @@ public class ServerConfigOptions {
                         .noDefaultValue()
                         .withDescription("The checkpoint storage instance configuration.");
 
+        public static final Option<Boolean> CHECKPOINT_LOCAL_STATE_CACHE_ENABLED =
+                Options.key("local-state-cache")
+                        .booleanType()
+                        .defaultValue(false)
+                        .withDescription(
+                                "Whether the workers keep a local copy of the last snapshots of their tasks, used to restore the tasks without fetching the states from the master.");
+
+        public static final Option<String> CHECKPOINT_LOCAL_STATE_CACHE_DIR =
+                Options.key("local-state-cache-dir")
+                        .stringType()
+                        .defaultValue("/tmp/seatunnel/checkpoint_local_state/")
+                        .withDescription(
+                                "The local directory of the worker used to keep the last snapshots of the tasks.");
+
         public static final Option<CheckpointConfig> CHECKPOINT =
                 Options.key("checkpoint")
                         .type(new TypeReference<CheckpointConfig>() {})
@@ -168,7 +189,7 @@ public class ServerConfigOptions {
                         .enumType(AllocateStrategy.class)
                         .defaultValue(AllocateStrategy.RANDOM)
                         .withDescription(
-                                "When the strategy is SLOT_RATIO, the system allocates tasks based on the slot usage ratio, with priority given to workers with low usage rates; When the strategy is SYSTEM_LOAD, the system allocates tasks based on server load, with priority given to workers with lower load.");
+                                "When the strategy is SLOT_RATIO, the system allocates tasks based on the slot usage ratio, with priority given to workers with low usage rates; When the strategy is SYSTEM_LOAD, the system allocates tasks based on server load, with priority given to workers with lower load; When the strategy is TRAFFIC_LOCALITY, the system places the task groups connected by heavy edges on the same worker, balanced against the slot usage ratio.");
 
         public static final Option<ScheduleStrategy> JOB_SCHEDULE_STRATEGY =
                 Options.key("job-schedule-strategy")
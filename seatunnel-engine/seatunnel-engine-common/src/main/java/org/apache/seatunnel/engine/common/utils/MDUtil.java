@@ -37,4 +37,19 @@ public class MDUtil {
                     "Cannot instantiate the message digest algorithm " + HASHING_ALGORITHM, e);
         }
     }
+
+    /**
+     * Encodes the digest as a lower case hex string, e.g. to address a file by its content.
+     *
+     * @param digest the digest
+     * @return the hex string of the digest
+     */
+    public static String toHexString(byte[] digest) {
+        StringBuilder builder = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
 }
@@ -37,6 +37,12 @@ public class ShuffleConfig implements Config {
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
     private ShuffleStrategy shuffleStrategy;
 
+    /**
+     * Forward the first checkpoint barrier of the inputs immediately instead of aligning them, the
+     * records received before the barrier of the other inputs are persisted as state.
+     */
+    private boolean unalignedCheckpoint;
+
     @Tolerate
     public ShuffleConfig() {}
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Route rows to the target partition by the hash of the primary key of their table, so the rows
+ * with the same key are always written by the same sink writer. The rows of a table without primary
+ * key are routed randomly as {@link ShufflePartitionStrategy} does, the schema change events are
+ * routed by the hash of the table path, and any other record goes to the first target.
+ */
+@Slf4j
+@SuperBuilder(toBuilder = true)
+@Getter
+@Setter
+@ToString
+public class ShuffleKeyHashStrategy extends ShuffleStrategy {
+    private static final int[] NO_PRIMARY_KEY = new int[0];
+    // records which are neither rows nor schema change events are all routed to one channel
+    private static final int FALLBACK_TARGET_INDEX = 0;
+
+    private final Map<Integer, String[]> inputQueueMapping = new HashMap<>();
+    private final Map<String, int[]> primaryKeyIndexes = new HashMap<>();
+    private List<CatalogTable> catalogTables;
+    private int targetPartitions;
+
+    @Tolerate
+    public ShuffleKeyHashStrategy() {}
+
+    @Override
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
+
+        return shuffleMap;
+    }
+
+    @Override
+    public String createShuffleKey(Record<?> record, int pipelineId, int inputIndex) {
+        String[] inputQueueNames =
+                inputQueueMapping.computeIfAbsent(
+                        inputIndex,
+                        key -> {
+                            String[] queueNames = new String[targetPartitions];
+                            for (int targetIndex = 0;
+                                    targetIndex < targetPartitions;
+                                    targetIndex++) {
+                                queueNames[targetIndex] =
+                                        generateQueueName(pipelineId, key, targetIndex);
+                            }
+                            return queueNames;
+                        });
+        return inputQueueNames[selectTargetIndex(record)];
+    }
+
+    @Override
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
+        IQueue<Record<?>>[] shuffles = new IQueue[getInputPartitions()];
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
+            shuffles[inputIndex] = getIQueue(hazelcast, queueName);
+        }
+
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                Stream.of(shuffles).map(e -> e.getName()).collect(Collectors.toList()));
+
+        return shuffles;
+    }
+
+    int selectTargetIndex(Record<?> record) {
+        if (record.getData() instanceof SeaTunnelRow) {
+            SeaTunnelRow row = (SeaTunnelRow) record.getData();
+            int[] keyIndexes = getPrimaryKeyIndexes(row.getTableId());
+            if (keyIndexes.length == 0) {
+                return ThreadLocalRandom.current().nextInt(targetPartitions);
+            }
+            int hash = 1;
+            for (int keyIndex : keyIndexes) {
+                hash = 31 * hash + hashField(row.getField(keyIndex));
+            }
+            return Math.floorMod(hash, targetPartitions);
+        } else if (record.getData() instanceof SchemaChangeEvent) {
+            String tableId = ((SchemaChangeEvent) record.getData()).tablePath().toString();
+            return Math.floorMod(tableId.hashCode(), targetPartitions);
+        } else {
+            log.debug("Route unrecognized record {} to fallback target", record);
+            return FALLBACK_TARGET_INDEX;
+        }
+    }
+
+    private int[] getPrimaryKeyIndexes(String tableId) {
+        if (primaryKeyIndexes.isEmpty()) {
+            for (CatalogTable catalogTable : catalogTables) {
+                primaryKeyIndexes.put(
+                        catalogTable.getTablePath().toString(), resolvePrimaryKey(catalogTable));
+            }
+        }
+        int[] keyIndexes = tableId == null ? null : primaryKeyIndexes.get(tableId);
+        if (keyIndexes == null) {
+            // rows of a single table source may not carry the table id
+            return catalogTables.size() == 1
+                    ? primaryKeyIndexes.values().iterator().next()
+                    : NO_PRIMARY_KEY;
+        }
+        return keyIndexes;
+    }
+
+    private static int[] resolvePrimaryKey(CatalogTable catalogTable) {
+        PrimaryKey primaryKey = catalogTable.getTableSchema().getPrimaryKey();
+        if (primaryKey == null || primaryKey.getColumnNames().isEmpty()) {
+            return NO_PRIMARY_KEY;
+        }
+        SeaTunnelRowType rowType = catalogTable.getSeaTunnelRowType();
+        int[] keyIndexes = new int[primaryKey.getColumnNames().size()];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            keyIndexes[i] = rowType.indexOf(primaryKey.getColumnNames().get(i), false);
+            if (keyIndexes[i] < 0) {
+                return NO_PRIMARY_KEY;
+            }
+        }
+        return keyIndexes;
+    }
+
+    private static int hashField(Object field) {
+        if (field instanceof byte[]) {
+            return Arrays.hashCode((byte[]) field);
+        }
+        return field == null ? 0 : field.hashCode();
+    }
+
+    private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
+        return String.format(
+                "ShuffleKeyHash-Queue_%s_%s_%s_%s",
+                getJobId(), pipelineId, inputIndex, targetIndex);
+    }
+}
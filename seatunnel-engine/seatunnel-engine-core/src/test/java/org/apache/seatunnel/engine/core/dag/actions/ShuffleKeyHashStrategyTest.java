@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ShuffleKeyHashStrategyTest {
+
+    @Test
+    public void testSameKeyRouteToSameTarget() {
+        CatalogTable orders = createTable("orders", Arrays.asList("id", "region"));
+        CatalogTable users = createTable("users", Collections.singletonList("id"));
+        ShuffleKeyHashStrategy strategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(2)
+                        .targetPartitions(4)
+                        .catalogTables(Arrays.asList(orders, users))
+                        .build();
+
+        Map<String, Integer> targets = new HashMap<>();
+        Set<Integer> usedTargets = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            long id = i % 100;
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, "r" + (id % 3), "v" + i});
+            row.setTableId(orders.getTablePath().toString());
+            int target = strategy.selectTargetIndex(new Record<>(row));
+            Integer previous = targets.putIfAbsent(id + "_" + (id % 3), target);
+            if (previous != null) {
+                Assertions.assertEquals(previous, target);
+            }
+            usedTargets.add(target);
+        }
+        Assertions.assertEquals(4, usedTargets.size());
+
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {7L, "a", "b"});
+        row.setTableId(users.getTablePath().toString());
+        SeaTunnelRow sameKeyRow = new SeaTunnelRow(new Object[] {7L, "c", "d"});
+        sameKeyRow.setTableId(users.getTablePath().toString());
+        Assertions.assertEquals(
+                strategy.selectTargetIndex(new Record<>(row)),
+                strategy.selectTargetIndex(new Record<>(sameKeyRow)));
+
+        String queueName = strategy.createShuffleKey(new Record<>(row), 0, 1);
+        Assertions.assertEquals(
+                String.format(
+                        "ShuffleKeyHash-Queue_1_0_1_%s",
+                        strategy.selectTargetIndex(new Record<>(row))),
+                queueName);
+    }
+
+    @Test
+    public void testSingleTableWithoutTableId() {
+        CatalogTable orders = createTable("orders", Collections.singletonList("id"));
+        ShuffleKeyHashStrategy strategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(1)
+                        .targetPartitions(3)
+                        .catalogTables(Collections.singletonList(orders))
+                        .build();
+        for (long id = 0; id < 100; id++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, "a", "b"});
+            Assertions.assertEquals(
+                    Math.floorMod(31 + Long.hashCode(id), 3),
+                    strategy.selectTargetIndex(new Record<>(row)));
+        }
+    }
+
+    @Test
+    public void testUnrecognizedRecordRouteToFallbackTarget() {
+        CatalogTable orders = createTable("orders", Collections.singletonList("id"));
+        ShuffleKeyHashStrategy strategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(1)
+                        .targetPartitions(3)
+                        .catalogTables(Collections.singletonList(orders))
+                        .build();
+        Assertions.assertEquals(0, strategy.selectTargetIndex(new Record<>("unknown")));
+        Assertions.assertEquals(
+                "ShuffleKeyHash-Queue_1_0_0_0",
+                strategy.createShuffleKey(new Record<>(1L), 0, 0));
+    }
+
+    private static CatalogTable createTable(String tableName, List<String> keys) {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "region", BasicType.STRING_TYPE, 0L, true, null, ""))
+                        .column(
+                                PhysicalColumn.of(
+                                        "value", BasicType.STRING_TYPE, 0L, true, null, ""))
+                        .primaryKey(PrimaryKey.of("pk", keys))
+                        .build();
+        return CatalogTable.of(
+                TableIdentifier.of("test", "db", tableName),
+                tableSchema,
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                "");
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.seatunnel.engine.server;
 import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.api.common.metrics.Measurement;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.api.common.metrics.RawJobMetrics;
 import org.apache.seatunnel.api.event.EventHandler;
 import org.apache.seatunnel.api.event.EventProcessor;
@@ -40,6 +42,7 @@ import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.job.JobDAGInfo;
 import org.apache.seatunnel.engine.core.job.JobInfo;
+import org.apache.seatunnel.engine.core.job.JobMetricsNotification;
 import org.apache.seatunnel.engine.core.job.JobResult;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.core.job.PipelineStatus;
@@ -77,10 +80,12 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.ringbuffer.Ringbuffer;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.topic.impl.TopicService;
 import lombok.NonNull;
 import scala.Tuple2;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -180,6 +185,8 @@ public class CoordinatorService {
 
     private final ScheduledExecutorService masterActiveListener;
 
+    private final ScheduledExecutorService jobMetricsPublisher;
+
     private final EngineConfig engineConfig;
 
     private ConnectorPackageService connectorPackageService;
@@ -216,6 +223,17 @@ public class CoordinatorService {
         masterActiveListener = Executors.newSingleThreadScheduledExecutor();
         masterActiveListener.scheduleAtFixedRate(
                 this::checkNewActiveMaster, 0, 100, TimeUnit.MILLISECONDS);
+        jobMetricsPublisher =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("seatunnel-job-metrics-publisher-%d")
+                                .setDaemon(true)
+                                .build());
+        jobMetricsPublisher.scheduleWithFixedDelay(
+                this::publishSubscribedJobMetrics,
+                engineConfig.getPrintJobMetricsInfoInterval(),
+                engineConfig.getPrintJobMetricsInfoInterval(),
+                TimeUnit.SECONDS);
         scheduleStrategy = engineConfig.getScheduleStrategy();
         isWaitStrategy = scheduleStrategy.equals(ScheduleStrategy.WAIT);
         logger.info("Start pending job schedule thread");
@@ -382,6 +400,10 @@ public class CoordinatorService {
                 .orElse(runningJobMasterMap.get(jobId));
     }
 
+    public Collection<JobMaster> getRunningJobMasters() {
+        return Collections.unmodifiableCollection(runningJobMasterMap.values());
+    }
+
     public EventProcessor getEventProcessor() {
         return eventProcessor;
     }
@@ -841,6 +863,58 @@ public class CoordinatorService {
         return longJobMetricsMap;
     }
 
+    /**
+     * Push a progress sample of every running job a client is subscribed to. A job nobody watches
+     * costs nothing, its metrics are neither collected from the workers nor published.
+     */
+    private void publishSubscribedJobMetrics() {
+        if (!isActive) {
+            return;
+        }
+        runningJobMasterMap.forEach(
+                (jobId, jobMaster) -> {
+                    String topicName = Constant.TOPIC_JOB_METRICS_PREFIX + jobId;
+                    JobStatus jobStatus = jobMaster.getJobStatus();
+                    if (jobStatus == null
+                            || jobStatus.isEndState()
+                            || !nodeEngine
+                                    .getEventService()
+                                    .hasEventRegistration(TopicService.SERVICE_NAME, topicName)) {
+                        return;
+                    }
+                    try {
+                        JobMetrics jobMetrics = getJobMetrics(jobId);
+                        nodeEngine
+                                .getHazelcastInstance()
+                                .<JobMetricsNotification>getTopic(topicName)
+                                .publish(
+                                        new JobMetricsNotification(
+                                                jobId,
+                                                sumCounter(
+                                                        jobMetrics,
+                                                        MetricNames.SOURCE_RECEIVED_COUNT),
+                                                sumCounter(
+                                                        jobMetrics, MetricNames.SINK_WRITE_COUNT),
+                                                System.currentTimeMillis()));
+                    } catch (Exception e) {
+                        logger.warning(
+                                String.format(
+                                        "Publish metrics of job %s failed: %s",
+                                        jobId, ExceptionUtils.getMessage(e)));
+                    }
+                });
+    }
+
+    private static long sumCounter(JobMetrics jobMetrics, String metricName) {
+        long sum = 0L;
+        for (Measurement measurement : jobMetrics.get(metricName)) {
+            if (measurement.value() instanceof Number) {
+                sum += ((Number) measurement.value()).longValue();
+            }
+        }
+        return sum;
+    }
+
     public JobDAGInfo getJobInfo(long jobId) {
         JobDAGInfo jobInfo = jobHistoryService.getJobDAGInfo(jobId);
         if (jobInfo != null) {
@@ -872,6 +946,9 @@ public class CoordinatorService {
         if (masterActiveListener != null) {
             masterActiveListener.shutdownNow();
         }
+        if (jobMetricsPublisher != null) {
+            jobMetricsPublisher.shutdownNow();
+        }
         clearCoordinatorService();
     }
 
@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.server;
 
 import org.apache.seatunnel.shade.com.google.common.collect.Lists;
 
+import org.apache.seatunnel.api.common.metrics.Metric;
 import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.event.Event;
 import org.apache.seatunnel.api.tracing.MDCExecutorService;
@@ -28,12 +29,14 @@ import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.classloader.ClassLoaderService;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.TaskLocalStateStore;
 import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundException;
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
@@ -147,6 +150,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    /** Null if the local state cache of the checkpoint is disabled. */
+    private final TaskLocalStateStore taskLocalStateStore;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -174,6 +180,16 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+
+        CheckpointConfig checkpointConfig = seaTunnelConfig.getEngineConfig().getCheckpointConfig();
+        taskLocalStateStore =
+                checkpointConfig.isLocalStateCacheEnabled()
+                        ? new TaskLocalStateStore(checkpointConfig.getLocalStateCacheDir())
+                        : null;
+    }
+
+    public TaskLocalStateStore getTaskLocalStateStore() {
+        return taskLocalStateStore;
     }
 
     public void start() {
@@ -209,6 +225,26 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         return taskGroupContext;
     }
 
+    /** The metrics of the given type of the tasks running on this node, e.g. the queue metrics. */
+    public <M extends Metric> Map<TaskLocation, List<M>> getRunningTaskMetrics(Class<M> type) {
+        Map<TaskLocation, List<M>> taskMetrics = new HashMap<>();
+        executionContexts.forEach(
+                (taskGroupLocation, taskGroupContext) ->
+                        taskGroupContext.getTaskGroup().getTasks().stream()
+                                .filter(SeaTunnelTask.class::isInstance)
+                                .map(SeaTunnelTask.class::cast)
+                                .filter(task -> task.getMetricsContext() != null)
+                                .forEach(
+                                        task -> {
+                                            List<M> metrics =
+                                                    task.getMetricsContext().getMetrics(type);
+                                            if (!metrics.isEmpty()) {
+                                                taskMetrics.put(task.getTaskLocation(), metrics);
+                                            }
+                                        }));
+        return taskMetrics;
+    }
+
     private void submitThreadShareTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
         Stream<TaskTracker> taskTrackerStream =
@@ -40,4 +40,13 @@ public class ActionStateKey implements Serializable {
     public static ActionStateKey of(Action action) {
         return new ActionStateKey("ActionStateKey - " + action.getName());
     }
+
+    /**
+     * The key of the records a shuffle source captured for an unaligned checkpoint. The shuffle
+     * sink of the upstream tasks reports the same action under {@link #of(Action)}, with its own
+     * parallelism, so the in-flight records need a key of their own.
+     */
+    public static ActionStateKey inFlightOf(Action action) {
+        return new ActionStateKey("ActionStateKey - " + action.getName() + "-inflight");
+    }
 }
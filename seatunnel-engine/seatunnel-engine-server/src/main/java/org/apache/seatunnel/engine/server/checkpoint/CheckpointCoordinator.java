@@ -141,6 +141,16 @@ public class CheckpointCoordinator {
 
     private final ExecutorService executorService;
 
+    /** Serializes and uploads the completed checkpoints, bounded per job. */
+    private final ExecutorService persistExecutorService;
+
+    private final Object persistLock = new Object();
+
+    /** Completes after the last submitted checkpoint is persisted and notified. */
+    private CompletableFuture<Void> persistTail = CompletableFuture.completedFuture(null);
+
+    private volatile CheckpointPhaseMetrics latestPhaseMetrics;
+
     private CompletableFuture<CheckpointCoordinatorState> checkpointCoordinatorFuture;
 
     private AtomicReference<String> errorByPhysicalVertex = new AtomicReference<>();
@@ -163,10 +173,12 @@ public class CheckpointCoordinator {
             CheckpointIDCounter checkpointIdCounter,
             PipelineState pipelineState,
             ExecutorService executorService,
+            ExecutorService persistExecutorService,
             IMap<Object, Object> runningJobStateIMap,
             boolean isStartWithSavePoint) {
 
         this.executorService = executorService;
+        this.persistExecutorService = persistExecutorService;
         this.checkpointManager = manager;
         this.checkpointStorage = checkpointStorage;
         this.jobId = jobId;
@@ -328,11 +340,46 @@ public class CheckpointCoordinator {
                                 }
                             });
         }
+        if (restoreTaskStateFromLocal(taskLocation, states)) {
+            return;
+        }
         checkpointManager
                 .sendOperationToMemberNode(new NotifyTaskRestoreOperation(taskLocation, states))
                 .join();
     }
 
+    /**
+     * Try to restore the task from the copy of its states kept on the worker, only the checksum is
+     * sent instead of the states. The coordinator tasks don't keep a local copy.
+     */
+    private boolean restoreTaskStateFromLocal(
+            TaskLocation taskLocation, List<ActionSubtaskState> states) {
+        if (!coordinatorConfig.isLocalStateCacheEnabled()
+                || latestCompletedCheckpoint == null
+                || states.isEmpty()
+                || plan.getSubtaskActions().get(taskLocation).stream()
+                        .anyMatch(tuple -> COORDINATOR_INDEX.equals(tuple.f1()))) {
+            return false;
+        }
+        long checkpointId = latestCompletedCheckpoint.getCheckpointId();
+        Object restored =
+                checkpointManager
+                        .sendOperationToMemberNode(
+                                new NotifyTaskRestoreOperation(
+                                        taskLocation,
+                                        checkpointId,
+                                        TaskLocalStateStore.checksum(states)))
+                        .join();
+        if (Boolean.TRUE.equals(restored)) {
+            return true;
+        }
+        LOG.info(
+                "no valid local state of task {} for checkpoint {}, restore from the master",
+                taskLocation,
+                checkpointId);
+        return false;
+    }
+
     private void allTaskReady() {
         if (pipelineTaskStatus.size() != plan.getPipelineSubtasks().size()) {
             return;
@@ -604,14 +651,16 @@ public class CheckpointCoordinator {
                                             error,
                                             CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
                                 } else if (completedCheckpoint != null) {
-                                    try {
-                                        completePendingCheckpoint(completedCheckpoint);
-                                    } catch (Throwable e) {
-                                        handleCoordinatorError(
-                                                "complete checkpoint failed",
-                                                e,
-                                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
-                                    }
+                                    completePendingCheckpoint(completedCheckpoint)
+                                            .exceptionally(
+                                                    e -> {
+                                                        handleCoordinatorError(
+                                                                "complete checkpoint failed",
+                                                                e,
+                                                                CheckpointCloseReason
+                                                                        .CHECKPOINT_INSIDE_ERROR);
+                                                        return null;
+                                                    });
                                 } else {
                                     LOG.info(
                                             "skip this checkpoint cause by completedCheckpoint is null");
@@ -825,6 +874,11 @@ public class CheckpointCoordinator {
                 location.getJobId(),
                 ackOperation.getBarrier().toString());
 
+        pendingCheckpoint
+                .getPhaseMetrics()
+                .reportTaskAck(
+                        ackOperation.getAlignDurationMillis(),
+                        ackOperation.getSnapshotDurationMillis());
         pendingCheckpoint.acknowledgeTask(
                 location,
                 ackOperation.getStates(),
@@ -838,7 +892,13 @@ public class CheckpointCoordinator {
         }
     }
 
-    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+    /**
+     * Persist the completed checkpoint and notify the tasks as soon as it is durable. The
+     * serialization and the upload run on the bounded persist executor without holding the
+     * coordinator monitor, the checkpoints still complete in the order they were acknowledged.
+     */
+    public CompletableFuture<Void> completePendingCheckpoint(
+            CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -849,46 +909,88 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
         final long checkpointId = completedCheckpoint.getCheckpointId();
-        completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
+        PendingCheckpoint pendingCheckpoint = pendingCheckpoints.get(checkpointId);
+        CheckpointPhaseMetrics phaseMetrics =
+                pendingCheckpoint != null
+                        ? pendingCheckpoint.getPhaseMetrics()
+                        : new CheckpointPhaseMetrics(checkpointId);
+        CompletableFuture<Void> persisted =
+                completedCheckpoint.getCheckpointType().notCompletedCheckpoint()
+                        ? CompletableFuture.runAsync(
+                                () -> persistCheckpoint(completedCheckpoint, phaseMetrics),
+                                persistExecutorService)
+                        : CompletableFuture.completedFuture(null);
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        CompletableFuture<Void> previous;
+        synchronized (persistLock) {
+            previous = persistTail;
+            persistTail = completed;
+        }
+        // the failure of the previous checkpoint is handled by its own future
+        previous.whenComplete(
+                (v, previousError) ->
+                        persisted.whenCompleteAsync(
+                                (result, error) -> {
+                                    if (error != null) {
+                                        completed.completeExceptionally(error);
+                                        return;
+                                    }
+                                    try {
+                                        finishCheckpoint(completedCheckpoint, phaseMetrics);
+                                        completed.complete(null);
+                                    } catch (Throwable e) {
+                                        completed.completeExceptionally(e);
+                                    }
+                                },
+                                executorService));
+        return completed;
+    }
+
+    private void persistCheckpoint(
+            CompletedCheckpoint completedCheckpoint, CheckpointPhaseMetrics phaseMetrics) {
         try {
-            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
-                checkpointStorage.storeCheckPoint(
-                        PipelineState.builder()
-                                .checkpointId(checkpointId)
-                                .jobId(String.valueOf(jobId))
-                                .pipelineId(pipelineId)
-                                .states(states)
-                                .build());
-            }
-            if (completedCheckpointIds.size()
-                                    % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            == 0
-                    && completedCheckpointIds.size()
-                                    / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            > 1) {
-                List<String> needDeleteCheckpointId = new ArrayList<>();
-                for (int i = 0;
-                        i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
-                        i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
-                }
-                checkpointStorage.deleteCheckpoint(
-                        String.valueOf(completedCheckpoint.getJobId()),
-                        String.valueOf(completedCheckpoint.getPipelineId()),
-                        needDeleteCheckpointId);
-            }
+            long startTime = System.currentTimeMillis();
+            byte[] states = serializer.serialize(completedCheckpoint);
+            long serializedTime = System.currentTimeMillis();
+            phaseMetrics.setSerializeDurationMillis(serializedTime - startTime);
+            checkpointStorage.storeCheckPoint(
+                    PipelineState.builder()
+                            .checkpointId(completedCheckpoint.getCheckpointId())
+                            .jobId(String.valueOf(jobId))
+                            .pipelineId(pipelineId)
+                            .states(states)
+                            .build());
+            phaseMetrics.setUploadDurationMillis(System.currentTimeMillis() - serializedTime);
         } catch (Throwable e) {
             LOG.error("store checkpoint states failed.", e);
             sneakyThrow(e);
         }
+    }
+
+    private synchronized void finishCheckpoint(
+            CompletedCheckpoint completedCheckpoint, CheckpointPhaseMetrics phaseMetrics) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        if (!pendingCheckpoints.containsKey(checkpointId)) {
+            LOG.info(
+                    "skip notify checkpoint({}/{}@{}), the pending checkpoints have been cleaned",
+                    checkpointId,
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            return;
+        }
+        completedCheckpointIds.addLast(String.valueOf(checkpointId));
+        deleteRetiredCheckpoints(completedCheckpoint);
         LOG.info(
                 "pending checkpoint({}/{}@{}) notify finished!",
                 completedCheckpoint.getCheckpointId(),
                 completedCheckpoint.getPipelineId(),
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
+        long notifyStartTime = System.currentTimeMillis();
         notifyCompleted(completedCheckpoint);
+        phaseMetrics.setNotifyDurationMillis(System.currentTimeMillis() - notifyStartTime);
+        latestPhaseMetrics = phaseMetrics;
+        LOG.debug("checkpoint phase metrics: {}", phaseMetrics);
         pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
         pendingCounter.decrementAndGet();
         if (isCompleted()) {
@@ -905,6 +1007,41 @@ public class CheckpointCoordinator {
         }
     }
 
+    /** Delete the checkpoints beyond the retained ones, the deletion does not block the notify. */
+    private void deleteRetiredCheckpoints(CompletedCheckpoint completedCheckpoint) {
+        int maxRetainedCheckpoints = coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
+        if (completedCheckpointIds.size() % maxRetainedCheckpoints != 0
+                || completedCheckpointIds.size() / maxRetainedCheckpoints <= 1) {
+            return;
+        }
+        List<String> needDeleteCheckpointId = new ArrayList<>();
+        for (int i = 0; i < maxRetainedCheckpoints; i++) {
+            needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
+        }
+        CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                checkpointStorage.deleteCheckpoint(
+                                        String.valueOf(completedCheckpoint.getJobId()),
+                                        String.valueOf(completedCheckpoint.getPipelineId()),
+                                        needDeleteCheckpointId);
+                            } catch (Exception e) {
+                                sneakyThrow(e);
+                            }
+                        },
+                        persistExecutorService)
+                .exceptionally(
+                        e -> {
+                            LOG.warn("delete checkpoints {} failed.", needDeleteCheckpointId, e);
+                            return null;
+                        });
+    }
+
+    /** The phase metrics of the latest completed checkpoint, null if there is none yet. */
+    public CheckpointPhaseMetrics getLatestPhaseMetrics() {
+        return latestPhaseMetrics;
+    }
+
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
         if (checkpoint.getCheckpointType().isSchemaChangeAfterCheckpoint()) {
             completeSchemaChangeAfterCheckpoint(checkpoint);
@@ -34,6 +34,7 @@ import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.job.Job;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.core.job.PipelineStatus;
+import org.apache.seatunnel.engine.server.checkpoint.operation.CleanTaskLocalStateOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeAfterCheckpointOperation;
@@ -55,8 +56,13 @@ import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -85,6 +91,14 @@ public class CheckpointManager {
 
     private final ExecutorService executorService;
 
+    private final CheckpointConfig checkpointConfig;
+
+    /**
+     * Serializes and uploads the completed checkpoints of all pipelines, the idle threads are
+     * released so a finished job does not hold them.
+     */
+    private final ExecutorService persistExecutorService;
+
     public CheckpointManager(
             long jobId,
             boolean isStartWithSavePoint,
@@ -96,6 +110,7 @@ public class CheckpointManager {
             IMap<Object, Object> runningJobStateIMap)
             throws CheckpointStorageException {
         this.executorService = executorService;
+        this.checkpointConfig = checkpointConfig;
         this.jobId = jobId;
         this.nodeEngine = nodeEngine;
         this.jobMaster = jobMaster;
@@ -105,6 +120,9 @@ public class CheckpointManager {
                                 CheckpointStorageFactory.class,
                                 checkpointConfig.getStorage().getStorage())
                         .create(checkpointConfig.getStorage().getStoragePluginConfig());
+        this.persistExecutorService =
+                createPersistExecutorService(
+                        jobId, checkpointConfig.getStorage().getMaxConcurrentUploads());
         this.coordinatorMap =
                 MDCTracer.tracing(checkpointPlanMap.values().parallelStream())
                         .map(
@@ -140,6 +158,7 @@ public class CheckpointManager {
                                                 idCounter,
                                                 pipelineState,
                                                 executorService,
+                                                persistExecutorService,
                                                 runningJobStateIMap,
                                                 isStartWithSavePoint);
                                     } catch (Exception e) {
@@ -152,6 +171,46 @@ public class CheckpointManager {
                                         CheckpointCoordinator::getPipelineId, Function.identity()));
     }
 
+    private static ExecutorService createPersistExecutorService(
+            long jobId, int maxConcurrentUploads) {
+        int threads = Math.max(1, maxConcurrentUploads);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor persistExecutor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName(
+                                    String.format(
+                                            "checkpoint-persist-%s-%s",
+                                            jobId, threadCount.incrementAndGet()));
+                            return thread;
+                        });
+        persistExecutor.allowCoreThreadTimeOut(true);
+        return MDCTracer.tracing(persistExecutor);
+    }
+
+    /**
+     * The phase metrics of the latest completed checkpoint of each pipeline. <br>
+     * key: the pipeline id of the job; value: the phase metrics;
+     */
+    public Map<Integer, CheckpointPhaseMetrics> getLatestCheckpointPhaseMetrics() {
+        Map<Integer, CheckpointPhaseMetrics> phaseMetrics = new HashMap<>();
+        coordinatorMap.forEach(
+                (pipelineId, coordinator) -> {
+                    CheckpointPhaseMetrics metrics = coordinator.getLatestPhaseMetrics();
+                    if (metrics != null) {
+                        phaseMetrics.put(pipelineId, metrics);
+                    }
+                });
+        return phaseMetrics;
+    }
+
     /**
      * Called by the JobMaster, actually triggered by the user. <br>
      * After the savepoint is triggered, it will cause the job to stop automatically.
@@ -244,6 +303,18 @@ public class CheckpointManager {
                 && !isSavePointEnd()) {
             checkpointStorage.deleteCheckpoint(jobId + "");
         }
+        if (jobStatus.isEndState() && checkpointConfig.isLocalStateCacheEnabled()) {
+            // the local states are only used to restore the running job
+            nodeEngine
+                    .getClusterService()
+                    .getMembers()
+                    .forEach(
+                            member ->
+                                    NodeEngineUtil.sendOperationToMemberNode(
+                                            nodeEngine,
+                                            new CleanTaskLocalStateOperation(jobId),
+                                            member.getAddress()));
+        }
     }
 
     /**
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The time spent in each phase of a checkpoint. The align and snapshot time is the maximum reported
+ * by the tasks, the other phases are measured by the {@link CheckpointCoordinator}.
+ */
+@Getter
+@ToString
+public class CheckpointPhaseMetrics {
+
+    private final long checkpointId;
+
+    /** From the trigger until the slowest task received the barrier on all its inputs. */
+    private volatile long alignDurationMillis;
+
+    /** The longest time a task took to snapshot its actions after the barrier was aligned. */
+    private volatile long snapshotDurationMillis;
+
+    private volatile long serializeDurationMillis;
+
+    /** The time spent writing the checkpoint to the checkpoint storage. */
+    private volatile long uploadDurationMillis;
+
+    /** The time spent notifying the tasks that the checkpoint is completed. */
+    private volatile long notifyDurationMillis;
+
+    public CheckpointPhaseMetrics(long checkpointId) {
+        this.checkpointId = checkpointId;
+    }
+
+    public synchronized void reportTaskAck(long alignDurationMillis, long snapshotDurationMillis) {
+        this.alignDurationMillis = Math.max(this.alignDurationMillis, alignDurationMillis);
+        this.snapshotDurationMillis = Math.max(this.snapshotDurationMillis, snapshotDurationMillis);
+    }
+
+    void setSerializeDurationMillis(long serializeDurationMillis) {
+        this.serializeDurationMillis = serializeDurationMillis;
+    }
+
+    void setUploadDurationMillis(long uploadDurationMillis) {
+        this.uploadDurationMillis = uploadDurationMillis;
+    }
+
+    void setNotifyDurationMillis(long notifyDurationMillis) {
+        this.notifyDurationMillis = notifyDurationMillis;
+    }
+}
@@ -61,6 +61,8 @@ public class PendingCheckpoint implements Checkpoint {
 
     @Setter ScheduledFuture<?> checkpointTimeOutFuture;
 
+    @Getter private final CheckpointPhaseMetrics phaseMetrics;
+
     public PendingCheckpoint(
             long jobId,
             int pipelineId,
@@ -79,6 +81,7 @@ public class PendingCheckpoint implements Checkpoint {
         this.taskStatistics = taskStatistics;
         this.actionStates = actionStates;
         this.completableFuture = new CompletableFuture<>();
+        this.phaseMetrics = new CheckpointPhaseMetrics(checkpointId);
     }
 
     @Override
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps a copy of the last snapshots of the tasks running on this worker on the local disk. A
+ * restored task scheduled on the same worker reads its states from here instead of receiving them
+ * from the master, the copy is only used when its checksum matches the restored checkpoint.
+ */
+@Slf4j
+public class TaskLocalStateStore {
+
+    private static final String STATE_FILE_SUFFIX = ".state";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /** The states of the pending checkpoint are kept next to the last completed one. */
+    private static final int RETAINED_SNAPSHOTS = 2;
+
+    private final Path baseDir;
+
+    public TaskLocalStateStore(String baseDir) {
+        this.baseDir = Paths.get(baseDir);
+    }
+
+    public void store(
+            TaskLocation taskLocation, long checkpointId, List<ActionSubtaskState> states) {
+        Path taskDir = taskDir(taskLocation);
+        try {
+            Files.createDirectories(taskDir);
+            Path tempFile = taskDir.resolve(checkpointId + TEMP_FILE_SUFFIX);
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeLong(checksum(states));
+                out.writeInt(states.size());
+                for (ActionSubtaskState state : states) {
+                    writeState(out, state);
+                }
+            }
+            Files.move(
+                    tempFile,
+                    taskDir.resolve(checkpointId + STATE_FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            deleteRetiredSnapshots(taskDir);
+        } catch (IOException e) {
+            log.warn(
+                    "store the local state of task {} for checkpoint {} failed",
+                    taskLocation,
+                    checkpointId,
+                    e);
+        }
+    }
+
+    /**
+     * Load the local states of the task for the checkpoint.
+     *
+     * @return the states, or null if there is no valid local copy matching the checksum
+     */
+    public List<ActionSubtaskState> load(
+            TaskLocation taskLocation, long checkpointId, long expectedChecksum) {
+        Path stateFile = taskDir(taskLocation).resolve(checkpointId + STATE_FILE_SUFFIX);
+        if (!Files.exists(stateFile)) {
+            return null;
+        }
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile)))) {
+            long storedChecksum = in.readLong();
+            int size = in.readInt();
+            List<ActionSubtaskState> states = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                states.add(readState(in));
+            }
+            long actualChecksum = checksum(states);
+            if (actualChecksum != storedChecksum || actualChecksum != expectedChecksum) {
+                log.info(
+                        "the local state of task {} for checkpoint {} does not match the checksum",
+                        taskLocation,
+                        checkpointId);
+                return null;
+            }
+            return states;
+        } catch (IOException e) {
+            log.warn(
+                    "load the local state of task {} for checkpoint {} failed",
+                    taskLocation,
+                    checkpointId,
+                    e);
+            return null;
+        }
+    }
+
+    /** Delete the local states of all the tasks of the job. */
+    public void clean(long jobId) {
+        Path jobDir = baseDir.resolve(String.valueOf(jobId));
+        if (!Files.exists(jobDir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(jobDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("clean the local states of job {} failed", jobId, e);
+        }
+    }
+
+    /**
+     * The checksum of the states, independent of their order. The master computes it over the
+     * states of the restored checkpoint, the worker over its local copy.
+     */
+    public static long checksum(List<ActionSubtaskState> states) {
+        CRC32 crc = new CRC32();
+        states.stream()
+                .sorted(
+                        Comparator.comparing(
+                                        (ActionSubtaskState state) -> state.getStateKey().getName())
+                                .thenComparingInt(ActionSubtaskState::getIndex))
+                .forEach(
+                        state -> {
+                            updateBytes(
+                                    crc,
+                                    state.getStateKey().getName().getBytes(StandardCharsets.UTF_8));
+                            updateInt(crc, state.getIndex());
+                            List<byte[]> values = state.getState();
+                            if (values == null) {
+                                updateInt(crc, -1);
+                                return;
+                            }
+                            updateInt(crc, values.size());
+                            values.forEach(value -> updateBytes(crc, value));
+                        });
+        return crc.getValue();
+    }
+
+    private Path taskDir(TaskLocation taskLocation) {
+        return baseDir.resolve(String.valueOf(taskLocation.getJobId()))
+                .resolve(String.valueOf(taskLocation.getPipelineId()))
+                .resolve(String.valueOf(taskLocation.getTaskID()));
+    }
+
+    private void deleteRetiredSnapshots(Path taskDir) throws IOException {
+        List<Long> checkpointIds;
+        try (Stream<Path> files = Files.list(taskDir)) {
+            checkpointIds =
+                    files.map(file -> file.getFileName().toString())
+                            .filter(name -> name.endsWith(STATE_FILE_SUFFIX))
+                            .map(
+                                    name ->
+                                            Long.parseLong(
+                                                    name.substring(
+                                                            0,
+                                                            name.length()
+                                                                    - STATE_FILE_SUFFIX.length())))
+                            .sorted(Comparator.reverseOrder())
+                            .collect(Collectors.toList());
+        }
+        for (int i = RETAINED_SNAPSHOTS; i < checkpointIds.size(); i++) {
+            Files.deleteIfExists(taskDir.resolve(checkpointIds.get(i) + STATE_FILE_SUFFIX));
+        }
+    }
+
+    private static void writeState(DataOutputStream out, ActionSubtaskState state)
+            throws IOException {
+        out.writeUTF(state.getStateKey().getName());
+        out.writeInt(state.getIndex());
+        List<byte[]> values = state.getState();
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (byte[] value : values) {
+            if (value == null) {
+                out.writeInt(-1);
+            } else {
+                out.writeInt(value.length);
+                out.write(value);
+            }
+        }
+    }
+
+    private static ActionSubtaskState readState(DataInputStream in) throws IOException {
+        ActionStateKey stateKey = new ActionStateKey(in.readUTF());
+        int index = in.readInt();
+        int size = in.readInt();
+        List<byte[]> values = null;
+        if (size >= 0) {
+            values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int length = in.readInt();
+                if (length < 0) {
+                    values.add(null);
+                } else {
+                    byte[] value = new byte[length];
+                    in.readFully(value);
+                    values.add(value);
+                }
+            }
+        }
+        return new ActionSubtaskState(stateKey, index, values);
+    }
+
+    private static void updateInt(CRC32 crc, int value) {
+        crc.update(value >>> 24);
+        crc.update(value >>> 16);
+        crc.update(value >>> 8);
+        crc.update(value);
+    }
+
+    private static void updateBytes(CRC32 crc, byte[] value) {
+        if (value == null) {
+            updateInt(crc, -1);
+            return;
+        }
+        updateInt(crc, value.length);
+        crc.update(value, 0, value.length);
+    }
+}
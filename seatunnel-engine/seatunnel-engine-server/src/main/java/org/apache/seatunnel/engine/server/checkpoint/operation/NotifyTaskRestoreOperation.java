@@ -22,6 +22,7 @@ import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.TaskLocalStateStore;
 import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundException;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
@@ -36,20 +37,40 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @NoArgsConstructor
 @Slf4j
 public class NotifyTaskRestoreOperation extends TaskOperation {
 
+    private static final long NO_LOCAL_CHECKPOINT = -1L;
+
     private List<ActionSubtaskState> restoredState;
 
+    /** The checkpoint whose local copy on the worker is restored, -1 to use the sent states. */
+    private long localCheckpointId = NO_LOCAL_CHECKPOINT;
+
+    private long localStateChecksum;
+
+    /** False if the local copy of the states is missing or invalid, nothing is restored. */
+    private boolean restored;
+
     public NotifyTaskRestoreOperation(
             TaskLocation taskLocation, List<ActionSubtaskState> restoredState) {
         super(taskLocation);
         this.restoredState = restoredState;
     }
 
+    /** Restore the task from the local copy of the states kept by {@link TaskLocalStateStore}. */
+    public NotifyTaskRestoreOperation(
+            TaskLocation taskLocation, long localCheckpointId, long localStateChecksum) {
+        super(taskLocation);
+        this.restoredState = Collections.emptyList();
+        this.localCheckpointId = localCheckpointId;
+        this.localStateChecksum = localStateChecksum;
+    }
+
     @Override
     public int getFactoryId() {
         return CheckpointDataSerializerHook.FACTORY_ID;
@@ -67,6 +88,8 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
         for (ActionSubtaskState state : restoredState) {
             out.writeObject(state);
         }
+        out.writeLong(localCheckpointId);
+        out.writeLong(localStateChecksum);
     }
 
     @Override
@@ -77,11 +100,36 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
         for (int i = 0; i < size; i++) {
             restoredState.add(in.readObject());
         }
+        localCheckpointId = in.readLong();
+        localStateChecksum = in.readLong();
+    }
+
+    @Override
+    public Object getResponse() {
+        return restored;
     }
 
     @Override
     public void runInternal() throws Exception {
         SeaTunnelServer server = getService();
+        if (localCheckpointId != NO_LOCAL_CHECKPOINT) {
+            TaskLocalStateStore localStateStore =
+                    server.getTaskExecutionService().getTaskLocalStateStore();
+            List<ActionSubtaskState> localState =
+                    localStateStore == null
+                            ? null
+                            : localStateStore.load(
+                                    taskLocation, localCheckpointId, localStateChecksum);
+            if (localState == null) {
+                return;
+            }
+            log.info(
+                    "restore task {} from the local state of checkpoint {}",
+                    taskLocation,
+                    localCheckpointId);
+            restoredState = localState;
+        }
+        restored = true;
         RetryUtils.retryWithException(
                 () -> {
                     log.debug("NotifyTaskRestoreOperation " + taskLocation);
@@ -46,8 +46,19 @@ public class TaskAcknowledgeOperation extends TracingOperation
 
     private List<ActionSubtaskState> states;
 
+    /** The time from the checkpoint trigger until the task acked the barrier the first time. */
+    private long alignDurationMillis;
+
+    /** The time the task took from the first barrier ack until all its actions acked. */
+    private long snapshotDurationMillis;
+
     public TaskAcknowledgeOperation() {}
 
+    public TaskAcknowledgeOperation(
+            TaskLocation taskLocation, CheckpointBarrier barrier, List<ActionSubtaskState> states) {
+        this(taskLocation, barrier, states, 0L, 0L);
+    }
+
     @Override
     public int getFactoryId() {
         return CheckpointDataSerializerHook.FACTORY_ID;
@@ -64,6 +75,8 @@ public class TaskAcknowledgeOperation extends TracingOperation
         out.writeObject(taskLocation);
         out.writeObject(barrier);
         out.writeObject(states);
+        out.writeLong(alignDurationMillis);
+        out.writeLong(snapshotDurationMillis);
     }
 
     @Override
@@ -72,6 +85,8 @@ public class TaskAcknowledgeOperation extends TracingOperation
         taskLocation = in.readObject();
         barrier = in.readObject();
         states = in.readObject();
+        alignDurationMillis = in.readLong();
+        snapshotDurationMillis = in.readLong();
     }
 
     @Override
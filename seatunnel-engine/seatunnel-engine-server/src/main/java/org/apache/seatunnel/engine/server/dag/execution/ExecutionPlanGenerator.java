@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.options.EnvCommonOptions;
+import org.apache.seatunnel.api.sink.SupportPrimaryKeyPartition;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -25,6 +28,7 @@ import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
@@ -74,6 +78,16 @@ public class ExecutionPlanGenerator {
         this.engineConfig = engineConfig;
     }
 
+    private boolean isUnalignedCheckpoint() {
+        return ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions())
+                .get(EnvCommonOptions.CHECKPOINT_UNALIGNED);
+    }
+
+    private boolean isShuffleByPrimaryKey() {
+        return ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions())
+                .get(EnvCommonOptions.SINK_SHUFFLE_BY_PRIMARY_KEY);
+    }
+
     public ExecutionPlan generate() {
         log.debug("Generate execution plan using logical plan:");
 
@@ -83,14 +97,17 @@ public class ExecutionPlanGenerator {
         executionEdges = generateShuffleEdges(executionEdges);
         log.debug("Phase 2: generate shuffle edge list {}", executionEdges);
 
+        executionEdges = generatePrimaryKeyShuffleEdges(executionEdges);
+        log.debug("Phase 3: generate primary key shuffle edge list {}", executionEdges);
+
         executionEdges = generateTransformChainEdges(executionEdges);
-        log.debug("Phase 3: generate transform chain edge list {}", executionEdges);
+        log.debug("Phase 4: generate transform chain edge list {}", executionEdges);
 
         List<Pipeline> pipelines = generatePipelines(executionEdges);
-        log.debug("Phase 4: generate pipeline list {}", pipelines);
+        log.debug("Phase 5: generate pipeline list {}", pipelines);
 
         ExecutionPlan executionPlan = new ExecutionPlan(pipelines, jobImmutableInformation);
-        log.debug("Phase 5: generate execution plan: {}", executionPlan);
+        log.debug("Phase 6: generate execution plan: {}", executionPlan);
 
         return executionPlan;
     }
@@ -262,7 +279,10 @@ public class ExecutionPlanGenerator {
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .unalignedCheckpoint(isUnalignedCheckpoint())
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -283,6 +303,105 @@ public class ExecutionPlanGenerator {
         return newExecutionEdges;
     }
 
+    /**
+     * Insert a {@link ShuffleKeyHashStrategy} shuffle in front of the sinks which prefer the rows
+     * with the same primary key are always written by the same writer. The job has to enable it,
+     * the shuffle goes through the Hazelcast queues.
+     */
+    @SuppressWarnings("MagicNumber")
+    private Set<ExecutionEdge> generatePrimaryKeyShuffleEdges(Set<ExecutionEdge> executionEdges) {
+        if (!isShuffleByPrimaryKey()) {
+            return executionEdges;
+        }
+        Map<Long, Integer> inputVertexCount = new HashMap<>();
+        executionEdges.forEach(
+                edge ->
+                        inputVertexCount.merge(
+                                edge.getRightVertex().getVertexId(), 1, Integer::sum));
+
+        Set<ExecutionEdge> newExecutionEdges = new LinkedHashSet<>();
+        for (ExecutionEdge edge : executionEdges) {
+            ExecutionVertex leftVertex = edge.getLeftVertex();
+            ExecutionVertex rightVertex = edge.getRightVertex();
+            // the sink with multiple input vertices can not be fed by several shuffles, a single
+            // writer gets all the rows of a key anyway
+            if (leftVertex.getAction() instanceof ShuffleAction
+                    || inputVertexCount.get(rightVertex.getVertexId()) > 1
+                    || rightVertex.getParallelism() <= 1
+                    || !isPrimaryKeyPartitionSink(rightVertex.getAction())) {
+                newExecutionEdges.add(edge);
+                continue;
+            }
+            List<CatalogTable> catalogTables = getProducedCatalogTables(leftVertex.getAction());
+            if (catalogTables.isEmpty()) {
+                newExecutionEdges.add(edge);
+                continue;
+            }
+
+            Action inputAction = leftVertex.getAction();
+            ShuffleStrategy shuffleStrategy =
+                    ShuffleKeyHashStrategy.builder()
+                            .jobId(jobImmutableInformation.getJobId())
+                            .inputPartitions(inputAction.getParallelism())
+                            .targetPartitions(rightVertex.getParallelism())
+                            .catalogTables(catalogTables)
+                            .queueEmptyQueueTtl(
+                                    (int)
+                                            (engineConfig
+                                                            .getCheckpointConfig()
+                                                            .getCheckpointInterval()
+                                                    * 3))
+                            .build();
+            ShuffleConfig shuffleConfig =
+                    ShuffleConfig.builder()
+                            .shuffleStrategy(shuffleStrategy)
+                            .unalignedCheckpoint(isUnalignedCheckpoint())
+                            .build();
+
+            long shuffleVertexId = idGenerator.getNextId();
+            String shuffleActionName =
+                    String.format(
+                            "Shuffle [%s -> %s]",
+                            inputAction.getName(), rightVertex.getAction().getName());
+            ShuffleAction shuffleAction =
+                    new ShuffleAction(shuffleVertexId, shuffleActionName, shuffleConfig);
+            shuffleAction.setParallelism(rightVertex.getParallelism());
+            ExecutionVertex shuffleVertex =
+                    new ExecutionVertex(
+                            shuffleVertexId, shuffleAction, shuffleAction.getParallelism());
+            log.info(
+                    "Shuffle rows of {} by primary key into {} writers of {}",
+                    inputAction.getName(),
+                    rightVertex.getParallelism(),
+                    rightVertex.getAction().getName());
+            newExecutionEdges.add(new ExecutionEdge(leftVertex, shuffleVertex));
+            newExecutionEdges.add(new ExecutionEdge(shuffleVertex, rightVertex));
+        }
+        return newExecutionEdges;
+    }
+
+    private static boolean isPrimaryKeyPartitionSink(Action action) {
+        if (!(action instanceof SinkAction)) {
+            return false;
+        }
+        Object sink = ((SinkAction<?, ?, ?, ?>) action).getSink();
+        return sink instanceof SupportPrimaryKeyPartition
+                && ((SupportPrimaryKeyPartition) sink).partitionByPrimaryKey();
+    }
+
+    private static List<CatalogTable> getProducedCatalogTables(Action action) {
+        try {
+            if (action instanceof SourceAction) {
+                return ((SourceAction<?, ?, ?>) action).getSource().getProducedCatalogTables();
+            } else if (action instanceof TransformAction) {
+                return ((TransformAction) action).getTransform().getProducedCatalogTables();
+            }
+        } catch (UnsupportedOperationException e) {
+            log.warn("Can not get produced catalog tables of {}", action.getName(), e);
+        }
+        return Collections.emptyList();
+    }
+
     private Set<ExecutionEdge> generateTransformChainEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> inputVerticesMap = new HashMap<>();
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new HashMap<>();
@@ -264,6 +264,9 @@ public class PhysicalPlan {
             log.info(
                     String.format(
                             "%s turned from state %s to %s.", jobFullName, current, targetState));
+            if (jobMaster != null) {
+                jobMaster.publishJobStatus(targetState);
+            }
             stateProcess();
         } catch (Exception e) {
             log.error(ExceptionUtils.getMessage(e));
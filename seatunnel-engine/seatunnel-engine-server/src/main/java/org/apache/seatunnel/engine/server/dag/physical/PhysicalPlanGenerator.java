@@ -205,7 +205,7 @@ public class PhysicalPlanGenerator {
                                                     .pipelineId(pipelineId)
                                                     .pipelineSubtasks(pipelineTasks)
                                                     .startingSubtasks(startingTasks)
-                                                    .pipelineActions(pipeline.getActions())
+                                                    .pipelineActions(getPipelineActions(pipeline))
                                                     .subtaskActions(subtaskActions)
                                                     .build());
                                     return new SubPlan(
@@ -669,6 +669,20 @@ public class PhysicalPlanGenerator {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * A shuffle action runs in the upstream tasks as shuffle sink and in the downstream tasks as
+     * shuffle source, so the state of an action has as many slots as the most parallel task which
+     * reports it. The shuffle sources also add the key of their in-flight records.
+     */
+    private Map<ActionStateKey, Integer> getPipelineActions(Pipeline pipeline) {
+        Map<ActionStateKey, Integer> pipelineActions = new HashMap<>(pipeline.getActions());
+        subtaskActions.values().stream()
+                .flatMap(Set::stream)
+                .filter(action -> action.f1() >= 0)
+                .forEach(action -> pipelineActions.merge(action.f0(), action.f1() + 1, Math::max));
+        return pipelineActions;
+    }
+
     private void fillCheckpointPlan(SeaTunnelTask task) {
         pipelineTasks.add(task.getTaskLocation());
         subtaskActions.put(
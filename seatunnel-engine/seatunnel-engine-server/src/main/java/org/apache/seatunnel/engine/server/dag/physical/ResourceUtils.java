@@ -17,15 +17,24 @@
 
 package org.apache.seatunnel.engine.server.dag.physical;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.resourcemanager.NoEnoughResourceException;
 import org.apache.seatunnel.engine.server.resourcemanager.ResourceManager;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.TrafficAffinity;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.SourceSeaTunnelTask;
 
+import com.hazelcast.cluster.Address;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import lombok.NonNull;
@@ -34,6 +43,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+
 public class ResourceUtils {
 
     private static final ILogger LOGGER = Logger.getLogger(ResourceUtils.class);
@@ -92,11 +104,27 @@ public class ResourceUtils {
     }
 
     public static CompletableFuture<SlotProfile> applyResourceForTask(
-            ResourceManager resourceManager, PhysicalVertex task, Map<String, String> tags) {
+            ResourceManager resourceManager,
+            PhysicalVertex task,
+            Map<String, String> tags,
+            Address preferredWorker) {
+        return applyResourceForTask(resourceManager, task, tags, preferredWorker, null);
+    }
+
+    public static CompletableFuture<SlotProfile> applyResourceForTask(
+            ResourceManager resourceManager,
+            PhysicalVertex task,
+            Map<String, String> tags,
+            Address preferredWorker,
+            TrafficAffinity trafficAffinity) {
         // TODO custom resource size
         try {
             return resourceManager.applyResource(
-                    task.getTaskGroupLocation().getJobId(), new ResourceProfile(), tags);
+                    task.getTaskGroupLocation().getJobId(),
+                    new ResourceProfile()
+                            .withPreferredWorker(preferredWorker)
+                            .withTrafficAffinity(trafficAffinity),
+                    tags);
         } catch (NoEnoughResourceException e) {
             LOGGER.severe(
                     String.format(
@@ -105,4 +133,76 @@ public class ResourceUtils {
             return null;
         }
     }
+
+    /**
+     * Estimate the records exchanged between the task groups of the pipeline. The source task
+     * groups which shuffle their records are connected to every shuffle task group, the records
+     * sent by a source task group are split over the shuffle task groups in proportion to the
+     * records they wrote in the previous runs of the pipeline. Without metrics of a previous run
+     * every edge weights 1, so the strategy still follows the topology.
+     *
+     * @param metrics the metrics contexts of the tasks, may be null
+     * @return the weight of the edges of each task group, keyed by both ends
+     */
+    public static Map<TaskGroupLocation, Map<TaskGroupLocation, Long>> estimateTaskGroupTraffic(
+            SubPlan subPlan, Map<TaskLocation, SeaTunnelMetricsContext> metrics) {
+        Map<TaskGroupLocation, Long> sent = new HashMap<>();
+        Map<TaskGroupLocation, Long> received = new HashMap<>();
+        for (PhysicalVertex vertex : subPlan.getPhysicalVertexList()) {
+            for (Task task : vertex.getTaskGroup().getTasks()) {
+                if (!(task instanceof SeaTunnelTask)) {
+                    continue;
+                }
+                SeaTunnelTask seaTunnelTask = (SeaTunnelTask) task;
+                if (!seaTunnelTask.containsAction(ShuffleAction.class)) {
+                    continue;
+                }
+                TaskGroupLocation taskGroupLocation = vertex.getTaskGroupLocation();
+                SeaTunnelMetricsContext metricsContext =
+                        metrics == null ? null : metrics.get(seaTunnelTask.getTaskLocation());
+                if (seaTunnelTask instanceof SourceSeaTunnelTask) {
+                    sent.merge(
+                            taskGroupLocation,
+                            countOf(metricsContext, SOURCE_RECEIVED_COUNT),
+                            Long::sum);
+                } else {
+                    received.merge(
+                            taskGroupLocation,
+                            countOf(metricsContext, SINK_WRITE_COUNT),
+                            Long::sum);
+                }
+            }
+        }
+        long totalReceived = received.values().stream().mapToLong(Long::longValue).sum();
+        Map<TaskGroupLocation, Map<TaskGroupLocation, Long>> traffic = new HashMap<>();
+        sent.forEach(
+                (source, sentCount) ->
+                        received.forEach(
+                                (shuffle, receivedCount) -> {
+                                    long weight =
+                                            totalReceived == 0
+                                                    ? 1
+                                                    : Math.max(
+                                                            1,
+                                                            (long)
+                                                                    ((double) sentCount
+                                                                            * receivedCount
+                                                                            / totalReceived));
+                                    traffic.computeIfAbsent(source, k -> new HashMap<>())
+                                            .put(shuffle, weight);
+                                    traffic.computeIfAbsent(shuffle, k -> new HashMap<>())
+                                            .put(source, weight);
+                                }));
+        return traffic;
+    }
+
+    private static long countOf(SeaTunnelMetricsContext metricsContext, String name) {
+        if (metricsContext == null) {
+            return 0;
+        }
+        return metricsContext.getMetrics(Counter.class).stream()
+                .filter(counter -> name.equals(counter.name()))
+                .mapToLong(Counter::getCount)
+                .sum();
+    }
 }
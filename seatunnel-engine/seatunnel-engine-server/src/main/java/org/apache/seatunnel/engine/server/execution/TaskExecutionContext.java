@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.hazelcast.cluster.Address;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.NodeEngineImpl;
@@ -78,4 +79,8 @@ public class TaskExecutionContext {
     public HazelcastInstance getInstance() {
         return nodeEngine.getHazelcastInstance();
     }
+
+    public SerializationService getSerializationService() {
+        return nodeEngine.getSerializationService();
+    }
 }
@@ -38,6 +38,7 @@ import org.apache.seatunnel.engine.server.telemetry.log.operation.CleanLogOperat
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
@@ -117,6 +118,10 @@ public class JobHistoryService {
         this.pendingJobMasterMap = pendingJobMasterMap;
         this.runningJobMasterMap = runningJobMasterMap;
         this.finishedJobStateImap = finishedJobStateImap;
+        // used by the filters and pages of the finished jobs REST API
+        this.finishedJobStateImap.addIndex(IndexType.HASH, "jobStatus");
+        this.finishedJobStateImap.addIndex(IndexType.HASH, "jobName");
+        this.finishedJobStateImap.addIndex(IndexType.SORTED, "finishTime");
         this.finishedJobMetricsImap = finishedJobMetricsImap;
         this.finishedJobDAGInfoImap = finishedJobVertexInfoImap;
         this.finishedJobDAGInfoImap.addEntryListener(new JobInfoExpiredListener(), true);
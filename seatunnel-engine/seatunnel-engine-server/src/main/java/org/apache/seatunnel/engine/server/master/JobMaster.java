@@ -52,6 +52,7 @@ import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
 import org.apache.seatunnel.engine.core.job.JobInfo;
 import org.apache.seatunnel.engine.core.job.JobResult;
 import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.core.job.JobStatusNotification;
 import org.apache.seatunnel.engine.core.job.PipelineStatus;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointManager;
@@ -68,12 +69,13 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.JobMetricsUtil;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
-import org.apache.seatunnel.engine.server.resourcemanager.AbstractResourceManager;
 import org.apache.seatunnel.engine.server.resourcemanager.ResourceManager;
 import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SlotAllocationStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SlotRatioStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SystemLoadStrategy;
+import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.TrafficLocalityStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.TrafficAffinity;
 import org.apache.seatunnel.engine.server.task.operation.CleanTaskGroupContextOperation;
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupMetricsOperation;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
@@ -116,6 +118,9 @@ import static org.apache.seatunnel.common.constants.JobMode.BATCH;
 public class JobMaster {
     private static final ILogger LOGGER = Logger.getLogger(JobMaster.class);
 
+    /** Metrics requests for the job within this window share one fan-out to the workers. */
+    private static final long JOB_METRICS_SAMPLE_TTL_MS = 1000;
+
     private PhysicalPlan physicalPlan;
 
     private final Data jobImmutableInformationData;
@@ -167,8 +172,17 @@ public class JobMaster {
 
     @Getter private final Set<ExecutionAddress> historyExecutionAddress = new HashSet<>();
 
+    /** The worker each task group last ran on, preferred on restore to reuse the local states. */
+    private final Map<TaskGroupLocation, Address> lastTaskGroupWorkers = new ConcurrentHashMap<>();
+
     private final IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
 
+    private final Object jobMetricsSampleLock = new Object();
+
+    private volatile List<RawJobMetrics> jobMetricsSample;
+
+    private volatile long jobMetricsSampleTime;
+
     /** If the job or pipeline cancel by user, needRestore will be false */
     @Getter private volatile boolean needRestore = true;
 
@@ -337,6 +351,8 @@ public class JobMaster {
         CheckpointConfig jobCheckpointConfig = new CheckpointConfig();
         jobCheckpointConfig.setCheckpointTimeout(defaultCheckpointConfig.getCheckpointTimeout());
         jobCheckpointConfig.setCheckpointInterval(defaultCheckpointConfig.getCheckpointInterval());
+        jobCheckpointConfig.setLocalStateCacheEnabled(
+                defaultCheckpointConfig.isLocalStateCacheEnabled());
 
         CheckpointStorageConfig jobCheckpointStorageConfig = new CheckpointStorageConfig();
         jobCheckpointStorageConfig.setStorage(defaultCheckpointConfig.getStorage().getStorage());
@@ -344,6 +360,8 @@ public class JobMaster {
                 defaultCheckpointConfig.getStorage().getStoragePluginConfig());
         jobCheckpointStorageConfig.setMaxRetainedCheckpoints(
                 defaultCheckpointConfig.getStorage().getMaxRetainedCheckpoints());
+        jobCheckpointStorageConfig.setMaxConcurrentUploads(
+                defaultCheckpointConfig.getStorage().getMaxConcurrentUploads());
         jobCheckpointConfig.setStorage(jobCheckpointStorageConfig);
 
         if (jobEnv.containsKey(EnvCommonOptions.CHECKPOINT_INTERVAL.key())) {
@@ -402,8 +420,7 @@ public class JobMaster {
         // is used to record the slot application status
         //        ((AbstractResourceManager) resourceManager)
         //                .setWorkerAssignedSlots(new ConcurrentHashMap<>());
-        SlotAllocationStrategy slotAllocationStrategy =
-                ((AbstractResourceManager) resourceManager).getSlotAllocationStrategy();
+        SlotAllocationStrategy slotAllocationStrategy = resourceManager.getSlotAllocationStrategy();
         if (slotAllocationStrategy instanceof SlotRatioStrategy) {
             ((SlotRatioStrategy) slotAllocationStrategy)
                     .setWorkerAssignedSlots(new ConcurrentHashMap<>());
@@ -443,6 +460,7 @@ public class JobMaster {
                     preApplyResourceFutures.entrySet()) {
                 try {
                     Address worker = entry.getValue().get().getWorker();
+                    lastTaskGroupWorkers.put(entry.getKey(), worker);
                     historyExecutionAddress.add(
                             new ExecutionAddress(worker.getHost(), worker.getPort()));
 
@@ -510,6 +528,10 @@ public class JobMaster {
             SubPlan subPlan,
             Map<TaskGroupLocation, CompletableFuture<SlotProfile>> preApplyResourceFutures) {
 
+        Map<TaskGroupLocation, Map<TaskGroupLocation, Long>> traffic =
+                estimateTaskGroupTraffic(subPlan);
+        Map<TaskGroupLocation, Address> placements = new ConcurrentHashMap<>();
+
         Map<TaskGroupLocation, CompletableFuture<SlotProfile>> coordinatorFutures = new HashMap<>();
         subPlan.getCoordinatorVertexList()
                 .forEach(
@@ -517,7 +539,11 @@ public class JobMaster {
                                 coordinatorFutures.put(
                                         coordinator.getTaskGroupLocation(),
                                         ResourceUtils.applyResourceForTask(
-                                                resourceManager, coordinator, subPlan.getTags())));
+                                                resourceManager,
+                                                coordinator,
+                                                subPlan.getTags(),
+                                                preferredWorker(
+                                                        coordinator.getTaskGroupLocation()))));
 
         Map<TaskGroupLocation, CompletableFuture<SlotProfile>> taskFutures = new HashMap<>();
         subPlan.getPhysicalVertexList()
@@ -526,13 +552,53 @@ public class JobMaster {
                                 taskFutures.put(
                                         task.getTaskGroupLocation(),
                                         ResourceUtils.applyResourceForTask(
-                                                resourceManager, task, subPlan.getTags())));
+                                                resourceManager,
+                                                task,
+                                                subPlan.getTags(),
+                                                preferredWorker(task.getTaskGroupLocation()),
+                                                trafficAffinity(
+                                                        task.getTaskGroupLocation(),
+                                                        traffic,
+                                                        placements))));
 
         preApplyResourceFutures.putAll(coordinatorFutures);
         preApplyResourceFutures.putAll(taskFutures);
         LOGGER.fine("preApplyResourceFutures size: " + preApplyResourceFutures.size());
     }
 
+    /** Only the traffic locality strategy needs the traffic between the task groups. */
+    private Map<TaskGroupLocation, Map<TaskGroupLocation, Long>> estimateTaskGroupTraffic(
+            SubPlan subPlan) {
+        if (!(resourceManager.getSlotAllocationStrategy() instanceof TrafficLocalityStrategy)) {
+            return Collections.emptyMap();
+        }
+        HashMap<TaskLocation, SeaTunnelMetricsContext> metrics = null;
+        try {
+            // the metrics of the previous runs of the pipeline, kept across failover and restore
+            metrics = metricsImap.get(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
+        } catch (Exception e) {
+            LOGGER.warning(
+                    "Failed to get the metrics to estimate the traffic, use the topology", e);
+        }
+        return ResourceUtils.estimateTaskGroupTraffic(subPlan, metrics);
+    }
+
+    private TrafficAffinity trafficAffinity(
+            TaskGroupLocation taskGroupLocation,
+            Map<TaskGroupLocation, Map<TaskGroupLocation, Long>> traffic,
+            Map<TaskGroupLocation, Address> placements) {
+        Map<TaskGroupLocation, Long> edgeWeights = traffic.get(taskGroupLocation);
+        return edgeWeights == null
+                ? null
+                : new TrafficAffinity(taskGroupLocation, edgeWeights, placements);
+    }
+
+    private Address preferredWorker(TaskGroupLocation taskGroupLocation) {
+        return jobCheckpointConfig.isLocalStateCacheEnabled()
+                ? lastTaskGroupWorkers.get(taskGroupLocation)
+                : null;
+    }
+
     public void run() {
         try {
             physicalPlan.startJob();
@@ -731,6 +797,11 @@ public class JobMaster {
         jobHistoryService.storeJobInfo(jobImmutableInformation.getJobId(), getJobDAGInfo());
         jobHistoryService.storeFinishedJobState(this);
         removeJobIMap();
+        // drops the metrics listeners of the clients still subscribed to the job
+        nodeEngine
+                .getHazelcastInstance()
+                .getTopic(Constant.TOPIC_JOB_METRICS_PREFIX + jobImmutableInformation.getJobId())
+                .destroy();
     }
 
     public Address queryTaskGroupAddress(TaskGroupLocation taskGroupLocation) {
@@ -776,8 +847,49 @@ public class JobMaster {
         return physicalPlan.getJobStatus();
     }
 
+    /**
+     * Push a job status transition to the clients subscribed to {@link Constant#TOPIC_JOB_STATUS},
+     * so they don't need to poll the master for it.
+     */
+    public void publishJobStatus(JobStatus jobStatus) {
+        try {
+            nodeEngine
+                    .getHazelcastInstance()
+                    .<JobStatusNotification>getTopic(Constant.TOPIC_JOB_STATUS)
+                    .publish(
+                            new JobStatusNotification(
+                                    jobImmutableInformation.getJobId(),
+                                    jobStatus,
+                                    System.currentTimeMillis()));
+        } catch (Exception e) {
+            LOGGER.warning(
+                    String.format(
+                            "Publish status %s of job %s failed: %s",
+                            jobStatus,
+                            jobImmutableInformation.getJobId(),
+                            ExceptionUtils.getMessage(e)));
+        }
+    }
+
+    /**
+     * The current metrics of the job. Every watching client asks for them on its own timer, so a
+     * sample is reused for {@link #JOB_METRICS_SAMPLE_TTL_MS} to keep the load on the workers
+     * independent of the number of clients.
+     */
     public List<RawJobMetrics> getCurrJobMetrics() {
+        if (System.currentTimeMillis() - jobMetricsSampleTime < JOB_METRICS_SAMPLE_TTL_MS) {
+            return jobMetricsSample;
+        }
+        synchronized (jobMetricsSampleLock) {
+            if (System.currentTimeMillis() - jobMetricsSampleTime >= JOB_METRICS_SAMPLE_TTL_MS) {
+                jobMetricsSample = sampleCurrJobMetrics();
+                jobMetricsSampleTime = System.currentTimeMillis();
+            }
+            return jobMetricsSample;
+        }
+    }
 
+    private List<RawJobMetrics> sampleCurrJobMetrics() {
         Map<TaskGroupLocation, Address> taskGroupLocationSlotProfileMap = new HashMap<>();
 
         ownedSlotProfilesIMap.forEach(
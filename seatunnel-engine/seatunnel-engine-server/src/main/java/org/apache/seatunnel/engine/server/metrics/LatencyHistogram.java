@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Metric;
+import org.apache.seatunnel.api.common.metrics.Unit;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Histogram of the end-to-end latency between a source subtask and the sink subtask which owns it.
+ *
+ * <p>The buckets are log-linear like the ones of a HDR histogram: values below {@link
+ * #SUB_BUCKET_COUNT} milliseconds are counted exactly, larger values fall into one of {@link
+ * #SUB_BUCKET_COUNT}/2 linear sub-buckets per power of two. So the error of a percentile stays
+ * below 1/16 while the histogram has a fixed size of a few kilobytes.
+ *
+ * <p>The latency of a long running job changes over time, so the histogram only covers the
+ * current and the previous window of {@link #WINDOW_MILLIS}. The percentiles follow a shift of the
+ * latency within two windows instead of being dominated by everything recorded since the start.
+ */
+public class LatencyHistogram implements Metric, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SUB_BUCKET_COUNT = 32;
+
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+
+    /** Latencies above ~34 years are clamped, the bucket count follows from it. */
+    private static final int MAX_VALUE_BITS = 40;
+
+    static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    static final long WINDOW_MILLIS = 60_000;
+
+    private final long sourceTaskID;
+
+    private long[] counts = new long[bucketIndex(MAX_VALUE) + 1];
+
+    private long[] previousCounts = new long[counts.length];
+
+    private long totalCount;
+
+    private long previousTotalCount;
+
+    private long maxValue;
+
+    private long previousMaxValue;
+
+    /** Wall clock time, a restored histogram goes on with the windows of the previous attempt. */
+    private long windowStart;
+
+    private transient LongSupplier clock;
+
+    public LatencyHistogram(long sourceTaskID) {
+        this(sourceTaskID, System::currentTimeMillis);
+    }
+
+    LatencyHistogram(long sourceTaskID, LongSupplier clock) {
+        this.sourceTaskID = sourceTaskID;
+        this.clock = clock;
+        this.windowStart = clock.getAsLong();
+    }
+
+    public long getSourceTaskID() {
+        return sourceTaskID;
+    }
+
+    public synchronized void record(long latencyMillis) {
+        // the clocks of the source and the sink nodes may drift apart
+        long value = Math.min(Math.max(latencyMillis, 0), MAX_VALUE);
+        roll();
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /** Returns the number of latencies recorded in the current and the previous window. */
+    public synchronized long getTotalCount() {
+        roll();
+        return totalCount + previousTotalCount;
+    }
+
+    public synchronized long getMaxValue() {
+        roll();
+        return Math.max(maxValue, previousMaxValue);
+    }
+
+    /**
+     * Returns the latency at the given percentile, e.g. {@code 99} for the p99.
+     *
+     * @param percentile the percentile in range 0..100
+     * @return the latency in milliseconds, 0 if nothing has been recorded in the last two windows
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        roll();
+        long total = totalCount + previousTotalCount;
+        if (total == 0) {
+            return 0;
+        }
+        long max = Math.max(maxValue, previousMaxValue);
+        long countAtPercentile =
+                Math.max(1, (long) Math.ceil(Math.min(percentile, 100D) / 100D * total));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i] + previousCounts[i];
+            if (count >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    private void roll() {
+        long elapsed = clock.getAsLong() - windowStart;
+        if (elapsed < WINDOW_MILLIS) {
+            return;
+        }
+        if (elapsed < 2 * WINDOW_MILLIS) {
+            long[] recycled = previousCounts;
+            previousCounts = counts;
+            counts = recycled;
+            previousTotalCount = totalCount;
+            previousMaxValue = maxValue;
+        } else {
+            // nothing was recorded for a whole window, e.g. the job was restored much later
+            Arrays.fill(previousCounts, 0);
+            previousTotalCount = 0;
+            previousMaxValue = 0;
+        }
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxValue = 0;
+        windowStart += elapsed - elapsed % WINDOW_MILLIS;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT
+                + (shift - 1) * SUB_BUCKET_HALF_COUNT
+                + (int) ((value >>> shift) - SUB_BUCKET_HALF_COUNT);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.clock = System::currentTimeMillis;
+    }
+
+    @Override
+    public String name() {
+        return String.valueOf(sourceTaskID);
+    }
+
+    @Override
+    public Unit unit() {
+        return Unit.MS;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{"
+                + "sourceTaskID="
+                + sourceTaskID
+                + ", totalCount="
+                + (totalCount + previousTotalCount)
+                + ", maxValue="
+                + Math.max(maxValue, previousMaxValue)
+                + '}';
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
 import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Gauge;
 import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.Metric;
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 
@@ -30,6 +33,20 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_MAX;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_P50;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_P95;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_P99;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_CAPACITY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_OCCUPANCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_POLL_IDLE_RATIO;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_PUT_BLOCKED_RATIO;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.EDGE;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.SOURCE_TASK_ID;
+
 @Slf4j
 public class SeaTunnelMetricsContext extends AbstractMetricsContext
         implements DynamicMetricsProvider {
@@ -52,6 +69,17 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                                 ProbeLevel.INFO,
                                 toProbeUnit(metric.unit()),
                                 ((Meter) metric).getRate());
+                    } else if (metric instanceof Gauge) {
+                        context.collect(
+                                tagger.copy(),
+                                name,
+                                ProbeLevel.INFO,
+                                toProbeUnit(metric.unit()),
+                                ((Gauge) metric).getValue());
+                    } else if (metric instanceof QueueMetric) {
+                        collectQueueMetric(tagger, context, (QueueMetric) metric);
+                    } else if (metric instanceof LatencyHistogram) {
+                        collectLatencyHistogram(tagger, context, (LatencyHistogram) metric);
                     } else {
                         throw new SeaTunnelException(
                                 "The value of Metric does not support "
@@ -61,6 +89,80 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                 });
     }
 
+    /** Returns the histogram of the latency markers of the given source subtask. */
+    public LatencyHistogram latencyHistogram(long sourceTaskID) {
+        // a restored context carries on with the histogram of the previous attempt
+        return (LatencyHistogram)
+                metrics.computeIfAbsent(
+                        "LatencyHistogram-" + sourceTaskID,
+                        name -> new LatencyHistogram(sourceTaskID));
+    }
+
+    public <M extends Metric> List<M> getMetrics(Class<M> type) {
+        return metrics.values().stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .collect(Collectors.toList());
+    }
+
+    private void collectQueueMetric(
+            MetricDescriptor tagger, MetricsCollectionContext context, QueueMetric queueMetric) {
+        MetricDescriptor edgeTagger = tagger.copy().withTag(EDGE, queueMetric.name());
+        context.collect(
+                edgeTagger.copy(),
+                QUEUE_OCCUPANCY,
+                ProbeLevel.INFO,
+                ProbeUnit.COUNT,
+                queueMetric.getOccupancy());
+        context.collect(
+                edgeTagger.copy(),
+                QUEUE_CAPACITY,
+                ProbeLevel.INFO,
+                ProbeUnit.COUNT,
+                queueMetric.getCapacity());
+        context.collect(
+                edgeTagger.copy(),
+                QUEUE_PUT_BLOCKED_RATIO,
+                ProbeLevel.INFO,
+                ProbeUnit.PERCENT,
+                queueMetric.getPutBlockedRatio());
+        context.collect(
+                edgeTagger.copy(),
+                QUEUE_POLL_IDLE_RATIO,
+                ProbeLevel.INFO,
+                ProbeUnit.PERCENT,
+                queueMetric.getPollIdleRatio());
+    }
+
+    private void collectLatencyHistogram(
+            MetricDescriptor tagger, MetricsCollectionContext context, LatencyHistogram histogram) {
+        MetricDescriptor sourceTagger = tagger.copy().withTag(SOURCE_TASK_ID, histogram.name());
+        context.collect(
+                sourceTagger.copy(),
+                LATENCY_P50,
+                ProbeLevel.INFO,
+                ProbeUnit.MS,
+                histogram.getValueAtPercentile(50));
+        context.collect(
+                sourceTagger.copy(),
+                LATENCY_P95,
+                ProbeLevel.INFO,
+                ProbeUnit.MS,
+                histogram.getValueAtPercentile(95));
+        context.collect(
+                sourceTagger.copy(),
+                LATENCY_P99,
+                ProbeLevel.INFO,
+                ProbeUnit.MS,
+                histogram.getValueAtPercentile(99));
+        context.collect(
+                sourceTagger.copy(),
+                LATENCY_MAX,
+                ProbeLevel.INFO,
+                ProbeUnit.MS,
+                histogram.getMaxValue());
+    }
+
     private ProbeUnit toProbeUnit(Unit unit) {
         return ProbeUnit.valueOf(unit.name());
     }
@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.Ra
 import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SlotAllocationStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SlotRatioStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SystemLoadStrategy;
+import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.TrafficLocalityStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.ReleaseSlotOperation;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.ResetResourceOperation;
 import org.apache.seatunnel.engine.server.resourcemanager.opeartion.SyncWorkerProfileOperation;
@@ -80,6 +81,9 @@ public abstract class AbstractResourceManager implements ResourceManager {
             case SLOT_RATIO:
                 this.slotAllocationStrategy = new SlotRatioStrategy();
                 break;
+            case TRAFFIC_LOCALITY:
+                this.slotAllocationStrategy = new TrafficLocalityStrategy();
+                break;
             case RANDOM:
             default:
                 this.slotAllocationStrategy = new RandomStrategy();
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.resourcemanager;
 
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy.SlotAllocationStrategy;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
@@ -71,4 +72,7 @@ public interface ResourceManager {
     int workerCount(Map<String, String> tags);
 
     ConcurrentMap<Address, WorkerProfile> getRegisterWorker();
+
+    /** The strategy used to select the worker of a resource request. */
+    SlotAllocationStrategy getSlotAllocationStrategy();
 }
@@ -234,8 +234,13 @@ public class ResourceRequestHandler {
                                                                         .enoughThan(r)))
                         .collect(Collectors.toList());
 
+        List<WorkerProfile> preferredWorkers =
+                availableWorkers.stream()
+                        .filter(worker -> worker.getAddress().equals(r.getPreferredWorker()))
+                        .collect(Collectors.toList());
         Optional<WorkerProfile> workerProfile =
-                slotAllocationStrategy.selectWorker(availableWorkers);
+                slotAllocationStrategy.selectWorker(
+                        preferredWorkers.isEmpty() ? availableWorkers : preferredWorkers, r);
 
         if (!workerProfile.isPresent()) {
             // Check if there are still unassigned resources
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy;
 
+import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
 import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
 
 import java.util.List;
@@ -25,4 +26,10 @@ import java.util.Optional;
 /** Slot allocation strategy interface. */
 public interface SlotAllocationStrategy {
     Optional<WorkerProfile> selectWorker(List<WorkerProfile> availableWorkers);
+
+    /** Selects the worker for the given resource request, which may carry placement hints. */
+    default Optional<WorkerProfile> selectWorker(
+            List<WorkerProfile> availableWorkers, ResourceProfile resourceProfile) {
+        return selectWorker(availableWorkers);
+    }
 }
@@ -39,27 +39,28 @@ public class SlotRatioStrategy implements SlotAllocationStrategy {
 
         Optional<WorkerProfile> workerProfile =
                 availableWorkers.stream().min(Comparator.comparingDouble(this::calculateSlotUsage));
-        workerProfile.ifPresent(
-                profile -> {
-                    workerAssignedSlots.merge(
-                            profile.getAddress(),
-                            new SlotAssignedProfile(0.0, 1, profile.getAssignedSlots().length),
-                            (oldVal, newVal) ->
-                                    new SlotAssignedProfile(
-                                            0.0,
-                                            oldVal.getCurrentTaskAssignedSlotsNum() + 1,
-                                            oldVal.getAssignedSlotsNum()));
-                });
+        workerProfile.ifPresent(this::recordAssignedSlot);
         return workerProfile;
     }
 
+    protected void recordAssignedSlot(WorkerProfile profile) {
+        workerAssignedSlots.merge(
+                profile.getAddress(),
+                new SlotAssignedProfile(0.0, 1, profile.getAssignedSlots().length),
+                (oldVal, newVal) ->
+                        new SlotAssignedProfile(
+                                0.0,
+                                oldVal.getCurrentTaskAssignedSlotsNum() + 1,
+                                oldVal.getAssignedSlotsNum()));
+    }
+
     /**
      * Calculate the slot usage rate of the worker
      *
      * @param worker WorkerProfile
      * @return slot usage rate, range 0.0-1.0
      */
-    private double calculateSlotUsage(WorkerProfile worker) {
+    protected double calculateSlotUsage(WorkerProfile worker) {
         SlotAssignedProfile slotAssignedProfile = workerAssignedSlots.get(worker.getAddress());
         // If we manually record the number of assigned slots, we use that number, since
         // worker.getAssignedSlots is not updated in real time.
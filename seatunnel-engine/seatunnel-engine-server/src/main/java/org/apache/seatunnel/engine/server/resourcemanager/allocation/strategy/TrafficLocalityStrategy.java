@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy;
+
+import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotAssignedProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.TrafficAffinity;
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * TrafficLocalityStrategy is a strategy that selects the worker which already runs the task groups
+ * the requesting task group exchanges the most records with, so the heavy edges of a pipeline do
+ * not cross the network. The locality is balanced against the slot usage rate of the worker like
+ * {@link SlotRatioStrategy}, and only the workers which are not loaded much more than the average
+ * take part, so a pipeline does not pile up on a single worker.
+ */
+public class TrafficLocalityStrategy extends SlotRatioStrategy {
+
+    /** The weight of the locality in the score, the rest goes to the free slots of the worker. */
+    static final double LOCALITY_WEIGHT = 0.7;
+
+    /**
+     * The share of its slots a worker may hold above the average number of assigned slots of the
+     * available workers, at least one slot. Without traffic history every edge weighs the same, and
+     * without the margin a whole pipeline would follow its first task group onto one worker.
+     */
+    static final double LOAD_MARGIN = 0.2;
+
+    @Override
+    public Optional<WorkerProfile> selectWorker(
+            List<WorkerProfile> availableWorkers, ResourceProfile resourceProfile) {
+        TrafficAffinity affinity = resourceProfile.getTrafficAffinity();
+        if (affinity == null) {
+            return selectWorker(availableWorkers);
+        }
+        long totalWeight = affinity.getTotalWeight();
+        Map<Address, Long> placedWeights = affinity.getPlacedWeights();
+        double averageAssignedSlots =
+                availableWorkers.stream().mapToInt(this::getAssignedSlotsNum).average().orElse(0);
+        Optional<WorkerProfile> workerProfile =
+                availableWorkers.stream()
+                        .filter(worker -> !isOverloaded(worker, averageAssignedSlots))
+                        .max(
+                                Comparator.comparingDouble(
+                                        worker ->
+                                                calculateScore(
+                                                        worker, placedWeights, totalWeight)));
+        workerProfile.ifPresent(
+                profile -> {
+                    recordAssignedSlot(profile);
+                    affinity.placedOn(profile.getAddress());
+                });
+        return workerProfile;
+    }
+
+    private boolean isOverloaded(WorkerProfile worker, double averageAssignedSlots) {
+        int totalSlots = worker.getUnassignedSlots().length + worker.getAssignedSlots().length;
+        double margin = Math.max(1, LOAD_MARGIN * totalSlots);
+        return getAssignedSlotsNum(worker) >= averageAssignedSlots + margin;
+    }
+
+    /** The slots assigned on the worker, including the ones assigned in this round. */
+    private int getAssignedSlotsNum(WorkerProfile worker) {
+        SlotAssignedProfile slotAssignedProfile = getWorkerAssignedSlots().get(worker.getAddress());
+        return slotAssignedProfile != null
+                ? slotAssignedProfile.getCurrentTaskAssignedSlotsNum()
+                : worker.getAssignedSlots().length;
+    }
+
+    /**
+     * Calculate the score of the worker
+     *
+     * @return the weighted sum of the share of the traffic which stays on the worker and of its
+     *     free slot rate, range 0.0-1.0
+     */
+    private double calculateScore(
+            WorkerProfile worker, Map<Address, Long> placedWeights, long totalWeight) {
+        double locality =
+                totalWeight == 0
+                        ? 0
+                        : (double) placedWeights.getOrDefault(worker.getAddress(), 0L)
+                                / totalWeight;
+        return LOCALITY_WEIGHT * locality
+                + (1 - LOCALITY_WEIGHT) * (1 - calculateSlotUsage(worker));
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.resourcemanager.resource;
 
+import com.hazelcast.cluster.Address;
+
 import java.io.Serializable;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
@@ -27,6 +29,12 @@ public class ResourceProfile implements Serializable {
 
     private final Memory heapMemory;
 
+    /** Only used by the master to select the worker, not sent with the slot request. */
+    private transient Address preferredWorker;
+
+    /** Only used by the master to select the worker, not sent with the slot request. */
+    private transient TrafficAffinity trafficAffinity;
+
     public ResourceProfile() {
         this.cpu = CPU.of(0);
         this.heapMemory = Memory.of(0);
@@ -47,6 +55,30 @@ public class ResourceProfile implements Serializable {
         return heapMemory;
     }
 
+    public Address getPreferredWorker() {
+        return preferredWorker;
+    }
+
+    /** Returns a copy of this profile which prefers the worker if it has a free slot. */
+    public ResourceProfile withPreferredWorker(Address worker) {
+        ResourceProfile profile = new ResourceProfile(cpu, heapMemory);
+        profile.preferredWorker = worker;
+        profile.trafficAffinity = trafficAffinity;
+        return profile;
+    }
+
+    public TrafficAffinity getTrafficAffinity() {
+        return trafficAffinity;
+    }
+
+    /** Returns a copy of this profile which carries the traffic to the other task groups. */
+    public ResourceProfile withTrafficAffinity(TrafficAffinity affinity) {
+        ResourceProfile profile = new ResourceProfile(cpu, heapMemory);
+        profile.preferredWorker = preferredWorker;
+        profile.trafficAffinity = affinity;
+        return profile;
+    }
+
     public ResourceProfile merge(ResourceProfile other) {
         CPU c = CPU.of(this.cpu.getCore() + other.getCpu().getCore());
         Memory m = Memory.of(this.heapMemory.getBytes() + other.heapMemory.getBytes());
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.resource;
+
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The traffic between the task group which requests a slot and the other task groups of its
+ * pipeline, together with the workers the other task groups have been placed on in the same round
+ * of resource application. Only lives on the master while it selects the workers.
+ */
+public class TrafficAffinity {
+
+    private final TaskGroupLocation taskGroupLocation;
+
+    /** The estimated records exchanged with each connected task group. */
+    private final Map<TaskGroupLocation, Long> edgeWeights;
+
+    /** Shared by all the task groups which apply for resources in the same round. */
+    private final Map<TaskGroupLocation, Address> placements;
+
+    public TrafficAffinity(
+            TaskGroupLocation taskGroupLocation,
+            Map<TaskGroupLocation, Long> edgeWeights,
+            Map<TaskGroupLocation, Address> placements) {
+        this.taskGroupLocation = taskGroupLocation;
+        this.edgeWeights = edgeWeights;
+        this.placements = placements;
+    }
+
+    public long getTotalWeight() {
+        return edgeWeights.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /** Returns the weight of the edges to the task groups already placed on each worker. */
+    public Map<Address, Long> getPlacedWeights() {
+        Map<Address, Long> placedWeights = new HashMap<>();
+        edgeWeights.forEach(
+                (neighbour, weight) -> {
+                    Address worker = placements.get(neighbour);
+                    if (worker != null) {
+                        placedWeights.merge(worker, weight, Long::sum);
+                    }
+                });
+        return placedWeights;
+    }
+
+    public void placedOn(Address worker) {
+        placements.put(taskGroupLocation, worker);
+    }
+}
@@ -35,6 +35,16 @@ public class RestConstant {
 
     public static final String FINISH_TIME = "finishTime";
 
+    public static final String FINISH_TIME_FROM = "finishTimeFrom";
+
+    public static final String FINISH_TIME_TO = "finishTimeTo";
+
+    public static final String LIMIT = "limit";
+
+    public static final String CURSOR = "cursor";
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     public static final String ENV_OPTIONS = "envOptions";
 
     public static final String JOB_DAG = "jobDag";
@@ -59,6 +69,9 @@ public class RestConstant {
             "TableSourceReceivedBytesPerSeconds";
     public static final String TABLE_SINK_WRITE_BYTES_PER_SECONDS = "TableSinkWriteBytesPerSeconds";
 
+    public static final String QUEUE_METRICS = "QueueMetrics";
+    public static final String LATENCY_METRICS = "LatencyMetrics";
+
     public static final String CONTEXT_PATH = "/hazelcast/rest/maps";
     public static final String INSTANCE_CONTEXT_PATH = "/hazelcast/rest/instance";
 
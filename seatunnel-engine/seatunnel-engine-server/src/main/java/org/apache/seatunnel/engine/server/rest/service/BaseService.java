@@ -77,6 +77,14 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_MAX;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_P50;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_P95;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.LATENCY_P99;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_CAPACITY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_OCCUPANCY;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_POLL_IDLE_RATIO;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.QUEUE_PUT_BLOCKED_RATIO;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
@@ -85,6 +93,9 @@ import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVE
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_QPS;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.EDGE;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.SOURCE_TASK_ID;
+import static org.apache.seatunnel.api.common.metrics.MetricTags.TASK_ID;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.TABLE_SINK_WRITE_BYTES;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.TABLE_SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.TABLE_SINK_WRITE_COUNT;
@@ -287,6 +298,30 @@ public abstract class BaseService {
                     metricsRates,
                     ArrayUtils.addAll(countMetricsNames, rateMetricsNames));
 
+            Map<String, Object> queueMetrics =
+                    groupMetrics(
+                            jobMetricsStr,
+                            EDGE,
+                            TASK_ID,
+                            QUEUE_OCCUPANCY,
+                            QUEUE_CAPACITY,
+                            QUEUE_PUT_BLOCKED_RATIO,
+                            QUEUE_POLL_IDLE_RATIO);
+            if (!queueMetrics.isEmpty()) {
+                metricsMap.put(RestConstant.QUEUE_METRICS, queueMetrics);
+            }
+            Map<String, Object> latencyMetrics =
+                    groupMetrics(
+                            jobMetricsStr,
+                            TASK_ID,
+                            SOURCE_TASK_ID,
+                            LATENCY_P50,
+                            LATENCY_P95,
+                            LATENCY_P99,
+                            LATENCY_MAX);
+            if (!latencyMetrics.isEmpty()) {
+                metricsMap.put(RestConstant.LATENCY_METRICS, latencyMetrics);
+            }
         } catch (JsonProcessingException e) {
             return metricsMap;
         }
@@ -306,6 +341,34 @@ public abstract class BaseService {
         return metricsMap;
     }
 
+    /**
+     * Groups the given metrics by two tags, e.g. queue metrics by edge and by the task which
+     * reported its end of the edge, or latency metrics by sink task and by source task.
+     */
+    private Map<String, Object> groupMetrics(
+            JsonNode jobMetricsStr, String outerTag, String innerTag, String... metricNames) {
+        Map<String, Object> groups = new HashMap<>();
+        for (String metricName : metricNames) {
+            JsonNode metricNode = jobMetricsStr.get(metricName);
+            if (metricNode == null || !metricNode.isArray()) {
+                continue;
+            }
+            for (JsonNode node : metricNode) {
+                JsonNode tags = node.path("tags");
+                Map<String, Object> inner =
+                        (Map<String, Object>)
+                                groups.computeIfAbsent(
+                                        tags.path(outerTag).asText(), k -> new HashMap<>());
+                Map<String, Object> values =
+                        (Map<String, Object>)
+                                inner.computeIfAbsent(
+                                        tags.path(innerTag).asText(), k -> new HashMap<>());
+                values.put(metricName, node.path("value").asText());
+            }
+        }
+        return groups;
+    }
+
     private void processMetric(
             String metricName,
             String tableName,
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.rest.service;
+
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+import org.apache.seatunnel.engine.server.rest.RestConstant;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The filter and page of a finished jobs query. The filters are evaluated on the members with the
+ * indexes of the finished job state IMap, the jobs are ordered by finish time and job id.
+ *
+ * <p>The cursor is the position after the last job of the previous page, so the pages stay stable
+ * while new jobs finish.
+ */
+@Getter
+@Builder
+public class FinishedJobQuery {
+
+    private static final String CURSOR_SEPARATOR = "_";
+
+    private final JobStatus state;
+
+    /** No finished job is in a state that is not a {@link JobStatus}, the query matches nothing. */
+    private final boolean unknownState;
+
+    private final String jobName;
+
+    private final Long finishTimeFrom;
+
+    private final Long finishTimeTo;
+
+    private final String cursor;
+
+    /** Null returns all the matched jobs. */
+    private final Integer limit;
+
+    public static FinishedJobQuery of(String state, Map<String, String> parameters) {
+        Long limit = parseLong(parameters, RestConstant.LIMIT, (long) Integer.MAX_VALUE);
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive.");
+        }
+        String cursor = parameters.get(RestConstant.CURSOR);
+        if (cursor != null) {
+            parseCursor(cursor);
+        }
+        return FinishedJobQuery.builder()
+                .state(parseState(state))
+                .unknownState(isUnknownState(state))
+                .jobName(StringUtils.trimToNull(parameters.get(RestConstant.JOB_NAME)))
+                .finishTimeFrom(parseLong(parameters, RestConstant.FINISH_TIME_FROM, null))
+                .finishTimeTo(parseLong(parameters, RestConstant.FINISH_TIME_TO, null))
+                .cursor(cursor)
+                .limit(limit == null ? null : limit.intValue())
+                .build();
+    }
+
+    /** Null for a blank or unknown state. */
+    private static JobStatus parseState(String state) {
+        if (StringUtils.isBlank(state)) {
+            return null;
+        }
+        try {
+            return JobStatus.valueOf(state.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isUnknownState(String state) {
+        return StringUtils.isNotBlank(state) && parseState(state) == null;
+    }
+
+    public static String cursorOf(JobState jobState) {
+        long finishTime = jobState.getFinishTime() == null ? 0L : jobState.getFinishTime();
+        return finishTime + CURSOR_SEPARATOR + jobState.getJobId();
+    }
+
+    public Predicate<Long, JobState> toPredicate() {
+        List<Predicate<Long, JobState>> predicates = new ArrayList<>();
+        if (state != null) {
+            predicates.add(Predicates.equal("jobStatus", state));
+        }
+        if (jobName != null) {
+            predicates.add(Predicates.equal("jobName", jobName));
+        }
+        if (finishTimeFrom != null) {
+            predicates.add(Predicates.greaterEqual("finishTime", finishTimeFrom));
+        }
+        if (finishTimeTo != null) {
+            predicates.add(Predicates.lessEqual("finishTime", finishTimeTo));
+        }
+        if (cursor != null) {
+            long[] position = parseCursor(cursor);
+            predicates.add(
+                    Predicates.or(
+                            Predicates.greaterThan("finishTime", position[0]),
+                            Predicates.and(
+                                    Predicates.equal("finishTime", position[0]),
+                                    Predicates.greaterThan("jobId", position[1]))));
+        }
+        if (predicates.isEmpty()) {
+            return Predicates.alwaysTrue();
+        }
+        return Predicates.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private static long[] parseCursor(String cursor) {
+        String[] position = cursor.split(CURSOR_SEPARATOR);
+        try {
+            if (position.length == 2) {
+                return new long[] {Long.parseLong(position[0]), Long.parseLong(position[1])};
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    private static Long parseLong(Map<String, String> parameters, String key, Long maxValue) {
+        String value = parameters.get(key);
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            return maxValue == null ? parsed : Math.min(parsed, maxValue);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("The %s must be a number, but is %s.", key, value));
+        }
+    }
+
+    /** Orders the finished jobs by finish time and job id, evaluated on the members. */
+    public static class FinishTimeComparator
+            implements Comparator<Map.Entry<Long, JobState>>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(Map.Entry<Long, JobState> left, Map.Entry<Long, JobState> right) {
+            return Comparator.comparing(
+                            (JobState jobState) -> jobState.getFinishTime(),
+                            Comparator.nullsFirst(Long::compare))
+                    .thenComparing(JobState::getJobId)
+                    .compare(left.getValue(), right.getValue());
+        }
+    }
+}
@@ -35,14 +35,19 @@ import org.apache.seatunnel.engine.server.utils.RestUtil;
 import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.internal.json.JsonObject;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicates;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import scala.Tuple2;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.engine.server.rest.RestConstant.CONFIG_FORMAT;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.HOCON;
@@ -85,23 +90,43 @@ public class JobInfoService extends BaseService {
     }
 
     public JsonArray getJobsByStateJson(String state) {
+        return getFinishedJobsJson(
+                getFinishedJobs(FinishedJobQuery.of(state, Collections.emptyMap())));
+    }
+
+    /**
+     * Query the finished jobs with the indexes of the finished job state IMap, only the jobs of the
+     * requested page are fetched from the members.
+     */
+    public List<JobState> getFinishedJobs(FinishedJobQuery query) {
+        if (query.isUnknownState()) {
+            return Collections.emptyList();
+        }
         IMap<Long, JobState> finishedJob =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_FINISHED_JOB_STATE);
+        Comparator<Map.Entry<Long, JobState>> comparator =
+                new FinishedJobQuery.FinishTimeComparator();
+        if (query.getLimit() == null) {
+            return finishedJob.entrySet(query.toPredicate()).stream()
+                    .sorted(comparator)
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toList());
+        }
+        PagingPredicate<Long, JobState> pagingPredicate =
+                Predicates.pagingPredicate(query.toPredicate(), comparator, query.getLimit());
+        return new ArrayList<>(finishedJob.values(pagingPredicate));
+    }
 
+    public JsonArray getFinishedJobsJson(List<JobState> jobStates) {
         IMap<Long, JobDAGInfo> finishedJobDAGInfo =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_FINISHED_JOB_VERTEX_INFO);
+        Map<Long, JobDAGInfo> jobDAGInfos =
+                finishedJobDAGInfo.getAll(
+                        jobStates.stream().map(JobState::getJobId).collect(Collectors.toSet()));
 
         SeaTunnelServer seaTunnelServer = getSeaTunnelServer(true);
 
-        return finishedJob.values().stream()
-                .filter(
-                        jobState -> {
-                            if (state.isEmpty()) {
-                                return true;
-                            }
-                            return jobState.getJobStatus().name().equals(state.toUpperCase());
-                        })
-                .sorted(Comparator.comparing(JobState::getFinishTime))
+        return jobStates.stream()
                 .map(
                         jobState -> {
                             Long jobId = jobState.getJobId();
@@ -120,8 +145,7 @@ public class JobInfoService extends BaseService {
                                                 .getJobMetrics(jobId)
                                                 .toJsonString();
                             }
-                            return getJobInfoJson(
-                                    jobState, jobMetrics, finishedJobDAGInfo.get(jobId));
+                            return getJobInfoJson(jobState, jobMetrics, jobDAGInfos.get(jobId));
                         })
                 .collect(JsonArray::new, JsonArray::add, JsonArray::add);
     }
@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.engine.server.rest.servlet;
 
+import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+import org.apache.seatunnel.engine.server.rest.RestConstant;
+import org.apache.seatunnel.engine.server.rest.service.FinishedJobQuery;
 import org.apache.seatunnel.engine.server.rest.service.JobInfoService;
 
 import com.hazelcast.spi.impl.NodeEngineImpl;
@@ -26,6 +29,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.List;
 
 public class FinishedJobsServlet extends BaseServlet {
 
@@ -50,6 +54,13 @@ public class FinishedJobsServlet extends BaseServlet {
             state = "";
         }
 
-        writeJson(resp, jobInfoService.getJobsByStateJson(state));
+        FinishedJobQuery query = FinishedJobQuery.of(state, getParameterMap(req));
+        List<JobState> jobStates = jobInfoService.getFinishedJobs(query);
+        if (query.getLimit() != null && jobStates.size() == query.getLimit()) {
+            resp.setHeader(
+                    RestConstant.NEXT_CURSOR_HEADER,
+                    FinishedJobQuery.cursorOf(jobStates.get(jobStates.size() - 1)));
+        }
+        writeJson(resp, jobInfoService.getFinishedJobsJson(jobStates));
     }
 }
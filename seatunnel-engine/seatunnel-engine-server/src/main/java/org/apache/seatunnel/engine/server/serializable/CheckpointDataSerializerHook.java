@@ -22,6 +22,7 @@ import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointBarrier
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointEndOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointErrorReportOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointFinishedOperation;
+import org.apache.seatunnel.engine.server.checkpoint.operation.CleanTaskLocalStateOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.NotifyTaskRestoreOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.NotifyTaskStartOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
@@ -50,6 +51,8 @@ public final class CheckpointDataSerializerHook implements DataSerializerHook {
 
     public static final int CHECKPOINT_END_OPERATOR = 10;
 
+    public static final int CLEAN_TASK_LOCAL_STATE_OPERATOR = 11;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_CHECKPOINT_DATA_SERIALIZER_FACTORY,
@@ -90,6 +93,8 @@ public final class CheckpointDataSerializerHook implements DataSerializerHook {
                     return new TriggerSchemaChangeAfterCheckpointOperation();
                 case CHECKPOINT_END_OPERATOR:
                     return new CheckpointEndOperation();
+                case CLEAN_TASK_LOCAL_STATE_OPERATOR:
+                    return new CleanTaskLocalStateOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
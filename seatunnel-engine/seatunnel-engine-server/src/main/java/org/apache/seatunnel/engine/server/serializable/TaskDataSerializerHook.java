@@ -27,6 +27,7 @@ import org.apache.seatunnel.engine.server.task.operation.CheckTaskGroupIsExecuti
 import org.apache.seatunnel.engine.server.task.operation.CleanTaskGroupContextOperation;
 import org.apache.seatunnel.engine.server.task.operation.DeleteConnectorJarInExecutionNode;
 import org.apache.seatunnel.engine.server.task.operation.DeployTaskOperation;
+import org.apache.seatunnel.engine.server.task.operation.GetConnectorJarReceivedOffsetOperation;
 import org.apache.seatunnel.engine.server.task.operation.GetMetricsOperation;
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupAddressOperation;
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupMetricsOperation;
@@ -107,6 +108,8 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CLEAN_LOG_OPERATION = 27;
 
+    public static final int GET_CONNECTOR_JAR_RECEIVED_OFFSET_OPERATION = 28;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -181,6 +184,8 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new CloseIdleReaderOperation();
                 case CLEAN_LOG_OPERATION:
                     return new CleanLogOperation();
+                case GET_CONNECTOR_JAR_RECEIVED_OFFSET_OPERATION:
+                    return new GetConnectorJarReceivedOffsetOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
@@ -17,12 +17,14 @@
 
 package org.apache.seatunnel.engine.server.service.jar;
 
+import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageMode;
 import org.apache.seatunnel.engine.core.job.ConnectorJar;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.task.operation.GetConnectorJarReceivedOffsetOperation;
 import org.apache.seatunnel.engine.server.task.operation.SendConnectorJarToMemberNodeOperation;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
@@ -34,6 +36,7 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
@@ -41,6 +44,11 @@ public class ConnectorPackageService {
 
     private static final ILogger LOGGER = Logger.getLogger(ConnectorPackageService.class);
 
+    /** The size of the chunks the connector jars are sent to the member nodes in. */
+    private static final int CONNECTOR_JAR_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final int MAX_TRANSFER_ATTEMPTS = 3;
+
     private final SeaTunnelServer seaTunnelServer;
 
     private final SeaTunnelConfig seaTunnelConfig;
@@ -103,17 +111,63 @@ public class ConnectorPackageService {
         return connectorJarIdentifier;
     }
 
+    /**
+     * Streams the connector jar to the member node in chunks. The member reports the bytes it has
+     * already received, so a failed transfer resumes where it stopped and a member which already
+     * stores the same content skips the transfer.
+     */
     private void sendConnectorJarToMemberNode(
             ConnectorJarIdentifier connectorJarIdentifier,
             ConnectorJar connectorJar,
             Address address) {
-        InvocationFuture<Object> invocationFuture =
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transferConnectorJar(connectorJarIdentifier, connectorJar.getData(), address);
+                return;
+            } catch (Exception e) {
+                if (attempt >= MAX_TRANSFER_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.warning(
+                        String.format(
+                                "Failed to send the connector jar %s to %s, resume the transfer: %s",
+                                connectorJarIdentifier.getFileName(),
+                                address,
+                                ExceptionUtils.getMessage(e)));
+            }
+        }
+    }
+
+    private void transferConnectorJar(
+            ConnectorJarIdentifier connectorJarIdentifier, byte[] data, Address address) {
+        InvocationFuture<Long> offsetFuture =
                 NodeEngineUtil.sendOperationToMemberNode(
                         nodeEngine,
-                        new SendConnectorJarToMemberNodeOperation(
-                                connectorJar, connectorJarIdentifier),
+                        new GetConnectorJarReceivedOffsetOperation(connectorJarIdentifier),
                         address);
-        invocationFuture.join();
+        long offset = offsetFuture.join();
+        if (offset == ServerConnectorPackageClient.TRANSFER_COMPLETED) {
+            LOGGER.fine(
+                    String.format(
+                            "The member %s already stores the connector jar %s",
+                            address, connectorJarIdentifier.getFileName()));
+            return;
+        }
+        if (offset > data.length) {
+            offset = 0;
+        }
+        do {
+            int length = (int) Math.min(CONNECTOR_JAR_CHUNK_SIZE, data.length - offset);
+            byte[] chunk = Arrays.copyOfRange(data, (int) offset, (int) offset + length);
+            boolean lastChunk = offset + length == data.length;
+            NodeEngineUtil.sendOperationToMemberNode(
+                            nodeEngine,
+                            new SendConnectorJarToMemberNodeOperation(
+                                    connectorJarIdentifier, offset, chunk, lastChunk),
+                            address)
+                    .join();
+            offset += length;
+        } while (offset < data.length);
     }
 
     public void cleanUpWhenJobFinished(
@@ -18,6 +18,8 @@
 package org.apache.seatunnel.engine.server.service.jar;
 
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.common.utils.MDUtil;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 
 import com.hazelcast.logging.ILogger;
@@ -25,12 +27,21 @@ import com.hazelcast.logging.Logger;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
@@ -41,12 +52,23 @@ public class ServerConnectorPackageClient {
 
     private final NodeEngineImpl nodeEngine;
 
+    /** Returned by {@link #getReceivedOffset} when the connector jar needs no transfer. */
+    public static final long TRANSFER_COMPLETED = -1;
+
+    private static final String PART_FILE_SUFFIX = ".part";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final ReadWriteLock readWriteLock;
 
+    /** The storage path of the connector jars stored on this node, keyed by their digest. */
+    private final Map<String, String> storedJarPaths;
+
     public ServerConnectorPackageClient(
             NodeEngineImpl nodeEngine, SeaTunnelConfig seaTunnelConfig) {
         this.nodeEngine = nodeEngine;
         this.readWriteLock = new ReentrantReadWriteLock();
+        this.storedJarPaths = new ConcurrentHashMap<>();
     }
 
     public Set<URL> getConnectorJarFromLocal(Set<ConnectorJarIdentifier> connectorJarIdentifiers) {
@@ -76,51 +98,142 @@ public class ServerConnectorPackageClient {
                 .collect(Collectors.toSet());
     }
 
-    public void storageConnectorJarFile(
-            byte[] connectorJarByteData, ConnectorJarIdentifier connectorJarIdentifier) {
+    /**
+     * Returns the offset to resume the transfer of the connector jar from. A jar which is already
+     * stored, or whose content is already stored under another path, does not need any transfer.
+     *
+     * @return {@link #TRANSFER_COMPLETED} if no transfer is needed, otherwise the number of bytes
+     *     already received
+     */
+    public long getReceivedOffset(ConnectorJarIdentifier connectorJarIdentifier)
+            throws IOException {
+        File storageFile = new File(connectorJarIdentifier.getStoragePath());
         readWriteLock.writeLock().lock();
-        storageConnectorJarFile(
-                connectorJarByteData, new File(connectorJarIdentifier.getStoragePath()));
-        readWriteLock.writeLock().unlock();
-    }
-
-    private void storageConnectorJarFile(byte[] connectorJarByteData, File storageFile) {
-        boolean success = false;
         try {
-            if (!storageFile.exists()) {
-                FileOutputStream fos = new FileOutputStream(storageFile);
-                fos.write(connectorJarByteData);
-            } else {
-                LOGGER.warning(
-                        String.format(
-                                "File storage for an existing file %s. "
-                                        + "This may indicate a duplicate download. Ignoring newest download.",
-                                storageFile));
+            if (storageFile.exists()) {
+                indexStoredConnectorJar(connectorJarIdentifier);
+                return TRANSFER_COMPLETED;
             }
-            success = true;
-        } catch (IOException ioe) {
-            LOGGER.warning(
-                    String.format(
-                            "The connector jar package file %s storage failed.", storageFile));
+            String digest = digestOf(connectorJarIdentifier);
+            String storedPath = digest == null ? null : storedJarPaths.get(digest);
+            if (storedPath != null && new File(storedPath).exists()) {
+                linkOrCopy(new File(storedPath).toPath(), storageFile.toPath());
+                indexStoredConnectorJar(connectorJarIdentifier);
+                return TRANSFER_COMPLETED;
+            }
+            File partFile = partFileOf(storageFile);
+            return partFile.exists() ? partFile.length() : 0;
         } finally {
-            if (!success) {
-                // delete storageFile from a failed download
-                if (!storageFile.delete() && storageFile.exists()) {
-                    // An exception occurred and the file that failed to write needs to be cleared.
-                    LOGGER.warning(
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a chunk of the connector jar at the given offset. Writing a chunk again truncates the
+     * bytes behind it, so a transfer can be resumed from any offset up to the received bytes. The
+     * last chunk verifies the digest of the jar and moves it to its storage path.
+     */
+    public void storageConnectorJarChunk(
+            ConnectorJarIdentifier connectorJarIdentifier,
+            long offset,
+            byte[] chunk,
+            boolean lastChunk)
+            throws IOException {
+        File storageFile = new File(connectorJarIdentifier.getStoragePath());
+        File partFile = partFileOf(storageFile);
+        readWriteLock.writeLock().lock();
+        try {
+            Files.createDirectories(partFile.getParentFile().toPath());
+            try (RandomAccessFile file = new RandomAccessFile(partFile, "rw")) {
+                if (offset > file.length()) {
+                    throw new SeaTunnelEngineException(
                             String.format(
-                                    "Could not delete the corrupted connector jar package file %s.",
-                                    storageFile));
+                                    "The chunk of connector jar %s at offset %s is behind the %s received bytes",
+                                    storageFile, offset, file.length()));
                 }
+                file.seek(offset);
+                file.write(chunk);
+                file.setLength(offset + chunk.length);
+            }
+            if (lastChunk) {
+                verifyDigest(connectorJarIdentifier, partFile);
+                moveTo(partFile.toPath(), storageFile.toPath());
+                indexStoredConnectorJar(connectorJarIdentifier);
+            }
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    private void verifyDigest(ConnectorJarIdentifier connectorJarIdentifier, File partFile)
+            throws IOException {
+        byte[] expected = connectorJarIdentifier.getConnectorJarID();
+        if (expected == null || expected.length == 0) {
+            return;
+        }
+        MessageDigest messageDigest = MDUtil.createMessageDigest();
+        try (InputStream in = Files.newInputStream(partFile.toPath())) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
             }
         }
+        if (!MessageDigest.isEqual(expected, messageDigest.digest())) {
+            deleteConnectorJarInternal(partFile);
+            throw new SeaTunnelEngineException(
+                    String.format(
+                            "The digest of the received connector jar %s does not match, the transfer will restart.",
+                            connectorJarIdentifier.getStoragePath()));
+        }
+    }
+
+    private void indexStoredConnectorJar(ConnectorJarIdentifier connectorJarIdentifier) {
+        String digest = digestOf(connectorJarIdentifier);
+        if (digest != null) {
+            storedJarPaths.put(digest, connectorJarIdentifier.getStoragePath());
+        }
+    }
+
+    private static String digestOf(ConnectorJarIdentifier connectorJarIdentifier) {
+        byte[] digest = connectorJarIdentifier.getConnectorJarID();
+        return digest == null || digest.length == 0 ? null : MDUtil.toHexString(digest);
+    }
+
+    private static File partFileOf(File storageFile) {
+        return new File(storageFile.getPath() + PART_FILE_SUFFIX);
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            // e.g. the storage paths are on different file systems
+            Path partFile = Paths.get(target + PART_FILE_SUFFIX);
+            Files.copy(source, partFile, StandardCopyOption.REPLACE_EXISTING);
+            moveTo(partFile, target);
+        }
+    }
+
+    private static void moveTo(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     public void deleteConnectorJar(ConnectorJarIdentifier connectorJarIdentifier) {
         try {
             File storageLocation = new File(connectorJarIdentifier.getStoragePath());
             readWriteLock.writeLock().lock();
+            String digest = digestOf(connectorJarIdentifier);
+            if (digest != null) {
+                storedJarPaths.remove(digest, connectorJarIdentifier.getStoragePath());
+            }
             deleteConnectorJarInternal(storageLocation);
+            deleteConnectorJarInternal(partFileOf(storageLocation));
         } finally {
             readWriteLock.writeLock().unlock();
         }
@@ -19,7 +19,7 @@ package org.apache.seatunnel.engine.server.service.jar;
 
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfig;
-import org.apache.seatunnel.engine.core.job.CommonPluginJar;
+import org.apache.seatunnel.engine.common.utils.MDUtil;
 import org.apache.seatunnel.engine.core.job.ConnectorJar;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.core.job.ConnectorJarType;
@@ -123,19 +123,25 @@ public class SharedConnectorJarStorageStrategy extends AbstractConnectorJarStora
         }
     }
 
+    /**
+     * The jars are addressed by the digest of their content, so the same jar submitted by different
+     * jobs is stored once, while different jars with the same file name do not overwrite each
+     * other.
+     */
     @Override
     public String getStorageLocationPath(long jobId, ConnectorJar connectorJar) {
         checkNotNull(jobId);
-        if (connectorJar.getType() == ConnectorJarType.COMMON_PLUGIN_JAR) {
-            CommonPluginJar commonPluginJar = (CommonPluginJar) connectorJar;
-            return String.format(
-                    "%s/%s/%s",
-                    storageDir, COMMON_PLUGIN_JAR_STORAGE_PATH, commonPluginJar.getFileName());
-        } else {
-            return String.format(
-                    "%s/%s/%s",
-                    storageDir, CONNECTOR_PLUGIN_JAR_STORAGE_PATH, connectorJar.getFileName());
+        String storagePath =
+                connectorJar.getType() == ConnectorJarType.COMMON_PLUGIN_JAR
+                        ? COMMON_PLUGIN_JAR_STORAGE_PATH
+                        : CONNECTOR_PLUGIN_JAR_STORAGE_PATH;
+        byte[] digest = connectorJar.getConnectorJarID();
+        if (digest == null || digest.length == 0) {
+            return String.format("%s/%s/%s", storageDir, storagePath, connectorJar.getFileName());
         }
+        return String.format(
+                "%s/%s/%s/%s",
+                storageDir, storagePath, MDUtil.toHexString(digest), connectorJar.getFileName());
     }
 
     @Override
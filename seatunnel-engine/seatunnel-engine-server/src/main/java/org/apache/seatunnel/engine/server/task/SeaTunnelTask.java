@@ -35,6 +35,7 @@ import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.checkpoint.TaskLocalStateStore;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeAfterCheckpointOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeBeforeCheckpointOperation;
@@ -103,6 +104,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected List<OneInputFlowLifeCycle<Record<?>>> outputs;
 
+    /** The transform flows buffering rows across records, flushed when they stay idle. */
+    private List<TransformFlowLifeCycle<?>> bufferedTransformCycles;
+
     protected List<CompletableFuture<Void>> flowFutures;
 
     protected final Map<Long, List<ActionSubtaskState>> checkpointStates =
@@ -110,6 +114,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     private final Map<Long, Integer> cycleAcks = new ConcurrentHashMap<>();
 
+    /** The time the first flow life cycle acked the barrier, splits the align and snapshot time. */
+    private final Map<Long, Long> firstCycleAckTimes = new ConcurrentHashMap<>();
+
     protected int indexID;
 
     private TaskGroup taskBelongGroup;
@@ -130,6 +137,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
         this.currState = SeaTunnelTaskState.INIT;
         flowFutures = new ArrayList<>();
         allCycles = new ArrayList<>();
+        bufferedTransformCycles = new ArrayList<>();
         startFlowLifeCycle = convertFlowToActionLifeCycle(executionFlow);
         for (FlowLifeCycle cycle : allCycles) {
             cycle.init();
@@ -167,6 +175,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 break;
             case RUNNING:
                 collect();
+                for (TransformFlowLifeCycle<?> cycle : bufferedTransformCycles) {
+                    cycle.flushIdleBuffer();
+                }
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 }
@@ -232,12 +243,16 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 completableFuture,
                                 this.getMetricsContext());
             } else if (f.getAction() instanceof TransformChainAction) {
-                lifeCycle =
+                TransformFlowLifeCycle<SeaTunnelRow> transformFlowLifeCycle =
                         new TransformFlowLifeCycle<SeaTunnelRow>(
                                 (TransformChainAction) f.getAction(),
                                 this,
                                 new SeaTunnelTransformCollector(flowLifeCycles),
                                 completableFuture);
+                if (transformFlowLifeCycle.isBuffering()) {
+                    bufferedTransformCycles.add(transformFlowLifeCycle);
+                }
+                lifeCycle = transformFlowLifeCycle;
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
                 HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
@@ -298,7 +313,30 @@ public abstract class SeaTunnelTask extends AbstractTask {
     }
 
     public Set<ActionStateKey> getActionStateKeys() {
-        return getFlowInfo((action, set) -> set.add(ActionStateKey.of(action)));
+        Set<ActionStateKey> stateKeys =
+                getFlowInfo((action, set) -> set.add(ActionStateKey.of(action)));
+        if (isShuffleSource(executionFlow)) {
+            // the shuffle source keeps its in-flight records apart from the upstream shuffle sink
+            stateKeys.add(
+                    ActionStateKey.inFlightOf(((PhysicalExecutionFlow) executionFlow).getAction()));
+        }
+        return stateKeys;
+    }
+
+    private static boolean isShuffleSource(Flow flow) {
+        return flow instanceof PhysicalExecutionFlow
+                && ((PhysicalExecutionFlow) flow).getAction() instanceof ShuffleAction
+                && !flow.getNext().isEmpty();
+    }
+
+    public boolean containsAction(Class<? extends Action> actionType) {
+        return !getFlowInfo(
+                        (action, set) -> {
+                            if (actionType.isInstance(action)) {
+                                set.add(action);
+                            }
+                        })
+                .isEmpty();
     }
 
     private <T> Set<T> getFlowInfo(BiConsumer<Action, Set<T>> function) {
@@ -336,26 +374,46 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     public void ack(Barrier barrier) {
         log.debug("seatunnel task ack barrier[{}]", this.taskLocation);
+        long ackTime = System.currentTimeMillis();
+        firstCycleAckTimes.putIfAbsent(barrier.getId(), ackTime);
         Integer ackSize =
                 cycleAcks.compute(barrier.getId(), (id, count) -> count == null ? 1 : ++count);
         if (ackSize == allCycles.size()) {
             cycleAcks.remove(barrier.getId());
+            long firstCycleAckTime = firstCycleAckTimes.remove(barrier.getId());
             if (barrier.prepareClose(this.taskLocation)) {
                 this.prepareCloseStatus = true;
                 this.prepareCloseBarrierId.set(barrier.getId());
             }
             if (barrier.snapshot()) {
+                CheckpointBarrier checkpointBarrier = (CheckpointBarrier) barrier;
+                List<ActionSubtaskState> states = checkpointStates.remove(barrier.getId());
+                storeLocalState(barrier.getId(), states);
                 this.getExecutionContext()
                         .sendToMaster(
                                 new TaskAcknowledgeOperation(
                                         this.taskLocation,
-                                        (CheckpointBarrier) barrier,
-                                        checkpointStates.remove(barrier.getId())))
+                                        checkpointBarrier,
+                                        states,
+                                        // the trigger time comes from the master clock
+                                        Math.max(
+                                                0L,
+                                                firstCycleAckTime
+                                                        - checkpointBarrier.getTimestamp()),
+                                        ackTime - firstCycleAckTime))
                         .join();
             }
         }
     }
 
+    private void storeLocalState(long checkpointId, List<ActionSubtaskState> states) {
+        TaskLocalStateStore localStateStore =
+                getExecutionContext().getTaskExecutionService().getTaskLocalStateStore();
+        if (localStateStore != null && states != null) {
+            localStateStore.store(taskLocation, checkpointId, states);
+        }
+    }
+
     public InvocationFuture<Object> triggerSchemaChangeBeforeCheckpoint() {
         log.info(
                 "trigger schema-change-before checkpoint. jobID[{}], taskLocation[{}]",
@@ -425,7 +483,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                             try {
                                 actionFlowLifeCycle.restoreState(
                                         stateMap.getOrDefault(
-                                                ActionStateKey.of(actionFlowLifeCycle.getAction()),
+                                                actionFlowLifeCycle.getStateKey(),
                                                 Collections.emptyList()));
                             } catch (Exception e) {
                                 sneakyThrow(e);
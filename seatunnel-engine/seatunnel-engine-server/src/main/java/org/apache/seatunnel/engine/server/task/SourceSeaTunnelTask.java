@@ -18,6 +18,8 @@
 package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.options.EnvCommonOptions;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -103,6 +105,12 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
                             sourceProducedType,
                             tablePaths);
             ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).setCollector(collector);
+            ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle)
+                    .setLatencyTrackingInterval(
+                            envOption == null
+                                    ? 0L
+                                    : ReadonlyConfig.fromMap(envOption)
+                                            .get(EnvCommonOptions.LATENCY_TRACKING_INTERVAL));
         }
     }
 
@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
+import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.Stateful;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 
@@ -35,4 +36,9 @@ public abstract class ActionFlowLifeCycle extends AbstractFlowLifeCycle implemen
     public Action getAction() {
         return action;
     }
+
+    /** The key this life cycle reports its state with and is restored from. */
+    public ActionStateKey getStateKey() {
+        return ActionStateKey.of(action);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
@@ -39,6 +40,10 @@ public class IntermediateQueueFlowLifeCycle<T extends AbstractIntermediateQueue<
         this.queue = queue;
         queue.setIntermediateQueueFlowLifeCycle(this);
         queue.setRunningTask(runningTask);
+        MetricsContext metricsContext = runningTask.getMetricsContext();
+        if (metricsContext != null) {
+            metricsContext.queue(queue.getQueueMetric().name(), queue.getQueueMetric());
+        }
     }
 
     @Override
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
@@ -25,6 +27,7 @@ import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
@@ -48,6 +51,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
+    private final Map<String, QueueMetric> shuffleMetrics;
     private final ShuffleStrategy shuffleStrategy;
     private int shuffleBufferSize;
     private long lastModify;
@@ -67,6 +71,22 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.shuffleMetrics = new HashMap<>();
+        MetricsContext metricsContext = runningTask.getMetricsContext();
+        for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
+            QueueMetric queueMetric = createQueueMetric(shuffle.getValue());
+            shuffleMetrics.put(shuffle.getKey(), queueMetric);
+            if (metricsContext != null) {
+                metricsContext.queue(queueMetric.name(), queueMetric);
+            }
+        }
+    }
+
+    static QueueMetric createQueueMetric(IQueue<Record<?>> shuffleQueue) {
+        return new QueueMetric(
+                shuffleQueue.getName(),
+                (long) shuffleQueue.size() + shuffleQueue.remainingCapacity(),
+                shuffleQueue::size);
     }
 
     @Override
@@ -89,9 +109,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
 
             // The barrier needs to be replicated to all channels
             for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
                 try {
-                    shuffleQueue.put(record);
+                    put(shuffle.getKey(), record);
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -102,6 +121,12 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                     barrier.getId(),
                     System.currentTimeMillis() - startTime,
                     runningTask.getTaskLocation());
+        } else if (record.getData() instanceof LatencyMarker) {
+            if (prepareClose) {
+                return;
+            }
+
+            shuffleLatencyMarker(record);
         } else if (record.getData() instanceof SchemaChangeEvent) {
             if (prepareClose) {
                 return;
@@ -138,6 +163,21 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
+    /**
+     * The latency marker is replicated to all channels like the barrier, but it is buffered behind
+     * the records instead of flushing them, so it measures the latency of the batching as well.
+     */
+    private synchronized void shuffleLatencyMarker(Record<?> record) {
+        for (String shuffleKey : shuffles.keySet()) {
+            shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+            shuffleBufferSize++;
+        }
+        if (shuffleBufferSize >= shuffleBatchSize
+                || System.currentTimeMillis() - lastModify > shuffleBatchFlushInterval) {
+            shuffleFlush();
+        }
+    }
+
     private synchronized void shuffleFlush() {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
             IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
@@ -150,7 +190,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                         break;
                     }
                     try {
-                        shuffleQueue.put(shuffleItem);
+                        put(shuffleBatch.getKey(), shuffleItem);
                     } catch (InterruptedException e) {
                         throw new RuntimeException(e);
                     }
@@ -161,4 +201,17 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    private void put(String shuffleKey, Record<?> record) throws InterruptedException {
+        IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleKey);
+        if (!shuffleQueue.offer(record)) {
+            QueueMetric shuffleMetric = shuffleMetrics.get(shuffleKey);
+            long start = shuffleMetric.startPutBlocked();
+            try {
+                shuffleQueue.put(record);
+            } finally {
+                shuffleMetric.endPutBlocked(start);
+            }
+        }
+    }
 }
@@ -17,19 +17,27 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -38,23 +46,34 @@ import java.util.Map;
 
 @Slf4j
 @SuppressWarnings("MagicNumber")
-public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
+public class ShuffleSourceFlowLifeCycle<T> extends ActionFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
+    private final boolean unalignedCheckpoint;
     private final IQueue<Record<?>>[] shuffles;
+    private final QueueMetric[] shuffleMetrics;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
     private int alignedBarriersCounter = 0;
 
+    /** The barrier which has overtaken the records of the inputs it has not arrived from yet. */
+    private Barrier unalignedBarrier;
+
+    /** The records overtaken by {@link #unalignedBarrier}, they are the state of the checkpoint. */
+    private final List<Record<?>> inFlightRecords = new ArrayList<>();
+
+    /** The in-flight records of the restored checkpoint, replayed before reading the shuffles. */
+    private final LinkedList<Record<?>> restoredRecords = new LinkedList<>();
+
     public ShuffleSourceFlowLifeCycle(
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
             CompletableFuture<Void> completableFuture) {
-        super(runningTask, completableFuture);
+        super(shuffleAction, runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffles =
@@ -63,10 +82,25 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         .getShuffleStrategy()
                         .getShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.unalignedCheckpoint = shuffleAction.getConfig().isUnalignedCheckpoint();
+        this.shuffleMetrics = new QueueMetric[shuffles.length];
+        MetricsContext metricsContext = runningTask.getMetricsContext();
+        for (int i = 0; i < shuffles.length; i++) {
+            shuffleMetrics[i] = ShuffleSinkFlowLifeCycle.createQueueMetric(shuffles[i]);
+            if (metricsContext != null) {
+                metricsContext.queue(shuffleMetrics[i].name(), shuffleMetrics[i]);
+            }
+        }
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        if (!restoredRecords.isEmpty()) {
+            for (int i = 0; i < shuffleBatchSize && !restoredRecords.isEmpty(); i++) {
+                collector.collect(restoredRecords.poll());
+            }
+            return;
+        }
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
@@ -77,15 +111,25 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                 emptyShuffleQueueCount++;
                 continue;
             }
-            // aligned barrier
-            if (alignedBarriers.get(i) != null
+            if (unalignedBarrier != null) {
+                // the queue holds the barrier of the next checkpoint
+                if (!unsentBuffer.isEmpty()) {
+                    continue;
+                }
+            } else if (alignedBarriers.get(i) != null
                     && alignedBarriers.get(i).getId() == currentCheckpointId) {
+                // aligned barrier
                 continue;
             }
 
             List<Record<?>> shuffleBatch = new LinkedList<>();
             if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
+                long start = shuffleMetrics[i].startPollIdle();
+                try {
+                    shuffleBatch.add(shuffleQueue.take());
+                } finally {
+                    shuffleMetrics[i].endPollIdle(start);
+                }
             } else if (!unsentBuffer.isEmpty()) {
                 shuffleBatch.addAll(unsentBuffer);
                 unsentBuffer.clear();
@@ -100,6 +144,18 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
 
                     Barrier barrier = (Barrier) record.getData();
 
+                    if (unalignedBarrier != null && unalignedBarrier.getId() != barrier.getId()) {
+                        // hold the next checkpoint until the unaligned one is acked
+                        unsentBuffer.addAll(shuffleBatch.subList(recordIndex, shuffleBatch.size()));
+                        break;
+                    }
+                    if (unalignedBarrier != null
+                            || (alignedBarriersCounter == 0 && canSkipAlignment(barrier))) {
+                        // the records behind the barrier are not blocked, keep on emitting them
+                        triggerUnalignedBarrier(i, record, collector, startTime);
+                        continue;
+                    }
+
                     // mark queue barrier
                     alignedBarriers.put(i, barrier);
                     alignedBarriersCounter++;
@@ -112,9 +168,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         }
                         if (barrier.snapshot()) {
                             runningTask.addState(
-                                    barrier,
-                                    ActionStateKey.of(shuffleAction),
-                                    Collections.emptyList());
+                                    barrier, getStateKey(), Collections.emptyList());
                         }
                         runningTask.ack(barrier);
 
@@ -138,13 +192,103 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                     if (prepareClose) {
                         return;
                     }
+                    if (unalignedBarrier != null
+                            && !alignedBarriers.containsKey(i)
+                            && !(record.getData() instanceof LatencyMarker)) {
+                        // the barrier has been forwarded before this record
+                        inFlightRecords.add(record);
+                    }
                     collector.collect(record);
                 }
             }
         }
 
         if (emptyShuffleQueueCount == shuffles.length) {
+            long start = System.nanoTime();
             Thread.sleep(100);
+            long idle = System.nanoTime() - start;
+            for (QueueMetric shuffleMetric : shuffleMetrics) {
+                shuffleMetric.markPollIdle(idle);
+            }
+        }
+    }
+
+    /**
+     * Only the general checkpoints skip the alignment, the savepoints, the final and schema change
+     * checkpoints still need all the inputs to stop at the barrier.
+     */
+    private boolean canSkipAlignment(Barrier barrier) {
+        return unalignedCheckpoint
+                && barrier instanceof CheckpointBarrier
+                && ((CheckpointBarrier) barrier).getCheckpointType().isGeneralCheckpoint()
+                && !barrier.prepareClose(runningTask.getTaskLocation());
+    }
+
+    private void triggerUnalignedBarrier(
+            int queueIndex, Record<?> record, Collector<Record<?>> collector, long startTime)
+            throws Exception {
+        Barrier barrier = (Barrier) record.getData();
+        alignedBarriers.put(queueIndex, barrier);
+        alignedBarriersCounter++;
+        currentCheckpointId = barrier.getId();
+        if (unalignedBarrier == null) {
+            // the first barrier overtakes the records still queued in the other inputs
+            unalignedBarrier = barrier;
+            collector.collect(record);
+        }
+        if (alignedBarriersCounter < shuffles.length) {
+            return;
+        }
+        runningTask.addState(barrier, getStateKey(), serializeRecords(inFlightRecords));
+        runningTask.ack(barrier);
+        log.debug(
+                "trigger unaligned barrier [{}] finished with {} in-flight records, cost: {}ms. taskLocation: [{}]",
+                barrier.getId(),
+                inFlightRecords.size(),
+                System.currentTimeMillis() - startTime,
+                runningTask.getTaskLocation());
+
+        inFlightRecords.clear();
+        unalignedBarrier = null;
+        alignedBarriersCounter = 0;
+        alignedBarriers.clear();
+    }
+
+    private List<byte[]> serializeRecords(List<Record<?>> records) {
+        if (records.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SerializationService serializationService =
+                runningTask.getExecutionContext().getSerializationService();
+        List<byte[]> state = new ArrayList<>(records.size());
+        for (Record<?> record : records) {
+            state.add(serializationService.toData(record).toByteArray());
+        }
+        return state;
+    }
+
+    @Override
+    public ActionStateKey getStateKey() {
+        return ActionStateKey.inFlightOf(shuffleAction);
+    }
+
+    @Override
+    public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
+        SerializationService serializationService =
+                runningTask.getExecutionContext().getSerializationService();
+        for (ActionSubtaskState actionState : actionStateList) {
+            if (actionState.getState() == null) {
+                continue;
+            }
+            for (byte[] bytes : actionState.getState()) {
+                restoredRecords.add(serializationService.toObject(new HeapData(bytes)));
+            }
+        }
+        if (!restoredRecords.isEmpty()) {
+            log.info(
+                    "restored {} in-flight records of the shuffle, taskLocation: [{}]",
+                    restoredRecords.size(),
+                    runningTask.getTaskLocation());
         }
     }
 
@@ -39,6 +39,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.context.SinkWriterContext;
@@ -47,6 +48,7 @@ import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowO
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.cluster.Address;
 import lombok.extern.slf4j.Slf4j;
@@ -249,6 +251,16 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                         barrier.getId(),
                         System.currentTimeMillis() - startTime,
                         taskLocation);
+            } else if (record.getData() instanceof LatencyMarker) {
+                if (prepareClose) {
+                    return;
+                }
+                if (metricsContext instanceof SeaTunnelMetricsContext) {
+                    LatencyMarker marker = (LatencyMarker) record.getData();
+                    ((SeaTunnelMetricsContext) metricsContext)
+                            .latencyHistogram(marker.getSourceTaskID())
+                            .record(System.currentTimeMillis() - marker.getMarkedTime());
+                }
             } else if (record.getData() instanceof SchemaChangeEvent) {
                 if (prepareClose) {
                     return;
@@ -45,6 +45,7 @@ import org.apache.seatunnel.engine.server.task.operation.source.SourceNoMoreElem
 import org.apache.seatunnel.engine.server.task.operation.source.SourceReaderEventOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.SourceRegisterOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.cluster.Address;
 import lombok.AccessLevel;
@@ -89,6 +90,10 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
 
+    private long latencyTrackingInterval;
+
+    private long lastLatencyMarkerTime;
+
     public SourceFlowLifeCycle(
             SourceAction<T, SplitT, ?> sourceAction,
             int indexID,
@@ -111,6 +116,10 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         this.collector = collector;
     }
 
+    public void setLatencyTrackingInterval(long latencyTrackingInterval) {
+        this.latencyTrackingInterval = latencyTrackingInterval;
+    }
+
     @Override
     public void init() throws Exception {
         this.splitSerializer = sourceAction.getSource().getSplitSerializer();
@@ -156,6 +165,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 return;
             }
 
+            emitLatencyMarker();
             reader.pollNext(collector);
             if (collector.isEmptyThisPollNext()) {
                 Thread.sleep(100);
@@ -195,6 +205,18 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         }
     }
 
+    private void emitLatencyMarker() throws IOException {
+        if (latencyTrackingInterval <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastLatencyMarkerTime >= latencyTrackingInterval) {
+            lastLatencyMarkerTime = now;
+            collector.sendRecordToNext(
+                    new Record<>(new LatencyMarker(now, currentTaskLocation.getTaskID())));
+        }
+    }
+
     public void signalNoMoreElement() {
         // ready close this reader
         try {
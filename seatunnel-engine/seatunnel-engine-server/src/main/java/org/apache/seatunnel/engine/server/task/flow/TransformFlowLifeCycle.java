@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
 import org.apache.seatunnel.api.transform.SeaTunnelMapTransform;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportBufferedBatch;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
@@ -30,8 +31,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
-
-import org.apache.commons.collections4.CollectionUtils;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,6 +50,21 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    // the row batches passed between the transforms of the chain, reused for every record
+    private List<T> currentBatch = new ArrayList<>();
+
+    private List<T> nextBatch = new ArrayList<>();
+
+    // the input rows buffered across records for the transforms which implement
+    // SupportBufferedBatch, the buffer is disabled when the size is below 2
+    private final int bufferSize;
+
+    private final long bufferTimeoutMillis;
+
+    private final List<T> bufferedRows = new ArrayList<>();
+
+    private long bufferStartTime;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -59,6 +74,28 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        int size = 0;
+        long timeout = Long.MAX_VALUE;
+        for (SeaTunnelTransform<T> t : transform) {
+            if (t instanceof SupportBufferedBatch
+                    && ((SupportBufferedBatch) t).getBufferSize() > 1) {
+                size = Math.max(size, ((SupportBufferedBatch) t).getBufferSize());
+                timeout = Math.min(timeout, ((SupportBufferedBatch) t).getBufferTimeoutMillis());
+            }
+        }
+        this.bufferSize = size;
+        this.bufferTimeoutMillis = timeout;
+        if (isBuffering()) {
+            log.info(
+                    "Transform chain {} buffers up to {} rows for at most {} ms",
+                    action.getName(),
+                    bufferSize,
+                    bufferTimeoutMillis);
+        }
+    }
+
+    public boolean isBuffering() {
+        return bufferSize > 1;
     }
 
     @Override
@@ -78,8 +115,10 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
     }
 
     @Override
-    public void received(Record<?> record) {
+    public synchronized void received(Record<?> record) {
         if (record.getData() instanceof Barrier) {
+            // the buffered rows belong to the checkpoint of this barrier
+            flushBuffer();
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
             if (barrier.prepareClose(this.runningTask.getTaskLocation())) {
                 prepareClose = true;
@@ -90,10 +129,17 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             // ack after #addState
             runningTask.ack(barrier);
             collector.collect(record);
+        } else if (record.getData() instanceof LatencyMarker) {
+            if (prepareClose) {
+                return;
+            }
+            // the marker measures the latency of the flow, it bypasses the transforms
+            collector.collect(record);
         } else if (record.getData() instanceof SchemaChangeEvent) {
             if (prepareClose) {
                 return;
             }
+            flushBuffer();
             SchemaChangeEvent event = (SchemaChangeEvent) record.getData();
             for (SeaTunnelTransform<T> t : transform) {
                 SchemaChangeEvent eventBefore = event;
@@ -119,61 +165,101 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
                 return;
             }
             T inputData = (T) record.getData();
-            List<T> outputDataList = transform(inputData);
-            if (!outputDataList.isEmpty()) {
-                // todo log metrics
-                for (T outputData : outputDataList) {
-                    collector.collect(new Record<>(outputData));
+            if (isBuffering()) {
+                if (bufferedRows.isEmpty()) {
+                    bufferStartTime = System.currentTimeMillis();
                 }
+                bufferedRows.add(inputData);
+                if (bufferedRows.size() >= bufferSize) {
+                    flushBuffer();
+                }
+                return;
             }
+            collectOutput(transform(inputData));
+        }
+    }
+
+    /** Transforms the buffered rows if the oldest one has waited for the buffer timeout. */
+    public synchronized void flushIdleBuffer() {
+        if (!bufferedRows.isEmpty()
+                && System.currentTimeMillis() - bufferStartTime >= bufferTimeoutMillis) {
+            flushBuffer();
         }
     }
 
+    private void flushBuffer() {
+        if (bufferedRows.isEmpty()) {
+            return;
+        }
+        try {
+            collectOutput(transformBatch(bufferedRows));
+        } finally {
+            bufferedRows.clear();
+        }
+    }
+
+    private void collectOutput(List<T> outputDataList) {
+        // todo log metrics
+        for (int i = 0; i < outputDataList.size(); i++) {
+            collector.collect(new Record<>(outputDataList.get(i)));
+        }
+    }
+
+    /**
+     * Transforms the input data through the transform chain. The returned list is reused by the
+     * next call, so it must be consumed before this method is called again.
+     */
     public List<T> transform(T inputData) {
         if (transform.isEmpty()) {
             return Collections.singletonList(inputData);
         }
+        currentBatch.clear();
+        currentBatch.add(inputData);
+        return transformCurrentBatch();
+    }
 
-        List<T> dataList = new ArrayList<>();
-        dataList.add(inputData);
+    /**
+     * Transforms a batch of input data through the transform chain, the same as {@link
+     * #transform(Object)} for each of them. The returned list is reused by the next call.
+     */
+    public List<T> transformBatch(List<T> inputDataList) {
+        if (transform.isEmpty()) {
+            return new ArrayList<>(inputDataList);
+        }
+        currentBatch.clear();
+        currentBatch.addAll(inputDataList);
+        return transformCurrentBatch();
+    }
+
+    private List<T> transformCurrentBatch() {
+        List<T> dataList = currentBatch;
+        List<T> nextDataList = nextBatch;
 
         for (SeaTunnelTransform<T> transformer : transform) {
-            List<T> nextInputDataList = new ArrayList<>();
+            nextDataList.clear();
             if (transformer instanceof SeaTunnelFlatMapTransform) {
-                SeaTunnelFlatMapTransform<T> transformDecorator =
-                        (SeaTunnelFlatMapTransform<T>) transformer;
-                for (T data : dataList) {
-                    List<T> outputDataArray = transformDecorator.flatMap(data);
-                    log.debug(
-                            "Transform[{}] input row {} and output row {}",
-                            transformer,
-                            data,
-                            outputDataArray);
-                    if (CollectionUtils.isNotEmpty(outputDataArray)) {
-                        nextInputDataList.addAll(outputDataArray);
-                    }
-                }
+                ((SeaTunnelFlatMapTransform<T>) transformer).flatMapBatch(dataList, nextDataList);
             } else if (transformer instanceof SeaTunnelMapTransform) {
-                for (T data : dataList) {
-                    SeaTunnelMapTransform<T> transformDecorator =
-                            (SeaTunnelMapTransform<T>) transformer;
-                    T outputData = transformDecorator.map(data);
-                    log.debug(
-                            "Transform[{}] input row {} and output row {}",
-                            transformer,
-                            data,
-                            outputData);
-                    if (outputData == null) {
-                        log.trace("Transform[{}] filtered data row {}", transformer, data);
-                        continue;
-                    }
-                    nextInputDataList.add(outputData);
-                }
+                ((SeaTunnelMapTransform<T>) transformer).mapBatch(dataList, nextDataList);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Transform[{}] input rows {} and output rows {}",
+                        transformer,
+                        dataList,
+                        nextDataList);
             }
 
-            dataList = nextInputDataList;
+            List<T> swap = dataList;
+            dataList = nextDataList;
+            nextDataList = swap;
+            if (dataList.isEmpty()) {
+                break;
+            }
         }
 
+        currentBatch = dataList;
+        nextBatch = nextDataList;
         return dataList;
     }
 
@@ -184,6 +270,18 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     @Override
     public void close() throws IOException {
+        // the rows are not part of any checkpoint yet, so a failed flush must fail the task
+        IOException flushFailure = null;
+        synchronized (this) {
+            try {
+                flushBuffer();
+            } catch (Exception e) {
+                flushFailure =
+                        new IOException(
+                                "Flush buffered rows of " + action.getName() + " failed on close",
+                                e);
+            }
+        }
         for (SeaTunnelTransform<T> t : transform) {
             try {
                 t.close();
@@ -196,5 +294,8 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             }
         }
         super.close();
+        if (flushFailure != null) {
+            throw flushFailure;
+        }
     }
 }
@@ -54,7 +54,7 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
     @Override
     public AbstractIntermediateQueue<?> getQueueCache(long id) {
         blockingQueueCache.computeIfAbsent(id, i -> new ArrayBlockingQueue<>(QUEUE_SIZE));
-        return new IntermediateBlockingQueue(blockingQueueCache.get(id));
+        return new IntermediateBlockingQueue(id, blockingQueueCache.get(id));
     }
 
     @Override
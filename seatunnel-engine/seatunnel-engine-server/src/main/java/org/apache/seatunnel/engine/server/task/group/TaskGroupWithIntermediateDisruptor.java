@@ -68,7 +68,7 @@ public class TaskGroupWithIntermediateDisruptor extends AbstractTaskGroupWithInt
                         new YieldingWaitStrategy());
 
         this.disruptor.putIfAbsent(id, disruptor);
-        return new IntermediateDisruptor(this.disruptor.get(id));
+        return new IntermediateDisruptor(id, this.disruptor.get(id));
     }
 
     @Override
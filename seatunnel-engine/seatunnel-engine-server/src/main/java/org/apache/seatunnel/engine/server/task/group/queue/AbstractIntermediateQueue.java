@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.group.queue;
 
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
@@ -35,14 +36,22 @@ public abstract class AbstractIntermediateQueue<T> {
 
     private final T queue;
 
-    public AbstractIntermediateQueue(T queue) {
+    /**
+     * Each end of the queue records its own side, the producer the put and the consumer the poll.
+     */
+    @Getter private final QueueMetric queueMetric;
+
+    public AbstractIntermediateQueue(long queueID, T queue) {
         this.queue = queue;
+        this.queueMetric = createQueueMetric("IntermediateQueue-" + queueID, queue);
     }
 
     public T getIntermediateQueue() {
         return queue;
     }
 
+    protected abstract QueueMetric createQueueMetric(String edge, T queue);
+
     public abstract void received(Record<?> record);
 
     public abstract void collect(Collector<Record<?>> collector) throws Exception;
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.group.queue;
 
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.common.utils.function.ConsumerWithException;
@@ -29,14 +30,19 @@ import java.util.concurrent.TimeUnit;
 
 public class IntermediateBlockingQueue extends AbstractIntermediateQueue<BlockingQueue<Record<?>>> {
 
-    public IntermediateBlockingQueue(BlockingQueue<Record<?>> queue) {
-        super(queue);
+    public IntermediateBlockingQueue(long queueID, BlockingQueue<Record<?>> queue) {
+        super(queueID, queue);
+    }
+
+    @Override
+    protected QueueMetric createQueueMetric(String edge, BlockingQueue<Record<?>> queue) {
+        return new QueueMetric(edge, queue.size() + queue.remainingCapacity(), queue::size);
     }
 
     @Override
     public void received(Record<?> record) {
         try {
-            handleRecord(record, getIntermediateQueue()::put);
+            handleRecord(record, this::put);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -45,7 +51,7 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
         while (true) {
-            Record<?> record = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
+            Record<?> record = poll();
             if (record != null) {
                 handleRecord(record, collector::collect);
             } else {
@@ -59,6 +65,30 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
         getIntermediateQueue().clear();
     }
 
+    private void put(Record<?> record) throws InterruptedException {
+        BlockingQueue<Record<?>> queue = getIntermediateQueue();
+        if (!queue.offer(record)) {
+            QueueMetric queueMetric = getQueueMetric();
+            long start = queueMetric.startPutBlocked();
+            try {
+                queue.put(record);
+            } finally {
+                queueMetric.endPutBlocked(start);
+            }
+        }
+    }
+
+    private Record<?> poll() throws InterruptedException {
+        BlockingQueue<Record<?>> queue = getIntermediateQueue();
+        Record<?> record = queue.poll();
+        if (record == null) {
+            long start = System.nanoTime();
+            record = queue.poll(100, TimeUnit.MILLISECONDS);
+            getQueueMetric().markPollIdle(System.nanoTime() - start);
+        }
+        return record;
+    }
+
     private void handleRecord(Record<?> record, ConsumerWithException<Record<?>> consumer)
             throws Exception {
         if (record.getData() instanceof Barrier) {
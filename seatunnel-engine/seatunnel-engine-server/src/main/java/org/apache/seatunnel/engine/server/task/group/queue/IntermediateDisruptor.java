@@ -17,31 +17,42 @@
 
 package org.apache.seatunnel.engine.server.task.group.queue;
 
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent;
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventHandler;
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventProducer;
 
+import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 
 import java.io.IOException;
 
 public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<RecordEvent>> {
 
-    public IntermediateDisruptor(Disruptor<RecordEvent> queue) {
-        super(queue);
+    public IntermediateDisruptor(long queueID, Disruptor<RecordEvent> queue) {
+        super(queueID, queue);
+    }
+
+    @Override
+    protected QueueMetric createQueueMetric(String edge, Disruptor<RecordEvent> queue) {
+        RingBuffer<RecordEvent> ringBuffer = queue.getRingBuffer();
+        return new QueueMetric(
+                edge,
+                ringBuffer.getBufferSize(),
+                () -> (int) (ringBuffer.getBufferSize() - ringBuffer.remainingCapacity()));
     }
 
     private volatile boolean isExecuted;
 
     @Override
     public void received(Record<?> record) {
-        getIntermediateQueue().getRingBuffer();
         RecordEventProducer.onData(
                 record,
                 getIntermediateQueue().getRingBuffer(),
-                getIntermediateQueueFlowLifeCycle());
+                getIntermediateQueueFlowLifeCycle(),
+                getQueueMetric());
     }
 
     @Override
@@ -52,7 +63,8 @@ public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<R
                             new RecordEventHandler(
                                     getRunningTask(),
                                     collector,
-                                    getIntermediateQueueFlowLifeCycle()));
+                                    getIntermediateQueueFlowLifeCycle(),
+                                    getQueueMetric()));
             getIntermediateQueue().start();
             isExecuted = true;
         } else {
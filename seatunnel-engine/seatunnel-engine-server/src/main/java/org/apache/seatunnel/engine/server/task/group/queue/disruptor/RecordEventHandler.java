@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.group.queue.disruptor;
 
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
@@ -34,19 +35,45 @@ public class RecordEventHandler implements EventHandler<RecordEvent> {
 
     private final IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle;
 
+    private final QueueMetric queueMetric;
+
+    /**
+     * The end of the previous batch, the handler waits for the ring buffer until the next one. The
+     * wait is counted while it is in progress, so a stalled producer shows up as an idle consumer.
+     */
+    private long lastBatchEndNanos;
+
+    private boolean idle;
+
+    private boolean inBatch;
+
     public RecordEventHandler(
             SeaTunnelTask runningTask,
             Collector<Record<?>> collector,
-            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle,
+            QueueMetric queueMetric) {
         this.runningTask = runningTask;
         this.collector = collector;
         this.intermediateQueueFlowLifeCycle = intermediateQueueFlowLifeCycle;
+        this.queueMetric = queueMetric;
     }
 
     @Override
     public void onEvent(RecordEvent recordEvent, long sequence, boolean endOfBatch)
             throws Exception {
+        if (!inBatch) {
+            inBatch = true;
+            if (idle) {
+                idle = false;
+                queueMetric.endPollIdle(lastBatchEndNanos);
+            }
+        }
         handleRecord(recordEvent.getRecord(), collector);
+        if (endOfBatch) {
+            inBatch = false;
+            idle = true;
+            lastBatchEndNanos = queueMetric.startPollIdle();
+        }
     }
 
     private void handleRecord(Record<?> record, Collector<Record<?>> collector) throws Exception {
@@ -17,11 +17,13 @@
 
 package org.apache.seatunnel.engine.server.task.group.queue.disruptor;
 
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
+import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.RingBuffer;
 
 public class RecordEventProducer {
@@ -29,7 +31,8 @@ public class RecordEventProducer {
     public static void onData(
             Record<?> record,
             RingBuffer<RecordEvent> ringBuffer,
-            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle,
+            QueueMetric queueMetric) {
 
         if (record.getData() instanceof Barrier) {
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
@@ -44,7 +47,7 @@ public class RecordEventProducer {
             }
         }
 
-        long sequence = ringBuffer.next();
+        long sequence = nextSequence(ringBuffer, queueMetric);
         try {
             RecordEvent recordEvent = ringBuffer.get(sequence);
             recordEvent.setRecord(record);
@@ -52,4 +55,18 @@ public class RecordEventProducer {
             ringBuffer.publish(sequence);
         }
     }
+
+    private static long nextSequence(RingBuffer<RecordEvent> ringBuffer, QueueMetric queueMetric) {
+        try {
+            return ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            // the ring buffer is full, the consumer is the bottleneck of the edge
+            long start = queueMetric.startPutBlocked();
+            try {
+                return ringBuffer.next();
+            } finally {
+                queueMetric.endPutBlocked(start);
+            }
+        }
+    }
 }
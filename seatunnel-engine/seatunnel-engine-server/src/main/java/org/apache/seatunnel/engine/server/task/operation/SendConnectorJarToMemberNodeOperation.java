@@ -17,7 +17,6 @@
 
 package org.apache.seatunnel.engine.server.task.operation;
 
-import org.apache.seatunnel.engine.core.job.ConnectorJar;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
@@ -30,18 +29,29 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.io.IOException;
 
+/** Sends a chunk of a connector jar, so a large jar never travels in a single operation. */
 public class SendConnectorJarToMemberNodeOperation extends Operation
         implements IdentifiedDataSerializable {
 
-    private ConnectorJar connectorJar;
     private ConnectorJarIdentifier connectorJarIdentifier;
 
+    private long offset;
+
+    private byte[] chunk;
+
+    private boolean lastChunk;
+
     public SendConnectorJarToMemberNodeOperation() {}
 
     public SendConnectorJarToMemberNodeOperation(
-            ConnectorJar connectorJar, ConnectorJarIdentifier connectorJarIdentifier) {
-        this.connectorJar = connectorJar;
+            ConnectorJarIdentifier connectorJarIdentifier,
+            long offset,
+            byte[] chunk,
+            boolean lastChunk) {
         this.connectorJarIdentifier = connectorJarIdentifier;
+        this.offset = offset;
+        this.chunk = chunk;
+        this.lastChunk = lastChunk;
     }
 
     @Override
@@ -59,21 +69,25 @@ public class SendConnectorJarToMemberNodeOperation extends Operation
         SeaTunnelServer seaTunnelServer = getService();
         ServerConnectorPackageClient serverConnectorPackageClient =
                 seaTunnelServer.getTaskExecutionService().getServerConnectorPackageClient();
-        serverConnectorPackageClient.storageConnectorJarFile(
-                connectorJar.getData(), connectorJarIdentifier);
+        serverConnectorPackageClient.storageConnectorJarChunk(
+                connectorJarIdentifier, offset, chunk, lastChunk);
     }
 
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         super.writeInternal(out);
-        out.writeObject(connectorJar);
         out.writeObject(connectorJarIdentifier);
+        out.writeLong(offset);
+        out.writeByteArray(chunk);
+        out.writeBoolean(lastChunk);
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         super.readInternal(in);
-        this.connectorJar = in.readObject();
         this.connectorJarIdentifier = in.readObject();
+        this.offset = in.readLong();
+        this.chunk = in.readByteArray();
+        this.lastChunk = in.readBoolean();
     }
 }
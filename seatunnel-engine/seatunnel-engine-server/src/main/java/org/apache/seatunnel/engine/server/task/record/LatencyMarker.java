@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * Latency marker flowing in data flow. It is emitted periodically by the source readers, forwarded
+ * like the barriers through the transforms, intermediate queues and shuffles, and recorded by the
+ * sinks, so the time it took to arrive is the end-to-end latency between the two subtasks.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LatencyMarker implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The wall clock time the marker was emitted at the source, in milliseconds. */
+    private final long markedTime;
+
+    /** The task id of the source subtask which emitted the marker. */
+    private final long sourceTaskID;
+}
@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.engine.server.telemetry.metrics;
 
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.CheckpointMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.ClusterMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobThreadPoolStatusExports;
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.LatencyMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.NodeMetricExports;
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.QueueMetricExports;
 
 import com.hazelcast.instance.impl.Node;
 import io.prometheus.client.CollectorRegistry;
@@ -47,6 +50,11 @@ public final class ExportsInstanceInitializer {
             new NodeMetricExports(node).register(collectorRegistry);
             // Cluster metrics
             new ClusterMetricExports(node).register(collectorRegistry);
+            // Checkpoint phase metrics
+            new CheckpointMetricExports(node).register(collectorRegistry);
+            // Task queue backpressure metrics
+            new QueueMetricExports(node).register(collectorRegistry);
+            new LatencyMetricExports(node).register(collectorRegistry);
             initialized = true;
         }
     }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointManager;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointPhaseMetrics;
+import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CheckpointMetricExports extends AbstractCollector {
+
+    public CheckpointMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        // Only the master coordinates the checkpoints
+        if (isMaster()) {
+            GaugeMetricFamily metricFamily =
+                    new GaugeMetricFamily(
+                            "job_checkpoint_phase_duration_milliseconds",
+                            "The phase durations of the latest completed checkpoint of each pipeline",
+                            clusterLabelNames("job_id", "pipeline_id", "phase"));
+            for (JobMaster jobMaster : getCoordinatorService().getRunningJobMasters()) {
+                CheckpointManager checkpointManager = jobMaster.getCheckpointManager();
+                if (checkpointManager == null) {
+                    continue;
+                }
+                String jobId = String.valueOf(jobMaster.getJobId());
+                for (Map.Entry<Integer, CheckpointPhaseMetrics> entry :
+                        checkpointManager.getLatestCheckpointPhaseMetrics().entrySet()) {
+                    String pipelineId = String.valueOf(entry.getKey());
+                    CheckpointPhaseMetrics metrics = entry.getValue();
+                    longMetric(
+                            metricFamily,
+                            metrics.getAlignDurationMillis(),
+                            labelValues(jobId, pipelineId, "align"));
+                    longMetric(
+                            metricFamily,
+                            metrics.getSnapshotDurationMillis(),
+                            labelValues(jobId, pipelineId, "snapshot"));
+                    longMetric(
+                            metricFamily,
+                            metrics.getSerializeDurationMillis(),
+                            labelValues(jobId, pipelineId, "serialize"));
+                    longMetric(
+                            metricFamily,
+                            metrics.getUploadDurationMillis(),
+                            labelValues(jobId, pipelineId, "upload"));
+                    longMetric(
+                            metricFamily,
+                            metrics.getNotifyDurationMillis(),
+                            labelValues(jobId, pipelineId, "notify"));
+                }
+            }
+            mfs.add(metricFamily);
+        }
+        return mfs;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.engine.server.TaskExecutionService;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.LatencyHistogram;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class LatencyMetricExports extends AbstractCollector {
+
+    public LatencyMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        // The histograms live on the worker which runs the sink tasks
+        TaskExecutionService taskExecutionService = getServer().getTaskExecutionService();
+        if (taskExecutionService == null) {
+            return mfs;
+        }
+        GaugeMetricFamily latency =
+                new GaugeMetricFamily(
+                        "job_task_latency_milliseconds",
+                        "The end-to-end latency of the latency markers from a source task to a sink task",
+                        clusterLabelNames(
+                                ADDRESS,
+                                "job_id",
+                                "pipeline_id",
+                                "source_task_id",
+                                "sink_task_id",
+                                "quantile"));
+        String address = localAddress();
+        for (Map.Entry<TaskLocation, List<LatencyHistogram>> entry :
+                taskExecutionService.getRunningTaskMetrics(LatencyHistogram.class).entrySet()) {
+            TaskLocation taskLocation = entry.getKey();
+            for (LatencyHistogram histogram : entry.getValue()) {
+                List<String> labelValues =
+                        labelValues(
+                                address,
+                                String.valueOf(taskLocation.getJobId()),
+                                String.valueOf(taskLocation.getPipelineId()),
+                                histogram.name(),
+                                String.valueOf(taskLocation.getTaskID()));
+                quantileMetric(latency, labelValues, "0.5", histogram.getValueAtPercentile(50));
+                quantileMetric(latency, labelValues, "0.95", histogram.getValueAtPercentile(95));
+                quantileMetric(latency, labelValues, "0.99", histogram.getValueAtPercentile(99));
+                quantileMetric(latency, labelValues, "max", histogram.getMaxValue());
+            }
+        }
+        mfs.add(latency);
+        return mfs;
+    }
+
+    private void quantileMetric(
+            GaugeMetricFamily metricFamily, List<String> labelValues, String quantile, long value) {
+        List<String> quantileLabelValues = new ArrayList<>(labelValues);
+        quantileLabelValues.add(quantile);
+        longMetric(metricFamily, value, quantileLabelValues);
+    }
+}
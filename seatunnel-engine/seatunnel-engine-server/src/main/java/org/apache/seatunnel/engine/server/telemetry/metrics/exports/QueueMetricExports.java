@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.api.common.metrics.QueueMetric;
+import org.apache.seatunnel.engine.server.TaskExecutionService;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class QueueMetricExports extends AbstractCollector {
+
+    private static final String HELP = "The %s of the queue of the edge between two task actions";
+
+    public QueueMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        // The queues live on the worker which runs the tasks
+        TaskExecutionService taskExecutionService = getServer().getTaskExecutionService();
+        if (taskExecutionService == null) {
+            return mfs;
+        }
+        List<String> labelNames =
+                clusterLabelNames(ADDRESS, "job_id", "pipeline_id", "task_id", "edge");
+        GaugeMetricFamily occupancy =
+                new GaugeMetricFamily(
+                        "job_task_queue_occupancy", String.format(HELP, "occupancy"), labelNames);
+        GaugeMetricFamily capacity =
+                new GaugeMetricFamily(
+                        "job_task_queue_capacity", String.format(HELP, "capacity"), labelNames);
+        GaugeMetricFamily putBlockedRatio =
+                new GaugeMetricFamily(
+                        "job_task_queue_put_blocked_ratio",
+                        String.format(HELP, "percent of time the producer blocked on put"),
+                        labelNames);
+        GaugeMetricFamily pollIdleRatio =
+                new GaugeMetricFamily(
+                        "job_task_queue_poll_idle_ratio",
+                        String.format(HELP, "percent of time the consumer idled on poll"),
+                        labelNames);
+        String address = localAddress();
+        for (Map.Entry<TaskLocation, List<QueueMetric>> entry :
+                taskExecutionService.getRunningTaskMetrics(QueueMetric.class).entrySet()) {
+            TaskLocation taskLocation = entry.getKey();
+            for (QueueMetric queueMetric : entry.getValue()) {
+                List<String> labelValues =
+                        labelValues(
+                                address,
+                                String.valueOf(taskLocation.getJobId()),
+                                String.valueOf(taskLocation.getPipelineId()),
+                                String.valueOf(taskLocation.getTaskID()),
+                                queueMetric.name());
+                longMetric(occupancy, queueMetric.getOccupancy(), labelValues);
+                longMetric(capacity, queueMetric.getCapacity(), labelValues);
+                putBlockedRatio.addMetric(labelValues, queueMetric.getPutBlockedRatio());
+                pollIdleRatio.addMetric(labelValues, queueMetric.getPollIdleRatio());
+            }
+        }
+        mfs.add(occupancy);
+        mfs.add(capacity);
+        mfs.add(putBlockedRatio);
+        mfs.add(pollIdleRatio);
+        return mfs;
+    }
+}
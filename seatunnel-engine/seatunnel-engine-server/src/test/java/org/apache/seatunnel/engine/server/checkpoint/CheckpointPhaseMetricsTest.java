@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CheckpointPhaseMetricsTest {
+
+    @Test
+    public void testReportTaskAckKeepsTheSlowestTask() {
+        CheckpointPhaseMetrics metrics = new CheckpointPhaseMetrics(1L);
+        metrics.reportTaskAck(20, 5);
+        metrics.reportTaskAck(10, 30);
+        metrics.reportTaskAck(0, 0);
+        Assertions.assertEquals(20, metrics.getAlignDurationMillis());
+        Assertions.assertEquals(30, metrics.getSnapshotDurationMillis());
+
+        metrics.setSerializeDurationMillis(3);
+        metrics.setUploadDurationMillis(40);
+        metrics.setNotifyDurationMillis(2);
+        Assertions.assertEquals(3, metrics.getSerializeDurationMillis());
+        Assertions.assertEquals(40, metrics.getUploadDurationMillis());
+        Assertions.assertEquals(2, metrics.getNotifyDurationMillis());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TaskLocalStateStoreTest {
+
+    @TempDir Path tempDir;
+
+    private final TaskLocation taskLocation =
+            new TaskLocation(new TaskGroupLocation(1L, 1, 1L), 2L, 0);
+
+    @Test
+    public void testStoreAndLoad() {
+        TaskLocalStateStore store = new TaskLocalStateStore(tempDir.toString());
+        List<ActionSubtaskState> states = states("source", new byte[] {1, 2, 3});
+        store.store(taskLocation, 1L, states);
+
+        List<ActionSubtaskState> loaded =
+                store.load(taskLocation, 1L, TaskLocalStateStore.checksum(states));
+        Assertions.assertNotNull(loaded);
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertEquals(states.get(0).getStateKey(), loaded.get(0).getStateKey());
+        Assertions.assertArrayEquals(
+                states.get(0).getState().get(0), loaded.get(0).getState().get(0));
+
+        // the master restores other states than the local copy
+        Assertions.assertNull(
+                store.load(
+                        taskLocation,
+                        1L,
+                        TaskLocalStateStore.checksum(states("source", new byte[] {4}))));
+        Assertions.assertNull(store.load(taskLocation, 2L, TaskLocalStateStore.checksum(states)));
+    }
+
+    @Test
+    public void testChecksumIgnoresOrder() {
+        ActionSubtaskState source =
+                new ActionSubtaskState(
+                        new ActionStateKey("source"), 0, Collections.singletonList(new byte[] {1}));
+        ActionSubtaskState sink =
+                new ActionSubtaskState(
+                        new ActionStateKey("sink"), 0, Collections.singletonList(new byte[] {2}));
+        Assertions.assertEquals(
+                TaskLocalStateStore.checksum(Arrays.asList(source, sink)),
+                TaskLocalStateStore.checksum(Arrays.asList(sink, source)));
+    }
+
+    @Test
+    public void testRetainAndClean() {
+        TaskLocalStateStore store = new TaskLocalStateStore(tempDir.toString());
+        List<ActionSubtaskState> states = states("source", new byte[] {1});
+        long checksum = TaskLocalStateStore.checksum(states);
+        for (long checkpointId = 1; checkpointId <= 3; checkpointId++) {
+            store.store(taskLocation, checkpointId, states);
+        }
+        Assertions.assertNull(store.load(taskLocation, 1L, checksum));
+        Assertions.assertNotNull(store.load(taskLocation, 2L, checksum));
+        Assertions.assertNotNull(store.load(taskLocation, 3L, checksum));
+
+        store.clean(1L);
+        Assertions.assertFalse(Files.exists(tempDir.resolve("1")));
+        Assertions.assertNull(store.load(taskLocation, 3L, checksum));
+    }
+
+    private static List<ActionSubtaskState> states(String name, byte[] state) {
+        return Collections.singletonList(
+                new ActionSubtaskState(
+                        new ActionStateKey(name), 0, Collections.singletonList(state)));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.ShuffleSourceFlowLifeCycle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UnalignedShuffleCheckpointTest
+        extends AbstractSeaTunnelServerTest<UnalignedShuffleCheckpointTest> {
+
+    private static final long UPSTREAM_VERTEX = 1;
+
+    private static final long DOWNSTREAM_VERTEX = 2;
+
+    @Test
+    public void testInFlightRecordsSurviveUpstreamAck() throws Exception {
+        IQueue<Record<?>>[] queues = createQueues("acked");
+        ShuffleAction shuffleAction = createShuffleAction(queues);
+        CheckpointBarrier barrier = new CheckpointBarrier(1, 0, CheckpointType.CHECKPOINT_TYPE);
+
+        // the second downstream subtask captures the records its barrier overtook
+        SeaTunnelTask task = mockTask(1);
+        ShuffleSourceFlowLifeCycle<?> lifeCycle = createLifeCycle(task, shuffleAction);
+        queues[0].addAll(Arrays.asList(new Record<>(barrier), row("r1")));
+        queues[1].addAll(Arrays.asList(row("r2"), new Record<>(barrier)));
+        lifeCycle.collect(new ListCollector());
+        ArgumentCaptor<ActionStateKey> keyCaptor = ArgumentCaptor.forClass(ActionStateKey.class);
+        ArgumentCaptor<List<byte[]>> stateCaptor = ArgumentCaptor.forClass(List.class);
+        verify(task).addState(eq(barrier), keyCaptor.capture(), stateCaptor.capture());
+        Assertions.assertEquals(ActionStateKey.inFlightOf(shuffleAction), keyCaptor.getValue());
+        Assertions.assertEquals(1, stateCaptor.getValue().size());
+        lifeCycle.close();
+
+        // three upstream subtasks run the shuffle sink, two downstream ones the shuffle source
+        Map<ActionStateKey, ActionState> actionStates = new HashMap<>();
+        actionStates.put(
+                ActionStateKey.of(shuffleAction),
+                new ActionState(ActionStateKey.of(shuffleAction), 3));
+        actionStates.put(
+                ActionStateKey.inFlightOf(shuffleAction),
+                new ActionState(ActionStateKey.inFlightOf(shuffleAction), 2));
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>();
+        taskStatistics.put(UPSTREAM_VERTEX, new TaskStatistics(UPSTREAM_VERTEX, 3));
+        taskStatistics.put(DOWNSTREAM_VERTEX, new TaskStatistics(DOWNSTREAM_VERTEX, 2));
+        Set<Long> tasks = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(location(UPSTREAM_VERTEX, i).getTaskID());
+        }
+        for (int i = 0; i < 2; i++) {
+            tasks.add(location(DOWNSTREAM_VERTEX, i).getTaskID());
+        }
+        PendingCheckpoint pendingCheckpoint =
+                new PendingCheckpoint(
+                        1,
+                        1,
+                        1,
+                        0,
+                        CheckpointType.CHECKPOINT_TYPE,
+                        tasks,
+                        taskStatistics,
+                        actionStates);
+
+        pendingCheckpoint.acknowledgeTask(
+                location(DOWNSTREAM_VERTEX, 1),
+                Collections.singletonList(
+                        new ActionSubtaskState(keyCaptor.getValue(), 1, stateCaptor.getValue())),
+                SubtaskStatus.RUNNING);
+        pendingCheckpoint.acknowledgeTask(
+                location(DOWNSTREAM_VERTEX, 0),
+                Collections.singletonList(
+                        new ActionSubtaskState(
+                                ActionStateKey.inFlightOf(shuffleAction),
+                                0,
+                                Collections.emptyList())),
+                SubtaskStatus.RUNNING);
+        // the shuffle sinks ack later with an empty state at the same indexes
+        for (int i = 0; i < 3; i++) {
+            pendingCheckpoint.acknowledgeTask(
+                    location(UPSTREAM_VERTEX, i),
+                    Collections.singletonList(
+                            new ActionSubtaskState(
+                                    ActionStateKey.of(shuffleAction), i, Collections.emptyList())),
+                    SubtaskStatus.RUNNING);
+        }
+        CompletedCheckpoint completedCheckpoint = pendingCheckpoint.getCompletableFuture().get();
+
+        // the restored attempt looks up the state with the key it reports
+        ShuffleSourceFlowLifeCycle<?> restored =
+                createLifeCycle(mockTask(1), createShuffleAction(createQueues("restored")));
+        ActionState inFlightState = completedCheckpoint.getTaskStates().get(restored.getStateKey());
+        restored.restoreState(Collections.singletonList(inFlightState.getSubtaskStates().get(1)));
+        ListCollector collector = new ListCollector();
+        restored.collect(collector);
+        Assertions.assertEquals(Collections.singletonList("r2"), collector.rows());
+        restored.close();
+    }
+
+    private static TaskLocation location(long vertex, int index) {
+        return new TaskLocation(new TaskGroupLocation(1, 1, vertex), vertex, index);
+    }
+
+    private SeaTunnelTask mockTask(int index) {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        when(task.getTaskLocation()).thenReturn(location(DOWNSTREAM_VERTEX, index));
+        when(task.getExecutionContext())
+                .thenReturn(new TaskExecutionContext(task, (NodeEngineImpl) nodeEngine, null));
+        return task;
+    }
+
+    private IQueue<Record<?>>[] createQueues(String name) {
+        IQueue<Record<?>>[] queues = new IQueue[2];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = instance.getQueue("UnalignedShuffleCheckpointTest_" + name + "_" + i);
+        }
+        return queues;
+    }
+
+    /** The actions share the name, like the attempts of a restored job. */
+    private ShuffleAction createShuffleAction(IQueue<Record<?>>[] queues) {
+        ShuffleStrategy strategy = Mockito.mock(ShuffleStrategy.class);
+        when(strategy.getShuffles(any(), anyInt(), anyInt())).thenReturn(queues);
+        ShuffleConfig config =
+                ShuffleConfig.builder().shuffleStrategy(strategy).unalignedCheckpoint(true).build();
+        return new ShuffleAction(1, "shuffle", config);
+    }
+
+    private ShuffleSourceFlowLifeCycle<?> createLifeCycle(
+            SeaTunnelTask task, ShuffleAction shuffleAction) {
+        return new ShuffleSourceFlowLifeCycle<>(
+                task, 1, shuffleAction, instance, new CompletableFuture<>());
+    }
+
+    private static Record<?> row(String value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+        private final List<Record<?>> records = new ArrayList<>();
+
+        @Override
+        public void collect(Record<?> record) {
+            records.add(record);
+        }
+
+        @Override
+        public void close() {}
+
+        List<Object> rows() {
+            List<Object> rows = new ArrayList<>();
+            for (Record<?> record : records) {
+                if (record.getData() instanceof SeaTunnelRow) {
+                    rows.add(((SeaTunnelRow) record.getData()).getField(0));
+                }
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverAllValues() {
+        long previous = -1;
+        for (int i = 0; i <= LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE); i++) {
+            long highest = LatencyHistogram.highestEquivalentValue(i);
+            Assertions.assertEquals(i, LatencyHistogram.bucketIndex(previous + 1));
+            Assertions.assertEquals(i, LatencyHistogram.bucketIndex(highest));
+            previous = highest;
+        }
+        Assertions.assertEquals(LatencyHistogram.MAX_VALUE, previous);
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(99));
+        for (long i = 1; i <= 10000; i++) {
+            histogram.record(i);
+        }
+        Assertions.assertEquals(10000, histogram.getTotalCount());
+        Assertions.assertEquals(10000, histogram.getMaxValue());
+        assertWithinError(5000, histogram.getValueAtPercentile(50));
+        assertWithinError(9500, histogram.getValueAtPercentile(95));
+        assertWithinError(9900, histogram.getValueAtPercentile(99));
+        Assertions.assertEquals(10000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        histogram.record(3);
+        histogram.record(7);
+        Assertions.assertEquals(3, histogram.getValueAtPercentile(50));
+        Assertions.assertEquals(7, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        histogram.record(-100);
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(50));
+        histogram.record(Long.MAX_VALUE);
+        Assertions.assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMaxValue());
+    }
+
+    @Test
+    public void testWindows() {
+        AtomicLong now = new AtomicLong(1000);
+        LatencyHistogram histogram = new LatencyHistogram(1, now::get);
+        for (int i = 0; i < 100; i++) {
+            histogram.record(1000);
+        }
+
+        // the previous window still counts
+        now.addAndGet(LatencyHistogram.WINDOW_MILLIS);
+        histogram.record(10);
+        Assertions.assertEquals(101, histogram.getTotalCount());
+        Assertions.assertEquals(1000, histogram.getMaxValue());
+        assertWithinError(1000, histogram.getValueAtPercentile(50));
+
+        // the latency went down, the old spike is gone after two windows
+        now.addAndGet(LatencyHistogram.WINDOW_MILLIS);
+        histogram.record(10);
+        Assertions.assertEquals(2, histogram.getTotalCount());
+        Assertions.assertEquals(10, histogram.getMaxValue());
+        Assertions.assertEquals(10, histogram.getValueAtPercentile(99));
+
+        // nothing recorded for more than a window
+        now.addAndGet(2 * LatencyHistogram.WINDOW_MILLIS + 1);
+        Assertions.assertEquals(0, histogram.getTotalCount());
+        Assertions.assertEquals(0, histogram.getMaxValue());
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(3);
+        for (long i = 0; i < 100; i++) {
+            histogram.record(i * 10);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(histogram);
+        }
+        LatencyHistogram restored;
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (LatencyHistogram) in.readObject();
+        }
+        Assertions.assertEquals("3", restored.name());
+        Assertions.assertEquals(histogram.getTotalCount(), restored.getTotalCount());
+        Assertions.assertEquals(
+                histogram.getValueAtPercentile(99), restored.getValueAtPercentile(99));
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        Assertions.assertTrue(
+                Math.abs(actual - expected) <= expected / 16,
+                "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.resourcemanager.allocation.strategy;
+
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.ResourceProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.resourcemanager.resource.TrafficAffinity;
+import org.apache.seatunnel.engine.server.resourcemanager.worker.WorkerProfile;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class TrafficLocalityStrategyTest {
+
+    private TrafficLocalityStrategy strategy;
+
+    private WorkerProfile worker1;
+
+    private WorkerProfile worker2;
+
+    private Map<TaskGroupLocation, Address> placements;
+
+    @BeforeEach
+    void setUp() throws UnknownHostException {
+        strategy = new TrafficLocalityStrategy();
+        strategy.setWorkerAssignedSlots(new ConcurrentHashMap<>());
+        worker1 = worker(5801);
+        worker2 = worker(5802);
+        placements = new ConcurrentHashMap<>();
+    }
+
+    @Test
+    void testColocateHeavyEdge() {
+        TaskGroupLocation source1 = new TaskGroupLocation(1, 1, 1);
+        TaskGroupLocation source2 = new TaskGroupLocation(1, 1, 2);
+        TaskGroupLocation shuffle = new TaskGroupLocation(1, 1, 3);
+
+        // nothing placed yet, so the sources are spread by the slot usage
+        Assertions.assertEquals(
+                worker1, select(source1, Collections.singletonMap(shuffle, 100L)).orElse(null));
+        Assertions.assertEquals(
+                worker2, select(source2, Collections.singletonMap(shuffle, 10L)).orElse(null));
+
+        Map<TaskGroupLocation, Long> shuffleEdges = new HashMap<>();
+        shuffleEdges.put(source1, 100L);
+        shuffleEdges.put(source2, 10L);
+        Assertions.assertEquals(worker1, select(shuffle, shuffleEdges).orElse(null));
+        Assertions.assertEquals(worker1.getAddress(), placements.get(shuffle));
+    }
+
+    @Test
+    void testBalanceEvenTraffic() {
+        TaskGroupLocation source1 = new TaskGroupLocation(1, 1, 1);
+        TaskGroupLocation source2 = new TaskGroupLocation(1, 1, 2);
+        TaskGroupLocation shuffle1 = new TaskGroupLocation(1, 1, 3);
+        TaskGroupLocation shuffle2 = new TaskGroupLocation(1, 1, 4);
+        placements.put(source1, worker1.getAddress());
+        placements.put(source2, worker2.getAddress());
+        strategy.recordAssignedSlot(worker1);
+        strategy.recordAssignedSlot(worker2);
+        strategy.recordAssignedSlot(worker2);
+
+        Map<TaskGroupLocation, Long> edges = new HashMap<>();
+        edges.put(source1, 50L);
+        edges.put(source2, 50L);
+        // the same traffic to both workers, the one with more free slots wins
+        Assertions.assertEquals(worker1, select(shuffle1, edges).orElse(null));
+        Assertions.assertEquals(worker1.getAddress(), placements.get(shuffle1));
+        // now both workers use 2 slots, the first one wins the tie
+        Assertions.assertEquals(worker1, select(shuffle2, edges).orElse(null));
+    }
+
+    @Test
+    void testSpreadPipelineWithoutTrafficHistory() {
+        // without history the source weighs 1 to every shuffle task group it feeds
+        TaskGroupLocation source = new TaskGroupLocation(1, 1, 1);
+        List<TaskGroupLocation> shuffles = new ArrayList<>();
+        Map<TaskGroupLocation, Long> sourceEdges = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            TaskGroupLocation shuffle = new TaskGroupLocation(1, 1, 2 + i);
+            shuffles.add(shuffle);
+            sourceEdges.put(shuffle, 1L);
+        }
+        Assertions.assertEquals(worker1, select(source, sourceEdges).orElse(null));
+        // the first shuffle task group still follows the source
+        Assertions.assertEquals(
+                worker1,
+                select(shuffles.get(0), Collections.singletonMap(source, 1L)).orElse(null));
+        for (TaskGroupLocation shuffle : shuffles.subList(1, shuffles.size())) {
+            Assertions.assertTrue(select(shuffle, Collections.singletonMap(source, 1L)).isPresent());
+        }
+
+        Map<Address, Long> taskGroupsPerWorker =
+                placements.values().stream()
+                        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Assertions.assertEquals(3L, taskGroupsPerWorker.get(worker1.getAddress()));
+        Assertions.assertEquals(2L, taskGroupsPerWorker.get(worker2.getAddress()));
+    }
+
+    @Test
+    void testFallbackToSlotRatioWithoutAffinity() {
+        strategy.recordAssignedSlot(worker1);
+        Assertions.assertEquals(
+                worker2, strategy.selectWorker(workers(), new ResourceProfile()).orElse(null));
+        Assertions.assertTrue(placements.isEmpty());
+    }
+
+    private Optional<WorkerProfile> select(
+            TaskGroupLocation taskGroupLocation, Map<TaskGroupLocation, Long> edgeWeights) {
+        return strategy.selectWorker(
+                workers(),
+                new ResourceProfile()
+                        .withTrafficAffinity(
+                                new TrafficAffinity(taskGroupLocation, edgeWeights, placements)));
+    }
+
+    private List<WorkerProfile> workers() {
+        return Arrays.asList(worker1, worker2);
+    }
+
+    private static WorkerProfile worker(int port) throws UnknownHostException {
+        Address address = new Address("localhost", port);
+        SlotProfile[] slots = new SlotProfile[4];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new SlotProfile(address, i, new ResourceProfile(), "seq");
+        }
+        return new WorkerProfile(
+                address,
+                new ResourceProfile(),
+                new ResourceProfile(),
+                false,
+                new SlotProfile[0],
+                slots,
+                new HashMap<>());
+    }
+}
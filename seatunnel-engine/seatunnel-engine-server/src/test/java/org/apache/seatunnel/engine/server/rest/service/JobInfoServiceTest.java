@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.rest.service;
+
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+import org.apache.seatunnel.engine.server.rest.RestConstant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class JobInfoServiceTest extends AbstractSeaTunnelServerTest<JobInfoServiceTest> {
+
+    private JobInfoService jobInfoService;
+
+    @BeforeAll
+    public void before() {
+        super.before();
+        jobInfoService = new JobInfoService((NodeEngineImpl) nodeEngine);
+        IMap<Long, JobState> finishedJobState =
+                nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_FINISHED_JOB_STATE);
+        for (long jobId = 1; jobId <= 10; jobId++) {
+            finishedJobState.put(
+                    jobId,
+                    new JobState(
+                            jobId,
+                            jobId % 2 == 0 ? "even" : "odd",
+                            jobId % 3 == 0 ? JobStatus.FAILED : JobStatus.FINISHED,
+                            jobId * 10,
+                            // two jobs finish at the same time
+                            jobId <= 2 ? 100L : jobId * 100,
+                            Collections.emptyMap(),
+                            null));
+        }
+    }
+
+    @Test
+    public void testFilterFinishedJobs() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(RestConstant.JOB_NAME, "even");
+        parameters.put(RestConstant.FINISH_TIME_FROM, "300");
+        parameters.put(RestConstant.FINISH_TIME_TO, "900");
+        Assertions.assertEquals(
+                Arrays.asList(4L, 8L),
+                jobIds(
+                        jobInfoService.getFinishedJobs(
+                                FinishedJobQuery.of("finished", parameters))));
+        Assertions.assertEquals(
+                Arrays.asList(3L, 6L, 9L),
+                jobIds(
+                        jobInfoService.getFinishedJobs(
+                                FinishedJobQuery.of("FAILED", new HashMap<>()))));
+        Assertions.assertEquals(0, jobInfoService.getJobsByStateJson("unknown").size());
+        // an unknown state matches no job instead of failing the request
+        Assertions.assertEquals(
+                Collections.emptyList(),
+                jobInfoService.getFinishedJobs(
+                        FinishedJobQuery.of(
+                                "unknown", Collections.singletonMap(RestConstant.LIMIT, "4"))));
+    }
+
+    @Test
+    public void testPageFinishedJobsWithCursor() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(RestConstant.LIMIT, "4");
+        List<Long> jobIds = new ArrayList<>();
+        while (true) {
+            List<JobState> page =
+                    jobInfoService.getFinishedJobs(FinishedJobQuery.of("", parameters));
+            jobIds.addAll(jobIds(page));
+            if (page.size() < 4) {
+                break;
+            }
+            parameters.put(
+                    RestConstant.CURSOR, FinishedJobQuery.cursorOf(page.get(page.size() - 1)));
+        }
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), jobIds);
+    }
+
+    @Test
+    public void testInvalidQuery() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(RestConstant.CURSOR, "abc");
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> FinishedJobQuery.of("", parameters));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> FinishedJobQuery.of("", Collections.singletonMap(RestConstant.LIMIT, "0")));
+    }
+
+    private static List<Long> jobIds(List<JobState> jobStates) {
+        return jobStates.stream().map(JobState::getJobId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.rest.servlet;
+
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.rest.RestConstant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FinishedJobsServletTest extends AbstractSeaTunnelServerTest<FinishedJobsServletTest> {
+
+    @Test
+    public void testUnknownStateReturnsNoJob() throws Exception {
+        FinishedJobsServlet servlet = new FinishedJobsServlet((NodeEngineImpl) nodeEngine);
+        HttpServletRequest req = Mockito.mock(HttpServletRequest.class);
+        when(req.getPathInfo()).thenReturn("/unknown");
+        when(req.getParameterMap())
+                .thenReturn(Collections.singletonMap(RestConstant.LIMIT, new String[] {"2"}));
+        HttpServletResponse resp = Mockito.mock(HttpServletResponse.class);
+        StringWriter body = new StringWriter();
+        when(resp.getWriter()).thenReturn(new PrintWriter(body, true));
+
+        servlet.doGet(req, resp);
+
+        Assertions.assertEquals("[]", body.toString());
+        verify(resp, never()).setStatus(anyInt());
+        verify(resp, never()).setHeader(eq(RestConstant.NEXT_CURSOR_HEADER), anyString());
+    }
+}
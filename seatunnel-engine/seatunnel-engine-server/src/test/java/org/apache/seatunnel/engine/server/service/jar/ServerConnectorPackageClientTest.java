@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.service.jar;
+
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.common.utils.MDUtil;
+import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.core.job.ConnectorJarType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+public class ServerConnectorPackageClientTest {
+
+    @TempDir Path storageDir;
+
+    private final ServerConnectorPackageClient client =
+            new ServerConnectorPackageClient(null, null);
+
+    @Test
+    public void testResumeChunkedTransfer() throws Exception {
+        byte[] data = randomJar(1000);
+        ConnectorJarIdentifier identifier = identifier(data, "1/connector-fake.jar");
+
+        Assertions.assertEquals(0, client.getReceivedOffset(identifier));
+        client.storageConnectorJarChunk(identifier, 0, Arrays.copyOfRange(data, 0, 400), false);
+        // the transfer broke off, it resumes from the received bytes
+        Assertions.assertEquals(400, client.getReceivedOffset(identifier));
+        client.storageConnectorJarChunk(identifier, 400, Arrays.copyOfRange(data, 400, 800), false);
+        // a chunk sent again truncates the bytes behind it
+        client.storageConnectorJarChunk(identifier, 400, Arrays.copyOfRange(data, 400, 600), false);
+        Assertions.assertEquals(600, client.getReceivedOffset(identifier));
+        client.storageConnectorJarChunk(identifier, 600, Arrays.copyOfRange(data, 600, 1000), true);
+
+        Assertions.assertArrayEquals(data, Files.readAllBytes(storagePath(identifier)));
+        Assertions.assertEquals(
+                ServerConnectorPackageClient.TRANSFER_COMPLETED,
+                client.getReceivedOffset(identifier));
+    }
+
+    @Test
+    public void testSkipTransferOfStoredContent() throws Exception {
+        byte[] data = randomJar(100);
+        ConnectorJarIdentifier first = identifier(data, "1/connector-fake.jar");
+        client.storageConnectorJarChunk(first, 0, data, true);
+
+        // another job references the same content under another path
+        ConnectorJarIdentifier second = identifier(data, "2/connector-fake.jar");
+        Assertions.assertEquals(
+                ServerConnectorPackageClient.TRANSFER_COMPLETED, client.getReceivedOffset(second));
+        Assertions.assertArrayEquals(data, Files.readAllBytes(storagePath(second)));
+
+        client.deleteConnectorJar(first);
+        Assertions.assertFalse(storagePath(first).toFile().exists());
+        Assertions.assertTrue(storagePath(second).toFile().exists());
+    }
+
+    @Test
+    public void testRejectCorruptedTransfer() throws Exception {
+        byte[] data = randomJar(100);
+        ConnectorJarIdentifier identifier = identifier(data, "1/connector-fake.jar");
+        byte[] corrupted = data.clone();
+        corrupted[50]++;
+
+        Assertions.assertThrows(
+                SeaTunnelEngineException.class,
+                () -> client.storageConnectorJarChunk(identifier, 0, corrupted, true));
+        Assertions.assertFalse(storagePath(identifier).toFile().exists());
+        Assertions.assertEquals(0, client.getReceivedOffset(identifier));
+    }
+
+    private ConnectorJarIdentifier identifier(byte[] data, String path) {
+        return ConnectorJarIdentifier.of(
+                MDUtil.createMessageDigest().digest(data),
+                ConnectorJarType.CONNECTOR_PLUGIN_JAR,
+                new File(path).getName(),
+                storageDir.resolve(path).toString());
+    }
+
+    private static Path storagePath(ConnectorJarIdentifier identifier) {
+        return new File(identifier.getStoragePath()).toPath();
+    }
+
+    private static byte[] randomJar(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ShuffleSourceFlowLifeCycleTest
+        extends AbstractSeaTunnelServerTest<ShuffleSourceFlowLifeCycleTest> {
+
+    @Test
+    public void testAlignedBarrierBlocksInput() throws Exception {
+        IQueue<Record<?>>[] queues = createQueues("aligned");
+        SeaTunnelTask task = mockTask();
+        ShuffleSourceFlowLifeCycle<?> lifeCycle = createLifeCycle(task, queues, false);
+        ListCollector collector = new ListCollector();
+        CheckpointBarrier barrier = new CheckpointBarrier(1, 0, CheckpointType.CHECKPOINT_TYPE);
+
+        queues[0].addAll(Arrays.asList(row("r1"), new Record<>(barrier), row("r2")));
+        queues[1].addAll(Arrays.asList(row("r3"), row("r4")));
+        lifeCycle.collect(collector);
+        // the input which delivered the barrier waits for the others
+        Assertions.assertEquals(Arrays.asList("r1", "r3", "r4"), collector.rows());
+        Assertions.assertFalse(collector.hasBarrier());
+
+        queues[1].addAll(Arrays.asList(new Record<>(barrier), row("r5")));
+        lifeCycle.collect(collector);
+        Assertions.assertTrue(collector.hasBarrier());
+        verify(task).ack(barrier);
+        verify(task).addState(eq(barrier), any(), eq(Collections.emptyList()));
+        lifeCycle.close();
+    }
+
+    @Test
+    public void testUnalignedBarrierOvertakesRecords() throws Exception {
+        IQueue<Record<?>>[] queues = createQueues("unaligned");
+        SeaTunnelTask task = mockTask();
+        ShuffleSourceFlowLifeCycle<?> lifeCycle = createLifeCycle(task, queues, true);
+        ListCollector collector = new ListCollector();
+        CheckpointBarrier barrier = new CheckpointBarrier(1, 0, CheckpointType.CHECKPOINT_TYPE);
+
+        queues[0].addAll(Arrays.asList(row("r1"), new Record<>(barrier), row("r2")));
+        queues[1].addAll(Arrays.asList(row("r3"), row("r4")));
+        lifeCycle.collect(collector);
+        // the barrier is forwarded at once and no input is blocked
+        Assertions.assertTrue(collector.hasBarrier());
+        Assertions.assertEquals(Arrays.asList("r1", "r2", "r3", "r4"), collector.rows());
+        verify(task, Mockito.never()).ack(any());
+
+        queues[1].addAll(Arrays.asList(new Record<>(barrier), row("r5")));
+        lifeCycle.collect(collector);
+        Assertions.assertEquals(Arrays.asList("r1", "r2", "r3", "r4", "r5"), collector.rows());
+        ArgumentCaptor<List<byte[]>> stateCaptor = ArgumentCaptor.forClass(List.class);
+        verify(task).addState(eq(barrier), any(), stateCaptor.capture());
+        verify(task).ack(barrier);
+        // the records overtaken by the barrier are the state
+        Assertions.assertEquals(2, stateCaptor.getValue().size());
+        lifeCycle.close();
+
+        // the in-flight records are replayed before the shuffles after restore
+        IQueue<Record<?>>[] restoredQueues = createQueues("restored");
+        ShuffleSourceFlowLifeCycle<?> restored = createLifeCycle(task, restoredQueues, true);
+        restored.restoreState(
+                Collections.singletonList(
+                        new ActionSubtaskState(restored.getStateKey(), 0, stateCaptor.getValue())));
+        restoredQueues[0].add(row("r6"));
+        ListCollector restoredCollector = new ListCollector();
+        restored.collect(restoredCollector);
+        restored.collect(restoredCollector);
+        Assertions.assertEquals(Arrays.asList("r3", "r4", "r6"), restoredCollector.rows());
+        restored.close();
+    }
+
+    private IQueue<Record<?>>[] createQueues(String name) {
+        IQueue<Record<?>>[] queues = new IQueue[2];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = instance.getQueue("ShuffleSourceFlowLifeCycleTest_" + name + "_" + i);
+        }
+        return queues;
+    }
+
+    private SeaTunnelTask mockTask() {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1, 1, 1), 1, 0));
+        when(task.getExecutionContext())
+                .thenReturn(new TaskExecutionContext(task, (NodeEngineImpl) nodeEngine, null));
+        return task;
+    }
+
+    private ShuffleSourceFlowLifeCycle<?> createLifeCycle(
+            SeaTunnelTask task, IQueue<Record<?>>[] queues, boolean unaligned) {
+        ShuffleStrategy strategy = Mockito.mock(ShuffleStrategy.class);
+        when(strategy.getShuffles(any(), anyInt(), anyInt())).thenReturn(queues);
+        ShuffleConfig config =
+                ShuffleConfig.builder()
+                        .shuffleStrategy(strategy)
+                        .unalignedCheckpoint(unaligned)
+                        .build();
+        return new ShuffleSourceFlowLifeCycle<>(
+                task,
+                0,
+                new ShuffleAction(1, "shuffle", config),
+                instance,
+                new CompletableFuture<>());
+    }
+
+    private static Record<?> row(String value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+        private final List<Record<?>> records = new ArrayList<>();
+
+        @Override
+        public void collect(Record<?> record) {
+            records.add(record);
+        }
+
+        @Override
+        public void close() {}
+
+        List<Object> rows() {
+            List<Object> rows = new ArrayList<>();
+            for (Record<?> record : records) {
+                if (record.getData() instanceof SeaTunnelRow) {
+                    rows.add(((SeaTunnelRow) record.getData()).getField(0));
+                }
+            }
+            return rows;
+        }
+
+        boolean hasBarrier() {
+            return records.stream().anyMatch(r -> r.getData() instanceof CheckpointBarrier);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelMapTransform;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportBufferedBatch;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+public class TransformFlowLifeCycleTest {
+
+    @Test
+    public void testBufferRowsAcrossRecords() throws Exception {
+        BatchRecordingTransform transform = new BatchRecordingTransform(3, Long.MAX_VALUE);
+        ListCollector collector = new ListCollector();
+        TransformFlowLifeCycle<SeaTunnelRow> lifeCycle = createLifeCycle(transform, collector);
+        Assertions.assertTrue(lifeCycle.isBuffering());
+
+        for (int i = 0; i < 7; i++) {
+            lifeCycle.received(row("r" + i));
+        }
+        lifeCycle.flushIdleBuffer();
+        Assertions.assertEquals(Arrays.asList(3, 3), transform.batchSizes);
+        Assertions.assertEquals(6, collector.records.size());
+
+        // the barrier flushes the buffered rows before it is forwarded
+        CheckpointBarrier barrier = new CheckpointBarrier(1, 0, CheckpointType.CHECKPOINT_TYPE);
+        lifeCycle.received(new Record<>(barrier));
+        Assertions.assertEquals(Arrays.asList(3, 3, 1), transform.batchSizes);
+        Assertions.assertEquals(8, collector.records.size());
+        Assertions.assertEquals("r6", ((SeaTunnelRow) collector.records.get(6)).getField(0));
+        Assertions.assertSame(barrier, collector.records.get(7));
+
+        lifeCycle.received(row("r7"));
+        lifeCycle.close();
+        Assertions.assertEquals(Arrays.asList(3, 3, 1, 1), transform.batchSizes);
+        Assertions.assertEquals(9, collector.records.size());
+    }
+
+    @Test
+    public void testFlushIdleBuffer() throws Exception {
+        BatchRecordingTransform transform = new BatchRecordingTransform(10, 0);
+        ListCollector collector = new ListCollector();
+        TransformFlowLifeCycle<SeaTunnelRow> lifeCycle = createLifeCycle(transform, collector);
+
+        lifeCycle.received(row("r0"));
+        lifeCycle.received(row("r1"));
+        Assertions.assertTrue(collector.records.isEmpty());
+        lifeCycle.flushIdleBuffer();
+        Assertions.assertEquals(Collections.singletonList(2), transform.batchSizes);
+        Assertions.assertEquals(2, collector.records.size());
+        lifeCycle.close();
+    }
+
+    @Test
+    public void testCloseFailsWhenFlushFails() throws Exception {
+        BatchRecordingTransform transform = new BatchRecordingTransform(10, Long.MAX_VALUE);
+        TransformFlowLifeCycle<SeaTunnelRow> lifeCycle =
+                createLifeCycle(transform, new ListCollector());
+
+        lifeCycle.received(row("r0"));
+        transform.failing = true;
+        IOException exception = Assertions.assertThrows(IOException.class, lifeCycle::close);
+        Assertions.assertEquals("model unavailable", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testNoBufferWithoutBufferedTransform() throws Exception {
+        BatchRecordingTransform transform = new BatchRecordingTransform(0, 0);
+        ListCollector collector = new ListCollector();
+        TransformFlowLifeCycle<SeaTunnelRow> lifeCycle = createLifeCycle(transform, collector);
+        Assertions.assertFalse(lifeCycle.isBuffering());
+
+        lifeCycle.received(row("r0"));
+        lifeCycle.received(row("r1"));
+        Assertions.assertEquals(Arrays.asList(1, 1), transform.batchSizes);
+        Assertions.assertEquals(2, collector.records.size());
+        lifeCycle.close();
+    }
+
+    private static TransformFlowLifeCycle<SeaTunnelRow> createLifeCycle(
+            BatchRecordingTransform transform, ListCollector collector) {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1, 1, 1), 1, 0));
+        List<SeaTunnelTransform<SeaTunnelRow>> transforms = Collections.singletonList(transform);
+        TransformChainAction<SeaTunnelRow> action =
+                new TransformChainAction<>(
+                        1, "transform", Collections.emptySet(), Collections.emptySet(), transforms);
+        return new TransformFlowLifeCycle<>(action, task, collector, new CompletableFuture<>());
+    }
+
+    private static Record<?> row(String value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+        private final List<Object> records = new ArrayList<>();
+
+        @Override
+        public void collect(Record<?> record) {
+            records.add(record.getData());
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static class BatchRecordingTransform
+            implements SeaTunnelMapTransform<SeaTunnelRow>, SupportBufferedBatch {
+        private final int bufferSize;
+        private final long bufferTimeoutMillis;
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private boolean failing;
+
+        private BatchRecordingTransform(int bufferSize, long bufferTimeoutMillis) {
+            this.bufferSize = bufferSize;
+            this.bufferTimeoutMillis = bufferTimeoutMillis;
+        }
+
+        @Override
+        public SeaTunnelRow map(SeaTunnelRow row) {
+            return row;
+        }
+
+        @Override
+        public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+            if (failing) {
+                throw new IllegalStateException("model unavailable");
+            }
+            batchSizes.add(rows.size());
+            output.addAll(rows);
+        }
+
+        @Override
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        @Override
+        public long getBufferTimeoutMillis() {
+            return bufferTimeoutMillis;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "BatchRecording";
+        }
+
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            return null;
+        }
+
+        @Override
+        public List<CatalogTable> getProducedCatalogTables() {
+            return Collections.emptyList();
+        }
+    }
+}
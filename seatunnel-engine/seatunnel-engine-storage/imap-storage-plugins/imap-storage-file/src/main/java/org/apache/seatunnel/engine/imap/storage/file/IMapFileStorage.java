@@ -56,6 +56,7 @@ import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.BUSINESS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.CLUSTER_NAME;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.NAMESPACE_KEY;
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WAL_COMPACTION_INTERVAL_MILLISECONDS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WRITE_DATA_TIMEOUT_MILLISECONDS_KEY;
 
 /**
@@ -107,6 +108,8 @@ public class IMapFileStorage implements IMapStorage {
 
     public static final long DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS = 1000 * 60;
 
+    public static final long DEFAULT_WAL_COMPACTION_INTERVAL_MILLISECONDS = 1000 * 60 * 10;
+
     private Configuration conf;
 
     private FileConfiguration fileConfiguration;
@@ -143,6 +146,12 @@ public class IMapFileStorage implements IMapStorage {
                         configuration.getOrDefault(
                                 WRITE_DATA_TIMEOUT_MILLISECONDS_KEY,
                                 DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS);
+        long walCompactionIntervalMilliseconds =
+                Long.parseLong(
+                        String.valueOf(
+                                configuration.getOrDefault(
+                                        WAL_COMPACTION_INTERVAL_MILLISECONDS_KEY,
+                                        DEFAULT_WAL_COMPACTION_INTERVAL_MILLISECONDS)));
 
         this.region = String.valueOf(System.nanoTime());
         this.businessRootPath =
@@ -164,7 +173,8 @@ public class IMapFileStorage implements IMapStorage {
                         fs,
                         FileConfiguration.valueOf(storageType.toUpperCase()),
                         businessRootPath + region + DEFAULT_IMAP_FILE_PATH_SPLIT,
-                        serializer);
+                        serializer,
+                        walCompactionIntervalMilliseconds);
     }
 
     @Override
@@ -64,5 +64,13 @@ public class FileConstants {
 
         /** The maximum waiting time of write operations */
         String WRITE_DATA_TIMEOUT_MILLISECONDS_KEY = "writeDataTimeoutMilliseconds";
+
+        /**
+         * The interval of wal compaction, the sealed wal files are folded into a snapshot of the
+         * live keys. A value less than or equal to 0 disables the compaction.
+         *
+         * <p>Type: Long
+         */
+        String WAL_COMPACTION_INTERVAL_MILLISECONDS_KEY = "walCompactionIntervalMilliseconds";
     }
 }
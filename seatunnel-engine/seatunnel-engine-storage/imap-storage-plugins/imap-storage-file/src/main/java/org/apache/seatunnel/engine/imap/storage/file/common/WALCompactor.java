@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.imap.storage.file.wal.DiscoveryWalFileFactory;
+import org.apache.seatunnel.engine.imap.storage.file.wal.reader.IFileReader;
+import org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Folds the sealed wal files of one region into a snapshot which only keeps the latest record of
+ * every key, then deletes the folded files. Delete records are kept in the snapshot, otherwise an
+ * older record of the same key in another region could be loaded again.
+ */
+@Slf4j
+public class WALCompactor implements AutoCloseable {
+
+    public static final String SNAPSHOT_FILE_PREFIX = "snapshot_";
+
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private static final int DEFAULT_CLOSE_WAIT_TIME_SECONDS = 5;
+
+    private final FileSystem fs;
+
+    private final Path parentPath;
+
+    private final Serializer serializer;
+
+    private final IFileReader<IMapFileData> reader;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(
+                    r -> {
+                        Thread thread = new Thread(r, "wal-compactor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    public WALCompactor(
+            FileSystem fs,
+            FileConfiguration fileConfiguration,
+            Path parentPath,
+            Serializer serializer)
+            throws IOException {
+        this.fs = fs;
+        this.parentPath = parentPath;
+        this.serializer = serializer;
+        this.reader = DiscoveryWalFileFactory.getReader(fileConfiguration.getName());
+        this.reader.initialize(fs, serializer);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Compact the wal files in background.
+     *
+     * @param activePath the file which is still written, it is never compacted
+     * @return false if a compaction is already running
+     */
+    public boolean compactAsync(Path activePath) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(
+                () -> {
+                    try {
+                        compact(activePath);
+                    } catch (Exception e) {
+                        log.warn("compact wal files failed, parent path is {}", parentPath, e);
+                    } finally {
+                        running.set(false);
+                    }
+                });
+        return true;
+    }
+
+    /**
+     * Compact the wal files except the active one.
+     *
+     * @return the path of the snapshot, null if there is nothing to compact
+     */
+    public Path compact(Path activePath) throws IOException {
+        List<Path> sealedFiles = getSealedFiles(activePath);
+        if (sealedFiles.isEmpty()
+                || (sealedFiles.size() == 1
+                        && sealedFiles.get(0).getName().startsWith(SNAPSHOT_FILE_PREFIX))) {
+            return null;
+        }
+        Map<RecordKey, IMapFileData> latest = new HashMap<>();
+        for (Path file : sealedFiles) {
+            for (IMapFileData data : reader.readData(file)) {
+                latest.merge(
+                        new RecordKey(data.getKeyClassName(), data.getKey()),
+                        data,
+                        (older, newer) ->
+                                newer.getTimestamp() >= older.getTimestamp() ? newer : older);
+            }
+        }
+
+        String snapshotName =
+                SNAPSHOT_FILE_PREFIX + System.nanoTime() + "_" + IFileWriter.FILE_NAME;
+        Path snapshotPath = new Path(parentPath, snapshotName);
+        // the reader only loads files ending with the wal file name, so a half written tmp file
+        // is never visible
+        Path tmpPath = new Path(parentPath, snapshotName + TMP_FILE_SUFFIX);
+        try (FSDataOutputStream out = fs.create(tmpPath, true)) {
+            for (IMapFileData data : latest.values()) {
+                out.write(WALDataUtils.wrapperBytes(serializer.serialize(data)));
+            }
+            out.hsync();
+        }
+        if (!fs.rename(tmpPath, snapshotPath)) {
+            fs.delete(tmpPath, false);
+            throw new IOException(
+                    String.format("rename wal snapshot %s to %s failed", tmpPath, snapshotPath));
+        }
+        // the records of the sealed files are all in the snapshot now, the readers may see both
+        // until they are deleted, which is harmless as the latest record still wins
+        for (Path file : sealedFiles) {
+            fs.delete(file, false);
+        }
+        log.info(
+                "compacted {} wal files into {} with {} records",
+                sealedFiles.size(),
+                snapshotPath,
+                latest.size());
+        return snapshotPath;
+    }
+
+    private List<Path> getSealedFiles(Path activePath) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!fs.exists(parentPath)) {
+            return files;
+        }
+        for (FileStatus status : fs.listStatus(parentPath)) {
+            String name = status.getPath().getName();
+            if (status.isFile()
+                    && name.endsWith(IFileWriter.FILE_NAME)
+                    && !name.equals(activePath.getName())) {
+                files.add(status.getPath());
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        if (!executor.awaitTermination(DEFAULT_CLOSE_WAIT_TIME_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class RecordKey {
+        private final String keyClassName;
+        private final byte[] key;
+    }
+}
@@ -50,6 +50,18 @@ public class WALWriter implements AutoCloseable {
         this.writer.write(data);
     }
 
+    public void append(IMapFileData data) throws IOException {
+        this.writer.append(data);
+    }
+
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    public Path rollover() throws IOException {
+        return this.writer.rollover();
+    }
+
     @Override
     public void close() throws Exception {
         this.writer.close();
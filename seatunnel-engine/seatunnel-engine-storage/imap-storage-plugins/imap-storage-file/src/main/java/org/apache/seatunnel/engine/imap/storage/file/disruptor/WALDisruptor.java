@@ -37,6 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -49,7 +51,7 @@ public class WALDisruptor implements Closeable {
 
     private static final int DEFAULT_CLOSE_WAIT_TIME_SECONDS = 5;
 
-    private boolean isClosed = false;
+    private volatile boolean isClosed = false;
 
     private static final EventTranslatorThreeArg<FileWALEvent, IMapFileData, WALEventType, Long>
             TRANSLATOR =
@@ -59,25 +61,47 @@ public class WALDisruptor implements Closeable {
                         event.setRequestId(requestId);
                     };
 
+    /** Publishes the compaction events, null if the compaction is disabled. */
+    private ScheduledExecutorService compactionScheduler;
+
     public WALDisruptor(
             FileSystem fs,
             FileConfiguration fileConfiguration,
             String parentPath,
             Serializer serializer) {
-        // todo should support multi thread producer
+        this(fs, fileConfiguration, parentPath, serializer, 0L);
+    }
+
+    public WALDisruptor(
+            FileSystem fs,
+            FileConfiguration fileConfiguration,
+            String parentPath,
+            Serializer serializer,
+            long compactionIntervalMilliseconds) {
         ThreadFactory threadFactory = DaemonThreadFactory.INSTANCE;
+        // the storage and the compaction scheduler publish from different threads
         this.disruptor =
                 new Disruptor<>(
                         FileWALEvent.FACTORY,
                         DEFAULT_RING_BUFFER_SIZE,
                         threadFactory,
-                        ProducerType.SINGLE,
+                        ProducerType.MULTI,
                         new BlockingWaitStrategy());
 
-        disruptor.handleEventsWithWorkerPool(
+        disruptor.handleEventsWith(
                 new WALWorkHandler(fs, fileConfiguration, parentPath, serializer));
 
         disruptor.start();
+
+        if (compactionIntervalMilliseconds > 0) {
+            this.compactionScheduler =
+                    Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.INSTANCE);
+            compactionScheduler.scheduleWithFixedDelay(
+                    () -> tryPublish(null, WALEventType.COMPACT, 0L),
+                    compactionIntervalMilliseconds,
+                    compactionIntervalMilliseconds,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     public boolean tryPublish(IMapFileData message, WALEventType status, Long requestId) {
@@ -99,6 +123,9 @@ public class WALDisruptor implements Closeable {
     @Override
     public void close() throws IOException {
         // we can wait for 5 seconds, so that backlog can be committed
+        if (compactionScheduler != null) {
+            compactionScheduler.shutdownNow();
+        }
         try {
             tryPublish(null, WALEventType.CLOSED, 0L);
             isClosed = true;
@@ -26,5 +26,7 @@ public enum WALEventType {
     /** delete all wal file in this namespace */
     CLEAR,
     /** Close wal file */
-    CLOSED
+    CLOSED,
+    /** Seal the current wal file and fold the sealed files into a snapshot */
+    COMPACT
 }
@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.imap.storage.file.disruptor;
 
 import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALWriter;
 import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
 import org.apache.seatunnel.engine.imap.storage.file.future.RequestFutureCache;
@@ -30,17 +31,33 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
-import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.EventHandler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-/** NOTICE: Single thread to write data to orc file. */
+/**
+ * Writes the wal events with group commit: the appended records are only made durable at the end of
+ * each batch the disruptor hands over, so every record published while the previous sync was
+ * running shares one sync, and their requests are responded after it.
+ */
 @Slf4j
-public class WALWorkHandler implements WorkHandler<FileWALEvent> {
+public class WALWorkHandler implements EventHandler<FileWALEvent> {
 
     private WALWriter writer;
 
+    private WALCompactor compactor;
+
+    /** The requests appended but not synced yet. */
+    private final List<Long> pendingRequests = new ArrayList<>();
+
+    /** Whether there are records appended since the last compaction. */
+    private boolean appendedSinceCompaction = false;
+
+    private boolean closed = false;
+
     public WALWorkHandler(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -48,6 +65,7 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
             Serializer serializer) {
         try {
             writer = new WALWriter(fs, fileConfiguration, new Path(parentPath), serializer);
+            compactor = new WALCompactor(fs, fileConfiguration, new Path(parentPath), serializer);
         } catch (IOException e) {
             throw new IMapStorageException(
                     e, "create new current writer failed, parent path is %s", parentPath);
@@ -55,31 +73,72 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
     }
 
     @Override
-    public void onEvent(FileWALEvent fileWALEvent) throws Exception {
-        log.debug("write data to orc file");
+    public void onEvent(FileWALEvent fileWALEvent, long sequence, boolean endOfBatch)
+            throws Exception {
+        log.debug("write data to wal file");
         walEvent(fileWALEvent.getData(), fileWALEvent.getType(), fileWALEvent.getRequestId());
+        if (endOfBatch) {
+            commit();
+        }
     }
 
     private void walEvent(IMapFileData iMapFileData, WALEventType type, long requestId)
             throws Exception {
+        if (closed) {
+            log.warn("wal writer is closed, ignore the {} event", type);
+            if (type == WALEventType.APPEND) {
+                executeResponse(requestId, false);
+            }
+            return;
+        }
         if (type == WALEventType.APPEND) {
-            boolean writeSuccess = true;
-            // write to current writer
+            // append to current writer, the data is synced when the batch ends
             try {
-                writer.write(iMapFileData);
-            } catch (IOException e) {
-                writeSuccess = false;
-                log.error("write orc file error, walEventBean is {} ", iMapFileData, e);
+                writer.append(iMapFileData);
+                pendingRequests.add(requestId);
+                appendedSinceCompaction = true;
+            } catch (IOException | RuntimeException e) {
+                log.error("write wal file error, walEventBean is {} ", iMapFileData, e);
+                executeResponse(requestId, false);
+            }
+            return;
+        }
+
+        if (type == WALEventType.COMPACT) {
+            commit();
+            if (appendedSinceCompaction && !compactor.isRunning()) {
+                Path activePath = writer.rollover();
+                compactor.compactAsync(activePath);
+                appendedSinceCompaction = false;
             }
-            // return the result to the client
-            executeResponse(requestId, writeSuccess);
             return;
         }
 
         if (type == WALEventType.CLOSED) {
+            commit();
+            closed = true;
             // close writer and archive
             writer.close();
+            compactor.close();
+        }
+    }
+
+    /** Sync all the appended data once and return the result to the clients. */
+    private void commit() {
+        if (pendingRequests.isEmpty()) {
+            return;
+        }
+        boolean writeSuccess = true;
+        try {
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            writeSuccess = false;
+            log.error("sync wal file error, {} requests failed", pendingRequests.size(), e);
+        }
+        for (Long requestId : pendingRequests) {
+            executeResponse(requestId, writeSuccess);
         }
+        pendingRequests.clear();
     }
 
     private void executeResponse(long requestId, boolean success) {
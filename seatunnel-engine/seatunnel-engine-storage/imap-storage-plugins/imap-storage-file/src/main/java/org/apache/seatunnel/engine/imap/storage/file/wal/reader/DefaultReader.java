@@ -31,14 +31,21 @@ import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
 
+@Slf4j
 public class DefaultReader implements IFileReader<IMapFileData> {
     private static final int DEFAULT_QUERY_LIST_SIZE = 1024;
+    private static final int MAX_RELIST_TIMES = 3;
     FileSystem fs;
     Serializer serializer;
 
@@ -53,6 +60,12 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         this.serializer = serializer;
     }
 
+    /**
+     * Read the records of all wal files. A file may be deleted by compaction after it is listed,
+     * its records are then in a snapshot which is renamed in before the file is deleted, so the
+     * files are listed again and the ones not read yet are read. A record read twice is harmless,
+     * the latest record of a key still wins.
+     */
     @Override
     public List<IMapFileData> readAllData(Path parentPath) throws IOException {
         List<String> fileNames = getFileNames(parentPath);
@@ -60,10 +73,29 @@ public class DefaultReader implements IFileReader<IMapFileData> {
             return new ArrayList<>();
         }
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        for (String fileName : fileNames) {
-            result.addAll(readData(new Path(parentPath, fileName)));
+        Set<String> readFileNames = new HashSet<>();
+        for (int attempt = 0; ; attempt++) {
+            FileNotFoundException missing = null;
+            for (String fileName : fileNames) {
+                if (readFileNames.contains(fileName)) {
+                    continue;
+                }
+                try {
+                    result.addAll(readData(new Path(parentPath, fileName)));
+                    readFileNames.add(fileName);
+                } catch (FileNotFoundException e) {
+                    log.debug("wal file {} has been compacted, list the files again", fileName);
+                    missing = e;
+                }
+            }
+            if (missing == null) {
+                return result;
+            }
+            if (attempt >= MAX_RELIST_TIMES) {
+                throw missing;
+            }
+            fileNames = getFileNames(parentPath);
         }
-        return result;
     }
 
     private List<String> getFileNames(Path parentPath) {
@@ -86,7 +118,8 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
+    @Override
+    public List<IMapFileData> readData(Path path) throws IOException {
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
         long length = fs.getFileStatus(path).getLen();
         try (FSDataInputStream in = fs.open(path)) {
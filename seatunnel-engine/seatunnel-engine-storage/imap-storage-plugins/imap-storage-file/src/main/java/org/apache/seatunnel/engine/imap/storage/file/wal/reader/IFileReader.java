@@ -33,4 +33,7 @@ public interface IFileReader<R> {
     void initialize(FileSystem fs, Serializer serializer) throws IOException;
 
     List<R> readAllData(Path parentPath) throws IOException;
+
+    /** Read the records of a single wal file, used by compaction to fold sealed segments. */
+    List<R> readData(Path path) throws IOException;
 }
@@ -51,6 +51,9 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
 
     private AtomicLong index = new AtomicLong(0);
 
+    /** Whether there are appended bytes which have not been uploaded yet. */
+    private boolean dirty = false;
+
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
@@ -73,34 +76,51 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
-    // TODO Synchronous write, asynchronous write can be added in the future
     @Override
     public void write(IMapFileData data) throws IOException {
+        this.append(data);
+        this.flush();
+    }
+
+    @Override
+    public void append(IMapFileData data) throws IOException {
         byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        bf.writeBytes(WALDataUtils.wrapperBytes(bytes));
+        this.dirty = true;
     }
 
-    private void write(byte[] bytes) {
+    /** Object stores can not append, so the whole file is uploaded once for all appended data. */
+    @Override
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
         try (FSDataOutputStream out = fs.create(path, true)) {
-            // Write to bytebuffer
-            byte[] data = WALDataUtils.wrapperBytes(bytes);
-            bf.writeBytes(data);
-
             // Read all bytes
             byte[] allBytes = new byte[bf.readableBytes()];
             bf.readBytes(allBytes);
 
             // write filesystem
             out.write(allBytes);
+            this.dirty = false;
 
             // check and reset
             checkAndSetNextScheduleRotation(allBytes.length);
 
         } catch (Exception ex) {
+            bf.resetReaderIndex();
             throw new IMapStorageException(ex);
         }
     }
 
+    @Override
+    public Path rollover() {
+        this.flush();
+        this.path = createNewPath();
+        this.bf.clear();
+        return path;
+    }
+
     private void checkAndSetNextScheduleRotation(long allBytes) {
         if (allBytes > blockSize) {
             this.path = createNewPath();
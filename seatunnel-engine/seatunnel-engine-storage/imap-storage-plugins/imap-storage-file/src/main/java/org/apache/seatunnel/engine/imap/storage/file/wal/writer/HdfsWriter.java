@@ -32,13 +32,23 @@ import org.apache.hadoop.hdfs.client.HdfsDataOutputStream;
 
 import java.io.IOException;
 import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class HdfsWriter implements IFileWriter<IMapFileData> {
 
     private FSDataOutputStream out;
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
     private Serializer serializer;
 
+    private final AtomicLong index = new AtomicLong(0);
+
+    /** Whether there are appended bytes which have not been synced yet. */
+    private boolean dirty = false;
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,18 +57,30 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
+        this.out = fs.create(createNewPath());
     }
 
     @Override
     public void write(IMapFileData data) throws IOException {
-        byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        this.append(data);
+        this.flush();
     }
 
+    @Override
+    public void append(IMapFileData data) throws IOException {
+        byte[] bytes = WALDataUtils.wrapperBytes(serializer.serialize(data));
+        this.out.write(bytes);
+        this.dirty = true;
+    }
+
+    @Override
     public void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
         // hsync to flag
         if (out instanceof HdfsDataOutputStream) {
             ((HdfsDataOutputStream) out)
@@ -71,12 +93,20 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
             out.hsync();
         }
         this.out.hflush();
+        this.dirty = false;
     }
 
-    private void write(byte[] bytes) throws IOException {
-        byte[] data = WALDataUtils.wrapperBytes(bytes);
-        this.out.write(data);
+    @Override
+    public Path rollover() throws IOException {
         this.flush();
+        this.out.close();
+        Path path = createNewPath();
+        this.out = fs.create(path);
+        return path;
+    }
+
+    private Path createNewPath() {
+        return new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
     }
 
     @Override
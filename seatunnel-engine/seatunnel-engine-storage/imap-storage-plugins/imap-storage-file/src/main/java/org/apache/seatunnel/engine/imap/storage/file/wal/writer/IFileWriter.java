@@ -36,5 +36,24 @@ public interface IFileWriter<T> extends AutoCloseable {
 
     default void setBlockSize(Long blockSize) {}
 
+    /** Write the data and make it durable before returning. */
     void write(T data) throws IOException;
+
+    /**
+     * Append the data without making it durable, all the data appended since the last flush is
+     * persisted by one {@link #flush()}, which lets the caller group several writes into one sync.
+     */
+    default void append(T data) throws IOException {
+        write(data);
+    }
+
+    /** Make all the appended data durable. */
+    default void flush() throws IOException {}
+
+    /**
+     * Seal the current wal file, the data written after this call goes to a new file.
+     *
+     * @return the path of the new active file
+     */
+    Path rollover() throws IOException;
 }
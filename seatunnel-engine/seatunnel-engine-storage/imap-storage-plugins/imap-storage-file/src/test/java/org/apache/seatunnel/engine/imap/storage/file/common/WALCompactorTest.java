@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FilterFileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class WALCompactorTest {
+
+    private static FileSystem FS;
+    private static final Path PARENT_PATH = new Path("/tmp/WALCompactorTest/");
+    private static final Serializer SERIALIZER = new ProtoStuffSerializer();
+
+    @BeforeAll
+    public static void init() throws IOException {
+        Configuration conf = new Configuration();
+        conf.set("fs.defaultFS", "file:///");
+        conf.set("fs.hdfs.impl", "org.apache.hadoop.fs.LocalFileSystem");
+        FS = FileSystem.getLocal(conf);
+        FS.delete(PARENT_PATH, true);
+    }
+
+    @Test
+    public void testCompactKeepsLatestRecords() throws Exception {
+        WALWriter writer = new WALWriter(FS, FileConfiguration.HDFS, PARENT_PATH, SERIALIZER);
+        WALCompactor compactor =
+                new WALCompactor(FS, FileConfiguration.HDFS, PARENT_PATH, SERIALIZER);
+        // three segments which update the same keys, appended as groups with one flush each
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                writer.append(buildData("key" + i, "value" + round + "_" + i, false));
+            }
+            writer.flush();
+            writer.rollover();
+        }
+        writer.append(buildData("key7", null, true));
+        writer.flush();
+        Path activePath = writer.rollover();
+        // the active file is never folded into the snapshot
+        writer.write(buildData("key8", "active", false));
+        writer.close();
+
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, SERIALIZER);
+        Map<Object, Object> expected = reader.loadAllData(PARENT_PATH, new HashSet<>());
+
+        Path snapshotPath = compactor.compact(activePath);
+        Assertions.assertNotNull(snapshotPath);
+
+        FileStatus[] files = FS.listStatus(PARENT_PATH);
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(snapshotPath.getName(), activePath.getName())),
+                Arrays.stream(files)
+                        .map(status -> status.getPath().getName())
+                        .filter(name -> name.endsWith("wal.txt"))
+                        .collect(Collectors.toSet()));
+
+        Map<Object, Object> result = reader.loadAllData(PARENT_PATH, new HashSet<>());
+        Assertions.assertEquals(expected, result);
+        Assertions.assertEquals(99, result.size());
+        Assertions.assertEquals("value2_1", result.get("key1"));
+        Assertions.assertEquals("active", result.get("key8"));
+        Assertions.assertNull(result.get("key7"));
+
+        // the snapshot alone is not compacted again
+        Assertions.assertNull(compactor.compact(activePath));
+        compactor.close();
+    }
+
+    @Test
+    public void testLoadWhileCompacting() throws Exception {
+        Path parentPath = new Path(PARENT_PATH, "concurrent");
+        WALWriter writer = new WALWriter(FS, FileConfiguration.HDFS, parentPath, SERIALIZER);
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 10; i++) {
+                writer.append(buildData("key" + i, "value" + round + "_" + i, false));
+            }
+            writer.flush();
+            writer.rollover();
+        }
+        writer.append(buildData("key10", "value1_10", false));
+        writer.flush();
+        Path activePath = writer.rollover();
+        writer.close();
+
+        // the sealed files are compacted after the reader listed them, before it reads the first
+        WALCompactor compactor =
+                new WALCompactor(FS, FileConfiguration.HDFS, parentPath, SERIALIZER);
+        AtomicBoolean compacted = new AtomicBoolean(false);
+        FileSystem compactingFs =
+                new FilterFileSystem(FS) {
+                    @Override
+                    public FileStatus getFileStatus(Path path) throws IOException {
+                        if (compacted.compareAndSet(false, true)) {
+                            Assertions.assertNotNull(compactor.compact(activePath));
+                        }
+                        return super.getFileStatus(path);
+                    }
+                };
+        WALReader reader = new WALReader(compactingFs, FileConfiguration.HDFS, SERIALIZER);
+        Map<Object, Object> result = reader.loadAllData(parentPath, new HashSet<>());
+
+        Assertions.assertTrue(compacted.get());
+        Assertions.assertEquals(11, result.size());
+        Assertions.assertEquals("value1_3", result.get("key3"));
+        Assertions.assertEquals("value1_10", result.get("key10"));
+        compactor.close();
+    }
+
+    private IMapFileData buildData(String key, String value, boolean deleted) throws IOException {
+        return IMapFileData.builder()
+                .key(SERIALIZER.serialize(key))
+                .keyClassName(String.class.getName())
+                .value(value == null ? null : SERIALIZER.serialize(value))
+                .valueClassName(String.class.getName())
+                .deleted(deleted)
+                .timestamp(System.nanoTime())
+                .build();
+    }
+
+    @AfterAll
+    public static void close() throws IOException {
+        FS.delete(PARENT_PATH, true);
+        FS.close();
+    }
+}
@@ -86,6 +86,7 @@ public abstract class AbstractPluginDiscovery<T> implements PluginDiscovery<T> {
     private final Path pluginDir;
     private final Config pluginMappingConfig;
     private final BiConsumer<ClassLoader, URL> addURLToClassLoaderConsumer;
+    private final PluginIndex pluginIndex;
     protected final ConcurrentHashMap<PluginIdentifier, Optional<URL>> pluginJarPath =
             new ConcurrentHashMap<>(Common.COLLECTION_SIZE);
     protected final Map<PluginIdentifier, String> sourcePluginInstance;
@@ -115,6 +116,10 @@ public abstract class AbstractPluginDiscovery<T> implements PluginDiscovery<T> {
         this.pluginDir = pluginDir;
         this.pluginMappingConfig = pluginMappingConfig;
         this.addURLToClassLoaderConsumer = addURLToClassLoaderConsumer;
+        this.pluginIndex =
+                PluginDiscoveryMode.current() == PluginDiscoveryMode.INDEX
+                        ? PluginIndex.load(pluginDir).orElse(null)
+                        : null;
         this.sourcePluginInstance = getAllSupportedPlugins(PluginType.SOURCE);
         this.sinkPluginInstance = getAllSupportedPlugins(PluginType.SINK);
         this.transformPluginInstance = getAllSupportedPlugins(PluginType.TRANSFORM);
@@ -390,6 +395,19 @@ public abstract class AbstractPluginDiscovery<T> implements PluginDiscovery<T> {
         return pluginJarPath.computeIfAbsent(pluginIdentifier, this::findPluginJarPath);
     }
 
+    /**
+     * Get the factory classes of the plugin recorded in the plugin index.
+     *
+     * @param pluginIdentifier plugin identifier.
+     * @return the factory class names, empty if the plugin index is not used or not contains it.
+     */
+    protected List<String> getIndexedFactoryClasses(PluginIdentifier pluginIdentifier) {
+        if (pluginIndex == null) {
+            return Collections.emptyList();
+        }
+        return pluginIndex.getFactoryClasses(pluginIdentifier);
+    }
+
     /**
      * Get spark plugin interface.
      *
@@ -404,6 +422,16 @@ public abstract class AbstractPluginDiscovery<T> implements PluginDiscovery<T> {
      * @return plugin jar path.
      */
     private Optional<URL> findPluginJarPath(PluginIdentifier pluginIdentifier) {
+        if (pluginIndex != null) {
+            Optional<URL> indexedJarPath = pluginIndex.getPluginJar(pluginIdentifier);
+            if (indexedJarPath.isPresent()) {
+                log.info(
+                        "Discovery plugin jar for: {} at: {} from plugin index",
+                        pluginIdentifier,
+                        indexedJarPath.get());
+                return indexedJarPath;
+            }
+        }
         final String engineType = pluginIdentifier.getEngineType().toLowerCase();
         final String pluginType = pluginIdentifier.getPluginType().toLowerCase();
         final String pluginName = pluginIdentifier.getPluginName().toLowerCase();
@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.plugin.discovery;
+
+/** How the plugin discovery finds the plugin jars in the connector dir. */
+public enum PluginDiscoveryMode {
+    /** Use the plugin index generated at build time, fall back to scan when it is stale. */
+    INDEX,
+    /** Always list and match the jars of the connector dir. */
+    SCAN;
+
+    public static final String PLUGIN_DISCOVERY_MODE_KEY = "seatunnel.plugin.discovery.mode";
+
+    public static PluginDiscoveryMode current() {
+        String mode = System.getProperty(PLUGIN_DISCOVERY_MODE_KEY, INDEX.name());
+        return SCAN.name().equalsIgnoreCase(mode) ? SCAN : INDEX;
+    }
+}
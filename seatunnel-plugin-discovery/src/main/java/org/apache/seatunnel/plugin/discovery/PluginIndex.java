@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.plugin.discovery;
+
+import org.apache.seatunnel.api.common.PluginIdentifier;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * The plugin index generated when the binary package is built, see {@link PluginIndexGenerator}. It
+ * maps every plugin identifier of plugin-mapping.properties to the jar containing the plugin and
+ * the factory classes registered by that jar, so the plugin discovery doesn't need to list and
+ * match the connector directory for every plugin.
+ *
+ * <p>The index is ignored when plugin-mapping.properties is changed after the index is generated, a
+ * single entry is ignored when its jar is missing or replaced.
+ */
+@Slf4j
+public class PluginIndex {
+
+    public static final String PLUGIN_INDEX_FILE = "plugin-index.properties";
+
+    static final String PLUGIN_MAPPING_FILE = "plugin-mapping.properties";
+    static final String MAPPING_CHECKSUM_KEY = "plugin-mapping.checksum";
+    static final String JAR_SUFFIX = ".jar";
+    static final String SIZE_SUFFIX = ".size";
+    static final String FACTORIES_SUFFIX = ".factories";
+
+    private static final Map<Path, CachedIndex> CACHE = new ConcurrentHashMap<>();
+
+    private final Path pluginDir;
+    private final Properties properties;
+
+    PluginIndex(Path pluginDir, Properties properties) {
+        this.pluginDir = pluginDir;
+        this.properties = properties;
+    }
+
+    /**
+     * Load the plugin index of the plugin dir.
+     *
+     * @param pluginDir the connector dir contains the plugin index.
+     * @return the plugin index, empty if the index not exists or is stale.
+     */
+    public static Optional<PluginIndex> load(Path pluginDir) {
+        File indexFile = pluginDir.resolve(PLUGIN_INDEX_FILE).toFile();
+        File mappingFile = pluginDir.resolve(PLUGIN_MAPPING_FILE).toFile();
+        if (!indexFile.isFile() || !mappingFile.isFile()) {
+            return Optional.empty();
+        }
+        long indexModified = indexFile.lastModified();
+        long mappingModified = mappingFile.lastModified();
+        CachedIndex cached = CACHE.get(pluginDir);
+        if (cached != null
+                && cached.getIndexModified() == indexModified
+                && cached.getMappingModified() == mappingModified) {
+            return Optional.ofNullable(cached.getIndex());
+        }
+
+        PluginIndex index = null;
+        try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            String checksum = String.valueOf(checksum(mappingFile.toPath()));
+            if (checksum.equals(properties.getProperty(MAPPING_CHECKSUM_KEY))) {
+                index = new PluginIndex(pluginDir, properties);
+                log.info("Load plugin index from {}", indexFile);
+            } else {
+                log.warn(
+                        "The plugin index {} is stale because {} has changed, fall back to scan the plugin dir",
+                        indexFile,
+                        mappingFile);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load the plugin index {}, fall back to scan", indexFile, e);
+        }
+        CACHE.put(pluginDir, new CachedIndex(indexModified, mappingModified, index));
+        return Optional.ofNullable(index);
+    }
+
+    /**
+     * Get the plugin jar of the plugin identifier.
+     *
+     * @param pluginIdentifier plugin identifier.
+     * @return the plugin jar, empty if the plugin not in index or the indexed jar is changed.
+     */
+    public Optional<URL> getPluginJar(PluginIdentifier pluginIdentifier) {
+        String key = indexKey(pluginIdentifier);
+        String jarName = properties.getProperty(key + JAR_SUFFIX);
+        if (StringUtils.isBlank(jarName)) {
+            return Optional.empty();
+        }
+        File jarFile = pluginDir.resolve(jarName).toFile();
+        String size = properties.getProperty(key + SIZE_SUFFIX);
+        if (!jarFile.isFile() || !String.valueOf(jarFile.length()).equals(size)) {
+            log.warn(
+                    "The indexed plugin jar {} of {} is missing or changed, fall back to scan",
+                    jarFile,
+                    pluginIdentifier);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jarFile.toURI().toURL());
+        } catch (MalformedURLException e) {
+            log.warn(
+                    "Cannot get plugin URL: {} for pluginIdentifier: {}",
+                    jarFile,
+                    pluginIdentifier);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get the factory classes registered by the jar of the plugin identifier.
+     *
+     * @param pluginIdentifier plugin identifier.
+     * @return the factory class names, empty if the plugin not in index.
+     */
+    public List<String> getFactoryClasses(PluginIdentifier pluginIdentifier) {
+        String factories = properties.getProperty(indexKey(pluginIdentifier) + FACTORIES_SUFFIX);
+        if (StringUtils.isBlank(factories)) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(factories.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toList());
+    }
+
+    static String indexKey(PluginIdentifier pluginIdentifier) {
+        return indexKey(
+                pluginIdentifier.getEngineType(),
+                pluginIdentifier.getPluginType(),
+                pluginIdentifier.getPluginName());
+    }
+
+    static String indexKey(String engineType, String pluginType, String pluginName) {
+        return String.join(
+                ".", engineType.toLowerCase(), pluginType.toLowerCase(), pluginName.toLowerCase());
+    }
+
+    static long checksum(Path file) throws IOException {
+        CRC32 crc32 = new CRC32();
+        crc32.update(Files.readAllBytes(file));
+        return crc32.getValue();
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedIndex {
+        private final long indexModified;
+        private final long mappingModified;
+        private final PluginIndex index;
+    }
+}
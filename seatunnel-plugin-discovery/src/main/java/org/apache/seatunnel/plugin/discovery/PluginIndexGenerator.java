@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.plugin.discovery;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigValue;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigValueType;
+
+import org.apache.seatunnel.api.table.factory.Factory;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+
+/**
+ * Generate the {@link PluginIndex} of the connector jars when the binary package is built.
+ *
+ * <p>Usage: {@code PluginIndexGenerator <plugin-mapping.properties> <classpath file> <output
+ * file>}, the classpath file contains the connector jars separated by the path separator, as
+ * written by the maven dependency plugin.
+ */
+@Slf4j
+public class PluginIndexGenerator {
+
+    private static final String FACTORY_SPI_FILE = "META-INF/services/" + Factory.class.getName();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: PluginIndexGenerator <plugin-mapping.properties> <classpath file> <output file>");
+        }
+        String classpath =
+                new String(Files.readAllBytes(Paths.get(args[1])), StandardCharsets.UTF_8).trim();
+        List<Path> jars =
+                Arrays.stream(classpath.split(File.pathSeparator))
+                        .filter(StringUtils::isNotBlank)
+                        .map(Paths::get)
+                        .collect(Collectors.toList());
+        Map<String, String> index = generate(Paths.get(args[0]), jars);
+        Path output = Paths.get(args[2]);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("# Generated by " + PluginIndexGenerator.class.getSimpleName());
+            writer.newLine();
+            for (Map.Entry<String, String> entry : index.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue());
+                writer.newLine();
+            }
+        }
+        log.info("Generate plugin index with {} entries to {}", index.size(), output);
+    }
+
+    /**
+     * Generate the plugin index entries.
+     *
+     * @param mappingFile the plugin-mapping.properties.
+     * @param jars the connector jars will be packaged into the connector dir.
+     * @return the sorted plugin index entries.
+     */
+    public static Map<String, String> generate(Path mappingFile, List<Path> jars)
+            throws IOException {
+        Map<String, String> index = new TreeMap<>();
+        index.put(
+                PluginIndex.MAPPING_CHECKSUM_KEY,
+                String.valueOf(PluginIndex.checksum(mappingFile)));
+
+        Config mappingConfig = ConfigFactory.parseFile(mappingFile.toFile());
+        for (String engineType : mappingConfig.root().keySet()) {
+            if (mappingConfig.root().get(engineType).valueType() != ConfigValueType.OBJECT) {
+                continue;
+            }
+            Config engineConfig = mappingConfig.getConfig(engineType);
+            for (String pluginType : engineConfig.root().keySet()) {
+                if (engineConfig.root().get(pluginType).valueType() != ConfigValueType.OBJECT) {
+                    continue;
+                }
+                Map<String, String> plugins = new TreeMap<>();
+                for (Map.Entry<String, ConfigValue> entry :
+                        engineConfig.getConfig(pluginType).entrySet()) {
+                    plugins.put(entry.getKey(), entry.getValue().unwrapped().toString());
+                }
+                for (Map.Entry<String, String> plugin : plugins.entrySet()) {
+                    Path jar = selectPluginJar(plugin.getValue(), plugins.values(), jars);
+                    if (jar == null) {
+                        log.warn(
+                                "Cannot find unique plugin jar for {}.{}.{} -> {}, skip it",
+                                engineType,
+                                pluginType,
+                                plugin.getKey(),
+                                plugin.getValue());
+                        continue;
+                    }
+                    String key = PluginIndex.indexKey(engineType, pluginType, plugin.getKey());
+                    index.put(key + PluginIndex.JAR_SUFFIX, jar.getFileName().toString());
+                    index.put(key + PluginIndex.SIZE_SUFFIX, String.valueOf(jar.toFile().length()));
+                    index.put(
+                            key + PluginIndex.FACTORIES_SUFFIX,
+                            String.join(",", readFactoryClasses(jar)));
+                }
+            }
+        }
+        return index;
+    }
+
+    /** Select the plugin jar the same way as the plugin discovery scans the connector dir. */
+    private static Path selectPluginJar(
+            String pluginJarPrefix, Iterable<String> allPrefixes, List<Path> jars) {
+        List<Path> candidates =
+                jars.stream()
+                        .filter(
+                                jar -> {
+                                    String name = jar.getFileName().toString();
+                                    return name.endsWith(PluginIndex.JAR_SUFFIX)
+                                            && StringUtils.startsWithIgnoreCase(
+                                                    name, pluginJarPrefix);
+                                })
+                        .collect(Collectors.toList());
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        List<Path> matched = new ArrayList<>();
+        for (Path candidate : candidates) {
+            String name = candidate.getFileName().toString();
+            int matchedPrefixes = 0;
+            for (String prefix : allPrefixes) {
+                if (name.startsWith(prefix)) {
+                    matchedPrefixes++;
+                }
+            }
+            if (matchedPrefixes == 1) {
+                matched.add(candidate);
+            }
+        }
+        return matched.size() == 1 ? matched.get(0) : null;
+    }
+
+    private static List<String> readFactoryClasses(Path jar) throws IOException {
+        List<String> factories = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            ZipEntry entry = jarFile.getEntry(FACTORY_SPI_FILE);
+            if (entry == null) {
+                return factories;
+            }
+            try (BufferedReader reader =
+                    new BufferedReader(
+                            new InputStreamReader(
+                                    jarFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int commentIndex = line.indexOf('#');
+                    String factory =
+                            (commentIndex >= 0 ? line.substring(0, commentIndex) : line).trim();
+                    if (!factory.isEmpty() && !factories.contains(factory)) {
+                        factories.add(factory);
+                    }
+                }
+            }
+        }
+        return factories;
+    }
+}
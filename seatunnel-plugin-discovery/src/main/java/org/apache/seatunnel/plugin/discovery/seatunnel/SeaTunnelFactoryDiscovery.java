@@ -23,10 +23,14 @@ import org.apache.seatunnel.plugin.discovery.AbstractPluginDiscovery;
 
 import org.apache.commons.lang3.StringUtils;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.net.URL;
+import java.util.List;
 import java.util.ServiceLoader;
 import java.util.function.BiConsumer;
 
+@Slf4j
 public class SeaTunnelFactoryDiscovery extends AbstractPluginDiscovery<Factory> {
 
     private final Class<? extends Factory> factoryClass;
@@ -51,6 +55,34 @@ public class SeaTunnelFactoryDiscovery extends AbstractPluginDiscovery<Factory>
     @Override
     protected Factory loadPluginInstance(
             PluginIdentifier pluginIdentifier, ClassLoader classLoader) {
+        List<String> indexedFactoryClasses = getIndexedFactoryClasses(pluginIdentifier);
+        if (!indexedFactoryClasses.isEmpty()) {
+            // only instantiate the factories of the plugin jar instead of all factories
+            try {
+                for (String factoryClassName : indexedFactoryClasses) {
+                    Class<?> clazz = Class.forName(factoryClassName, false, classLoader);
+                    if (!factoryClass.isAssignableFrom(clazz)) {
+                        continue;
+                    }
+                    Factory factory = (Factory) clazz.getDeclaredConstructor().newInstance();
+                    if (StringUtils.equalsIgnoreCase(
+                            factory.factoryIdentifier(), pluginIdentifier.getPluginName())) {
+                        return factory;
+                    }
+                }
+            } catch (ClassNotFoundException e) {
+                // the plugin jar is not added to the classloader yet, or the factory is provided by
+                // another jar of the classpath, scan the factories like a stale index
+                log.debug(
+                        "The indexed factories of {} are not found, fall back to scan",
+                        pluginIdentifier);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn(
+                        "Failed to load the indexed factories of {}, fall back to scan",
+                        pluginIdentifier,
+                        e);
+            }
+        }
         ServiceLoader<Factory> serviceLoader =
                 ServiceLoader.load(getPluginBaseClass(), classLoader);
         for (Factory factory : serviceLoader) {
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.plugin.discovery;
+
+import org.apache.seatunnel.api.common.PluginIdentifier;
+import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.table.factory.Factory;
+import org.apache.seatunnel.common.config.Common;
+import org.apache.seatunnel.common.config.DeployMode;
+import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelFactoryDiscovery;
+import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelSinkPluginDiscovery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+@DisabledOnOs(OS.WINDOWS)
+public class PluginIndexTest {
+
+    private static final String PLUGIN_MAPPING =
+            "seatunnel.source.Kafka = connector-kafka\n"
+                    + "seatunnel.source.Jdbc = connector-jdbc\n"
+                    + "seatunnel.source.Kafka-Blcs = connector-kafka-blcs\n"
+                    + "seatunnel.sink.Kafka = connector-kafka\n"
+                    + "seatunnel.sink.Kafka-Blcs = connector-kafka-blcs\n";
+
+    @TempDir Path seatunnelHome;
+
+    private Path connectorDir;
+    private String originSeatunnelHome = null;
+    private DeployMode originMode = null;
+
+    @BeforeEach
+    public void before() throws IOException {
+        originMode = Common.getDeployMode();
+        Common.setDeployMode(DeployMode.CLIENT);
+        originSeatunnelHome = Common.getSeaTunnelHome();
+        Common.setSeaTunnelHome(seatunnelHome.toString());
+        PluginIndex.clearCache();
+
+        connectorDir = Files.createDirectories(seatunnelHome.resolve("connectors"));
+        Files.write(
+                connectorDir.resolve(PluginIndex.PLUGIN_MAPPING_FILE),
+                PLUGIN_MAPPING.getBytes(StandardCharsets.UTF_8));
+        createJar("connector-kafka-2.3.9.jar", "org.example.KafkaSourceFactory");
+        createJar(
+                "connector-kafka-blcs-2.3.9.jar",
+                "org.example.BlcsSinkFactory",
+                "# comment",
+                "org.example.BlcsSourceFactory");
+        createJar("connector-jdbc-2.3.9.jar", "org.example.JdbcSourceFactory");
+    }
+
+    @AfterEach
+    public void after() {
+        PluginIndex.clearCache();
+        Common.setSeaTunnelHome(originSeatunnelHome);
+        Common.setDeployMode(originMode);
+    }
+
+    @Test
+    public void testGenerateAndLoadIndex() throws IOException {
+        generateIndex();
+
+        Optional<PluginIndex> index = PluginIndex.load(connectorDir);
+        Assertions.assertTrue(index.isPresent());
+        Assertions.assertEquals(
+                connectorDir.resolve("connector-kafka-2.3.9.jar").toUri().toURL(),
+                index.get().getPluginJar(identifier(PluginType.SOURCE, "Kafka")).get());
+        Assertions.assertEquals(
+                connectorDir.resolve("connector-kafka-blcs-2.3.9.jar").toUri().toURL(),
+                index.get().getPluginJar(identifier(PluginType.SINK, "kafka-blcs")).get());
+        Assertions.assertEquals(
+                Arrays.asList("org.example.BlcsSinkFactory", "org.example.BlcsSourceFactory"),
+                index.get().getFactoryClasses(identifier(PluginType.SINK, "Kafka-Blcs")));
+        Assertions.assertFalse(
+                index.get().getPluginJar(identifier(PluginType.SOURCE, "Http")).isPresent());
+    }
+
+    @Test
+    public void testStaleIndex() throws IOException {
+        generateIndex();
+        Assertions.assertTrue(PluginIndex.load(connectorDir).isPresent());
+
+        // replace a jar, only the entries of this jar are stale
+        createJar("connector-jdbc-2.3.9.jar", "org.example.JdbcSourceFactory", "org.example.X");
+        PluginIndex index = PluginIndex.load(connectorDir).get();
+        Assertions.assertFalse(
+                index.getPluginJar(identifier(PluginType.SOURCE, "Jdbc")).isPresent());
+        Assertions.assertTrue(
+                index.getPluginJar(identifier(PluginType.SOURCE, "Kafka")).isPresent());
+
+        // change the plugin mapping, the whole index is stale
+        Path mapping = connectorDir.resolve(PluginIndex.PLUGIN_MAPPING_FILE);
+        Files.write(mapping, (PLUGIN_MAPPING + "# changed\n").getBytes(StandardCharsets.UTF_8));
+        mapping.toFile().setLastModified(System.currentTimeMillis() + 10_000);
+        Assertions.assertFalse(PluginIndex.load(connectorDir).isPresent());
+    }
+
+    @Test
+    public void testDiscoveryUseIndex() throws IOException {
+        generateIndex();
+        // the jar matches the prefix of kafka but is not packaged when the index is generated
+        createJar("connector-kafka-extra.jar", "org.example.ExtraFactory");
+
+        List<URL> jars =
+                new SeaTunnelSinkPluginDiscovery()
+                        .getPluginJarPaths(
+                                Collections.singletonList(identifier(PluginType.SINK, "Kafka")));
+        Assertions.assertEquals(
+                Collections.singletonList(
+                        connectorDir.resolve("connector-kafka-2.3.9.jar").toUri().toURL()),
+                jars);
+
+        System.setProperty(PluginDiscoveryMode.PLUGIN_DISCOVERY_MODE_KEY, "scan");
+        try {
+            SeaTunnelSinkPluginDiscovery scanDiscovery = new SeaTunnelSinkPluginDiscovery();
+            Assertions.assertThrows(
+                    RuntimeException.class,
+                    () ->
+                            scanDiscovery.getPluginJarPaths(
+                                    Collections.singletonList(
+                                            identifier(PluginType.SINK, "Kafka"))));
+        } finally {
+            System.clearProperty(PluginDiscoveryMode.PLUGIN_DISCOVERY_MODE_KEY);
+        }
+    }
+
+    @Test
+    public void testFactoryDiscoveryFallBackToScan() throws IOException {
+        generateIndex();
+        // the index points to a factory class that the classloader can not load
+        Path jar = seatunnelHome.resolve("classpath-factory.jar");
+        writeJar(jar, IndexedKafkaFactory.class.getName());
+
+        ClassLoader originClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader =
+                new URLClassLoader(new URL[] {jar.toUri().toURL()}, originClassLoader)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            Optional<Factory> factory =
+                    new SeaTunnelFactoryDiscovery(Factory.class)
+                            .createOptionalPluginInstance(
+                                    identifier(PluginType.SOURCE, "Kafka"),
+                                    Collections.emptyList());
+            Assertions.assertTrue(factory.isPresent());
+            Assertions.assertTrue(factory.get() instanceof IndexedKafkaFactory);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originClassLoader);
+        }
+    }
+
+    private void generateIndex() throws IOException {
+        File[] jars = connectorDir.toFile().listFiles((dir, name) -> name.endsWith(".jar"));
+        StringBuilder classpath = new StringBuilder();
+        for (File jar : jars) {
+            classpath.append(jar.getAbsolutePath()).append(File.pathSeparator);
+        }
+        Path classpathFile = seatunnelHome.resolve("classpath.txt");
+        Files.write(classpathFile, classpath.toString().getBytes(StandardCharsets.UTF_8));
+        PluginIndexGenerator.main(
+                new String[] {
+                    connectorDir.resolve(PluginIndex.PLUGIN_MAPPING_FILE).toString(),
+                    classpathFile.toString(),
+                    connectorDir.resolve(PluginIndex.PLUGIN_INDEX_FILE).toString()
+                });
+
+        Map<String, String> index =
+                PluginIndexGenerator.generate(
+                        connectorDir.resolve(PluginIndex.PLUGIN_MAPPING_FILE),
+                        Arrays.asList(
+                                connectorDir.resolve("connector-kafka-2.3.9.jar"),
+                                connectorDir.resolve("connector-kafka-blcs-2.3.9.jar"),
+                                connectorDir.resolve("connector-jdbc-2.3.9.jar")));
+        Assertions.assertEquals(
+                "connector-kafka-2.3.9.jar", index.get("seatunnel.sink.kafka" + ".jar"));
+    }
+
+    private void createJar(String name, String... factories) throws IOException {
+        writeJar(connectorDir.resolve(name), factories);
+    }
+
+    private static void writeJar(Path jar, String... factories) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jar);
+                JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            jarOutputStream.putNextEntry(
+                    new JarEntry("META-INF/services/" + Factory.class.getName()));
+            jarOutputStream.write(String.join("\n", factories).getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+    }
+
+    private static PluginIdentifier identifier(PluginType pluginType, String pluginName) {
+        return PluginIdentifier.of("seatunnel", pluginType.getType(), pluginName);
+    }
+
+    public static class IndexedKafkaFactory implements Factory {
+
+        @Override
+        public String factoryIdentifier() {
+            return "Kafka";
+        }
+
+        @Override
+        public OptionRule optionRule() {
+            return OptionRule.builder().build();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
 
 import java.util.List;
+import java.util.Objects;
 
 /** Abstract class for multi-table flat map transform. */
 public abstract class AbstractMultiCatalogFlatMapTransform extends AbstractMultiCatalogTransform
@@ -43,4 +44,23 @@ public abstract class AbstractMultiCatalogFlatMapTransform extends AbstractMulti
         return ((SeaTunnelFlatMapTransform<SeaTunnelRow>) transformMap.get(row.getTableId()))
                 .flatMap(row);
     }
+
+    @Override
+    public void flatMapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        if (transformMap.size() == 1) {
+            ((SeaTunnelFlatMapTransform<SeaTunnelRow>) transformMap.values().iterator().next())
+                    .flatMapBatch(rows, output);
+            return;
+        }
+        // hand over each run of rows from the same table at once to keep the row order
+        int start = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            String tableId = rows.get(start).getTableId();
+            if (i == rows.size() || !Objects.equals(tableId, rows.get(i).getTableId())) {
+                ((SeaTunnelFlatMapTransform<SeaTunnelRow>) transformMap.get(tableId))
+                        .flatMapBatch(rows.subList(start, i), output);
+                start = i;
+            }
+        }
+    }
 }
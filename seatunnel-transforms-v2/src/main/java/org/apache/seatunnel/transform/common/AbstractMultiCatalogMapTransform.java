@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.SeaTunnelMapTransform;
 
 import java.util.List;
+import java.util.Objects;
 
 /** Abstract class for multi-table map transform. */
 public abstract class AbstractMultiCatalogMapTransform extends AbstractMultiCatalogTransform
@@ -41,4 +42,23 @@ public abstract class AbstractMultiCatalogMapTransform extends AbstractMultiCata
         }
         return ((SeaTunnelMapTransform<SeaTunnelRow>) transformMap.get(row.getTableId())).map(row);
     }
+
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        if (transformMap.size() == 1) {
+            ((SeaTunnelMapTransform<SeaTunnelRow>) transformMap.values().iterator().next())
+                    .mapBatch(rows, output);
+            return;
+        }
+        // hand over each run of rows from the same table at once to keep the row order
+        int start = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            String tableId = rows.get(start).getTableId();
+            if (i == rows.size() || !Objects.equals(tableId, rows.get(i).getTableId())) {
+                ((SeaTunnelMapTransform<SeaTunnelRow>) transformMap.get(tableId))
+                        .mapBatch(rows.subList(start, i), output);
+                start = i;
+            }
+        }
+    }
 }
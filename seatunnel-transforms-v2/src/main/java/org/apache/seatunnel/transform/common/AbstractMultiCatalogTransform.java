@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportBufferedBatch;
 
 import java.util.HashMap;
 import java.util.List;
@@ -36,7 +37,8 @@ import java.util.stream.Collectors;
  * Abstract class for multi-table transform. It is used to split the input data into multiple table
  * transforms.
  */
-public abstract class AbstractMultiCatalogTransform implements SeaTunnelTransform<SeaTunnelRow> {
+public abstract class AbstractMultiCatalogTransform
+        implements SeaTunnelTransform<SeaTunnelRow>, SupportBufferedBatch {
 
     protected List<CatalogTable> inputCatalogTables;
 
@@ -104,6 +106,25 @@ public abstract class AbstractMultiCatalogTransform implements SeaTunnelTransfor
     @Override
     public void setTypeInfo(SeaTunnelDataType<SeaTunnelRow> inputDataType) {}
 
+    @Override
+    public int getBufferSize() {
+        return transformMap.values().stream()
+                .filter(transform -> transform instanceof SupportBufferedBatch)
+                .mapToInt(transform -> ((SupportBufferedBatch) transform).getBufferSize())
+                .max()
+                .orElse(0);
+    }
+
+    @Override
+    public long getBufferTimeoutMillis() {
+        return transformMap.values().stream()
+                .filter(transform -> transform instanceof SupportBufferedBatch)
+                .filter(transform -> ((SupportBufferedBatch) transform).getBufferSize() > 1)
+                .mapToLong(transform -> ((SupportBufferedBatch) transform).getBufferTimeoutMillis())
+                .min()
+                .orElse(0L);
+    }
+
     public static class IdentityTransform extends AbstractCatalogSupportMapTransform {
         private final CatalogTable catalogTable;
 
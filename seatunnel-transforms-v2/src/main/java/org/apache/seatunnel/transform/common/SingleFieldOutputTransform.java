@@ -45,7 +45,16 @@ public abstract class SingleFieldOutputTransform extends AbstractCatalogSupportM
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
         Object fieldValue = getOutputFieldValue(new SeaTunnelRowAccessor(inputRow));
+        return createOutputRow(inputRow, fieldValue);
+    }
 
+    /**
+     * Creates the output row from the input row and the new field value.
+     *
+     * @param inputRow The inputRow of upstream input.
+     * @param fieldValue The new field value.
+     */
+    protected SeaTunnelRow createOutputRow(SeaTunnelRow inputRow, Object fieldValue) {
         SeaTunnelRow outputRow = rowContainerGenerator.apply(inputRow);
         outputRow.setField(fieldIndex, fieldValue);
         return outputRow;
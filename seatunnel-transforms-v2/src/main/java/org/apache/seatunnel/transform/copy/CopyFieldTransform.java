@@ -124,6 +124,22 @@ public class CopyFieldTransform extends MultipleFieldOutputTransform {
         return fieldValues;
     }
 
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        // the values are copied into the output row, so the array is reused for the whole batch
+        Object[] fieldValues = new Object[fieldNames.size()];
+        for (SeaTunnelRow inputRow : rows) {
+            for (int i = 0; i < fieldValues.length; i++) {
+                fieldValues[i] =
+                        clone(
+                                fieldNames.get(i),
+                                fieldTypes.get(i),
+                                inputRow.getField(fieldOriginalIndexes.get(i)));
+            }
+            output.add(createOutputRow(inputRow, fieldValues));
+        }
+    }
+
     private Object clone(String field, SeaTunnelDataType<?> dataType, Object value) {
         if (value == null) {
             return null;
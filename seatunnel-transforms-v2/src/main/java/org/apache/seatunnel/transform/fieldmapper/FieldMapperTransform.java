@@ -46,7 +46,7 @@ import java.util.stream.Collectors;
 public class FieldMapperTransform extends AbstractCatalogSupportMapTransform {
     public static String PLUGIN_NAME = "FieldMapper";
     private final FieldMapperTransformConfig config;
-    private List<Integer> needReaderColIndex;
+    private int[] needReaderColIndex;
 
     public FieldMapperTransform(
             @NonNull FieldMapperTransformConfig config, @NonNull CatalogTable catalogTable) {
@@ -78,10 +78,9 @@ public class FieldMapperTransform extends AbstractCatalogSupportMapTransform {
 
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
-        Map<String, String> fieldMapper = config.getFieldMapper();
-        Object[] outputDataArray = new Object[fieldMapper.size()];
+        Object[] outputDataArray = new Object[needReaderColIndex.length];
         for (int i = 0; i < outputDataArray.length; i++) {
-            outputDataArray[i] = inputRow.getField(needReaderColIndex.get(i));
+            outputDataArray[i] = inputRow.getField(needReaderColIndex[i]);
         }
         SeaTunnelRow outputRow = new SeaTunnelRow(outputDataArray);
         outputRow.setRowKind(inputRow.getRowKind());
@@ -90,6 +89,13 @@ public class FieldMapperTransform extends AbstractCatalogSupportMapTransform {
         return outputRow;
     }
 
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        for (SeaTunnelRow inputRow : rows) {
+            output.add(transformRow(inputRow));
+        }
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         Map<String, String> fieldMapper = config.getFieldMapper();
@@ -98,7 +104,7 @@ public class FieldMapperTransform extends AbstractCatalogSupportMapTransform {
         SeaTunnelRowType seaTunnelRowType =
                 inputCatalogTable.getTableSchema().toPhysicalRowDataType();
         List<Column> outputColumns = new ArrayList<>(fieldMapper.size());
-        needReaderColIndex = new ArrayList<>(fieldMapper.size());
+        List<Integer> readerColIndex = new ArrayList<>(fieldMapper.size());
         ArrayList<String> inputFieldNames = Lists.newArrayList(seaTunnelRowType.getFieldNames());
         ArrayList<String> outputFieldNames = new ArrayList<>();
         fieldMapper.forEach(
@@ -122,8 +128,9 @@ public class FieldMapperTransform extends AbstractCatalogSupportMapTransform {
 
                     outputColumns.add(outputColumn);
                     outputFieldNames.add(outputColumn.getName());
-                    needReaderColIndex.add(fieldIndex);
+                    readerColIndex.add(fieldIndex);
                 });
+        needReaderColIndex = readerColIndex.stream().mapToInt(Integer::intValue).toArray();
 
         final Set<String> originalColumnNames = fieldMapper.keySet();
 
@@ -91,6 +91,13 @@ public class FilterFieldTransform extends AbstractCatalogSupportMapTransform {
         return inputRow.copy(inputValueIndexList);
     }
 
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        for (SeaTunnelRow inputRow : rows) {
+            output.add(inputRow.copy(inputValueIndexList));
+        }
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         List<Column> outputColumns = new ArrayList<>();
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.nlpmodel;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Splits model inputs into micro-batches and sends them with a bounded number of concurrent
+ * requests. Results are always returned in the order of the inputs.
+ */
+public class ModelBatchExecutor implements AutoCloseable {
+
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public ModelBatchExecutor(int batchSize, int maxConcurrentRequests, String threadNamePrefix) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than 0");
+        }
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException(
+                    "The max concurrent requests must be greater than 0");
+        }
+        this.batchSize = batchSize;
+        this.executor =
+                maxConcurrentRequests == 1
+                        ? null
+                        : Executors.newFixedThreadPool(
+                                maxConcurrentRequests,
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat(threadNamePrefix + "-%d")
+                                        .setDaemon(true)
+                                        .build());
+    }
+
+    public <I, O> List<O> execute(List<I> inputs, BatchFunction<I, O> function) throws IOException {
+        if (inputs == null || inputs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<List<I>> batches = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i += batchSize) {
+            batches.add(inputs.subList(i, Math.min(i + batchSize, inputs.size())));
+        }
+
+        List<O> results = new ArrayList<>(inputs.size());
+        if (executor == null || batches.size() == 1) {
+            for (List<I> batch : batches) {
+                results.addAll(applyBatch(batch, function));
+            }
+            return results;
+        }
+
+        List<Future<List<O>>> futures = new ArrayList<>(batches.size());
+        for (List<I> batch : batches) {
+            futures.add(executor.submit(() -> applyBatch(batch, function)));
+        }
+        try {
+            for (Future<List<O>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for model response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private <I, O> List<O> applyBatch(List<I> batch, BatchFunction<I, O> function)
+            throws IOException {
+        List<O> result = function.apply(batch);
+        if (result == null || result.size() != batch.size()) {
+            throw new IOException(
+                    String.format(
+                            "The number of model results %s is not equal to the number of inputs %s",
+                            result == null ? 0 : result.size(), batch.size()));
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    public interface BatchFunction<I, O> {
+        List<O> apply(List<I> batch) throws IOException;
+    }
+}
@@ -79,6 +79,27 @@ public class ModelTransformConfig implements Serializable {
                     .withFallbackKeys("inference_batch_size")
                     .withDescription("The row batch size of each process");
 
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of concurrent requests sent to the model when a batch of rows is processed");
+
+    public static final Option<Boolean> BATCH_BUFFER_ENABLED =
+            Options.key("batch_buffer_enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to buffer the input rows across records, so the model receives full batches of rows");
+
+    public static final Option<Long> BATCH_BUFFER_TIMEOUT_MS =
+            Options.key("batch_buffer_timeout_ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The maximum time in milliseconds a buffered row waits before the buffer is processed");
+
     public static final Option<Integer> DIMENSION =
             Options.key("dimension").intType().defaultValue(2048).withDescription("dimension");
 
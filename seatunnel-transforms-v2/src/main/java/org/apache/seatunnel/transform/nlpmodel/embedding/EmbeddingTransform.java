@@ -21,12 +21,16 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowAccessor;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.VectorType;
+import org.apache.seatunnel.api.transform.SupportBufferedBatch;
 import org.apache.seatunnel.transform.common.MultipleFieldOutputTransform;
 import org.apache.seatunnel.transform.exception.TransformCommonError;
+import org.apache.seatunnel.transform.nlpmodel.ModelBatchExecutor;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
+import org.apache.seatunnel.transform.nlpmodel.ModelResultCache;
 import org.apache.seatunnel.transform.nlpmodel.ModelTransformConfig;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.Model;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.custom.CustomModel;
@@ -42,16 +46,21 @@ import lombok.SneakyThrows;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class EmbeddingTransform extends MultipleFieldOutputTransform {
+public class EmbeddingTransform extends MultipleFieldOutputTransform
+        implements SupportBufferedBatch {
 
     private final ReadonlyConfig config;
     private List<String> fieldNames;
     private List<Integer> fieldOriginalIndexes;
     private Model model;
     private Integer dimension;
+    private ModelBatchExecutor batchExecutor;
+    private ModelResultCache<ByteBuffer> vectorCache;
 
     public EmbeddingTransform(
             @NonNull ReadonlyConfig config, @NonNull CatalogTable inputCatalogTable) {
@@ -155,6 +164,13 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
             }
             // Initialize dimension
             dimension = model.dimension();
+            batchExecutor =
+                    new ModelBatchExecutor(
+                            config.get(EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER),
+                            config.get(ModelTransformConfig.MAX_CONCURRENT_REQUESTS),
+                            "embedding-" + inputCatalogTable.getTablePath());
+            int cacheSize = config.get(EmbeddingTransformConfig.VECTORIZATION_CACHE_SIZE);
+            vectorCache = cacheSize > 0 ? new ModelResultCache<>(cacheSize) : null;
         } catch (IOException e) {
             throw new RuntimeException("Failed to initialize model", e);
         }
@@ -186,13 +202,99 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
             for (int i = 0; i < fieldOriginalIndexes.size(); i++) {
                 fieldArray[i] = inputRow.getField(fieldOriginalIndexes.get(i));
             }
-            List<ByteBuffer> vectorization = model.vectorization(fieldArray);
-            return vectorization.toArray();
+            return vectorization(fieldArray).toArray();
         } catch (Exception e) {
             throw new RuntimeException("Failed to data vectorization", e);
         }
     }
 
+    /**
+     * Vectorizes the fields of a batch of rows together, the requests are sent with at most {@code
+     * max_concurrent_requests} in flight.
+     */
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        tryOpen();
+        int fieldCount = fieldOriginalIndexes.size();
+        Object[] fieldArray = new Object[rows.size() * fieldCount];
+        for (int i = 0; i < rows.size(); i++) {
+            SeaTunnelRow row = rows.get(i);
+            for (int j = 0; j < fieldCount; j++) {
+                fieldArray[i * fieldCount + j] = row.getField(fieldOriginalIndexes.get(j));
+            }
+        }
+        List<ByteBuffer> vectors;
+        try {
+            vectors = vectorization(fieldArray);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to data vectorization", e);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] fieldValues = vectors.subList(i * fieldCount, (i + 1) * fieldCount).toArray();
+            output.add(createOutputRow(rows.get(i), fieldValues));
+        }
+    }
+
+    /** Null fields are not sent to the model and always get a null vector. */
+    private List<ByteBuffer> vectorization(Object[] fieldArray) throws IOException {
+        ByteBuffer[] vectors = new ByteBuffer[fieldArray.length];
+        String[] keys = new String[fieldArray.length];
+        Map<String, Integer> missIndexes = new HashMap<>();
+        List<Integer> requestIndexes = new ArrayList<>(fieldArray.length);
+        for (int i = 0; i < fieldArray.length; i++) {
+            if (fieldArray[i] == null) {
+                continue;
+            }
+            if (vectorCache == null) {
+                requestIndexes.add(i);
+                continue;
+            }
+            keys[i] = ModelResultCache.contentKey(fieldArray[i]);
+            ByteBuffer vector = vectorCache.get(keys[i]);
+            if (vector != null) {
+                vectors[i] = vector.duplicate();
+            } else if (missIndexes.putIfAbsent(keys[i], i) == null) {
+                requestIndexes.add(i);
+            }
+        }
+        List<Object> requestFields = new ArrayList<>(requestIndexes.size());
+        requestIndexes.forEach(index -> requestFields.add(fieldArray[index]));
+        List<ByteBuffer> requestVectors =
+                batchExecutor.execute(requestFields, batch -> model.vectorization(batch.toArray()));
+        for (int i = 0; i < requestIndexes.size(); i++) {
+            int index = requestIndexes.get(i);
+            vectors[index] = requestVectors.get(i);
+            if (vectorCache != null) {
+                vectorCache.put(keys[index], vectors[index].duplicate());
+            }
+        }
+        for (int i = 0; i < fieldArray.length; i++) {
+            // repeated inputs of this batch share the vector loaded for their first occurrence
+            if (vectors[i] == null && keys[i] != null) {
+                vectors[i] = vectors[missIndexes.get(keys[i])].duplicate();
+            }
+        }
+        return Arrays.asList(vectors);
+    }
+
+    @Override
+    public int getBufferSize() {
+        if (!config.get(ModelTransformConfig.BATCH_BUFFER_ENABLED)) {
+            return 0;
+        }
+        // enough rows to keep every concurrent request filled with a full batch of inputs
+        int inputs =
+                config.get(EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER)
+                        * config.get(ModelTransformConfig.MAX_CONCURRENT_REQUESTS);
+        int fieldCount = Math.max(1, fieldOriginalIndexes.size());
+        return (inputs + fieldCount - 1) / fieldCount;
+    }
+
+    @Override
+    public long getBufferTimeoutMillis() {
+        return config.get(ModelTransformConfig.BATCH_BUFFER_TIMEOUT_MS);
+    }
+
     @Override
     protected Column[] getOutputColumns() {
         Column[] columns = new Column[fieldNames.size()];
@@ -218,6 +320,9 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
     @SneakyThrows
     @Override
     public void close() {
+        if (batchExecutor != null) {
+            batchExecutor.close();
+        }
         if (model != null) {
             model.close();
         }
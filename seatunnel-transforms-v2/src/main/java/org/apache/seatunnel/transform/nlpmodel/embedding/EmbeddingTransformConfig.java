@@ -38,4 +38,11 @@ public class EmbeddingTransformConfig extends ModelTransformConfig {
                     .noDefaultValue()
                     .withDescription(
                             "Specify the field vectorization relationship between input and output");
+
+    public static final Option<Integer> VECTORIZATION_CACHE_SIZE =
+            Options.key("vectorization_cache_size")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of vectors cached by input content, 0 means the cache is disabled");
 }
@@ -47,7 +47,11 @@ public class EmbeddingTransformFactory implements TableTransformFactory {
                 .optional(
                         EmbeddingTransformConfig.API_PATH,
                         EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER,
-                        EmbeddingTransformConfig.PROCESS_BATCH_SIZE)
+                        EmbeddingTransformConfig.PROCESS_BATCH_SIZE,
+                        EmbeddingTransformConfig.MAX_CONCURRENT_REQUESTS,
+                        EmbeddingTransformConfig.VECTORIZATION_CACHE_SIZE,
+                        EmbeddingTransformConfig.BATCH_BUFFER_ENABLED,
+                        EmbeddingTransformConfig.BATCH_BUFFER_TIMEOUT_MS)
                 .conditional(
                         EmbeddingTransformConfig.MODEL_PROVIDER,
                         Lists.newArrayList(ModelProvider.OPENAI, ModelProvider.DOUBAO),
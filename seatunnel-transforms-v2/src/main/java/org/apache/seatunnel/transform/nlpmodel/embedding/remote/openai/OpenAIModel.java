@@ -20,9 +20,11 @@ package org.apache.seatunnel.transform.nlpmodel.embedding.remote.openai;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.type.TypeReference;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
 
+import org.apache.seatunnel.transform.nlpmodel.ModelHttpClients;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.AbstractModel;
 
 import org.apache.http.client.config.RequestConfig;
@@ -30,7 +32,6 @@ import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
@@ -49,14 +50,11 @@ public class OpenAIModel extends AbstractModel {
         this.apiKey = apiKey;
         this.model = model;
         this.apiPath = apiPath;
-        this.client = HttpClients.createDefault();
+        this.client = ModelHttpClients.createDefault();
     }
 
     @Override
     protected List<List<Double>> vector(Object[] fields) throws IOException {
-        if (fields.length > 1) {
-            throw new IllegalArgumentException("OpenAI model only supports single input");
-        }
         return vectorGeneration(fields);
     }
 
@@ -102,7 +100,14 @@ public class OpenAIModel extends AbstractModel {
     public ObjectNode createJsonNodeFromData(Object[] data) throws JsonProcessingException {
         ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
         objectNode.put("model", model);
-        objectNode.put("input", data[0].toString());
+        if (data.length == 1) {
+            objectNode.put("input", data[0].toString());
+        } else {
+            ArrayNode inputs = objectNode.putArray("input");
+            for (Object field : data) {
+                inputs.add(field.toString());
+            }
+        }
         return objectNode;
     }
 
@@ -25,7 +25,9 @@ import org.apache.seatunnel.api.table.catalog.SeaTunnelDataTypeConvertorUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowAccessor;
+import org.apache.seatunnel.api.transform.SupportBufferedBatch;
 import org.apache.seatunnel.transform.common.SingleFieldOutputTransform;
+import org.apache.seatunnel.transform.nlpmodel.ModelBatchExecutor;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
 import org.apache.seatunnel.transform.nlpmodel.ModelTransformConfig;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.Model;
@@ -41,10 +43,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-public class LLMTransform extends SingleFieldOutputTransform {
+public class LLMTransform extends SingleFieldOutputTransform implements SupportBufferedBatch {
     private final ReadonlyConfig config;
     private final SeaTunnelDataType<?> outputDataType;
     private Model model;
+    private ModelBatchExecutor batchExecutor;
 
     public LLMTransform(@NonNull ReadonlyConfig config, @NonNull CatalogTable inputCatalogTable) {
         super(inputCatalogTable);
@@ -135,6 +138,11 @@ public class LLMTransform extends SingleFieldOutputTransform {
             default:
                 throw new IllegalArgumentException("Unsupported model provider: " + provider);
         }
+        batchExecutor =
+                new ModelBatchExecutor(
+                        config.get(ModelTransformConfig.PROCESS_BATCH_SIZE),
+                        config.get(ModelTransformConfig.MAX_CONCURRENT_REQUESTS),
+                        "llm-" + inputCatalogTable.getTablePath());
     }
 
     @Override
@@ -143,27 +151,65 @@ public class LLMTransform extends SingleFieldOutputTransform {
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(inputRow.getFields());
         try {
             List<String> values = model.inference(Collections.singletonList(seaTunnelRow));
-            switch (outputDataType.getSqlType()) {
-                case STRING:
-                    return String.valueOf(values.get(0));
-                case INT:
-                    return Integer.parseInt(values.get(0));
-                case BIGINT:
-                    return Long.parseLong(values.get(0));
-                case DOUBLE:
-                    return Double.parseDouble(values.get(0));
-                case BOOLEAN:
-                    return Boolean.parseBoolean(values.get(0));
-                default:
-                    throw new IllegalArgumentException(
-                            "Unsupported output data type: " + outputDataType);
-            }
+            return convertOutputValue(values.get(0));
         } catch (Exception e) {
             throw new RuntimeException(
                     String.format("Failed to inference model with row %s", seaTunnelRow), e);
         }
     }
 
+    /**
+     * Inferences a batch of rows, rows are sent in requests of {@code process_batch_size} rows with
+     * at most {@code max_concurrent_requests} requests in flight.
+     */
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        tryOpen();
+        List<String> values;
+        try {
+            values = batchExecutor.execute(rows, model::inference);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    String.format("Failed to inference model with %s rows", rows.size()), e);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            output.add(createOutputRow(rows.get(i), convertOutputValue(values.get(i))));
+        }
+    }
+
+    @Override
+    public int getBufferSize() {
+        if (!config.get(ModelTransformConfig.BATCH_BUFFER_ENABLED)) {
+            return 0;
+        }
+        // enough rows to keep every concurrent request filled with a full batch of rows
+        return config.get(ModelTransformConfig.PROCESS_BATCH_SIZE)
+                * config.get(ModelTransformConfig.MAX_CONCURRENT_REQUESTS);
+    }
+
+    @Override
+    public long getBufferTimeoutMillis() {
+        return config.get(ModelTransformConfig.BATCH_BUFFER_TIMEOUT_MS);
+    }
+
+    private Object convertOutputValue(String value) {
+        switch (outputDataType.getSqlType()) {
+            case STRING:
+                return String.valueOf(value);
+            case INT:
+                return Integer.parseInt(value);
+            case BIGINT:
+                return Long.parseLong(value);
+            case DOUBLE:
+                return Double.parseDouble(value);
+            case BOOLEAN:
+                return Boolean.parseBoolean(value);
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported output data type: " + outputDataType);
+        }
+    }
+
     @Override
     protected Column getOutputColumn() {
         String customFieldName = config.get(LLMTransformConfig.OUTPUT_COLUMN_NAME);
@@ -180,6 +226,9 @@ public class LLMTransform extends SingleFieldOutputTransform {
     @SneakyThrows
     @Override
     public void close() {
+        if (batchExecutor != null) {
+            batchExecutor.close();
+        }
         if (model != null) {
             model.close();
         }
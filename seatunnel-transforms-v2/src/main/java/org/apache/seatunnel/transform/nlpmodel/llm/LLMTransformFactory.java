@@ -46,7 +46,10 @@ public class LLMTransformFactory implements TableTransformFactory {
                 .optional(
                         LLMTransformConfig.API_PATH,
                         LLMTransformConfig.OUTPUT_DATA_TYPE,
-                        LLMTransformConfig.PROCESS_BATCH_SIZE)
+                        LLMTransformConfig.PROCESS_BATCH_SIZE,
+                        LLMTransformConfig.MAX_CONCURRENT_REQUESTS,
+                        LLMTransformConfig.BATCH_BUFFER_ENABLED,
+                        LLMTransformConfig.BATCH_BUFFER_TIMEOUT_MS)
                 .conditional(
                         LLMTransformConfig.MODEL_PROVIDER,
                         Lists.newArrayList(
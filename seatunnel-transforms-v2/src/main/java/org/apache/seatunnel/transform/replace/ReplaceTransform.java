@@ -20,6 +20,7 @@ package org.apache.seatunnel.transform.replace;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowAccessor;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.transform.common.SingleFieldOutputTransform;
@@ -30,16 +31,29 @@ import org.apache.commons.collections4.CollectionUtils;
 import lombok.NonNull;
 
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class ReplaceTransform extends SingleFieldOutputTransform {
     private final ReadonlyConfig config;
+    private final String pattern;
+    private final String replacement;
+    private final boolean replaceFirst;
+    private final Pattern regexPattern;
     private int inputFieldIndex;
 
     public ReplaceTransform(
             @NonNull ReadonlyConfig config, @NonNull CatalogTable inputCatalogTable) {
         super(inputCatalogTable);
         this.config = config;
+        this.pattern = config.get(ReplaceTransformConfig.KEY_PATTERN);
+        this.replacement = config.get(ReplaceTransformConfig.KEY_REPLACEMENT);
+        this.replaceFirst =
+                Boolean.TRUE.equals(config.get(ReplaceTransformConfig.KEY_REPLACE_FIRST));
+        boolean isRegex = Boolean.TRUE.equals(config.get(ReplaceTransformConfig.KEY_IS_REGEX));
+        // compile the regex once instead of for every row
+        this.regexPattern = isRegex && pattern != null ? Pattern.compile(pattern) : null;
         initOutputFields(
                 inputCatalogTable.getTableSchema().toPhysicalRowDataType(),
                 this.config.get(ReplaceTransformConfig.KEY_REPLACE_FIELD));
@@ -60,33 +74,27 @@ public class ReplaceTransform extends SingleFieldOutputTransform {
 
     @Override
     protected Object getOutputFieldValue(SeaTunnelRowAccessor inputRow) {
-        Object inputFieldValue = inputRow.getField(inputFieldIndex);
+        return replace(inputRow.getField(inputFieldIndex));
+    }
+
+    @Override
+    public void mapBatch(List<SeaTunnelRow> rows, List<SeaTunnelRow> output) {
+        for (SeaTunnelRow inputRow : rows) {
+            output.add(createOutputRow(inputRow, replace(inputRow.getField(inputFieldIndex))));
+        }
+    }
+
+    private Object replace(Object inputFieldValue) {
         if (inputFieldValue == null) {
             return null;
         }
-
-        boolean isRegex =
-                config.get(ReplaceTransformConfig.KEY_IS_REGEX) != null
-                        && config.get(ReplaceTransformConfig.KEY_IS_REGEX);
-        if (isRegex) {
-            if (config.get(ReplaceTransformConfig.KEY_REPLACE_FIRST)) {
-                return inputFieldValue
-                        .toString()
-                        .replaceFirst(
-                                config.get(ReplaceTransformConfig.KEY_PATTERN),
-                                config.get(ReplaceTransformConfig.KEY_REPLACEMENT));
-            }
-            return inputFieldValue
-                    .toString()
-                    .replaceAll(
-                            config.get(ReplaceTransformConfig.KEY_PATTERN),
-                            config.get(ReplaceTransformConfig.KEY_REPLACEMENT));
+        if (regexPattern != null) {
+            Matcher matcher = regexPattern.matcher(inputFieldValue.toString());
+            return replaceFirst
+                    ? matcher.replaceFirst(replacement)
+                    : matcher.replaceAll(replacement);
         }
-        return inputFieldValue
-                .toString()
-                .replace(
-                        config.get(ReplaceTransformConfig.KEY_PATTERN),
-                        config.get(ReplaceTransformConfig.KEY_REPLACEMENT));
+        return inputFieldValue.toString().replace(pattern, replacement);
     }
 
     @Override
@@ -20,13 +20,18 @@ package org.apache.seatunnel.transform.sql;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.transform.exception.TransformException;
 import org.apache.seatunnel.transform.sql.zeta.ZetaSQLEngine;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLPlanCache;
 
 public class SQLEngineFactory {
     public static SQLEngine getSQLEngine(EngineType engineType) {
+        return getSQLEngine(engineType, null);
+    }
+
+    public static SQLEngine getSQLEngine(EngineType engineType, ZetaSQLPlanCache planCache) {
         switch (engineType) {
             case ZETA:
             case INTERNAL:
-                return new ZetaSQLEngine();
+                return new ZetaSQLEngine(planCache);
         }
         throw new TransformException(
                 CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
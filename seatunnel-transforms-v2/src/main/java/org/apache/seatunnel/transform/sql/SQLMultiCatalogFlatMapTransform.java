@@ -22,16 +22,25 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
 import org.apache.seatunnel.transform.common.AbstractMultiCatalogFlatMapTransform;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLPlanCache;
 
 import java.util.List;
 
 public class SQLMultiCatalogFlatMapTransform extends AbstractMultiCatalogFlatMapTransform {
 
+    // share the parsed plans of the tables with the same query and schema, it is assigned in
+    // buildTransform because the table transforms are built in the super constructor
+    private ZetaSQLPlanCache planCache;
+
     public SQLMultiCatalogFlatMapTransform(
             List<CatalogTable> inputCatalogTables, ReadonlyConfig config) {
         super(inputCatalogTables, config);
     }
 
+    public ZetaSQLPlanCache getPlanCache() {
+        return planCache;
+    }
+
     @Override
     public String getPluginName() {
         return SQLTransform.PLUGIN_NAME;
@@ -40,6 +49,9 @@ public class SQLMultiCatalogFlatMapTransform extends AbstractMultiCatalogFlatMap
     @Override
     protected SeaTunnelFlatMapTransform<SeaTunnelRow> buildTransform(
             CatalogTable inputCatalogTable, ReadonlyConfig config) {
-        return new SQLTransform(config, inputCatalogTable);
+        if (planCache == null) {
+            planCache = new ZetaSQLPlanCache();
+        }
+        return new SQLTransform(config, inputCatalogTable, planCache);
     }
 }
@@ -32,6 +32,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportFlatMapTransform;
 import org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLPlanCache;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -66,8 +67,18 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
 
     private final String inputTableName;
 
+    private final ZetaSQLPlanCache planCache;
+
     public SQLTransform(@NonNull ReadonlyConfig config, @NonNull CatalogTable catalogTable) {
+        this(config, catalogTable, null);
+    }
+
+    public SQLTransform(
+            @NonNull ReadonlyConfig config,
+            @NonNull CatalogTable catalogTable,
+            ZetaSQLPlanCache planCache) {
         super(catalogTable);
+        this.planCache = planCache;
         this.query = config.get(KEY_QUERY);
         if (config.getOptional(KEY_ENGINE).isPresent()) {
             this.engineType = EngineType.valueOf(config.get(KEY_ENGINE).toUpperCase());
@@ -90,7 +101,7 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
 
     @Override
     public void open() {
-        sqlEngine = SQLEngineFactory.getSQLEngine(engineType);
+        sqlEngine = SQLEngineFactory.getSQLEngine(engineType, planCache);
         sqlEngine.init(
                 inputTableName,
                 inputCatalogTable.getTableId().getTableName(),
@@ -49,7 +49,6 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 
 public class ZetaSQLEngine implements SQLEngine {
@@ -64,13 +63,22 @@ public class ZetaSQLEngine implements SQLEngine {
     private String sql;
     private PlainSelect selectBody;
 
+    private ZetaSQLPlan plan;
     private ZetaSQLFunction zetaSQLFunction;
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
 
     private Integer allColumnsCount = null;
 
-    public ZetaSQLEngine() {}
+    @Nullable private final ZetaSQLPlanCache planCache;
+
+    public ZetaSQLEngine() {
+        this(null);
+    }
+
+    public ZetaSQLEngine(@Nullable ZetaSQLPlanCache planCache) {
+        this.planCache = planCache;
+    }
 
     @Override
     public void init(
@@ -83,23 +91,30 @@ public class ZetaSQLEngine implements SQLEngine {
         this.inputRowType = inputRowType;
         this.sql = sql;
 
-        List<ZetaUDF> udfList = new ArrayList<>();
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        ServiceLoader.load(ZetaUDF.class, classLoader).forEach(udfList::add);
+        if (planCache != null) {
+            this.plan = planCache.getOrCreate(sql, inputRowType);
+        } else {
+            this.plan = createPlan(sql, inputRowType, ZetaSQLPlanCache.loadUdfList());
+        }
+        this.selectBody = plan.getSelectBody();
+        this.zetaSQLType = plan.getZetaSQLType();
+        this.zetaSQLFunction = plan.getZetaSQLFunction();
+        this.zetaSQLFilter = plan.getZetaSQLFilter();
 
-        this.zetaSQLType = new ZetaSQLType(inputRowType, udfList);
-        this.zetaSQLFunction = new ZetaSQLFunction(inputRowType, zetaSQLType, udfList);
-        this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+        validateTableName();
+    }
 
-        parseSQL();
+    static ZetaSQLPlan createPlan(
+            String sql, SeaTunnelRowType inputRowType, List<ZetaUDF> udfList) {
+        return new ZetaSQLPlan(parseSQL(sql), inputRowType, udfList);
     }
 
-    private void parseSQL() {
+    private static PlainSelect parseSQL(String sql) {
         try {
             Statement statement = CCJSqlParserUtil.parse(sql);
             // validate SQL statement
-            validateSQL(statement);
-            this.selectBody = (PlainSelect) ((Select) statement).getSelectBody();
+            validateSQL(sql, statement);
+            return (PlainSelect) ((Select) statement).getSelectBody();
         } catch (JSQLParserException e) {
             throw new TransformException(
                     CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
@@ -107,7 +122,7 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
-    private void validateSQL(Statement statement) {
+    private static void validateSQL(String sql, Statement statement) {
         try {
             if (!(statement instanceof Select)) {
                 throw new IllegalArgumentException("Only supported DQL(select) SQL");
@@ -127,16 +142,6 @@ public class ZetaSQLEngine implements SQLEngine {
                 if (table.getAlias() != null) {
                     throw new IllegalArgumentException("Unsupported table alias name syntax");
                 }
-                String tableName = table.getName();
-                if (!inputTableName.equalsIgnoreCase(tableName)
-                        && !tableName.equalsIgnoreCase(catalogTableName)
-                        && !"DUAL".equalsIgnoreCase(tableName)) {
-                    log.warn(
-                            "SQL table name {} is not equal to input table name {} or catalog table name {}",
-                            tableName,
-                            inputTableName,
-                            catalogTableName);
-                }
             } else {
                 throw new IllegalArgumentException("Unsupported sub table syntax");
             }
@@ -163,8 +168,33 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void validateTableName() {
+        String tableName = ((Table) selectBody.getFromItem()).getName();
+        if (!inputTableName.equalsIgnoreCase(tableName)
+                && !tableName.equalsIgnoreCase(catalogTableName)
+                && !"DUAL".equalsIgnoreCase(tableName)) {
+            log.warn(
+                    "SQL table name {} is not equal to input table name {} or catalog table name {}",
+                    tableName,
+                    inputTableName,
+                    catalogTableName);
+        }
+    }
+
     @Override
     public SeaTunnelRowType typeMapping(List<String> inputColumnsMapping) {
+        if (!plan.isTypeMapped()) {
+            List<String> columnsMapping = new ArrayList<>();
+            plan.setTypeMapping(resolveTypeMapping(columnsMapping), columnsMapping);
+        }
+        if (inputColumnsMapping != null) {
+            inputColumnsMapping.addAll(plan.getInputColumnsMapping());
+        }
+        outRowType = plan.getOutRowType();
+        return outRowType;
+    }
+
+    private SeaTunnelRowType resolveTypeMapping(List<String> inputColumnsMapping) {
         List<SelectItem<?>> selectItems = selectBody.getSelectItems();
 
         // count number of all columns
@@ -217,13 +247,10 @@ public class ZetaSQLEngine implements SQLEngine {
         }
         List<LateralView> lateralViews = selectBody.getLateralViews();
         if (CollectionUtils.isEmpty(lateralViews)) {
-            outRowType = new SeaTunnelRowType(fieldNames, seaTunnelDataTypes);
-        } else {
-            outRowType =
-                    zetaSQLFunction.lateralViewMapping(
-                            fieldNames, seaTunnelDataTypes, lateralViews, inputColumnsMapping);
+            return new SeaTunnelRowType(fieldNames, seaTunnelDataTypes);
         }
-        return outRowType;
+        return zetaSQLFunction.lateralViewMapping(
+                fieldNames, seaTunnelDataTypes, lateralViews, inputColumnsMapping);
     }
 
     private static String cleanEscape(String columnName) {
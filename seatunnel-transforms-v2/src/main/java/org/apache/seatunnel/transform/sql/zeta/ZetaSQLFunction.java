@@ -66,8 +66,10 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.UUID.randomUUID;
 import static org.apache.seatunnel.transform.exception.TransformCommonErrorCode.INPUT_FIELDS_NOT_FOUND;
@@ -198,14 +200,19 @@ public class ZetaSQLFunction {
     private final ZetaSQLType zetaSQLType;
     private final ZetaSQLFilter zetaSQLFilter;
 
-    private final List<ZetaUDF> udfList;
+    // function name -> upper case function name, avoid converting the name for every row
+    private final Map<String, String> functionNames = new ConcurrentHashMap<>();
+    // upper case function name -> udf
+    private final Map<String, ZetaUDF> udfMap = new HashMap<>();
 
     public ZetaSQLFunction(
             SeaTunnelRowType inputRowType, ZetaSQLType zetaSQLType, List<ZetaUDF> udfList) {
         this.inputRowType = inputRowType;
         this.zetaSQLType = zetaSQLType;
         this.zetaSQLFilter = new ZetaSQLFilter(this, zetaSQLType);
-        this.udfList = udfList;
+        for (ZetaUDF udf : udfList) {
+            udfMap.putIfAbsent(udf.functionName().toUpperCase(), udf);
+        }
     }
 
     public Object computeForValue(Expression expression, Object[] inputFields) {
@@ -377,7 +384,9 @@ public class ZetaSQLFunction {
     }
 
     public Object executeFunctionExpr(String functionName, List<Object> args) {
-        switch (functionName.toUpperCase()) {
+        String upperCaseFunctionName =
+                functionNames.computeIfAbsent(functionName, String::toUpperCase);
+        switch (upperCaseFunctionName) {
             case ASCII:
                 return StringFunction.ascii(args);
             case BIT_LENGTH:
@@ -563,10 +572,9 @@ public class ZetaSQLFunction {
             case UUID:
                 return randomUUID().toString();
             default:
-                for (ZetaUDF udf : udfList) {
-                    if (udf.functionName().equalsIgnoreCase(functionName)) {
-                        return udf.evaluate(args);
-                    }
+                ZetaUDF udf = udfMap.get(upperCaseFunctionName);
+                if (udf != null) {
+                    return udf.evaluate(args);
                 }
                 throw new TransformException(
                         CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
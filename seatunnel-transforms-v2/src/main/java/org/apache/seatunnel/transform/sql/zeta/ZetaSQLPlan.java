@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import lombok.Getter;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The compiled form of a query against one input row type: the validated select body, the resolved
+ * function/filter/type helpers and the output type mapping. It is never modified after the type
+ * mapping is resolved, so the tables sharing the same query and schema can share it.
+ */
+@Getter
+class ZetaSQLPlan {
+    private final PlainSelect selectBody;
+    private final ZetaSQLType zetaSQLType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+
+    private SeaTunnelRowType outRowType;
+    private List<String> inputColumnsMapping;
+
+    ZetaSQLPlan(PlainSelect selectBody, SeaTunnelRowType inputRowType, List<ZetaUDF> udfList) {
+        this.selectBody = selectBody;
+        this.zetaSQLType = new ZetaSQLType(inputRowType, udfList);
+        this.zetaSQLFunction = new ZetaSQLFunction(inputRowType, zetaSQLType, udfList);
+        this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+    }
+
+    boolean isTypeMapped() {
+        return outRowType != null;
+    }
+
+    void setTypeMapping(SeaTunnelRowType outRowType, List<String> inputColumnsMapping) {
+        this.inputColumnsMapping = Collections.unmodifiableList(inputColumnsMapping);
+        this.outRowType = outRowType;
+    }
+}
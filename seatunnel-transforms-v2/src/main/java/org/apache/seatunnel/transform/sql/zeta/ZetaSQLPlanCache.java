@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Share the compiled {@link ZetaSQLPlan} between the SQL engines of the tables which run the same
+ * query on the same input row type, e.g. the tables of a multi-table transform. The cached plans
+ * are not serialized, they are rebuilt once per cache instance after deserialization.
+ */
+public class ZetaSQLPlanCache implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private transient Map<List<Object>, ZetaSQLPlan> plans;
+    private transient List<ZetaUDF> udfList;
+
+    synchronized ZetaSQLPlan getOrCreate(String sql, SeaTunnelRowType inputRowType) {
+        if (plans == null) {
+            plans = new HashMap<>();
+        }
+        return plans.computeIfAbsent(
+                Arrays.asList(sql, inputRowType),
+                key -> ZetaSQLEngine.createPlan(sql, inputRowType, getUdfList()));
+    }
+
+    synchronized List<ZetaUDF> getUdfList() {
+        if (udfList == null) {
+            udfList = loadUdfList();
+        }
+        return udfList;
+    }
+
+    public synchronized int size() {
+        return plans == null ? 0 : plans.size();
+    }
+
+    static List<ZetaUDF> loadUdfList() {
+        List<ZetaUDF> udfList = new ArrayList<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ServiceLoader.load(ZetaUDF.class, classLoader).forEach(udfList::add);
+        return udfList;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.embedding;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.BufferUtils;
+import org.apache.seatunnel.transform.nlpmodel.embedding.EmbeddingTransform;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EmbeddingBatchTransformTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private MockWebServer mockWebServer;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+    private final AtomicInteger vectorizedInputs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request)
+                            throws InterruptedException {
+                        int inFlight = inFlightRequests.incrementAndGet();
+                        maxInFlightRequests.accumulateAndGet(inFlight, Math::max);
+                        try {
+                            Thread.sleep(50);
+                            return new MockResponse()
+                                    .setBody(embeddingResponse(request.getBody().readUtf8()))
+                                    .setHeader("Content-Type", "application/json");
+                        } catch (IOException e) {
+                            return new MockResponse().setResponseCode(500);
+                        } finally {
+                            inFlightRequests.decrementAndGet();
+                        }
+                    }
+                });
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testConcurrentBatchKeepInputOrder() {
+        EmbeddingTransform transform = createTransform(2, 4, 0);
+        transform.open();
+        transform.getProducedCatalogTable();
+        int openRequests = mockWebServer.getRequestCount();
+
+        List<SeaTunnelRow> rows = createRows(20);
+        List<SeaTunnelRow> outputRows = new ArrayList<>();
+        transform.mapBatch(rows, outputRows);
+
+        Assertions.assertEquals(20, outputRows.size());
+        for (int i = 0; i < outputRows.size(); i++) {
+            Assertions.assertEquals(rows.get(i).getField(0), outputRows.get(i).getField(0));
+            Assertions.assertEquals(
+                    rows.get(i).getField(1).toString().length(),
+                    firstDimension(outputRows.get(i).getField(2)));
+        }
+        Assertions.assertEquals(10, mockWebServer.getRequestCount() - openRequests);
+        Assertions.assertTrue(maxInFlightRequests.get() > 1);
+        Assertions.assertTrue(maxInFlightRequests.get() <= 4);
+        transform.close();
+    }
+
+    @Test
+    void testVectorizationCacheSkipsRepeatedInputs() {
+        EmbeddingTransform transform = createTransform(4, 2, 100);
+        transform.open();
+        transform.getProducedCatalogTable();
+        vectorizedInputs.set(0);
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            rows.add(new SeaTunnelRow(new Object[] {(long) i, "text_" + (i % 3)}));
+        }
+        List<SeaTunnelRow> outputRows = new ArrayList<>();
+        transform.mapBatch(rows, outputRows);
+        Assertions.assertEquals(3, vectorizedInputs.get());
+        for (int i = 0; i < outputRows.size(); i++) {
+            Assertions.assertEquals(
+                    rows.get(i).getField(1).toString().length(),
+                    firstDimension(outputRows.get(i).getField(2)));
+        }
+
+        SeaTunnelRow outputRow = transform.map(new SeaTunnelRow(new Object[] {100L, "text_1"}));
+        Assertions.assertEquals(6, firstDimension(outputRow.getField(2)));
+        Assertions.assertEquals(3, vectorizedInputs.get());
+        transform.close();
+    }
+
+    @Test
+    void testSingleRowMatchesBatch() {
+        EmbeddingTransform transform = createTransform(1, 1, 0);
+        transform.open();
+        transform.getProducedCatalogTable();
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, "seatunnel"});
+        SeaTunnelRow single = transform.map(row.copy());
+        List<SeaTunnelRow> outputRows = new ArrayList<>();
+        transform.mapBatch(Collections.singletonList(row.copy()), outputRows);
+        SeaTunnelRow batch = outputRows.get(0);
+        Assertions.assertEquals(
+                firstDimension(single.getField(2)), firstDimension(batch.getField(2)));
+        transform.close();
+    }
+
+    @Test
+    void testNullInputGetsNullVectorWithAndWithoutCache() {
+        for (int cacheSize : new int[] {0, 100}) {
+            EmbeddingTransform transform = createTransform(4, 1, cacheSize);
+            transform.open();
+            transform.getProducedCatalogTable();
+            vectorizedInputs.set(0);
+
+            List<SeaTunnelRow> rows =
+                    Arrays.asList(
+                            new SeaTunnelRow(new Object[] {1L, null}),
+                            new SeaTunnelRow(new Object[] {2L, "abc"}));
+            List<SeaTunnelRow> outputRows = new ArrayList<>();
+            transform.mapBatch(rows, outputRows);
+            Assertions.assertNull(outputRows.get(0).getField(2));
+            Assertions.assertEquals(3, firstDimension(outputRows.get(1).getField(2)));
+            Assertions.assertEquals(1, vectorizedInputs.get());
+
+            SeaTunnelRow outputRow = transform.map(new SeaTunnelRow(new Object[] {3L, null}));
+            Assertions.assertNull(outputRow.getField(2));
+            Assertions.assertEquals(1, vectorizedInputs.get());
+            transform.close();
+        }
+    }
+
+    @Test
+    void testBufferSizeFollowsBatchSizeAndConcurrency() {
+        Assertions.assertEquals(0, createTransform(4, 2, 0).getBufferSize());
+        EmbeddingTransform transform = createTransform(4, 2, 0, true);
+        Assertions.assertEquals(8, transform.getBufferSize());
+        Assertions.assertEquals(1000L, transform.getBufferTimeoutMillis());
+    }
+
+    private EmbeddingTransform createTransform(
+            int singleVectorizedInputNumber, int maxConcurrentRequests, int cacheSize) {
+        return createTransform(
+                singleVectorizedInputNumber, maxConcurrentRequests, cacheSize, false);
+    }
+
+    private EmbeddingTransform createTransform(
+            int singleVectorizedInputNumber,
+            int maxConcurrentRequests,
+            int cacheSize,
+            boolean batchBufferEnabled) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("model_provider", "OPENAI");
+        config.put("model", "text-embedding-3-small");
+        config.put("api_key", "apikey");
+        config.put("api_path", mockWebServer.url("/v1/embeddings").toString());
+        config.put("single_vectorized_input_number", singleVectorizedInputNumber);
+        config.put("max_concurrent_requests", maxConcurrentRequests);
+        config.put("vectorization_cache_size", cacheSize);
+        config.put("batch_buffer_enabled", batchBufferEnabled);
+        config.put("vectorization_fields", Collections.singletonMap("name_vector", "name"));
+        return new EmbeddingTransform(ReadonlyConfig.fromMap(config), createCatalogTable());
+    }
+
+    private static CatalogTable createCatalogTable() {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 0L, true, null, null))
+                        .build();
+        return CatalogTable.of(
+                TableIdentifier.of("FakeSource", "fake_database", "fake_table"),
+                tableSchema,
+                new HashMap<>(),
+                Collections.emptyList(),
+                null);
+    }
+
+    private static List<SeaTunnelRow> createRows(int count) {
+        List<SeaTunnelRow> rows = new ArrayList<>(count);
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            name.append('a');
+            rows.add(new SeaTunnelRow(new Object[] {(long) i, name.toString()}));
+        }
+        return rows;
+    }
+
+    private static int firstDimension(Object vector) {
+        return BufferUtils.toDoubleArray(((ByteBuffer) vector).duplicate())[0].intValue();
+    }
+
+    /** Answers every input with a vector whose first dimension is the length of the input. */
+    private String embeddingResponse(String requestBody) throws IOException {
+        JsonNode input = OBJECT_MAPPER.readTree(requestBody).get("input");
+        List<String> texts = new ArrayList<>();
+        if (input.isArray()) {
+            input.forEach(node -> texts.add(node.asText()));
+        } else {
+            texts.add(input.asText());
+        }
+        vectorizedInputs.addAndGet(texts.size());
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        ArrayNode data = response.putArray("data");
+        for (String text : texts) {
+            data.addObject().putArray("embedding").add((double) text.length()).add(1.0d);
+        }
+        return OBJECT_MAPPER.writeValueAsString(response);
+    }
+}
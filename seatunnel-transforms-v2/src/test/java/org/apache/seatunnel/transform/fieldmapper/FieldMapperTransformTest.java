@@ -26,14 +26,18 @@ import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -136,4 +140,30 @@ class FieldMapperTransformTest {
                         .map(ConstraintKey.ConstraintKeyColumn::getColumnName)
                         .collect(Collectors.toList()));
     }
+
+    @Test
+    void testMapBatch() {
+        Map<String, String> mapper = new LinkedHashMap<>();
+        mapper.put("key3", "k3");
+        mapper.put("key1", "k1");
+
+        Map<String, Object> config = Collections.singletonMap(FIELD_MAPPER.key(), mapper);
+        FieldMapperTransform transform =
+                new FieldMapperTransform(
+                        FieldMapperTransformConfig.of(ReadonlyConfig.fromMap(config)),
+                        catalogTable);
+        transform.getProducedCatalogTable();
+
+        SeaTunnelRow first = new SeaTunnelRow(new Object[] {"a1", "a2", "a3", "a4", "a5"});
+        first.setRowKind(RowKind.UPDATE_AFTER);
+        SeaTunnelRow second = new SeaTunnelRow(new Object[] {"b1", "b2", "b3", "b4", "b5"});
+        List<SeaTunnelRow> outputs = new ArrayList<>();
+        transform.mapBatch(Arrays.asList(first, second), outputs);
+
+        Assertions.assertEquals(2, outputs.size());
+        Assertions.assertArrayEquals(new Object[] {"a3", "a1"}, outputs.get(0).getFields());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, outputs.get(0).getRowKind());
+        Assertions.assertArrayEquals(new Object[] {"b3", "b1"}, outputs.get(1).getFields());
+        Assertions.assertEquals(transform.map(second), outputs.get(1));
+    }
 }
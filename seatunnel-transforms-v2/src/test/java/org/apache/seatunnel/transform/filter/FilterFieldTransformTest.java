@@ -228,4 +228,22 @@ class FilterFieldTransformTest {
             }
         }
     }
+
+    @Test
+    void testMapBatch() {
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put(FilterFieldTransformConfig.INCLUDE_FIELDS.key(), filterKeys);
+        FilterFieldTransform filterFieldTransform =
+                new FilterFieldTransform(ReadonlyConfig.fromMap(configMap), catalogTable);
+        filterFieldTransform.getProducedCatalogTable();
+
+        List<SeaTunnelRow> inputs =
+                Arrays.asList(new SeaTunnelRow(values), new SeaTunnelRow(values));
+        List<SeaTunnelRow> outputs = new ArrayList<>();
+        filterFieldTransform.mapBatch(inputs, outputs);
+        Assertions.assertEquals(2, outputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            Assertions.assertEquals(filterFieldTransform.map(inputs.get(i)), outputs.get(i));
+        }
+    }
 }
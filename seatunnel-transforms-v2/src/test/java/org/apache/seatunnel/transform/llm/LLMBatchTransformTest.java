@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.llm;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.transform.nlpmodel.llm.LLMTransform;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LLMBatchTransformTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private MockWebServer mockWebServer;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request)
+                            throws InterruptedException {
+                        int inFlight = inFlightRequests.incrementAndGet();
+                        maxInFlightRequests.accumulateAndGet(inFlight, Math::max);
+                        try {
+                            Thread.sleep(50);
+                            return new MockResponse()
+                                    .setBody(chatResponse(request.getBody().readUtf8()))
+                                    .setHeader("Content-Type", "application/json");
+                        } catch (IOException e) {
+                            return new MockResponse().setResponseCode(500);
+                        } finally {
+                            inFlightRequests.decrementAndGet();
+                        }
+                    }
+                });
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testConcurrentBatchKeepInputOrder() {
+        LLMTransform transform = createTransform(5, 3);
+        transform.open();
+        transform.getProducedCatalogTable();
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            rows.add(new SeaTunnelRow(new Object[] {(long) i, "name_" + i}));
+        }
+        List<SeaTunnelRow> outputRows = new ArrayList<>();
+        transform.mapBatch(rows, outputRows);
+
+        Assertions.assertEquals(23, outputRows.size());
+        for (int i = 0; i < outputRows.size(); i++) {
+            Assertions.assertEquals((long) i, outputRows.get(i).getField(0));
+            Assertions.assertEquals("NAME_" + i, outputRows.get(i).getField(2));
+        }
+        Assertions.assertEquals(5, mockWebServer.getRequestCount());
+        Assertions.assertTrue(maxInFlightRequests.get() > 1);
+        Assertions.assertTrue(maxInFlightRequests.get() <= 3);
+        transform.close();
+    }
+
+    @Test
+    void testSingleRowMatchesBatch() {
+        LLMTransform transform = createTransform(100, 1);
+        transform.open();
+        transform.getProducedCatalogTable();
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, "seatunnel"});
+        Assertions.assertEquals("SEATUNNEL", transform.map(row.copy()).getField(2));
+        List<SeaTunnelRow> outputRows = new ArrayList<>();
+        transform.mapBatch(Collections.singletonList(row.copy()), outputRows);
+        Assertions.assertEquals("SEATUNNEL", outputRows.get(0).getField(2));
+        transform.close();
+    }
+
+    @Test
+    void testBufferSizeFollowsBatchSizeAndConcurrency() {
+        Assertions.assertEquals(0, createTransform(5, 3).getBufferSize());
+        LLMTransform transform = createTransform(5, 3, true);
+        Assertions.assertEquals(15, transform.getBufferSize());
+        Assertions.assertEquals(1000L, transform.getBufferTimeoutMillis());
+    }
+
+    private LLMTransform createTransform(int processBatchSize, int maxConcurrentRequests) {
+        return createTransform(processBatchSize, maxConcurrentRequests, false);
+    }
+
+    private LLMTransform createTransform(
+            int processBatchSize, int maxConcurrentRequests, boolean batchBufferEnabled) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("model_provider", "OPENAI");
+        config.put("model", "gpt-4o-mini");
+        config.put("api_key", "apikey");
+        config.put("prompt", "Convert the name to upper case");
+        config.put("inference_columns", Collections.singletonList("name"));
+        config.put("api_path", mockWebServer.url("/v1/chat/completions").toString());
+        config.put("process_batch_size", processBatchSize);
+        config.put("max_concurrent_requests", maxConcurrentRequests);
+        config.put("batch_buffer_enabled", batchBufferEnabled);
+        return new LLMTransform(ReadonlyConfig.fromMap(config), createCatalogTable());
+    }
+
+    private static CatalogTable createCatalogTable() {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 0L, true, null, null))
+                        .build();
+        return CatalogTable.of(
+                TableIdentifier.of("FakeSource", "fake_database", "fake_table"),
+                tableSchema,
+                new HashMap<>(),
+                Collections.emptyList(),
+                null);
+    }
+
+    /** Answers every row with its upper-cased name, in the order of the request. */
+    private static String chatResponse(String requestBody) throws IOException {
+        JsonNode messages = OBJECT_MAPPER.readTree(requestBody).get("messages");
+        JsonNode rows = OBJECT_MAPPER.readTree(messages.get(1).get("content").asText());
+        List<String> values = new ArrayList<>();
+        rows.forEach(row -> values.add(row.get("name").asText().toUpperCase()));
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        ArrayNode choices = response.putArray("choices");
+        choices.addObject()
+                .putObject("message")
+                .put("content", OBJECT_MAPPER.writeValueAsString(values));
+        return OBJECT_MAPPER.writeValueAsString(response);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.replace;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ReplaceTransformTest {
+
+    static CatalogTable catalogTable;
+
+    @BeforeAll
+    static void setUp() {
+        catalogTable =
+                CatalogTable.of(
+                        TableIdentifier.of("catalog", TablePath.DEFAULT),
+                        TableSchema.builder()
+                                .column(
+                                        PhysicalColumn.of(
+                                                "id", BasicType.INT_TYPE, 1L, false, null, null))
+                                .column(
+                                        PhysicalColumn.of(
+                                                "name",
+                                                BasicType.STRING_TYPE,
+                                                1L,
+                                                true,
+                                                null,
+                                                null))
+                                .build(),
+                        new HashMap<>(),
+                        Collections.emptyList(),
+                        "comment");
+    }
+
+    @Test
+    void testReplace() {
+        ReplaceTransform transform = createTransform("a", "b", false, null);
+        Assertions.assertEquals("bbc-bbc", transform.map(row(1, "abc-abc")).getField(1));
+        Assertions.assertNull(transform.map(row(2, null)).getField(1));
+    }
+
+    @Test
+    void testRegexReplace() {
+        ReplaceTransform transform = createTransform("\\d+", "#", true, false);
+        Assertions.assertEquals("a#b#", transform.map(row(1, "a12b345")).getField(1));
+
+        ReplaceTransform replaceFirst = createTransform("\\d+", "#", true, true);
+        Assertions.assertEquals("a#b345", replaceFirst.map(row(1, "a12b345")).getField(1));
+    }
+
+    @Test
+    void testMapBatch() {
+        ReplaceTransform transform = createTransform("(\\w)-", "$1_", true, false);
+        List<SeaTunnelRow> inputs =
+                Arrays.asList(row(1, "a-b-c"), row(2, null), row(3, "x-"), row(4, "none"));
+        List<SeaTunnelRow> outputs = new ArrayList<>();
+        transform.mapBatch(inputs, outputs);
+
+        Assertions.assertEquals(4, outputs.size());
+        Assertions.assertEquals("a_b_c", outputs.get(0).getField(1));
+        Assertions.assertNull(outputs.get(1).getField(1));
+        Assertions.assertEquals("x_", outputs.get(2).getField(1));
+        Assertions.assertEquals("none", outputs.get(3).getField(1));
+        for (int i = 0; i < outputs.size(); i++) {
+            Assertions.assertEquals(i + 1, outputs.get(i).getField(0));
+        }
+    }
+
+    private static ReplaceTransform createTransform(
+            String pattern, String replacement, boolean isRegex, Boolean replaceFirst) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ReplaceTransformConfig.KEY_REPLACE_FIELD.key(), "name");
+        config.put(ReplaceTransformConfig.KEY_PATTERN.key(), pattern);
+        config.put(ReplaceTransformConfig.KEY_REPLACEMENT.key(), replacement);
+        config.put(ReplaceTransformConfig.KEY_IS_REGEX.key(), isRegex);
+        if (replaceFirst != null) {
+            config.put(ReplaceTransformConfig.KEY_REPLACE_FIRST.key(), replaceFirst);
+        }
+        ReplaceTransform transform =
+                new ReplaceTransform(ReadonlyConfig.fromMap(config), catalogTable);
+        transform.getProducedCatalogTable();
+        return transform;
+    }
+
+    private static SeaTunnelRow row(int id, String name) {
+        return new SeaTunnelRow(new Object[] {id, name});
+    }
+}
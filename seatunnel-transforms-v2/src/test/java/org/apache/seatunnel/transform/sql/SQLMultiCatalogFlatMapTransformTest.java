@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class SQLMultiCatalogFlatMapTransformTest {
+
+    private static final int TABLE_COUNT = 500;
+
+    private static final String QUERY =
+            "select id, UPPER(name) as name, age + 1 as age, CONCAT(name, '_', id) as tag"
+                    + " from dual where age > 10";
+
+    @Test
+    public void testShareParsedPlanAcrossTables() {
+        List<CatalogTable> catalogTables = createFakeSourceTables(TABLE_COUNT);
+        ReadonlyConfig config = ReadonlyConfig.fromMap(Collections.singletonMap("query", QUERY));
+
+        SQLMultiCatalogFlatMapTransform transform =
+                new SQLMultiCatalogFlatMapTransform(catalogTables, config);
+        Assertions.assertEquals(1, transform.getPlanCache().size());
+        Assertions.assertEquals(TABLE_COUNT, transform.getProducedCatalogTables().size());
+
+        SQLMultiCatalogFlatMapTransform restored =
+                SerializationUtils.deserialize(SerializationUtils.serialize(transform));
+        restored.open();
+        for (CatalogTable catalogTable : catalogTables) {
+            String tableId = catalogTable.getTableId().toTablePath().toString();
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, "seatunnel", 18});
+            row.setTableId(tableId);
+            List<SeaTunnelRow> result = restored.flatMap(row);
+            Assertions.assertEquals(1, result.size());
+            Assertions.assertEquals(tableId, result.get(0).getTableId());
+            Assertions.assertArrayEquals(
+                    new Object[] {1L, "SEATUNNEL", 19, "seatunnel_1"}, result.get(0).getFields());
+        }
+        Assertions.assertEquals(1, restored.getPlanCache().size());
+    }
+
+    @Test
+    public void testMultiTableStartupBenchmark() {
+        List<CatalogTable> catalogTables = createFakeSourceTables(TABLE_COUNT);
+        ReadonlyConfig config = ReadonlyConfig.fromMap(Collections.singletonMap("query", QUERY));
+
+        long start = System.nanoTime();
+        List<SQLTransform> transforms = new ArrayList<>(catalogTables.size());
+        for (CatalogTable catalogTable : catalogTables) {
+            SQLTransform sqlTransform = new SQLTransform(config, catalogTable);
+            sqlTransform.getProducedCatalogTable();
+            transforms.add(sqlTransform);
+        }
+        long withoutCacheNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        SQLMultiCatalogFlatMapTransform transform =
+                new SQLMultiCatalogFlatMapTransform(catalogTables, config);
+        long withCacheNanos = System.nanoTime() - start;
+
+        log.info(
+                "Startup {} tables, per table engine: {} ms, shared plan cache: {} ms",
+                TABLE_COUNT,
+                withoutCacheNanos / 1_000_000,
+                withCacheNanos / 1_000_000);
+        Assertions.assertEquals(TABLE_COUNT, transforms.size());
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            Assertions.assertEquals(
+                    transforms.get(i).getProducedCatalogTable().getSeaTunnelRowType(),
+                    transform.getProducedCatalogTables().get(i).getSeaTunnelRowType());
+        }
+    }
+
+    /** The tables produced by a fake source which generates many tables with the same schema. */
+    private static List<CatalogTable> createFakeSourceTables(int tableCount) {
+        List<CatalogTable> catalogTables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            TableSchema tableSchema =
+                    TableSchema.builder()
+                            .column(
+                                    PhysicalColumn.of(
+                                            "id", BasicType.LONG_TYPE, 0L, false, null, null))
+                            .column(
+                                    PhysicalColumn.of(
+                                            "name", BasicType.STRING_TYPE, 0L, true, null, null))
+                            .column(
+                                    PhysicalColumn.of(
+                                            "age", BasicType.INT_TYPE, 0L, true, null, null))
+                            .build();
+            Map<String, String> options = new HashMap<>();
+            catalogTables.add(
+                    CatalogTable.of(
+                            TableIdentifier.of("FakeSource", "fake_database", "table_" + i),
+                            tableSchema,
+                            options,
+                            Collections.emptyList(),
+                            null));
+        }
+        return catalogTables;
+    }
+}
@@ -0,0 +1,556 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.spark.utils.InstantConverterUtils;
+import org.apache.seatunnel.translation.spark.utils.TypeConverterUtils;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.spark.sql.vectorized.ArrowColumnVector;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Write {@link SeaTunnelRow}s into Arrow vectors column by column, the layout of the {@link
+ * ColumnarBatch} is the same as the row converted by {@link InternalRowConverter}: 0 -> row kind, 1
+ * -> table id, and then the fields.
+ */
+public class ArrowColumnarBatchWriter implements AutoCloseable {
+
+    private static final String TIME_ZONE = "UTC";
+
+    private final SeaTunnelRowType rowType;
+    private final BufferAllocator allocator;
+    private final int batchSize;
+
+    private TinyIntVector rowKindVector;
+    private TableIdWriter tableIdWriter;
+    private FieldWriter[] fieldWriters;
+    private int rowCount;
+
+    public ArrowColumnarBatchWriter(
+            SeaTunnelRowType rowType, BufferAllocator allocator, int batchSize) {
+        this.rowType = rowType;
+        this.allocator = allocator;
+        this.batchSize = batchSize;
+        createVectors();
+    }
+
+    /**
+     * Whether the fields of the row type can be written into Arrow vectors, the nested types are
+     * not supported.
+     */
+    public static boolean isSupported(SeaTunnelRowType rowType) {
+        for (SeaTunnelDataType<?> fieldType : rowType.getFieldTypes()) {
+            switch (fieldType.getSqlType()) {
+                case BOOLEAN:
+                case TINYINT:
+                case SMALLINT:
+                case INT:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                case DECIMAL:
+                case STRING:
+                case BYTES:
+                case DATE:
+                case TIME:
+                case TIMESTAMP:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public void write(SeaTunnelRow row) {
+        rowKindVector.setSafe(rowCount, row.getRowKind().toByteValue());
+        tableIdWriter.write(rowCount, row.getTableId());
+        for (int i = 0; i < fieldWriters.length; i++) {
+            fieldWriters[i].write(rowCount, row.getField(i));
+        }
+        rowCount++;
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    public boolean isFull() {
+        return rowCount >= batchSize;
+    }
+
+    /**
+     * Wrap the written vectors as a {@link ColumnarBatch}, the ownership of the vectors is passed
+     * to the batch and the writer continues with new vectors.
+     */
+    public ColumnarBatch finish() {
+        ColumnVector[] columns = new ColumnVector[fieldWriters.length + 2];
+        columns[0] = toColumnVector(rowKindVector);
+        columns[1] = toColumnVector(tableIdWriter.vector);
+        for (int i = 0; i < fieldWriters.length; i++) {
+            columns[i + 2] = toColumnVector(fieldWriters[i].getVector());
+        }
+        ColumnarBatch batch = new ColumnarBatch(columns, rowCount);
+        createVectors();
+        return batch;
+    }
+
+    @Override
+    public void close() {
+        rowKindVector.close();
+        tableIdWriter.vector.close();
+        for (FieldWriter fieldWriter : fieldWriters) {
+            fieldWriter.getVector().close();
+        }
+    }
+
+    private ColumnVector toColumnVector(FieldVector vector) {
+        vector.setValueCount(rowCount);
+        return new ArrowColumnVector(vector);
+    }
+
+    private void createVectors() {
+        rowKindVector = new TinyIntVector(TypeConverterUtils.ROW_KIND_FIELD, allocator);
+        rowKindVector.allocateNew(batchSize);
+        tableIdWriter =
+                new TableIdWriter(new VarCharVector(TypeConverterUtils.TABLE_ID, allocator));
+        tableIdWriter.vector.setInitialCapacity(batchSize);
+        tableIdWriter.vector.allocateNew();
+        fieldWriters = new FieldWriter[rowType.getTotalFields()];
+        for (int i = 0; i < fieldWriters.length; i++) {
+            fieldWriters[i] = createFieldWriter(rowType.getFieldName(i), rowType.getFieldType(i));
+            fieldWriters[i].getVector().setInitialCapacity(batchSize);
+            fieldWriters[i].getVector().allocateNew();
+        }
+        rowCount = 0;
+    }
+
+    private FieldWriter createFieldWriter(String name, SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return new BooleanWriter(new BitVector(name, allocator));
+            case TINYINT:
+                return new ByteWriter(new TinyIntVector(name, allocator));
+            case SMALLINT:
+                return new ShortWriter(new SmallIntVector(name, allocator));
+            case INT:
+                return new IntWriter(new IntVector(name, allocator));
+            case BIGINT:
+                return new LongWriter(new BigIntVector(name, allocator));
+            case FLOAT:
+                return new FloatWriter(new Float4Vector(name, allocator));
+            case DOUBLE:
+                return new DoubleWriter(new Float8Vector(name, allocator));
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) dataType;
+                return new DecimalWriter(
+                        new DecimalVector(
+                                name,
+                                allocator,
+                                decimalType.getPrecision(),
+                                decimalType.getScale()));
+            case STRING:
+                return new StringWriter(new VarCharVector(name, allocator));
+            case BYTES:
+                return new BinaryWriter(new VarBinaryVector(name, allocator));
+            case DATE:
+                return new DateWriter(new DateDayVector(name, allocator));
+            case TIME:
+                return new TimeWriter(new BigIntVector(name, allocator));
+            case TIMESTAMP:
+                return new TimestampWriter(new TimeStampMicroTZVector(name, allocator, TIME_ZONE));
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported SeaTunnel's data type of columnar batch: " + dataType);
+        }
+    }
+
+    private abstract static class FieldWriter {
+
+        abstract FieldVector getVector();
+
+        abstract void setNull(int rowId);
+
+        abstract void setValue(int rowId, Object value);
+
+        void write(int rowId, Object value) {
+            if (value == null) {
+                setNull(rowId);
+            } else {
+                setValue(rowId, value);
+            }
+        }
+    }
+
+    private static final class TableIdWriter {
+        private final VarCharVector vector;
+        private String tableId;
+        private byte[] tableIdBytes;
+
+        private TableIdWriter(VarCharVector vector) {
+            this.vector = vector;
+        }
+
+        void write(int rowId, String value) {
+            if (value == null) {
+                vector.setNull(rowId);
+                return;
+            }
+            if (!Objects.equals(tableId, value)) {
+                tableId = value;
+                tableIdBytes = value.getBytes(StandardCharsets.UTF_8);
+            }
+            vector.setSafe(rowId, tableIdBytes);
+        }
+    }
+
+    private static final class BooleanWriter extends FieldWriter {
+        private final BitVector vector;
+
+        private BooleanWriter(BitVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Boolean) value ? 1 : 0);
+        }
+    }
+
+    private static final class ByteWriter extends FieldWriter {
+        private final TinyIntVector vector;
+
+        private ByteWriter(TinyIntVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Byte) value);
+        }
+    }
+
+    private static final class ShortWriter extends FieldWriter {
+        private final SmallIntVector vector;
+
+        private ShortWriter(SmallIntVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Short) value);
+        }
+    }
+
+    private static final class IntWriter extends FieldWriter {
+        private final IntVector vector;
+
+        private IntWriter(IntVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Integer) value);
+        }
+    }
+
+    private static final class LongWriter extends FieldWriter {
+        private final BigIntVector vector;
+
+        private LongWriter(BigIntVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Long) value);
+        }
+    }
+
+    private static final class FloatWriter extends FieldWriter {
+        private final Float4Vector vector;
+
+        private FloatWriter(Float4Vector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Float) value);
+        }
+    }
+
+    private static final class DoubleWriter extends FieldWriter {
+        private final Float8Vector vector;
+
+        private DoubleWriter(Float8Vector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (Double) value);
+        }
+    }
+
+    private static final class DecimalWriter extends FieldWriter {
+        private final DecimalVector vector;
+
+        private DecimalWriter(DecimalVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            BigDecimal decimal = (BigDecimal) value;
+            if (decimal.scale() != vector.getScale()) {
+                decimal = decimal.setScale(vector.getScale(), RoundingMode.HALF_UP);
+            }
+            vector.setSafe(rowId, decimal);
+        }
+    }
+
+    private static final class StringWriter extends FieldWriter {
+        private final VarCharVector vector;
+
+        private StringWriter(VarCharVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class BinaryWriter extends FieldWriter {
+        private final VarBinaryVector vector;
+
+        private BinaryWriter(VarBinaryVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (byte[]) value);
+        }
+    }
+
+    private static final class DateWriter extends FieldWriter {
+        private final DateDayVector vector;
+
+        private DateWriter(DateDayVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, (int) ((LocalDate) value).toEpochDay());
+        }
+    }
+
+    private static final class TimeWriter extends FieldWriter {
+        private final BigIntVector vector;
+
+        private TimeWriter(BigIntVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            vector.setSafe(rowId, ((LocalTime) value).toNanoOfDay());
+        }
+    }
+
+    private static final class TimestampWriter extends FieldWriter {
+        private final TimeStampMicroTZVector vector;
+
+        private TimestampWriter(TimeStampMicroTZVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        FieldVector getVector() {
+            return vector;
+        }
+
+        @Override
+        void setNull(int rowId) {
+            vector.setNull(rowId);
+        }
+
+        @Override
+        void setValue(int rowId, Object value) {
+            // the same as InternalRowConverter, the local date time is in the default time zone
+            vector.setSafe(
+                    rowId,
+                    InstantConverterUtils.toEpochMicro(
+                            Timestamp.valueOf((LocalDateTime) value).toInstant()));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.translation.spark.utils.TypeConverterUtils;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.StructField;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.types.TimestampType;
+import org.apache.spark.sql.util.ArrowUtils;
+import org.apache.spark.sql.vectorized.ArrowColumnVector;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Convert an Arrow IPC stream to {@link ColumnarBatch}es without converting the rows one by one,
+ * the buffers of the decoded vectors are transferred to the batches directly.
+ */
+public class ArrowStreamBatchConverter {
+
+    private final StructType schema;
+    private final BufferAllocator allocator;
+
+    /**
+     * @param schema the schema of the batches, 0 -> row kind, 1 -> table id, and then the fields.
+     * @param allocator the allocator of the vectors.
+     */
+    public ArrowStreamBatchConverter(StructType schema, BufferAllocator allocator) {
+        this.schema = schema;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Convert the Arrow IPC stream.
+     *
+     * @param arrowStream the Arrow IPC stream.
+     * @param tableId the table id of the rows.
+     * @return the batches, or null if the fields of the stream can not be read as the schema.
+     */
+    public List<ColumnarBatch> convert(byte[] arrowStream, String tableId) throws IOException {
+        List<ColumnarBatch> batches = new ArrayList<>();
+        try (ArrowStreamReader reader =
+                new ArrowStreamReader(new ByteArrayInputStream(arrowStream), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            int[] vectorIndexes = resolveVectorIndexes(root.getSchema());
+            if (vectorIndexes == null) {
+                return null;
+            }
+            while (reader.loadNextBatch()) {
+                int rowCount = root.getRowCount();
+                if (rowCount == 0) {
+                    continue;
+                }
+                ColumnVector[] columns = new ColumnVector[schema.size()];
+                columns[0] = new ArrowColumnVector(createRowKindVector(rowCount));
+                columns[1] = new ArrowColumnVector(createTableIdVector(tableId, rowCount));
+                for (int i = 0; i < vectorIndexes.length; i++) {
+                    FieldVector vector = root.getVector(vectorIndexes[i]);
+                    TransferPair transferPair = vector.getTransferPair(allocator);
+                    transferPair.transfer();
+                    columns[i + 2] = new ArrowColumnVector(transferPair.getTo());
+                }
+                batches.add(new ColumnarBatch(columns, rowCount));
+            }
+            return batches;
+        } catch (IOException | RuntimeException e) {
+            batches.forEach(ColumnarBatch::close);
+            throw e;
+        }
+    }
+
+    /** Find the index of the vector for each field of the schema, null if any is not found. */
+    private int[] resolveVectorIndexes(Schema arrowSchema) {
+        Map<String, Integer> arrowFieldIndexes = new HashMap<>();
+        List<Field> arrowFields = arrowSchema.getFields();
+        for (int i = 0; i < arrowFields.size(); i++) {
+            arrowFieldIndexes.put(arrowFields.get(i).getName(), i);
+        }
+        StructField[] fields = schema.fields();
+        int[] vectorIndexes = new int[fields.length - 2];
+        for (int i = 2; i < fields.length; i++) {
+            Integer arrowFieldIndex = arrowFieldIndexes.get(fields[i].name());
+            if (arrowFieldIndex == null
+                    || !isCompatible(
+                            fields[i].dataType(), arrowFields.get(arrowFieldIndex).getType())) {
+                return null;
+            }
+            vectorIndexes[i - 2] = arrowFieldIndex;
+        }
+        return vectorIndexes;
+    }
+
+    private static boolean isCompatible(DataType dataType, ArrowType arrowType) {
+        if (dataType instanceof TimestampType) {
+            // the time zone does not change the stored micros
+            return arrowType instanceof ArrowType.Timestamp
+                    && ((ArrowType.Timestamp) arrowType).getUnit() == TimeUnit.MICROSECOND
+                    && ((ArrowType.Timestamp) arrowType).getTimezone() != null;
+        }
+        try {
+            return ArrowUtils.toArrowType(dataType, null).equals(arrowType);
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private TinyIntVector createRowKindVector(int rowCount) {
+        TinyIntVector vector = new TinyIntVector(TypeConverterUtils.ROW_KIND_FIELD, allocator);
+        vector.allocateNew(rowCount);
+        byte rowKind = RowKind.INSERT.toByteValue();
+        for (int i = 0; i < rowCount; i++) {
+            vector.set(i, rowKind);
+        }
+        vector.setValueCount(rowCount);
+        return vector;
+    }
+
+    private VarCharVector createTableIdVector(String tableId, int rowCount) {
+        VarCharVector vector = new VarCharVector(TypeConverterUtils.TABLE_ID, allocator);
+        byte[] tableIdBytes = tableId.getBytes(StandardCharsets.UTF_8);
+        vector.allocateNew((long) tableIdBytes.length * rowCount, rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            vector.set(i, tableIdBytes);
+        }
+        vector.setValueCount(rowCount);
+        return vector;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.Handover;
+
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collect the rows into Arrow vectors and hand over them to the {@link ColumnarBatchQueue} batch by
+ * batch. The Arrow streams collected by {@link #collectArrowStream(byte[], String)} are passed
+ * through if their fields can be read as the produced schema.
+ */
+@Slf4j
+public class ColumnarBatchCollector extends InternalRowCollector {
+
+    private final ColumnarBatchQueue batchQueue;
+    private final ArrowColumnarBatchWriter writer;
+    private final ArrowStreamBatchConverter converter;
+    private final ReentrantLock writerLock = new ReentrantLock();
+    private volatile boolean arrowStreamAccepted = true;
+
+    public ColumnarBatchCollector(
+            Handover<InternalRow> handover,
+            Object checkpointLock,
+            ColumnarBatchQueue batchQueue,
+            Map<String, String> envOptionsInfo) {
+        super(handover, checkpointLock, null, envOptionsInfo);
+        this.batchQueue = batchQueue;
+        this.writer = batchQueue.createWriter();
+        this.converter = batchQueue.createConverter();
+        batchQueue.register(this);
+    }
+
+    @Override
+    public void collect(SeaTunnelRow record) {
+        try {
+            synchronized (checkpointLock) {
+                flowControlGate.audit(record);
+                writerLock.lock();
+                try {
+                    writer.write(record);
+                    if (writer.isFull()) {
+                        batchQueue.produce(writer.finish());
+                    }
+                } finally {
+                    writerLock.unlock();
+                }
+            }
+            collectTotalCount.incrementAndGet();
+            emptyThisPollNext = false;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public long collectArrowStream(byte[] arrowStream, String tableId) {
+        if (!arrowStreamAccepted) {
+            return -1;
+        }
+        try {
+            synchronized (checkpointLock) {
+                List<ColumnarBatch> batches = converter.convert(arrowStream, tableId);
+                if (batches == null) {
+                    log.info(
+                            "The fields of the Arrow stream of {} can not be read as columnar batches directly, fall back to collect rows.",
+                            tableId);
+                    arrowStreamAccepted = false;
+                    return -1;
+                }
+                long rowCount = 0;
+                writerLock.lock();
+                try {
+                    // keep the order of the rows collected before
+                    if (writer.size() > 0) {
+                        batchQueue.produce(writer.finish());
+                    }
+                    for (int i = 0; i < batches.size(); i++) {
+                        rowCount += batches.get(i).numRows();
+                        try {
+                            batchQueue.produce(batches.get(i));
+                        } catch (InterruptedException e) {
+                            batches.subList(i, batches.size()).forEach(ColumnarBatch::close);
+                            throw e;
+                        }
+                    }
+                } finally {
+                    writerLock.unlock();
+                }
+                collectTotalCount.addAndGet(rowCount);
+                emptyThisPollNext = false;
+                return rowCount;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean isEmptyThisPollNext() {
+        boolean empty = super.isEmptyThisPollNext();
+        if (empty) {
+            // the source is idle, hand over the buffered rows
+            tryFlush();
+        }
+        return empty;
+    }
+
+    boolean tryFlush() {
+        if (!writerLock.tryLock()) {
+            return false;
+        }
+        try {
+            return writer.size() == 0 || batchQueue.tryProduce(writer);
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    void close() {
+        writerLock.lock();
+        try {
+            writer.close();
+        } finally {
+            writerLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.spark.utils.TypeConverterUtils;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.util.ArrowUtils;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand over the {@link ColumnarBatch}es from the {@link ColumnarBatchCollector}s to the Spark
+ * partition reader. At most {@link #MAX_PENDING_BATCHES} batches are pending or being read, the
+ * collectors are blocked until the partition reader releases a batch.
+ */
+@Slf4j
+public class ColumnarBatchQueue implements AutoCloseable {
+
+    private static final int MAX_PENDING_BATCHES = 4;
+    private static final long PRODUCE_INTERVAL_MS = 100;
+
+    private final SeaTunnelRowType rowType;
+    private final StructType schema;
+    private final int batchSize;
+    private final BufferAllocator allocator;
+
+    private final LinkedBlockingQueue<ColumnarBatch> batches = new LinkedBlockingQueue<>();
+    private final Semaphore permits = new Semaphore(MAX_PENDING_BATCHES);
+    private final List<ColumnarBatchCollector> collectors = new CopyOnWriteArrayList<>();
+    private volatile boolean closed = false;
+
+    public ColumnarBatchQueue(SeaTunnelRowType rowType, int batchSize, String name) {
+        this.rowType = rowType;
+        this.schema = (StructType) TypeConverterUtils.parcel(rowType);
+        this.batchSize = batchSize;
+        this.allocator = ArrowUtils.rootAllocator().newChildAllocator(name, 0, Long.MAX_VALUE);
+    }
+
+    ArrowColumnarBatchWriter createWriter() {
+        return new ArrowColumnarBatchWriter(rowType, allocator, batchSize);
+    }
+
+    ArrowStreamBatchConverter createConverter() {
+        return new ArrowStreamBatchConverter(schema, allocator);
+    }
+
+    void register(ColumnarBatchCollector collector) {
+        collectors.add(collector);
+    }
+
+    /** Put the batch into the queue, blocked until there is a free permit. */
+    void produce(ColumnarBatch batch) throws InterruptedException {
+        while (!permits.tryAcquire(PRODUCE_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            if (closed) {
+                batch.close();
+                return;
+            }
+        }
+        if (closed) {
+            permits.release();
+            batch.close();
+            return;
+        }
+        batches.add(batch);
+    }
+
+    /** Put the batch into the queue only if there is a free permit. */
+    boolean tryProduce(ArrowColumnarBatchWriter writer) {
+        if (closed || !permits.tryAcquire()) {
+            return false;
+        }
+        batches.add(writer.finish());
+        return true;
+    }
+
+    public ColumnarBatch poll(long timeoutMs) throws InterruptedException {
+        return batches.poll(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Close the batch returned by {@link #poll(long)} and give back its permit. */
+    public void release(ColumnarBatch batch) {
+        batch.close();
+        permits.release();
+    }
+
+    /**
+     * Hand over the rows buffered by the collectors, called when the source has no more data.
+     *
+     * @return false if any collector is busy, the caller should poll the queue and retry.
+     */
+    public boolean flush() {
+        for (ColumnarBatchCollector collector : collectors) {
+            if (!collector.tryFlush()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        collectors.forEach(ColumnarBatchCollector::close);
+        ColumnarBatch batch;
+        while ((batch = batches.poll()) != null) {
+            batch.close();
+        }
+        try {
+            allocator.close();
+        } catch (IllegalStateException e) {
+            log.warn("Failed to close the allocator of the columnar batches.", e);
+        }
+    }
+}
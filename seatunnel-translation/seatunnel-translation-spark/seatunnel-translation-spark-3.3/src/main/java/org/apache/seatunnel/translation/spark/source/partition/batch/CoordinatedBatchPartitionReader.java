@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 import org.apache.seatunnel.translation.source.CoordinatedSource;
 import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchQueue;
 import org.apache.seatunnel.translation.spark.serialization.InternalRowCollector;
 
 import java.io.Serializable;
@@ -44,12 +45,28 @@ public class CoordinatedBatchPartitionReader extends ParallelBatchPartitionReade
             Integer subtaskId,
             Map<String, String> envOptions,
             MultiTableManager multiTableManager) {
-        super(source, parallelism, jobId, subtaskId, envOptions, multiTableManager);
+        this(source, parallelism, jobId, subtaskId, envOptions, multiTableManager, null);
+    }
+
+    public CoordinatedBatchPartitionReader(
+            SeaTunnelSource<SeaTunnelRow, ?, ?> source,
+            Integer parallelism,
+            String jobId,
+            Integer subtaskId,
+            Map<String, String> envOptions,
+            MultiTableManager multiTableManager,
+            ColumnarBatchQueue columnarBatchQueue) {
+        super(
+                source,
+                parallelism,
+                jobId,
+                subtaskId,
+                envOptions,
+                multiTableManager,
+                columnarBatchQueue);
         this.collectorMap = new HashMap<>(parallelism);
         for (int i = 0; i < parallelism; i++) {
-            collectorMap.put(
-                    i,
-                    multiTableManager.getInternalRowCollector(handover, new Object(), envOptions));
+            collectorMap.put(i, createCollector(new Object()));
         }
     }
 
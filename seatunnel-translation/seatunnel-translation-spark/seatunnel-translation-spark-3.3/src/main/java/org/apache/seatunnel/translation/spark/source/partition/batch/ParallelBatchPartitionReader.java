@@ -24,6 +24,8 @@ import org.apache.seatunnel.common.Handover;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 import org.apache.seatunnel.translation.source.ParallelSource;
 import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchCollector;
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchQueue;
 import org.apache.seatunnel.translation.spark.serialization.InternalRowCollector;
 import org.apache.seatunnel.translation.util.ThreadPoolExecutorFactory;
 
@@ -61,6 +63,9 @@ public class ParallelBatchPartitionReader {
 
     private final MultiTableManager multiTableManager;
 
+    /** Not null if the rows are collected into columnar batches. */
+    protected final ColumnarBatchQueue columnarBatchQueue;
+
     public ParallelBatchPartitionReader(
             SeaTunnelSource<SeaTunnelRow, ?, ?> source,
             Integer parallelism,
@@ -68,6 +73,17 @@ public class ParallelBatchPartitionReader {
             Integer subtaskId,
             Map<String, String> envOptions,
             MultiTableManager multiTableManager) {
+        this(source, parallelism, jobId, subtaskId, envOptions, multiTableManager, null);
+    }
+
+    public ParallelBatchPartitionReader(
+            SeaTunnelSource<SeaTunnelRow, ?, ?> source,
+            Integer parallelism,
+            String jobId,
+            Integer subtaskId,
+            Map<String, String> envOptions,
+            MultiTableManager multiTableManager,
+            ColumnarBatchQueue columnarBatchQueue) {
         this.source = source;
         this.parallelism = parallelism;
         this.jobId = jobId;
@@ -78,6 +94,7 @@ public class ParallelBatchPartitionReader {
         this.handover = new Handover<>();
         this.envOptions = envOptions;
         this.multiTableManager = multiTableManager;
+        this.columnarBatchQueue = columnarBatchQueue;
     }
 
     protected String getEnumeratorThreadName() {
@@ -109,8 +126,7 @@ public class ParallelBatchPartitionReader {
             throw new RuntimeException("Failed to open internal source.", e);
         }
 
-        this.internalRowCollector =
-                multiTableManager.getInternalRowCollector(handover, checkpointLock, envOptions);
+        this.internalRowCollector = createCollector(checkpointLock);
         executorService.execute(
                 () -> {
                     try {
@@ -124,6 +140,14 @@ public class ParallelBatchPartitionReader {
         prepare = false;
     }
 
+    protected InternalRowCollector createCollector(Object checkpointLock) {
+        if (columnarBatchQueue != null) {
+            return new ColumnarBatchCollector(
+                    handover, checkpointLock, columnarBatchQueue, envOptions);
+        }
+        return multiTableManager.getInternalRowCollector(handover, checkpointLock, envOptions);
+    }
+
     protected BaseSourceFunction<SeaTunnelRow> createInternalSource() {
         return new InternalParallelSource<>(source, null, parallelism, jobId, subtaskId);
     }
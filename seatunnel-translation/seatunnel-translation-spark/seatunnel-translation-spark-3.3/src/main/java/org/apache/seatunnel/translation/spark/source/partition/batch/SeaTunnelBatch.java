@@ -18,13 +18,16 @@
 package org.apache.seatunnel.translation.spark.source.partition.batch;
 
 import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SupportColumnarRead;
 import org.apache.seatunnel.api.source.SupportCoordinate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
+import org.apache.seatunnel.translation.spark.serialization.ArrowColumnarBatchWriter;
 
 import org.apache.spark.sql.connector.read.Batch;
 import org.apache.spark.sql.connector.read.InputPartition;
 import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.internal.SQLConf;
 
 import java.util.Map;
 
@@ -39,6 +42,8 @@ public class SeaTunnelBatch implements Batch {
 
     private final MultiTableManager multiTableManager;
 
+    private final int columnarBatchSize;
+
     public SeaTunnelBatch(
             SeaTunnelSource<SeaTunnelRow, ?, ?> source,
             int parallelism,
@@ -50,6 +55,17 @@ public class SeaTunnelBatch implements Batch {
         this.jobId = jobId;
         this.envOptions = envOptions;
         this.multiTableManager = multiTableManager;
+        this.columnarBatchSize =
+                isColumnarReadSupported(source, multiTableManager)
+                        ? SQLConf.get().parquetVectorizedReaderBatchSize()
+                        : 0;
+    }
+
+    private static boolean isColumnarReadSupported(
+            SeaTunnelSource<SeaTunnelRow, ?, ?> source, MultiTableManager multiTableManager) {
+        return source instanceof SupportColumnarRead
+                && !multiTableManager.isMultiTable()
+                && ArrowColumnarBatchWriter.isSupported(multiTableManager.getTableRowType());
     }
 
     @Override
@@ -70,6 +86,6 @@ public class SeaTunnelBatch implements Batch {
     @Override
     public PartitionReaderFactory createReaderFactory() {
         return new SeaTunnelBatchPartitionReaderFactory(
-                source, parallelism, jobId, envOptions, multiTableManager);
+                source, parallelism, jobId, envOptions, multiTableManager, columnarBatchSize);
     }
 }
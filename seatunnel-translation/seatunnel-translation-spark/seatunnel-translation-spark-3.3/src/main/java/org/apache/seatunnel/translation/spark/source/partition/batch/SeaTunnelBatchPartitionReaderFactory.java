@@ -21,11 +21,13 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SupportCoordinate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchQueue;
 
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.connector.read.InputPartition;
 import org.apache.spark.sql.connector.read.PartitionReader;
 import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 import java.util.Map;
 
@@ -39,33 +41,68 @@ public class SeaTunnelBatchPartitionReaderFactory implements PartitionReaderFact
 
     private final MultiTableManager multiTableManager;
 
+    /** The row count of the columnar batches, 0 if the source is not read as columnar batches. */
+    private final int columnarBatchSize;
+
     public SeaTunnelBatchPartitionReaderFactory(
             SeaTunnelSource<SeaTunnelRow, ?, ?> source,
             int parallelism,
             String jobId,
             Map<String, String> envOptions,
-            MultiTableManager multiTableManager) {
+            MultiTableManager multiTableManager,
+            int columnarBatchSize) {
         this.source = source;
         this.parallelism = parallelism;
         this.jobId = jobId;
         this.envOptions = envOptions;
         this.multiTableManager = multiTableManager;
+        this.columnarBatchSize = columnarBatchSize;
     }
 
     @Override
     public PartitionReader<InternalRow> createReader(InputPartition partition) {
+        SeaTunnelBatchInputPartition inputPartition = (SeaTunnelBatchInputPartition) partition;
+        return new SeaTunnelBatchPartitionReader(
+                createPartitionReader(inputPartition.getPartitionId(), null));
+    }
+
+    @Override
+    public boolean supportColumnarReads(InputPartition partition) {
+        return columnarBatchSize > 0;
+    }
+
+    @Override
+    public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
         SeaTunnelBatchInputPartition inputPartition = (SeaTunnelBatchInputPartition) partition;
         int partitionId = inputPartition.getPartitionId();
-        ParallelBatchPartitionReader partitionReader;
+        ColumnarBatchQueue batchQueue =
+                new ColumnarBatchQueue(
+                        multiTableManager.getTableRowType(),
+                        columnarBatchSize,
+                        "seatunnel-columnar-reader-" + partitionId);
+        return new SeaTunnelColumnarBatchPartitionReader(
+                createPartitionReader(partitionId, batchQueue), batchQueue);
+    }
+
+    private ParallelBatchPartitionReader createPartitionReader(
+            int partitionId, ColumnarBatchQueue columnarBatchQueue) {
         if (source instanceof SupportCoordinate) {
-            partitionReader =
-                    new CoordinatedBatchPartitionReader(
-                            source, parallelism, jobId, partitionId, envOptions, multiTableManager);
-        } else {
-            partitionReader =
-                    new ParallelBatchPartitionReader(
-                            source, parallelism, jobId, partitionId, envOptions, multiTableManager);
+            return new CoordinatedBatchPartitionReader(
+                    source,
+                    parallelism,
+                    jobId,
+                    partitionId,
+                    envOptions,
+                    multiTableManager,
+                    columnarBatchQueue);
         }
-        return new SeaTunnelBatchPartitionReader(partitionReader);
+        return new ParallelBatchPartitionReader(
+                source,
+                parallelism,
+                jobId,
+                partitionId,
+                envOptions,
+                multiTableManager,
+                columnarBatchQueue);
     }
 }
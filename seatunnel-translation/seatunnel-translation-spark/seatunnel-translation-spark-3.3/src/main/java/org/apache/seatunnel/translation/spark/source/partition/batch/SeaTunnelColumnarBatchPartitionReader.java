@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.source.partition.batch;
+
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchQueue;
+
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import java.io.IOException;
+
+public class SeaTunnelColumnarBatchPartitionReader implements PartitionReader<ColumnarBatch> {
+
+    private final ParallelBatchPartitionReader partitionReader;
+    private final ColumnarBatchQueue batchQueue;
+
+    private ColumnarBatch currentBatch;
+
+    public SeaTunnelColumnarBatchPartitionReader(
+            ParallelBatchPartitionReader partitionReader, ColumnarBatchQueue batchQueue) {
+        this.partitionReader = partitionReader;
+        this.batchQueue = batchQueue;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        // the batch returned before is not used by spark after calling next
+        releaseCurrentBatch();
+        try {
+            partitionReader.prepare();
+            while (true) {
+                currentBatch = batchQueue.poll(ParallelBatchPartitionReader.INTERVAL);
+                if (currentBatch != null) {
+                    return true;
+                }
+                // rethrow the exception of the internal source
+                partitionReader.handover.isEmpty();
+                if (!partitionReader.running && batchQueue.flush()) {
+                    currentBatch = batchQueue.poll(0);
+                    return currentBatch != null;
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public ColumnarBatch get() {
+        return currentBatch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        releaseCurrentBatch();
+        try {
+            partitionReader.close();
+        } finally {
+            batchQueue.close();
+        }
+    }
+
+    private void releaseCurrentBatch() {
+        if (currentBatch != null) {
+            batchQueue.release(currentBatch);
+            currentBatch = null;
+        }
+    }
+}
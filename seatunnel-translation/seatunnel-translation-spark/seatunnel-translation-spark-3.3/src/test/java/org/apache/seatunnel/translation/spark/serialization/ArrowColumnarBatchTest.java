@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.spark.utils.TypeConverterUtils;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public class ArrowColumnarBatchTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "day"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE
+                    });
+
+    private BufferAllocator allocator;
+
+    @BeforeEach
+    public void before() {
+        allocator = new RootAllocator(Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    public void after() {
+        allocator.close();
+    }
+
+    @Test
+    public void testWriteColumnarBatch() {
+        Assertions.assertTrue(ArrowColumnarBatchWriter.isSupported(ROW_TYPE));
+        try (ArrowColumnarBatchWriter writer =
+                new ArrowColumnarBatchWriter(ROW_TYPE, allocator, 2)) {
+            writer.write(
+                    row(RowKind.INSERT, 1, "a", new BigDecimal("1.5"), LocalDate.of(2024, 1, 1)));
+            Assertions.assertFalse(writer.isFull());
+            writer.write(row(RowKind.DELETE, null, null, null, null));
+            Assertions.assertTrue(writer.isFull());
+
+            try (ColumnarBatch batch = writer.finish()) {
+                Assertions.assertEquals(2, batch.numRows());
+                Assertions.assertEquals(0, writer.size());
+                Assertions.assertEquals(RowKind.INSERT.toByteValue(), batch.column(0).getByte(0));
+                Assertions.assertEquals(RowKind.DELETE.toByteValue(), batch.column(0).getByte(1));
+                Assertions.assertEquals("test.table", batch.column(1).getUTF8String(0).toString());
+                Assertions.assertEquals(1, batch.column(2).getInt(0));
+                Assertions.assertEquals("a", batch.column(3).getUTF8String(0).toString());
+                Assertions.assertEquals(
+                        new BigDecimal("1.50"),
+                        batch.column(4).getDecimal(0, 10, 2).toJavaBigDecimal());
+                Assertions.assertEquals(
+                        (int) LocalDate.of(2024, 1, 1).toEpochDay(), batch.column(5).getInt(0));
+                for (int i = 2; i < 6; i++) {
+                    Assertions.assertTrue(batch.column(i).isNullAt(1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedRowType() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "nested"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, ROW_TYPE});
+        Assertions.assertFalse(ArrowColumnarBatchWriter.isSupported(rowType));
+    }
+
+    @Test
+    public void testConvertArrowStream() throws IOException {
+        StructType schema = (StructType) TypeConverterUtils.parcel(ROW_TYPE);
+        ArrowStreamBatchConverter converter = new ArrowStreamBatchConverter(schema, allocator);
+
+        List<ColumnarBatch> batches = converter.convert(arrowStream(true), "test.table");
+        Assertions.assertEquals(1, batches.size());
+        try (ColumnarBatch batch = batches.get(0)) {
+            Assertions.assertEquals(3, batch.numRows());
+            Assertions.assertEquals(RowKind.INSERT.toByteValue(), batch.column(0).getByte(2));
+            Assertions.assertEquals("test.table", batch.column(1).getUTF8String(2).toString());
+            Assertions.assertEquals(2, batch.column(2).getInt(1));
+            Assertions.assertEquals("c", batch.column(3).getUTF8String(2).toString());
+            Assertions.assertTrue(batch.column(4).isNullAt(0));
+        }
+
+        // the date is sent as string, it can not be read as the date column directly
+        Assertions.assertNull(converter.convert(arrowStream(false), "test.table"));
+    }
+
+    private byte[] arrowStream(boolean dateDay) throws IOException {
+        try (IntVector id = new IntVector("id", allocator);
+                VarCharVector name = new VarCharVector("name", allocator);
+                DecimalVector price = new DecimalVector("price", allocator, 10, 2);
+                DateDayVector day = new DateDayVector("day", allocator);
+                VarCharVector dayString = new VarCharVector("day", allocator)) {
+            for (int i = 0; i < 3; i++) {
+                id.setSafe(i, i + 1);
+                name.setSafe(i, String.valueOf((char) ('a' + i)).getBytes(StandardCharsets.UTF_8));
+                price.setNull(i);
+                day.setSafe(i, i);
+                dayString.setSafe(i, "2024-01-01".getBytes(StandardCharsets.UTF_8));
+            }
+            id.setValueCount(3);
+            name.setValueCount(3);
+            price.setValueCount(3);
+            day.setValueCount(3);
+            dayString.setValueCount(3);
+            try (VectorSchemaRoot root =
+                            new VectorSchemaRoot(
+                                    Arrays.asList(id, name, price, dateDay ? day : dayString));
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out)) {
+                writer.start();
+                writer.writeBatch();
+                writer.end();
+                return out.toByteArray();
+            }
+        }
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, Object... fields) {
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        row.setTableId("test.table");
+        return row;
+    }
+}
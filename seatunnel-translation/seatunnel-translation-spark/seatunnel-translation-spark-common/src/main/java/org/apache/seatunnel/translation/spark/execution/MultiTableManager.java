@@ -124,6 +124,14 @@ public class MultiTableManager implements Serializable {
         return genericRowSerialization.convert(record);
     }
 
+    public boolean isMultiTable() {
+        return isMultiTable;
+    }
+
+    public SeaTunnelRowType getTableRowType() {
+        return mergeCatalogTable.getSeaTunnelRowType();
+    }
+
     public StructType getTableSchema() {
         return (StructType) TypeConverterUtils.parcel(mergeCatalogTable.getSeaTunnelRowType());
     }